@@ -0,0 +1,124 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completion time submission (initiated then completed time, as done for every dependency operation) and
+ * global completion time reads, for each completion time service implementation.
+ * submitAndRead runs submitters and a reader concurrently, as happens while a workload executes.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CompletionTimeBenchmark
+{
+    public enum CompletionTimeServiceType
+    {
+        SYNCHRONIZED,
+        THREADED_QUEUED
+    }
+
+    @State( Scope.Benchmark )
+    public static class ServiceState
+    {
+        @Param( {"SYNCHRONIZED", "THREADED_QUEUED"} )
+        public CompletionTimeServiceType completionTimeServiceType;
+
+        CompletionTimeService completionTimeService;
+
+        @Setup( Level.Trial )
+        public void setUp() throws CompletionTimeException
+        {
+            CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+            switch ( completionTimeServiceType )
+            {
+            case SYNCHRONIZED:
+                completionTimeService =
+                        assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds( new HashSet<String>() );
+                break;
+            case THREADED_QUEUED:
+                completionTimeService = assistant.newThreadedQueuedConcurrentCompletionTimeServiceFromPeerIds(
+                        new SystemTimeSource(),
+                        new HashSet<String>(),
+                        new ConcurrentErrorReporter() );
+                break;
+            default:
+                throw new IllegalStateException( "Unknown completion time service: " + completionTimeServiceType );
+            }
+        }
+
+        @TearDown( Level.Trial )
+        public void tearDown() throws CompletionTimeException
+        {
+            completionTimeService.shutdown();
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class WriterState
+    {
+        LocalCompletionTimeWriter writer;
+        long timeAsMilli = SyntheticInputs.START_TIME_AS_MILLI;
+
+        @Setup( Level.Trial )
+        public void setUp( ServiceState serviceState ) throws CompletionTimeException
+        {
+            writer = serviceState.completionTimeService.newLocalCompletionTimeWriter();
+        }
+    }
+
+    @Benchmark
+    public void submitInitiatedAndCompletedTime( WriterState writerState ) throws CompletionTimeException
+    {
+        long timeAsMilli = writerState.timeAsMilli++;
+        writerState.writer.submitLocalInitiatedTime( timeAsMilli );
+        writerState.writer.submitLocalCompletedTime( timeAsMilli );
+    }
+
+    @Benchmark
+    public long readGlobalCompletionTime( ServiceState serviceState ) throws CompletionTimeException
+    {
+        return serviceState.completionTimeService.globalCompletionTimeAsMilli();
+    }
+
+    @Benchmark
+    @Group( "submitAndRead" )
+    @GroupThreads( 3 )
+    public void submitWhileReading( WriterState writerState ) throws CompletionTimeException
+    {
+        submitInitiatedAndCompletedTime( writerState );
+    }
+
+    @Benchmark
+    @Group( "submitAndRead" )
+    @GroupThreads( 1 )
+    public long readWhileSubmitting( ServiceState serviceState ) throws CompletionTimeException
+    {
+        return readGlobalCompletionTime( serviceState );
+    }
+}
@@ -0,0 +1,137 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.OperationStreamStage;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the operation stream pipelines the driver builds before execution:
+ * merge sorting of streams by time stamp, time offsetting and compression, and both combined with a limit,
+ * the latter also with filtering by type in a single stage
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class GeneratorPipelineBenchmark
+{
+    private static final int OPERATION_COUNT = 100_000;
+
+    @Param( {"2", "8", "32"} )
+    public int streamCount;
+
+    private final GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+    private List<List<Operation>> streams;
+    private List<Operation> allOperations;
+    private Set<Integer> operationTypes;
+
+    @Setup( Level.Trial )
+    public void setUp()
+    {
+        allOperations = SyntheticInputs.interactiveReads( OPERATION_COUNT );
+        operationTypes = new HashSet<>();
+        for ( Operation operation : allOperations )
+        {
+            operationTypes.add( operation.type() );
+        }
+        streams = new ArrayList<>();
+        for ( int i = 0; i < streamCount; i++ )
+        {
+            streams.add( new ArrayList<Operation>() );
+        }
+        // operations are time ordered, so round robin leaves each stream time ordered and all streams interleaved
+        for ( int i = 0; i < allOperations.size(); i++ )
+        {
+            streams.get( i % streamCount ).add( allOperations.get( i ) );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( OPERATION_COUNT )
+    public void mergeSortByTimeStamp( Blackhole blackhole )
+    {
+        Iterator<Operation> operations = gf.mergeSortOperationsByTimeStamp( streamIterators() );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( OPERATION_COUNT )
+    public void timeOffsetAndCompress( Blackhole blackhole )
+    {
+        Iterator<Operation> operations = gf.timeOffsetAndCompress(
+                allOperations.iterator(),
+                SyntheticInputs.START_TIME_AS_MILLI,
+                0.5 );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( OPERATION_COUNT )
+    public void mergeSortLimitAndTimeOffset( Blackhole blackhole )
+    {
+        Iterator<Operation> operations = gf.timeOffsetAndCompress(
+                gf.limit( gf.mergeSortOperationsByTimeStamp( streamIterators() ), OPERATION_COUNT ),
+                SyntheticInputs.START_TIME_AS_MILLI,
+                1.0 );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( OPERATION_COUNT )
+    public void mergeSortFilterLimitAndTimeOffsetStage( Blackhole blackhole )
+    {
+        Iterator<Operation> operations = OperationStreamStage
+                .of( gf.mergeSortOperationsByTimeStamp( streamIterators() ) )
+                .includeOnlyTypes( operationTypes )
+                .limit( OPERATION_COUNT )
+                .timeOffsetAndCompress( SyntheticInputs.START_TIME_AS_MILLI, 1.0 );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private Iterator<Operation>[] streamIterators()
+    {
+        Iterator<Operation>[] iterators = new Iterator[streams.size()];
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            iterators[i] = streams.get( i ).iterator();
+        }
+        return iterators;
+    }
+}
@@ -0,0 +1,145 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.WorkloadRunner;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * End to end dispatch: operations flow from the workload stream, through the runner and executors, to
+ * DummyLdbcSnbInteractiveDb (which does no work) and on to the metrics service.
+ * Scheduled start times are ignored, so this measures the maximum throughput of the driver itself.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, batchSize = 1 )
+@Measurement( iterations = 10, batchSize = 1 )
+@Fork( 1 )
+public class InteractiveDispatchBenchmark
+{
+    private static final int OPERATION_COUNT = 100_000;
+
+    @Param( {"1", "4"} )
+    public int threadCount;
+
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+    private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping =
+            LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping();
+    private List<Operation> operations;
+    private Db db;
+    private ConcurrentErrorReporter errorReporter;
+    private MetricsService metricsService;
+    private CompletionTimeService completionTimeService;
+    private WorkloadRunner workloadRunner;
+
+    @Setup( Level.Trial )
+    public void setUpTrial() throws Exception
+    {
+        operations = SyntheticInputs.interactiveReads( OPERATION_COUNT );
+        db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingServiceFactory.loggingServiceFor( DummyLdbcSnbInteractiveDb.class.getSimpleName() ),
+                operationTypeToClassMapping );
+    }
+
+    @TearDown( Level.Trial )
+    public void tearDownTrial() throws Exception
+    {
+        db.close();
+    }
+
+    @Setup( Level.Invocation )
+    public void setUpInvocation() throws Exception
+    {
+        errorReporter = new ConcurrentErrorReporter();
+        metricsService = ThreadedQueuedMetricsService.newInstanceUsingBlockingBoundedQueue(
+                timeSource,
+                errorReporter,
+                TimeUnit.MICROSECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                null,
+                operationTypeToClassMapping,
+                loggingServiceFactory );
+        completionTimeService = new CompletionTimeServiceAssistant()
+                .newSynchronizedConcurrentCompletionTimeServiceFromPeerIds( new HashSet<String>() );
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                operations.iterator(),
+                null );
+        workloadRunner = new WorkloadRunner(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                // no status display
+                0,
+                // spinner sleep duration
+                0,
+                // ignore scheduled start times
+                true,
+                DefaultQueues.DEFAULT_BOUND_1000 );
+    }
+
+    @TearDown( Level.Invocation )
+    public void tearDownInvocation() throws Exception
+    {
+        metricsService.shutdown();
+        completionTimeService.shutdown();
+        if ( errorReporter.errorEncountered() )
+        {
+            throw new IllegalStateException( format( "Errors during dispatch\n%s", errorReporter.toString() ) );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( OPERATION_COUNT )
+    public void dispatch() throws Exception
+    {
+        workloadRunner.getFuture().get();
+    }
+}
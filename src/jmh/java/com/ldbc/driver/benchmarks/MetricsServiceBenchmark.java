@@ -0,0 +1,169 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.DisruptorJavolutionMetricsService;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operation result submission throughput, for each metrics service implementation.
+ * Results logging is disabled, so this measures hand off to, and aggregation by, the metrics service.
+ * Run with more threads (-t) to measure contention between submitters.
+ * <p>
+ * DISRUPTOR_SBE requires -jvmArgsAppend --add-exports=java.base/sun.nio.ch=ALL-UNNAMED on Java 9 and later.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class MetricsServiceBenchmark
+{
+    public enum MetricsServiceType
+    {
+        THREADED_QUEUED_BLOCKING,
+        THREADED_QUEUED_NON_BLOCKING,
+        DISRUPTOR_JAVOLUTION,
+        DISRUPTOR_SBE
+    }
+
+    private static final int RESULT_COUNT = 1024;
+
+    @State( Scope.Benchmark )
+    public static class ServiceState
+    {
+        @Param( {"THREADED_QUEUED_BLOCKING", "THREADED_QUEUED_NON_BLOCKING", "DISRUPTOR_JAVOLUTION", "DISRUPTOR_SBE"} )
+        public MetricsServiceType metricsServiceType;
+
+        MetricsService metricsService;
+        int[] operationTypes;
+
+        @Setup( Level.Trial )
+        public void setUp() throws MetricsCollectionException
+        {
+            TimeSource timeSource = new SystemTimeSource();
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping =
+                    LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping();
+            operationTypes = new int[operationTypeToClassMapping.size()];
+            int i = 0;
+            for ( Integer operationType : operationTypeToClassMapping.keySet() )
+            {
+                operationTypes[i++] = operationType;
+            }
+            switch ( metricsServiceType )
+            {
+            case THREADED_QUEUED_BLOCKING:
+                metricsService = ThreadedQueuedMetricsService.newInstanceUsingBlockingBoundedQueue(
+                        timeSource,
+                        errorReporter,
+                        TimeUnit.MICROSECONDS,
+                        ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        null,
+                        operationTypeToClassMapping,
+                        loggingServiceFactory );
+                break;
+            case THREADED_QUEUED_NON_BLOCKING:
+                metricsService = ThreadedQueuedMetricsService.newInstanceUsingNonBlockingBoundedQueue(
+                        timeSource,
+                        errorReporter,
+                        TimeUnit.MICROSECONDS,
+                        ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        null,
+                        operationTypeToClassMapping,
+                        loggingServiceFactory );
+                break;
+            case DISRUPTOR_JAVOLUTION:
+                metricsService = new DisruptorJavolutionMetricsService(
+                        timeSource,
+                        errorReporter,
+                        TimeUnit.MICROSECONDS,
+                        DisruptorJavolutionMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        null,
+                        operationTypeToClassMapping,
+                        loggingServiceFactory );
+                break;
+            case DISRUPTOR_SBE:
+                metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        TimeUnit.MICROSECONDS,
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        null,
+                        operationTypeToClassMapping,
+                        loggingServiceFactory );
+                break;
+            default:
+                throw new IllegalStateException( "Unknown metrics service: " + metricsServiceType );
+            }
+        }
+
+        @TearDown( Level.Trial )
+        public void tearDown() throws MetricsCollectionException
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class WriterState
+    {
+        MetricsService.MetricsServiceWriter writer;
+        int[] operationTypes;
+        long[] runDurationsAsNano;
+        int index = 0;
+
+        @Setup( Level.Trial )
+        public void setUp( ServiceState serviceState ) throws MetricsCollectionException
+        {
+            writer = serviceState.metricsService.getWriter();
+            Random random = new Random( 42 );
+            operationTypes = new int[RESULT_COUNT];
+            runDurationsAsNano = new long[RESULT_COUNT];
+            for ( int i = 0; i < RESULT_COUNT; i++ )
+            {
+                operationTypes[i] = serviceState.operationTypes[random.nextInt( serviceState.operationTypes.length )];
+                runDurationsAsNano[i] = TimeUnit.MICROSECONDS.toNanos( 1 + random.nextInt( 100_000 ) );
+            }
+        }
+    }
+
+    @Benchmark
+    public void submitOperationResult( WriterState writerState ) throws MetricsCollectionException
+    {
+        int i = writerState.index++ & (RESULT_COUNT - 1);
+        long scheduledStartTimeAsMilli = SyntheticInputs.START_TIME_AS_MILLI + writerState.index;
+        writerState.writer.submitOperationResult(
+                writerState.operationTypes[i],
+                scheduledStartTimeAsMilli,
+                scheduledStartTimeAsMilli,
+                writerState.runDurationsAsNano[i],
+                0 );
+    }
+}
@@ -0,0 +1,67 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spinner scheduling accuracy and overhead.
+ * <p>
+ * waitForDueOperation: cost of the spinner when the operation is already due, i.e., the overhead on every operation.
+ * waitForNextMillisecond: operations scheduled 1 ms ahead, sampled, so the runtime distribution shows how far past
+ * its scheduled start time an operation is released, for each spinner sleep duration.
+ * An accurate spinner releases operations within 1 ms, each millisecond of sleep adds up to 1 ms of lateness.
+ */
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class SpinnerBenchmark
+{
+    @Param( {"0", "1"} )
+    public long sleepDurationAsMilli;
+
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+    private Spinner spinner;
+
+    @Setup( Level.Trial )
+    public void setUp()
+    {
+        spinner = new Spinner( timeSource, sleepDurationAsMilli, false );
+    }
+
+    @Benchmark
+    @BenchmarkMode( Mode.AverageTime )
+    @OutputTimeUnit( TimeUnit.NANOSECONDS )
+    public boolean waitForDueOperation()
+    {
+        operation.setScheduledStartTimeAsMilli( 0 );
+        return spinner.waitForScheduledStartTime( operation );
+    }
+
+    @Benchmark
+    @BenchmarkMode( Mode.SampleTime )
+    @OutputTimeUnit( TimeUnit.MICROSECONDS )
+    public boolean waitForNextMillisecond()
+    {
+        operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() + 1 );
+        return spinner.waitForScheduledStartTime( operation );
+    }
+}
@@ -0,0 +1,127 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.lang.String.format;
+
+/**
+ * Inputs generated at benchmark setup, so benchmarks do not depend on generated datasets being present
+ */
+class SyntheticInputs
+{
+    static final long START_TIME_AS_MILLI = 1_400_000_000_000L;
+
+    /**
+     * @return update stream rows, in the format read by WriteEventStreamReaderCharSeeker and WriteEventStreamReaderRegex
+     */
+    static String updateStreamRows( int eventType, int count, long seed )
+    {
+        Random random = new Random( seed );
+        StringBuilder sb = new StringBuilder();
+        long scheduledStartTimeAsMilli = START_TIME_AS_MILLI;
+        for ( int i = 0; i < count; i++ )
+        {
+            scheduledStartTimeAsMilli += 1 + random.nextInt( 10 );
+            long dependencyTimeAsMilli = scheduledStartTimeAsMilli - 1 - random.nextInt( 1000 );
+            sb.append( scheduledStartTimeAsMilli ).append( '|' )
+                    .append( dependencyTimeAsMilli ).append( '|' )
+                    .append( eventType ).append( '|' )
+                    .append( updateEventColumns( eventType, random, scheduledStartTimeAsMilli ) )
+                    .append( '\n' );
+        }
+        return sb.toString();
+    }
+
+    private static String updateEventColumns( int eventType, Random random, long creationDateAsMilli )
+    {
+        long id = Math.abs( random.nextLong() % 100_000_000L );
+        long otherId = Math.abs( random.nextLong() % 100_000_000L );
+        switch ( eventType )
+        {
+        case 1:
+            return format( "%s|Lei|Zhao|male|%s|%s|14.131.98.220|Chrome|%s|english;swedish|user%s@email.com|" +
+                           "%s;%s|97,%s|911,1970;935,1970;913,1971",
+                    id, creationDateAsMilli - 1_000_000_000L, creationDateAsMilli, random.nextInt( 1000 ), id,
+                    random.nextInt( 10000 ), random.nextInt( 10000 ), 1990 + random.nextInt( 20 ) );
+        case 2:
+        case 3:
+            return format( "%s|%s|%s", id, otherId, creationDateAsMilli );
+        case 4:
+            return format( "%s|Group for The_Beekeeper in Pakistan|%s|%s|%s;%s",
+                    id, creationDateAsMilli, otherId, random.nextInt( 10000 ), random.nextInt( 10000 ) );
+        case 5:
+            return format( "%s|%s|%s", id, otherId, creationDateAsMilli );
+        case 6:
+            return format( "%s||%s|91.229.229.89|Internet Explorer|uzbek|" +
+                           "About Venustiano Carranza, he was one of the leaders of the Mexican Revolution.|" +
+                           "%s|%s|%s|%s|%s;%s",
+                    id, creationDateAsMilli, 78, otherId, random.nextInt( 100000 ), random.nextInt( 100 ),
+                    random.nextInt( 10000 ), random.nextInt( 10000 ) );
+        case 7:
+            return format( "%s|%s|200.11.32.131|Firefox|words|%s|%s|%s|%s|-1|%s;%s;%s",
+                    id, creationDateAsMilli, 5, otherId, random.nextInt( 100 ), otherId + 1,
+                    random.nextInt( 10000 ), random.nextInt( 10000 ), random.nextInt( 10000 ) );
+        case 8:
+            return format( "%s|%s|%s", id, otherId, creationDateAsMilli );
+        default:
+            throw new IllegalArgumentException( format( "Unknown update event type: %s", eventType ) );
+        }
+    }
+
+    /**
+     * @return operations with increasing scheduled start times, cycling through all Interactive read types
+     */
+    static List<Operation> interactiveReads( int count )
+    {
+        List<Operation> operations = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            Operation operation = interactiveRead( i % 14 );
+            operation.setScheduledStartTimeAsMilli( START_TIME_AS_MILLI + i );
+            operation.setTimeStamp( START_TIME_AS_MILLI + i );
+            operation.setDependencyTimeStamp( 0 );
+            operations.add( operation );
+        }
+        return operations;
+    }
+
+    private static Operation interactiveRead( int index )
+    {
+        switch ( index )
+        {
+        case 0:
+            return DummyLdbcSnbInteractiveOperationInstances.read1();
+        case 1:
+            return DummyLdbcSnbInteractiveOperationInstances.read2();
+        case 2:
+            return DummyLdbcSnbInteractiveOperationInstances.read3();
+        case 3:
+            return DummyLdbcSnbInteractiveOperationInstances.read4();
+        case 4:
+            return DummyLdbcSnbInteractiveOperationInstances.read5();
+        case 5:
+            return DummyLdbcSnbInteractiveOperationInstances.read6();
+        case 6:
+            return DummyLdbcSnbInteractiveOperationInstances.read7();
+        case 7:
+            return DummyLdbcSnbInteractiveOperationInstances.read8();
+        case 8:
+            return DummyLdbcSnbInteractiveOperationInstances.read9();
+        case 9:
+            return DummyLdbcSnbInteractiveOperationInstances.read10();
+        case 10:
+            return DummyLdbcSnbInteractiveOperationInstances.read11();
+        case 11:
+            return DummyLdbcSnbInteractiveOperationInstances.read12();
+        case 12:
+            return DummyLdbcSnbInteractiveOperationInstances.read13();
+        default:
+            return DummyLdbcSnbInteractiveOperationInstances.read14();
+        }
+    }
+}
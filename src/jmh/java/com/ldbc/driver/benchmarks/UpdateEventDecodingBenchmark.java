@@ -0,0 +1,84 @@
+package com.ldbc.driver.benchmarks;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamReaderCharSeeker;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamReaderRegex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Update stream decoding throughput, per update event type, for both update stream parsers
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class UpdateEventDecodingBenchmark
+{
+    private static final int ROW_COUNT = 10_000;
+
+    @Param( {"1", "2", "3", "4", "5", "6", "7", "8"} )
+    public int eventType;
+
+    private String rows;
+
+    @Setup( Level.Trial )
+    public void setUp()
+    {
+        rows = SyntheticInputs.updateStreamRows( eventType, ROW_COUNT, 42 );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( ROW_COUNT )
+    public void charSeeker( Blackhole blackhole ) throws IOException
+    {
+        CharSeeker charSeeker = new BufferedCharSeeker( Readables.wrap( new StringReader( rows ) ) );
+        Iterator<Operation> operations =
+                WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+        charSeeker.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( ROW_COUNT )
+    public void regex( Blackhole blackhole ) throws IOException
+    {
+        SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(
+                new BufferedReader( new StringReader( rows ) ),
+                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+        Iterator<Operation> operations = WriteEventStreamReaderRegex.create( csvFileReader );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+        csvFileReader.close();
+    }
+}
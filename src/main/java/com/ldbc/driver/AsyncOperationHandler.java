@@ -0,0 +1,47 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import static java.lang.String.format;
+
+/**
+ * Handler for databases with non-blocking client APIs.
+ * executeOperationAsync must return without waiting for the database, it reports the result via resultReporter
+ * before completing the returned future, and completes it exceptionally on failure.
+ * When the Db is configured with an in-flight limit (see Db.ASYNC_IN_FLIGHT_LIMIT_ARG) the driver keeps up to that
+ * many operations outstanding without dedicating a thread to each, otherwise it waits for the future to complete.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation, DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+        extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    CompletableFuture<Void> executeOperationAsync( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    @Override
+    default void executeOperation( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        try
+        {
+            executeOperationAsync( operation, dbConnectionState, resultReporter ).get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DbException( "Interrupted while waiting for asynchronous operation to complete", e );
+        }
+        catch ( ExecutionException | CompletionException e )
+        {
+            Throwable cause = (null == e.getCause()) ? e : e.getCause();
+            if ( cause instanceof DbException )
+            {
+                throw (DbException) cause;
+            }
+            throw new DbException( format( "Asynchronous operation failed\nOperation: %s", operation ), cause );
+        }
+    }
+}
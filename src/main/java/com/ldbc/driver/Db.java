@@ -14,12 +14,24 @@ import static java.lang.String.format;
 
 public abstract class Db implements Closeable
 {
+    public static final String OPERATION_HANDLER_RUNNER_FACTORY_ARG = "operation_handler_runner_factory";
+    public static final String POOLING_OPERATION_HANDLER_RUNNER_FACTORY = "pooling";
+    public static final String THREAD_LOCAL_OPERATION_HANDLER_RUNNER_FACTORY = "thread_local";
+    public static final String OPERATION_HANDLER_RUNNER_FACTORY_DEFAULT = POOLING_OPERATION_HANDLER_RUNNER_FACTORY;
+    // maximum number of operations of the asynchronous stream to have outstanding, 0 = one per executor thread
+    public static final String ASYNC_IN_FLIGHT_LIMIT_ARG = "async_in_flight_limit";
+    public static final int ASYNC_IN_FLIGHT_LIMIT_DEFAULT = 0;
+
     private boolean isInitialized = false;
     private AtomicBoolean isShutdown = new AtomicBoolean( false );
     private DbConnectionState dbConnectionState = null;
+    private WorkerConnectionStates workerConnectionStates = null;
     private Map<Class<? extends Operation>,OperationHandler> operationHandlers = new HashMap<>();
     private OperationHandler[] operationHandlersArray = null;
     private OperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
+    private String operationHandlerRunnerFactoryType = null;
+    private LoggingService loggingService = null;
+    private int asyncInFlightLimit = ASYNC_IN_FLIGHT_LIMIT_DEFAULT;
 
     synchronized public final void init(
             Map<String,String> params,
@@ -31,16 +43,44 @@ public abstract class Db implements Closeable
         {
             throw new DbException( "DB may be initialized only once" );
         }
+        operationHandlerRunnerFactoryType = (params.containsKey( OPERATION_HANDLER_RUNNER_FACTORY_ARG ))
+                                            ? params.get( OPERATION_HANDLER_RUNNER_FACTORY_ARG )
+                                            : OPERATION_HANDLER_RUNNER_FACTORY_DEFAULT;
+        try
+        {
+            asyncInFlightLimit = (params.containsKey( ASYNC_IN_FLIGHT_LIMIT_ARG ))
+                                 ? Integer.parseInt( params.get( ASYNC_IN_FLIGHT_LIMIT_ARG ) )
+                                 : ASYNC_IN_FLIGHT_LIMIT_DEFAULT;
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new DbException( format( "Invalid %s: %s", ASYNC_IN_FLIGHT_LIMIT_ARG,
+                    params.get( ASYNC_IN_FLIGHT_LIMIT_ARG ) ), e );
+        }
+        if ( asyncInFlightLimit < 0 )
+        {
+            throw new DbException( format( "%s must not be negative: %s", ASYNC_IN_FLIGHT_LIMIT_ARG,
+                    asyncInFlightLimit ) );
+        }
+        this.loggingService = loggingService;
         onInit( params, loggingService );
         dbConnectionState = getConnectionState();
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
-                new InstantiatingOperationHandlerRunnerFactory()
-        );
+        workerConnectionStates = new WorkerConnectionStates( this, dbConnectionState );
+        operationHandlerRunnableContextFactory = newOperationHandlerRunnerFactory( operationHandlerRunnerFactoryType );
         operationHandlersArray = toOperationHandlerArray( operationTypeToClassMapping, operationHandlers );
         operationHandlers = null;
         isInitialized = true;
     }
 
+    /**
+     * When greater than 0 operations of the asynchronous stream are issued without waiting for them to complete,
+     * with at most this many outstanding. Only useful when handlers implement AsyncOperationHandler.
+     */
+    public final int asyncInFlightLimit()
+    {
+        return asyncInFlightLimit;
+    }
+
     /**
      * Called once to initialize state for DB client
      */
@@ -54,10 +94,12 @@ public abstract class Db implements Closeable
             throw new IOException( "DB may be cleaned up only once" );
         }
         isShutdown.set( true );
+        // worker connection states may depend on resources that are released by onClose()
+        closeWorkerConnectionStates();
         onClose();
         try
         {
-            operationHandlerRunnableContextFactory.shutdown();
+            shutdownOperationHandlerRunnerFactory();
         }
         catch ( OperationException e )
         {
@@ -71,15 +113,64 @@ public abstract class Db implements Closeable
     {
         try
         {
-            operationHandlerRunnableContextFactory.shutdown();
+            shutdownOperationHandlerRunnerFactory();
         }
         catch ( OperationException e )
         {
             throw new DbException( "Error shutting down operation handler runnable factory", e );
         }
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
-                new InstantiatingOperationHandlerRunnerFactory()
-        );
+        operationHandlerRunnableContextFactory = newOperationHandlerRunnerFactory( operationHandlerRunnerFactoryType );
+        // executor threads do not survive a reInit, so neither should their connection states
+        try
+        {
+            closeWorkerConnectionStates();
+        }
+        catch ( IOException e )
+        {
+            throw new DbException( "Error closing worker connection states", e );
+        }
+        workerConnectionStates = new WorkerConnectionStates( this, dbConnectionState );
+    }
+
+    private void closeWorkerConnectionStates() throws IOException
+    {
+        int workerConnectionStateCount = workerConnectionStates.workerConnectionStateCount();
+        workerConnectionStates.closeAll();
+        if ( null != loggingService && workerConnectionStateCount > 0 )
+        {
+            loggingService.info( format( "Closed %s worker connection states", workerConnectionStateCount ) );
+        }
+    }
+
+    private static OperationHandlerRunnerFactory newOperationHandlerRunnerFactory( String factoryType )
+            throws DbException
+    {
+        switch ( factoryType )
+        {
+        case POOLING_OPERATION_HANDLER_RUNNER_FACTORY:
+            return new PoolingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        case THREAD_LOCAL_OPERATION_HANDLER_RUNNER_FACTORY:
+            return new ThreadLocalOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        default:
+            throw new DbException(
+                    format( "Unrecognized %s: %s\nValid values: %s, %s",
+                            OPERATION_HANDLER_RUNNER_FACTORY_ARG,
+                            factoryType,
+                            POOLING_OPERATION_HANDLER_RUNNER_FACTORY,
+                            THREAD_LOCAL_OPERATION_HANDLER_RUNNER_FACTORY )
+            );
+        }
+    }
+
+    private void shutdownOperationHandlerRunnerFactory() throws OperationException
+    {
+        operationHandlerRunnableContextFactory.shutdown();
+        if ( null != loggingService )
+        {
+            loggingService.info( format( "%s: %s",
+                    operationHandlerRunnableContextFactory.getClass().getSimpleName(),
+                    operationHandlerRunnableContextFactory.metrics() ) );
+        }
     }
 
     /**
@@ -124,6 +215,7 @@ public abstract class Db implements Closeable
                     operationHandlerRunnableContextFactory.newOperationHandlerRunner();
             operationHandlerRunnableContext.setOperationHandler( operationHandler );
             operationHandlerRunnableContext.setDbConnectionState( dbConnectionState );
+            operationHandlerRunnableContext.setWorkerConnectionStates( workerConnectionStates );
             return operationHandlerRunnableContext;
         }
         catch ( Exception e )
@@ -167,4 +259,20 @@ public abstract class Db implements Closeable
      * reused by all operation handlers
      */
     protected abstract DbConnectionState getConnectionState() throws DbException;
+
+    /**
+     * Optionally, connection state that is owned by one thread, e.g., a dedicated connection.
+     * Called once by every thread the first time it executes an operation, that thread is then always passed the
+     * returned state instead of the one from getConnectionState(), so it can be used without synchronization.
+     * The state is created before the latency measurement of that first operation starts.
+     * Child operations that AsyncOperationExecutor issues from the threads completing their parents are passed the
+     * state from getConnectionState(), those threads never get a state of their own.
+     * Returned states are closed before onClose(), and whenever executor threads are replaced (e.g., after warmup).
+     *
+     * @return connection state for the calling thread, or null to share the one from getConnectionState()
+     */
+    protected DbConnectionState newWorkerConnectionState() throws DbException
+    {
+        return null;
+    }
 }
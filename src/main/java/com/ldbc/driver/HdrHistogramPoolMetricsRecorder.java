@@ -0,0 +1,110 @@
+package com.ldbc.driver;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.AtomicHistogram;
+import stormpot.MetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backs the latency percentiles exposed by stormpot pools, which are only available when a MetricsRecorder is set
+ */
+class HdrHistogramPoolMetricsRecorder implements MetricsRecorder
+{
+    private static final long HIGHEST_TRACKABLE_VALUE_AS_MILLI = TimeUnit.HOURS.toMillis( 1 );
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 2;
+
+    private final AbstractHistogram allocationLatency = newHistogram();
+    private final AbstractHistogram allocationFailureLatency = newHistogram();
+    private final AbstractHistogram deallocationLatency = newHistogram();
+    private final AbstractHistogram reallocationLatency = newHistogram();
+    private final AbstractHistogram reallocationFailureLatency = newHistogram();
+    private final AbstractHistogram objectLifetime = newHistogram();
+
+    private static AbstractHistogram newHistogram()
+    {
+        return new AtomicHistogram( HIGHEST_TRACKABLE_VALUE_AS_MILLI, NUMBER_OF_SIGNIFICANT_DIGITS );
+    }
+
+    private static void record( AbstractHistogram histogram, long valueAsMilli )
+    {
+        histogram.recordValue( Math.max( 0, Math.min( valueAsMilli, HIGHEST_TRACKABLE_VALUE_AS_MILLI ) ) );
+    }
+
+    private static double percentile( AbstractHistogram histogram, double percentile )
+    {
+        return (0 == histogram.getTotalCount()) ? Double.NaN : histogram.getValueAtPercentile( percentile );
+    }
+
+    @Override
+    public void recordAllocationLatencySampleMillis( long milliseconds )
+    {
+        record( allocationLatency, milliseconds );
+    }
+
+    @Override
+    public void recordAllocationFailureLatencySampleMillis( long milliseconds )
+    {
+        record( allocationFailureLatency, milliseconds );
+    }
+
+    @Override
+    public void recordDeallocationLatencySampleMillis( long milliseconds )
+    {
+        record( deallocationLatency, milliseconds );
+    }
+
+    @Override
+    public void recordReallocationLatencySampleMillis( long milliseconds )
+    {
+        record( reallocationLatency, milliseconds );
+    }
+
+    @Override
+    public void recordReallocationFailureLatencySampleMillis( long milliseconds )
+    {
+        record( reallocationFailureLatency, milliseconds );
+    }
+
+    @Override
+    public void recordObjectLifetimeSampleMillis( long milliseconds )
+    {
+        record( objectLifetime, milliseconds );
+    }
+
+    @Override
+    public double getAllocationLatencyPercentile( double percentile )
+    {
+        return percentile( allocationLatency, percentile );
+    }
+
+    @Override
+    public double getAllocationFailureLatencyPercentile( double percentile )
+    {
+        return percentile( allocationFailureLatency, percentile );
+    }
+
+    @Override
+    public double getDeallocationLatencyPercentile( double percentile )
+    {
+        return percentile( deallocationLatency, percentile );
+    }
+
+    @Override
+    public double getReallocationLatencyPercentile( double percentile )
+    {
+        return percentile( reallocationLatency, percentile );
+    }
+
+    @Override
+    public double getReallocationFailurePercentile( double percentile )
+    {
+        return percentile( reallocationFailureLatency, percentile );
+    }
+
+    @Override
+    public double getObjectLifetimePercentile( double percentile )
+    {
+        return percentile( objectLifetime, percentile );
+    }
+}
@@ -3,6 +3,8 @@ package com.ldbc.driver;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class InstantiatingOperationHandlerRunnerFactory implements OperationHandlerRunnerFactory
 {
     private static final Slot DUMMY_SLOT = new Slot()
@@ -20,9 +22,12 @@ public class InstantiatingOperationHandlerRunnerFactory implements OperationHand
         }
     };
 
+    private final AtomicLong instantiatedCount = new AtomicLong( 0 );
+
     @Override
     public OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException
     {
+        instantiatedCount.incrementAndGet();
         OperationHandlerRunnableContext operationHandlerRunnableContext = new OperationHandlerRunnableContext();
         operationHandlerRunnableContext.setSlot( DUMMY_SLOT );
         return operationHandlerRunnableContext;
@@ -33,4 +38,12 @@ public class InstantiatingOperationHandlerRunnerFactory implements OperationHand
     {
         // nothing to do here
     }
+
+    @Override
+    public OperationHandlerRunnerPoolMetrics metrics()
+    {
+        // every claim is an instantiation, and nothing is ever waited for
+        long count = instantiatedCount.get();
+        return new OperationHandlerRunnerPoolMetrics( count, count, 0, -1, -1, -1 );
+    }
 }
@@ -0,0 +1,24 @@
+package com.ldbc.driver;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary encoding of one operation type and its result, the binary counterpart of
+ * Workload.serializeOperation()/marshalOperation() and Operation.serializeResult()/marshalResult().
+ * Implementations must be stateless, the same instance is used concurrently by all threads.
+ *
+ * @param <OPERATION> operation type the codec is registered for in OperationCodecs
+ * @param <RESULT> result type of that operation
+ */
+public interface OperationCodec<OPERATION extends Operation<RESULT>, RESULT>
+{
+    void writeOperation( OPERATION operation, DataOutput output ) throws IOException;
+
+    OPERATION readOperation( DataInput input ) throws IOException;
+
+    void writeResult( RESULT result, DataOutput output ) throws IOException;
+
+    RESULT readResult( DataInput input ) throws IOException;
+}
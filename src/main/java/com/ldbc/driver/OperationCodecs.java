@@ -0,0 +1,123 @@
+package com.ldbc.driver;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * Codecs of all operation types of a workload, dispatched on Operation.type().
+ * Not modified after construction, so safe to share between threads without locking.
+ */
+public class OperationCodecs
+{
+    private final OperationCodec[] codecs;
+
+    private OperationCodecs( OperationCodec[] codecs )
+    {
+        this.codecs = codecs;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public boolean supports( int operationType )
+    {
+        return operationType >= 0 && operationType < codecs.length && null != codecs[operationType];
+    }
+
+    public void writeOperation( Operation operation, DataOutput output ) throws SerializingMarshallingException
+    {
+        try
+        {
+            codecFor( operation.type() ).writeOperation( operation, output );
+        }
+        catch ( IOException | ClassCastException e )
+        {
+            throw new SerializingMarshallingException( format( "Error serializing operation\n%s", operation ), e );
+        }
+    }
+
+    public Operation readOperation( int operationType, DataInput input ) throws SerializingMarshallingException
+    {
+        try
+        {
+            return codecFor( operationType ).readOperation( input );
+        }
+        catch ( IOException e )
+        {
+            throw new SerializingMarshallingException(
+                    format( "Error marshalling operation of type %s", operationType ), e );
+        }
+    }
+
+    public void writeResult( int operationType, Object result, DataOutput output )
+            throws SerializingMarshallingException
+    {
+        try
+        {
+            codecFor( operationType ).writeResult( result, output );
+        }
+        catch ( IOException | ClassCastException e )
+        {
+            throw new SerializingMarshallingException(
+                    format( "Error serializing result of operation type %s\n%s", operationType, result ), e );
+        }
+    }
+
+    public Object readResult( int operationType, DataInput input ) throws SerializingMarshallingException
+    {
+        try
+        {
+            return codecFor( operationType ).readResult( input );
+        }
+        catch ( IOException e )
+        {
+            throw new SerializingMarshallingException(
+                    format( "Error marshalling result of operation type %s", operationType ), e );
+        }
+    }
+
+    private OperationCodec codecFor( int operationType ) throws SerializingMarshallingException
+    {
+        if ( false == supports( operationType ) )
+        {
+            throw new SerializingMarshallingException( format( "No codec for operation type %s", operationType ) );
+        }
+        return codecs[operationType];
+    }
+
+    public static class Builder
+    {
+        private OperationCodec[] codecs = new OperationCodec[0];
+
+        private Builder()
+        {
+        }
+
+        public <OPERATION extends Operation<RESULT>, RESULT> Builder with( int operationType,
+                OperationCodec<OPERATION,RESULT> codec )
+        {
+            if ( operationType < 0 )
+            {
+                throw new IllegalArgumentException( format( "Invalid operation type: %s", operationType ) );
+            }
+            if ( operationType >= codecs.length )
+            {
+                OperationCodec[] newCodecs = new OperationCodec[operationType + 1];
+                System.arraycopy( codecs, 0, newCodecs, 0, codecs.length );
+                codecs = newCodecs;
+            }
+            codecs[operationType] = codec;
+            return this;
+        }
+
+        public OperationCodecs build()
+        {
+            return new OperationCodecs( codecs.clone() );
+        }
+    }
+}
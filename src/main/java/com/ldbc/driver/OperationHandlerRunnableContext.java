@@ -1,24 +1,33 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.OperationTimeouts;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.StageTracer;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.runtime.scheduling.SpinnerCheck;
 import com.ldbc.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
 {
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture( null );
+
     // set by OperationHandlerRunnerFactory
     private Slot slot = null;
 
     // set by Db
     private DbConnectionState dbConnectionState = null;
+    private WorkerConnectionStates workerConnectionStates = null;
     private OperationHandler operationHandler = null;
 
     // set by DependencyAndNonDependencyHandlersRetriever
@@ -31,9 +40,14 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
 
     // set by DependencyAndNonDependencyHandlersRetriever
     private SpinnerCheck beforeExecuteCheck = null;
+    private OperationTimeouts operationTimeouts = OperationTimeouts.NONE;
+    private boolean sharedDbConnectionState = false;
 
     private boolean initialized = false;
 
+    // only set when StageTracer.ENABLED
+    private long handoffTimeAsNano = 0;
+
     private ResultReporter.SimpleResultReporter resultReporter = null;
 
     public final void setSlot( Slot slot )
@@ -73,6 +87,8 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.operation = operation;
         this.localCompletionTimeWriter = localCompletionTimeWriter;
         this.beforeExecuteCheck = Spinner.TRUE_CHECK;
+        this.operationTimeouts = OperationTimeouts.NONE;
+        this.sharedDbConnectionState = false;
         this.initialized = true;
     }
 
@@ -86,11 +102,36 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.dbConnectionState = dbConnectionState;
     }
 
+    final void setWorkerConnectionStates( WorkerConnectionStates workerConnectionStates )
+    {
+        this.workerConnectionStates = workerConnectionStates;
+    }
+
     public final void setBeforeExecuteCheck( SpinnerCheck check )
     {
         beforeExecuteCheck = check;
     }
 
+    public final void setOperationTimeouts( OperationTimeouts operationTimeouts )
+    {
+        this.operationTimeouts = operationTimeouts;
+    }
+
+    /**
+     * Executes the operation with the connection state shared by all threads, instead of that of the executing thread.
+     * For operations issued by threads that are not executor threads, e.g., threads that complete asynchronous
+     * operations, which should not open worker connection states of their own
+     */
+    public final void useSharedDbConnectionState()
+    {
+        this.sharedDbConnectionState = true;
+    }
+
+    public final void setHandoffTimeAsNano( long handoffTimeAsNano )
+    {
+        this.handoffTimeAsNano = handoffTimeAsNano;
+    }
+
     public final Operation operation()
     {
         return operation;
@@ -106,11 +147,25 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         return localCompletionTimeWriter;
     }
 
+    /**
+     * @return connection state shared by all threads
+     */
     public final DbConnectionState dbConnectionState()
     {
         return dbConnectionState;
     }
 
+    /**
+     * @return connection state of the calling thread, see Db.newWorkerConnectionState(), or dbConnectionState() if
+     * useSharedDbConnectionState() was called or the Db does not create worker connection states
+     */
+    public final DbConnectionState workerDbConnectionState() throws DbException
+    {
+        return (sharedDbConnectionState || null == workerConnectionStates)
+               ? dbConnectionState
+               : workerConnectionStates.forCurrentThread();
+    }
+
     public final ResultReporter resultReporter()
     {
         return resultReporter;
@@ -135,6 +190,7 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         }
         try
         {
+            long spinnerWaitStartAsNano = (StageTracer.ENABLED) ? onStarted() : 0;
             if ( false == spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
                 // TODO something more elaborate here? see comments in Spinner
@@ -142,36 +198,204 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                 // Spinner result indicates operation should not be processed
                 return;
             }
+            if ( StageTracer.ENABLED )
+            {
+                StageTracer.instance().recordSince( StageTracer.Stage.SPINNER_WAIT, spinnerWaitStartAsNano );
+            }
+            // opening a worker connection state (first operation of a thread) is neither latency nor timed
+            DbConnectionState dbConnectionState = workerDbConnectionState();
             resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            resultReporter.resetCancelled();
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
-            operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
-            long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
-            resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            Future<?> timeoutWatch = operationTimeouts.watch( operation.type(), resultReporter );
+            Throwable failure = null;
+            try
+            {
+                operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+            }
+            catch ( Throwable e )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                failure = e;
+            }
+            if ( operationTimeouts.unwatch( timeoutWatch ) )
+            {
+                // a handler may well fail when giving up on a cancelled operation, it still just timed out
+                onTimedOut( startOfLatencyMeasurementAsNano );
+            }
+            else if ( null != failure )
+            {
+                onError( failure );
             }
             else
             {
-                localCompletionTimeWriter.submitLocalCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode()
+                onExecuted( startOfLatencyMeasurementAsNano );
+            }
+        }
+        catch ( Throwable e )
+        {
+            onError( e );
+        }
+    }
+
+    /**
+     * Same as run(), but does not wait for operations of an AsyncOperationHandler to complete.
+     * Waiting for the scheduled start time still happens in the calling thread, but once the operation has been
+     * issued the duration, metrics, and local completion time are recorded by the thread that completes its future.
+     * Operations of any other handler type are executed synchronously, i.e., are complete when this method returns.
+     *
+     * @return future that completes after results have been recorded, it never completes exceptionally
+     */
+    public CompletableFuture<Void> runAsync()
+    {
+        if ( false == initialized )
+        {
+            errorReporter.reportError( this, "Handler was executed before being initialized" );
+            return COMPLETED;
+        }
+        if ( false == (operationHandler instanceof AsyncOperationHandler) )
+        {
+            run();
+            return COMPLETED;
+        }
+        try
+        {
+            long spinnerWaitStartAsNano = (StageTracer.ENABLED) ? onStarted() : 0;
+            if ( false == spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
+            {
+                // Spinner result indicates operation should not be processed, see run()
+                return COMPLETED;
+            }
+            if ( StageTracer.ENABLED )
+            {
+                StageTracer.instance().recordSince( StageTracer.Stage.SPINNER_WAIT, spinnerWaitStartAsNano );
+            }
+            // see run()
+            DbConnectionState dbConnectionState = workerDbConnectionState();
+            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            resultReporter.resetCancelled();
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            final Future<?> timeoutWatch = operationTimeouts.watch( operation.type(), resultReporter );
+            CompletableFuture<Void> execution;
+            try
+            {
+                execution = ((AsyncOperationHandler) operationHandler).executeOperationAsync(
+                        operation,
+                        dbConnectionState,
+                        resultReporter
                 );
             }
+            catch ( Throwable e )
+            {
+                operationTimeouts.unwatch( timeoutWatch );
+                throw e;
+            }
+            return execution.handle(
+                    ( ignore, failure ) ->
+                    {
+                        try
+                        {
+                            if ( operationTimeouts.unwatch( timeoutWatch ) )
+                            {
+                                onTimedOut( startOfLatencyMeasurementAsNano );
+                            }
+                            else if ( null == failure )
+                            {
+                                onExecuted( startOfLatencyMeasurementAsNano );
+                            }
+                            else
+                            {
+                                onError( (failure instanceof CompletionException && null != failure.getCause())
+                                         ? failure.getCause()
+                                         : failure );
+                            }
+                        }
+                        catch ( Throwable e )
+                        {
+                            onError( e );
+                        }
+                        return null;
+                    }
+            );
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            onError( e );
+            return COMPLETED;
+        }
+    }
+
+    private void onExecuted( long startOfLatencyMeasurementAsNano ) throws Exception
+    {
+        long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+        resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
         }
+        else if ( StageTracer.ENABLED )
+        {
+            StageTracer stageTracer = StageTracer.instance();
+            stageTracer.record( StageTracer.Stage.HANDLER_EXECUTION, resultReporter.runDurationAsNano() );
+            long completionTimeSubmissionStartAsNano = System.nanoTime();
+            localCompletionTimeWriter.submitLocalCompletedTime( operation.timeStamp() );
+            long metricsPublicationStartAsNano = System.nanoTime();
+            stageTracer.record( StageTracer.Stage.COMPLETION_TIME_SUBMISSION,
+                    metricsPublicationStartAsNano - completionTimeSubmissionStartAsNano );
+            submitOperationResult();
+            stageTracer.recordSince( StageTracer.Stage.METRICS_PUBLICATION, metricsPublicationStartAsNano );
+        }
+        else
+        {
+            localCompletionTimeWriter.submitLocalCompletedTime( operation.timeStamp() );
+            submitOperationResult();
+        }
+    }
+
+    /**
+     * Operations that timed out are complete, as far as completion time is concerned, but have no result
+     */
+    private void onTimedOut( long startOfLatencyMeasurementAsNano ) throws Exception
+    {
+        resultReporter.setRunDurationAsNano( timeSource.nanoSnapshot() - startOfLatencyMeasurementAsNano );
+        resultReporter.reportTimedOut();
+        localCompletionTimeWriter.submitLocalCompletedTime( operation.timeStamp() );
+        submitOperationResult();
+    }
+
+    private void submitOperationResult() throws MetricsCollectionException
+    {
+        metricsServiceWriter.submitOperationResult(
+                operation.type(),
+                operation.scheduledStartTimeAsMilli(),
+                resultReporter.actualStartTimeAsMilli(),
+                resultReporter.runDurationAsNano(),
+                resultReporter.resultCode()
+        );
     }
 
+    /**
+     * Records the queue handoff stage, only called when StageTracer.ENABLED
+     *
+     * @return start of the spinner wait stage
+     */
+    private long onStarted()
+    {
+        long nowAsNano = System.nanoTime();
+        if ( 0 != handoffTimeAsNano )
+        {
+            StageTracer.instance().record( StageTracer.Stage.QUEUE_HANDOFF, nowAsNano - handoffTimeAsNano );
+            handoffTimeAsNano = 0;
+        }
+        return nowAsNano;
+    }
+
+    private void onError( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
+    }
 
     @Override
     public String toString()
@@ -5,4 +5,6 @@ public interface OperationHandlerRunnerFactory
     OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException;
 
     void shutdown() throws OperationException;
+
+    OperationHandlerRunnerPoolMetrics metrics();
 }
@@ -0,0 +1,93 @@
+package com.ldbc.driver;
+
+import org.HdrHistogram.AbstractHistogram;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of how an OperationHandlerRunnerFactory has been used:
+ * claims = runnable contexts handed out
+ * growth events = times the pool had to grow, i.e., allocate beyond what it already held
+ * claim wait = time spent inside claims that had to coordinate with other threads or allocate
+ */
+public class OperationHandlerRunnerPoolMetrics
+{
+    private final long claimCount;
+    private final long growthCount;
+    private final long claimWaitCount;
+    private final double claimWaitMeanAsNano;
+    private final long claimWaitPercentile99AsNano;
+    private final long claimWaitMaxAsNano;
+
+    public static OperationHandlerRunnerPoolMetrics fromClaimWaitHistogram( long claimCount,
+            long growthCount,
+            AbstractHistogram claimWaitAsNanoHistogram )
+    {
+        long claimWaitCount = claimWaitAsNanoHistogram.getTotalCount();
+        return new OperationHandlerRunnerPoolMetrics(
+                claimCount,
+                growthCount,
+                claimWaitCount,
+                (0 == claimWaitCount) ? -1 : claimWaitAsNanoHistogram.getMean(),
+                (0 == claimWaitCount) ? -1 : claimWaitAsNanoHistogram.getValueAtPercentile( 99 ),
+                (0 == claimWaitCount) ? -1 : claimWaitAsNanoHistogram.getMaxValue()
+        );
+    }
+
+    public OperationHandlerRunnerPoolMetrics( long claimCount,
+            long growthCount,
+            long claimWaitCount,
+            double claimWaitMeanAsNano,
+            long claimWaitPercentile99AsNano,
+            long claimWaitMaxAsNano )
+    {
+        this.claimCount = claimCount;
+        this.growthCount = growthCount;
+        this.claimWaitCount = claimWaitCount;
+        this.claimWaitMeanAsNano = claimWaitMeanAsNano;
+        this.claimWaitPercentile99AsNano = claimWaitPercentile99AsNano;
+        this.claimWaitMaxAsNano = claimWaitMaxAsNano;
+    }
+
+    public long claimCount()
+    {
+        return claimCount;
+    }
+
+    public long growthCount()
+    {
+        return growthCount;
+    }
+
+    public long claimWaitCount()
+    {
+        return claimWaitCount;
+    }
+
+    public double claimWaitMeanAsNano()
+    {
+        return claimWaitMeanAsNano;
+    }
+
+    public long claimWaitPercentile99AsNano()
+    {
+        return claimWaitPercentile99AsNano;
+    }
+
+    public long claimWaitMaxAsNano()
+    {
+        return claimWaitMaxAsNano;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "Claims: %s, Growth Events: %s, Claim Waits: %s (mean: %.0f ns, 99th: %s ns, max: %s ns)",
+                claimCount,
+                growthCount,
+                claimWaitCount,
+                claimWaitMeanAsNano,
+                claimWaitPercentile99AsNano,
+                claimWaitMaxAsNano );
+    }
+}
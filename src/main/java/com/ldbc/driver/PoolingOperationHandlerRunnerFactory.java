@@ -1,6 +1,8 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.AtomicHistogram;
 import stormpot.Allocator;
 import stormpot.BlazePool;
 import stormpot.Completion;
@@ -11,6 +13,7 @@ import stormpot.SlotInfo;
 import stormpot.Timeout;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
@@ -21,8 +24,13 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
     private static final Timeout POOL_CLAIM_TIMEOUT = new Timeout( 100, TimeUnit.MILLISECONDS );
     private static final Timeout POOL_CLAIM_AFTER_RESIZE_TIMEOUT = new Timeout( 1000, TimeUnit.MILLISECONDS );
     private static final Timeout POOL_SHUTDOWN_TIMEOUT = new Timeout( 10, TimeUnit.SECONDS );
+    private static final long HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO = TimeUnit.MINUTES.toNanos( 1 );
     private final BlazePool<OperationHandlerRunnableContext> operationHandlerRunnerPool;
     private final OperationHandlerRunnerFactory innerOperationHandlerRunnerFactory;
+    private final HdrHistogramPoolMetricsRecorder poolMetricsRecorder = new HdrHistogramPoolMetricsRecorder();
+    private final AtomicLong claimCount = new AtomicLong( 0 );
+    private final AtomicLong growthCount = new AtomicLong( 0 );
+    private final AbstractHistogram claimWaitAsNano = new AtomicHistogram( HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO, 2 );
     int highestSetPoolSize = 0;
 
     public PoolingOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory )
@@ -35,6 +43,7 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
         operationHandlerRunnerPoolConfig.setBackgroundExpirationEnabled( false );
         operationHandlerRunnerPoolConfig.setPreciseLeakDetectionEnabled( false );
         operationHandlerRunnerPoolConfig.setExpiration( new NeverExpiration() );
+        operationHandlerRunnerPoolConfig.setMetricsRecorder( poolMetricsRecorder );
         this.operationHandlerRunnerPool = new BlazePool<>( operationHandlerRunnerPoolConfig );
         this.operationHandlerRunnerPool.setTargetSize( INITIAL_POOL_SIZE );
         this.highestSetPoolSize = INITIAL_POOL_SIZE;
@@ -43,6 +52,8 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
     @Override
     public OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException
     {
+        claimCount.incrementAndGet();
+        long claimStartAsNano = System.nanoTime();
         try
         {
             OperationHandlerRunnableContext operationHandlerRunner =
@@ -54,9 +65,12 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
                 {
                     operationHandlerRunnerPool.setTargetSize( currentPoolSize * 2 );
                     highestSetPoolSize = currentPoolSize * 2;
+                    growthCount.incrementAndGet();
                 }
                 operationHandlerRunner = operationHandlerRunnerPool.claim( POOL_CLAIM_AFTER_RESIZE_TIMEOUT );
             }
+            claimWaitAsNano.recordValue(
+                    Math.min( System.nanoTime() - claimStartAsNano, HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO ) );
             return operationHandlerRunner;
         }
         catch ( Exception e )
@@ -92,31 +106,36 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
                                 + "Pool Target Size: %s\n"
                                 + "Pool Allocation Count: %s\n"
                                 + "Pool Failed Allocation Count: %s\n"
-                                + "Pool Leaked Objects Count: %s\n",
+                                + "Pool Leaked Objects Count: %s\n"
+                                + "Pool Claims: %s\n"
+                                + "Allocation Latency (ms) 90th/99th/100th: %s/%s/%s\n"
+                                + "Deallocation Latency (ms) 90th/99th/100th: %s/%s/%s\n"
+                                + "Allocation Failure Latency (ms) 90th/99th/100th: %s/%s/%s\n"
+                                + "Object Lifetime (ms) 90th/99th/100th: %s/%s/%s\n"
+                                + "Reallocation Failure Latency (ms) 90th/99th/100th: %s/%s/%s\n",
                                 temporalUtil.milliDurationToString( TimeUnit.MILLISECONDS
                                         .convert( POOL_SHUTDOWN_TIMEOUT.getTimeout(),
                                                 POOL_SHUTDOWN_TIMEOUT.getUnit() ) ),
                                 operationHandlerRunnerPool.getTargetSize(),
                                 operationHandlerRunnerPool.getAllocationCount(),
                                 operationHandlerRunnerPool.getFailedAllocationCount(),
-                                operationHandlerRunnerPool.getLeakedObjectsCount()
-                                // TODO percentile stats require MetricsRecorder implementation to work
-                                // TODO http://chrisvest.github.io/stormpot/site/apidocs/stormpot/MetricsRecorder.html
-//                                operationHandlerRunnerPool.getAllocationLatencyPercentile(90),
-//                                operationHandlerRunnerPool.getAllocationLatencyPercentile(99),
-//                                operationHandlerRunnerPool.getAllocationLatencyPercentile(100),
-//                                operationHandlerRunnerPool.getDeallocationLatencyPercentile(90),
-//                                operationHandlerRunnerPool.getDeallocationLatencyPercentile(99),
-//                                operationHandlerRunnerPool.getDeallocationLatencyPercentile(100),
-//                                operationHandlerRunnerPool.getAllocationFailureLatencyPercentile(90),
-//                                operationHandlerRunnerPool.getAllocationFailureLatencyPercentile(99),
-//                                operationHandlerRunnerPool.getAllocationFailureLatencyPercentile(100),
-//                                operationHandlerRunnerPool.getObjectLifetimePercentile(90),
-//                                operationHandlerRunnerPool.getObjectLifetimePercentile(99),
-//                                operationHandlerRunnerPool.getObjectLifetimePercentile(100),
-//                                operationHandlerRunnerPool.getReallocationFailureLatencyPercentile(90),
-//                                operationHandlerRunnerPool.getReallocationFailureLatencyPercentile(99),
-//                                operationHandlerRunnerPool.getReallocationFailureLatencyPercentile(100)
+                                operationHandlerRunnerPool.getLeakedObjectsCount(),
+                                metrics(),
+                                operationHandlerRunnerPool.getAllocationLatencyPercentile( 90 ),
+                                operationHandlerRunnerPool.getAllocationLatencyPercentile( 99 ),
+                                operationHandlerRunnerPool.getAllocationLatencyPercentile( 100 ),
+                                operationHandlerRunnerPool.getDeallocationLatencyPercentile( 90 ),
+                                operationHandlerRunnerPool.getDeallocationLatencyPercentile( 99 ),
+                                operationHandlerRunnerPool.getDeallocationLatencyPercentile( 100 ),
+                                operationHandlerRunnerPool.getAllocationFailureLatencyPercentile( 90 ),
+                                operationHandlerRunnerPool.getAllocationFailureLatencyPercentile( 99 ),
+                                operationHandlerRunnerPool.getAllocationFailureLatencyPercentile( 100 ),
+                                operationHandlerRunnerPool.getObjectLifetimePercentile( 90 ),
+                                operationHandlerRunnerPool.getObjectLifetimePercentile( 99 ),
+                                operationHandlerRunnerPool.getObjectLifetimePercentile( 100 ),
+                                operationHandlerRunnerPool.getReallocationFailureLatencyPercentile( 90 ),
+                                operationHandlerRunnerPool.getReallocationFailureLatencyPercentile( 99 ),
+                                operationHandlerRunnerPool.getReallocationFailureLatencyPercentile( 100 )
                         )
                 );
             }
@@ -127,6 +146,16 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
         }
     }
 
+    @Override
+    public OperationHandlerRunnerPoolMetrics metrics()
+    {
+        return OperationHandlerRunnerPoolMetrics.fromClaimWaitHistogram(
+                claimCount.get(),
+                growthCount.get(),
+                claimWaitAsNano
+        );
+    }
+
     @Override
     public String toString()
     {
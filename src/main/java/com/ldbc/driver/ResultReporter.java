@@ -6,6 +6,11 @@ import static java.lang.String.format;
 
 public interface ResultReporter
 {
+    /**
+     * Result code of operations that ran for longer than the timeout of their type, see OperationTimeouts
+     */
+    int TIMED_OUT_RESULT_CODE = -2;
+
     <OTHER_RESULT_TYPE> void report(
             int resultCode,
             OTHER_RESULT_TYPE result,
@@ -19,6 +24,18 @@ public interface ResultReporter
 
     long actualStartTimeAsMilli();
 
+    /**
+     * Long running handlers should check this periodically and, once true, stop executing the operation.
+     * The operation is recorded as timed out, whatever result the handler reports.
+     *
+     * @return true once the operation exceeded the timeout of its type, always false for reporters that do not
+     * support cancellation
+     */
+    default boolean isCancelled()
+    {
+        return false;
+    }
+
     class SimpleResultReporter implements ResultReporter
     {
         private final ConcurrentErrorReporter errorReporter;
@@ -26,6 +43,7 @@ public interface ResultReporter
         private int resultCode = -1;
         private long actualStartTimeAsMilli = -1;
         private long runDurationAsNano = -1;
+        private volatile boolean cancelled = false;
 
         public SimpleResultReporter( ConcurrentErrorReporter errorReporter )
         {
@@ -87,6 +105,28 @@ public interface ResultReporter
             return result;
         }
 
+        @Override
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+
+        public void cancel()
+        {
+            cancelled = true;
+        }
+
+        void resetCancelled()
+        {
+            cancelled = false;
+        }
+
+        void reportTimedOut()
+        {
+            resultCode = TIMED_OUT_RESULT_CODE;
+            result = null;
+        }
+
         @Override
         public String toString()
         {
@@ -96,6 +136,7 @@ public interface ResultReporter
                    "\t-->resultCode=" + resultCode + "\n" +
                    "\t-->actualStartTimeAsMilli=" + actualStartTimeAsMilli + "\n" +
                    "\t-->runDurationAsNano=" + runDurationAsNano + "\n" +
+                   "\t-->cancelled=" + cancelled + "\n" +
                    '}';
         }
     }
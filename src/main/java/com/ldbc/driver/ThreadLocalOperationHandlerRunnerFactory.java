@@ -0,0 +1,177 @@
+package com.ldbc.driver;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import stormpot.Poolable;
+import stormpot.Slot;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recycles runnable contexts through a small free-list owned by each thread, so the common case of a worker
+ * claiming a context it (or a previous operation on the same thread) released involves no coordination at all.
+ * Contexts released into a full free-list overflow to a shared lock-free stack, which is also where threads that only
+ * ever claim (e.g., the thread submitting to a thread pool) find contexts released by worker threads.
+ * When both are empty a new context is instantiated, the pool never blocks and has no upper bound.
+ */
+public class ThreadLocalOperationHandlerRunnerFactory implements OperationHandlerRunnerFactory
+{
+    public static final int DEFAULT_LOCAL_CAPACITY = 16;
+    private static final long HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO = TimeUnit.MINUTES.toNanos( 1 );
+
+    private final OperationHandlerRunnerFactory innerOperationHandlerRunnerFactory;
+    private final int localCapacity;
+    private final Deque<OperationHandlerRunnableContext> sharedStack = new ConcurrentLinkedDeque<>();
+    private final Queue<LocalFreeList> allLocalFreeLists = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final Slot recyclingSlot = new RecyclingSlot();
+    private final ThreadLocal<LocalFreeList> localFreeLists = new ThreadLocal<LocalFreeList>()
+    {
+        @Override
+        protected LocalFreeList initialValue()
+        {
+            LocalFreeList localFreeList = new LocalFreeList( localCapacity );
+            allLocalFreeLists.add( localFreeList );
+            return localFreeList;
+        }
+    };
+
+    public ThreadLocalOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory )
+    {
+        this( operationHandlerRunnerFactory, DEFAULT_LOCAL_CAPACITY );
+    }
+
+    public ThreadLocalOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory,
+            int localCapacity )
+    {
+        this.innerOperationHandlerRunnerFactory = operationHandlerRunnerFactory;
+        this.localCapacity = localCapacity;
+    }
+
+    @Override
+    public OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationException( "Factory has already been shutdown" );
+        }
+        LocalFreeList localFreeList = localFreeLists.get();
+        localFreeList.claimCount++;
+        OperationHandlerRunnableContext operationHandlerRunner = localFreeList.pop();
+        if ( null != operationHandlerRunner )
+        {
+            return operationHandlerRunner;
+        }
+        long claimStartAsNano = System.nanoTime();
+        operationHandlerRunner = sharedStack.pollFirst();
+        if ( null == operationHandlerRunner )
+        {
+            operationHandlerRunner = innerOperationHandlerRunnerFactory.newOperationHandlerRunner();
+            operationHandlerRunner.setSlot( recyclingSlot );
+            localFreeList.growthCount++;
+        }
+        localFreeList.claimWaitAsNano.recordValue(
+                Math.min( System.nanoTime() - claimStartAsNano, HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO ) );
+        return operationHandlerRunner;
+    }
+
+    @Override
+    public void shutdown() throws OperationException
+    {
+        if ( shutdown.getAndSet( true ) )
+        {
+            throw new OperationException( "Factory has already been shutdown" );
+        }
+        innerOperationHandlerRunnerFactory.shutdown();
+        // free-lists of other threads can not be safely cleared from here, they are collected with this factory
+        sharedStack.clear();
+    }
+
+    /**
+     * Counters are written without synchronization by their owning threads,
+     * values are exact once those threads have stopped claiming, e.g., after a run
+     */
+    @Override
+    public OperationHandlerRunnerPoolMetrics metrics()
+    {
+        long claimCount = 0;
+        long growthCount = 0;
+        AbstractHistogram claimWaitAsNano = new Histogram( HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO, 2 );
+        for ( LocalFreeList localFreeList : allLocalFreeLists )
+        {
+            claimCount += localFreeList.claimCount;
+            growthCount += localFreeList.growthCount;
+            claimWaitAsNano.add( localFreeList.claimWaitAsNano );
+        }
+        return OperationHandlerRunnerPoolMetrics.fromClaimWaitHistogram( claimCount, growthCount, claimWaitAsNano );
+    }
+
+    @Override
+    public String toString()
+    {
+        return ThreadLocalOperationHandlerRunnerFactory.class.getSimpleName() + "{" +
+               innerOperationHandlerRunnerFactory.toString() + "}";
+    }
+
+    private class RecyclingSlot implements Slot
+    {
+        // called by the thread that executed the operation, which is the thread most likely to claim next
+        @Override
+        public void release( Poolable obj )
+        {
+            OperationHandlerRunnableContext operationHandlerRunner = (OperationHandlerRunnableContext) obj;
+            if ( false == localFreeLists.get().push( operationHandlerRunner ) )
+            {
+                sharedStack.offerFirst( operationHandlerRunner );
+            }
+        }
+
+        @Override
+        public void expire( Poolable obj )
+        {
+            // dropping the reference is enough, a replacement is instantiated when needed
+        }
+    }
+
+    private static class LocalFreeList
+    {
+        private final OperationHandlerRunnableContext[] contexts;
+        private int size = 0;
+        private long claimCount = 0;
+        private long growthCount = 0;
+        private final AbstractHistogram claimWaitAsNano = new Histogram( HIGHEST_TRACKABLE_CLAIM_WAIT_AS_NANO, 2 );
+
+        private LocalFreeList( int capacity )
+        {
+            this.contexts = new OperationHandlerRunnableContext[capacity];
+        }
+
+        private OperationHandlerRunnableContext pop()
+        {
+            if ( 0 == size )
+            {
+                return null;
+            }
+            size--;
+            OperationHandlerRunnableContext context = contexts[size];
+            contexts[size] = null;
+            return context;
+        }
+
+        private boolean push( OperationHandlerRunnableContext context )
+        {
+            if ( size == contexts.length )
+            {
+                return false;
+            }
+            contexts[size] = context;
+            size++;
+            return true;
+        }
+    }
+}
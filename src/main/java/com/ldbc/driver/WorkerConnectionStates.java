@@ -0,0 +1,74 @@
+package com.ldbc.driver;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Connection states of the threads that execute operations, created the first time each thread asks for one.
+ * Threads of a Db that does not create worker connection states all get the shared connection state.
+ */
+class WorkerConnectionStates
+{
+    private final Db db;
+    private final DbConnectionState sharedConnectionState;
+    private final ThreadLocal<DbConnectionState> connectionStates = new ThreadLocal<>();
+    private final Queue<DbConnectionState> workerConnectionStates = new ConcurrentLinkedQueue<>();
+
+    WorkerConnectionStates( Db db, DbConnectionState sharedConnectionState )
+    {
+        this.db = db;
+        this.sharedConnectionState = sharedConnectionState;
+    }
+
+    DbConnectionState forCurrentThread() throws DbException
+    {
+        DbConnectionState connectionState = connectionStates.get();
+        if ( null == connectionState )
+        {
+            connectionState = db.newWorkerConnectionState();
+            if ( null == connectionState )
+            {
+                connectionState = sharedConnectionState;
+            }
+            else
+            {
+                workerConnectionStates.add( connectionState );
+            }
+            connectionStates.set( connectionState );
+        }
+        return connectionState;
+    }
+
+    int workerConnectionStateCount()
+    {
+        return workerConnectionStates.size();
+    }
+
+    /**
+     * Must only be called once no thread executes operations anymore, threads that ask later get closed states
+     */
+    void closeAll() throws IOException
+    {
+        IOException firstException = null;
+        DbConnectionState connectionState;
+        while ( null != (connectionState = workerConnectionStates.poll()) )
+        {
+            try
+            {
+                connectionState.close();
+            }
+            catch ( IOException e )
+            {
+                if ( null == firstException )
+                {
+                    firstException = e;
+                }
+            }
+        }
+        if ( null != firstException )
+        {
+            throw firstException;
+        }
+    }
+}
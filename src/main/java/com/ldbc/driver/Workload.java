@@ -2,6 +2,7 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 
 import java.io.Closeable;
@@ -44,6 +45,14 @@ public abstract class Workload implements Closeable
         );
     }
 
+    /**
+     * @return workload specific summary of the results, exported along with them, null if the workload has none
+     */
+    public Map<String,Object> resultsSummary( WorkloadResultsSnapshot workloadResults )
+    {
+        return null;
+    }
+
     /**
      * Called once to initialize state for workload
      */
@@ -126,6 +135,16 @@ public abstract class Workload implements Closeable
 
     public abstract Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException;
 
+    /**
+     * Binary alternative to serializeOperation()/marshalOperation() and Operation.serializeResult()/marshalResult()
+     *
+     * @return codecs of all operation types, or null if the workload only supports the string representation
+     */
+    public OperationCodecs operationCodecs()
+    {
+        return null;
+    }
+
     public abstract boolean resultsEqual( Operation operation, Object result1, Object result2 )
             throws WorkloadException;
 
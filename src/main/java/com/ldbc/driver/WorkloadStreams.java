@@ -1,11 +1,10 @@
 package com.ldbc.driver;
 
-import com.google.common.collect.Iterators;
-import com.google.common.collect.PeekingIterator;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.OperationStreamStage;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
@@ -18,7 +17,6 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -34,149 +32,45 @@ public class WorkloadStreams
             double compressionRatio,
             GeneratorFactory gf ) throws WorkloadException
     {
-        long minScheduledStartTimeAsMilli = Long.MAX_VALUE;
-
         /*
-         * Find earliest scheduled start time from across all streams
+         * Stage every stream once, stages look ahead at their first operation and later offset and compress all
+         * operations as they are retrieved, without wrapping streams again
          */
 
-        PeekingIterator<Operation> peekingAsyncDependencyOperationStream =
-                Iterators.peekingIterator( originalWorkloadStreams.asynchronousStream().dependencyOperations() );
-        try
-        {
-            long firstAsMilli = peekingAsyncDependencyOperationStream.peek().scheduledStartTimeAsMilli();
-            if ( firstAsMilli < minScheduledStartTimeAsMilli )
-            {
-                minScheduledStartTimeAsMilli = firstAsMilli;
-            }
-        }
-        catch ( NoSuchElementException e )
-        {
-            // do nothing, just means stream was empty
-        }
-
-        PeekingIterator<Operation> peekingAsyncNonDependencyOperationStream =
-                Iterators.peekingIterator( originalWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        try
-        {
-            long firstAsMilli = peekingAsyncNonDependencyOperationStream.peek().scheduledStartTimeAsMilli();
-            if ( firstAsMilli < minScheduledStartTimeAsMilli )
-            {
-                minScheduledStartTimeAsMilli = firstAsMilli;
-            }
-        }
-        catch ( NoSuchElementException e )
-        {
-            // do nothing, just means stream was empty
-        }
-
-        List<Long> peekingBlockingDependencyOperationStreamsAheadOfMinByMillis = new ArrayList<>();
-        List<PeekingIterator<Operation>> peekingBlockingDependencyOperationStreams = new ArrayList<>();
-        List<Long> peekingBlockingNonDependencyOperationStreamsAheadOfMinByMillis = new ArrayList<>();
-        List<PeekingIterator<Operation>> peekingBlockingNonDependencyOperationStreams = new ArrayList<>();
+        OperationStreamStage asyncDependencyOperationStream =
+                OperationStreamStage.of( originalWorkloadStreams.asynchronousStream().dependencyOperations() );
+        OperationStreamStage asyncNonDependencyOperationStream =
+                OperationStreamStage.of( originalWorkloadStreams.asynchronousStream().nonDependencyOperations() );
+        List<OperationStreamStage> blockingDependencyOperationStreams = new ArrayList<>();
+        List<OperationStreamStage> blockingNonDependencyOperationStreams = new ArrayList<>();
         List<WorkloadStreamDefinition> blockingStreams = originalWorkloadStreams.blockingStreamDefinitions();
-        for ( int i = 0; i < blockingStreams.size(); i++ )
-        {
-            PeekingIterator<Operation> peekingBlockingDependencyOperationStream =
-                    Iterators.peekingIterator( blockingStreams.get( i ).dependencyOperations() );
-            try
-            {
-                long firstAsMilli = peekingBlockingDependencyOperationStream.peek().scheduledStartTimeAsMilli();
-                if ( firstAsMilli < minScheduledStartTimeAsMilli )
-                {
-                    minScheduledStartTimeAsMilli = firstAsMilli;
-                }
-            }
-            catch ( NoSuchElementException e )
-            {
-                // do nothing, just means stream was empty
-            }
-            peekingBlockingDependencyOperationStreamsAheadOfMinByMillis.add( 0l );
-            peekingBlockingDependencyOperationStreams.add( peekingBlockingDependencyOperationStream );
-
-            PeekingIterator<Operation> peekingBlockingNonDependencyOperationStream =
-                    Iterators.peekingIterator( blockingStreams.get( i ).nonDependencyOperations() );
-            try
-            {
-                long firstAsMilli = peekingBlockingNonDependencyOperationStream.peek().scheduledStartTimeAsMilli();
-                if ( firstAsMilli < minScheduledStartTimeAsMilli )
-                {
-                    minScheduledStartTimeAsMilli = firstAsMilli;
-                }
-            }
-            catch ( NoSuchElementException e )
-            {
-                // do nothing, just means stream was empty
-            }
-            peekingBlockingNonDependencyOperationStreamsAheadOfMinByMillis.add( 0l );
-            peekingBlockingNonDependencyOperationStreams.add( peekingBlockingNonDependencyOperationStream );
-        }
-
-        if ( Long.MAX_VALUE == minScheduledStartTimeAsMilli )
+        for ( WorkloadStreamDefinition blockingStream : blockingStreams )
         {
-            minScheduledStartTimeAsMilli = newStartTimeAsMilli;
+            blockingDependencyOperationStreams.add( OperationStreamStage.of( blockingStream.dependencyOperations() ) );
+            blockingNonDependencyOperationStreams.add(
+                    OperationStreamStage.of( blockingStream.nonDependencyOperations() ) );
         }
 
         /*
-         * Find how far ahead of earliest scheduled start time each stream is when it starts
+         * Find earliest scheduled start time from across all streams
          */
 
-        long peekingAsyncDependencyOperationStreamAheadOfMinByAsMilli = 0;
-        try
-        {
-            long firstAsMilli = peekingAsyncDependencyOperationStream.peek().scheduledStartTimeAsMilli();
-            peekingAsyncDependencyOperationStreamAheadOfMinByAsMilli =
-                    Math.round( (firstAsMilli - minScheduledStartTimeAsMilli) * compressionRatio );
-        }
-        catch ( NoSuchElementException e )
-        {
-            // do nothing, just means stream was empty
-        }
-
-        long peekingAsyncNonDependencyOperationStreamAheadOfMinByAsMilli = 0l;
-        try
-        {
-            long firstAsMilli = peekingAsyncNonDependencyOperationStream.peek().scheduledStartTimeAsMilli();
-            peekingAsyncNonDependencyOperationStreamAheadOfMinByAsMilli =
-                    Math.round( (firstAsMilli - minScheduledStartTimeAsMilli) * compressionRatio );
-        }
-        catch ( NoSuchElementException e )
-        {
-            // do nothing, just means stream was empty
-        }
-
-        for ( int i = 0; i < peekingBlockingDependencyOperationStreams.size(); i++ )
+        long minScheduledStartTimeAsMilli = Long.MAX_VALUE;
+        minScheduledStartTimeAsMilli =
+                earliestScheduledStartTimeAsMilli( minScheduledStartTimeAsMilli, asyncDependencyOperationStream );
+        minScheduledStartTimeAsMilli =
+                earliestScheduledStartTimeAsMilli( minScheduledStartTimeAsMilli, asyncNonDependencyOperationStream );
+        for ( int i = 0; i < blockingStreams.size(); i++ )
         {
-            try
-            {
-                long firstAsMilli =
-                        peekingBlockingDependencyOperationStreams.get( i ).peek().scheduledStartTimeAsMilli();
-                peekingBlockingDependencyOperationStreamsAheadOfMinByMillis.set(
-                        i,
-                        Math.round( (firstAsMilli - minScheduledStartTimeAsMilli) * compressionRatio )
-                );
-            }
-            catch ( NoSuchElementException e )
-            {
-                // do nothing, just means stream was empty
-            }
+            minScheduledStartTimeAsMilli = earliestScheduledStartTimeAsMilli(
+                    minScheduledStartTimeAsMilli, blockingDependencyOperationStreams.get( i ) );
+            minScheduledStartTimeAsMilli = earliestScheduledStartTimeAsMilli(
+                    minScheduledStartTimeAsMilli, blockingNonDependencyOperationStreams.get( i ) );
         }
 
-        for ( int i = 0; i < peekingBlockingNonDependencyOperationStreams.size(); i++ )
+        if ( Long.MAX_VALUE == minScheduledStartTimeAsMilli )
         {
-            try
-            {
-                long firstAsMilli =
-                        peekingBlockingNonDependencyOperationStreams.get( i ).peek().scheduledStartTimeAsMilli();
-                peekingBlockingNonDependencyOperationStreamsAheadOfMinByMillis.set(
-                        i,
-                        Math.round( (firstAsMilli - minScheduledStartTimeAsMilli) * compressionRatio )
-                );
-            }
-            catch ( NoSuchElementException e )
-            {
-                // do nothing, just means stream was empty
-            }
+            minScheduledStartTimeAsMilli = newStartTimeAsMilli;
         }
 
         /*
@@ -188,16 +82,10 @@ public class WorkloadStreams
         timeOffsetAndCompressedWorkloadStreams.setAsynchronousStream(
                 originalWorkloadStreams.asynchronousStream().dependentOperationTypes(),
                 originalWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
-                gf.timeOffsetAndCompress(
-                        peekingAsyncDependencyOperationStream,
-                        newStartTimeAsMilli + peekingAsyncDependencyOperationStreamAheadOfMinByAsMilli,
-                        compressionRatio
-                ),
-                gf.timeOffsetAndCompress(
-                        peekingAsyncNonDependencyOperationStream,
-                        newStartTimeAsMilli + peekingAsyncNonDependencyOperationStreamAheadOfMinByAsMilli,
-                        compressionRatio
-                ),
+                timeOffsetAndCompress( asyncDependencyOperationStream, minScheduledStartTimeAsMilli,
+                        newStartTimeAsMilli, compressionRatio ),
+                timeOffsetAndCompress( asyncNonDependencyOperationStream, minScheduledStartTimeAsMilli,
+                        newStartTimeAsMilli, compressionRatio ),
                 originalWorkloadStreams.asynchronousStream().childOperationGenerator()
         );
 
@@ -206,17 +94,10 @@ public class WorkloadStreams
             timeOffsetAndCompressedWorkloadStreams.addBlockingStream(
                     blockingStreams.get( i ).dependentOperationTypes(),
                     blockingStreams.get( i ).dependencyOperationTypes(),
-                    gf.timeOffsetAndCompress(
-                            peekingBlockingDependencyOperationStreams.get( i ),
-                            newStartTimeAsMilli + peekingBlockingDependencyOperationStreamsAheadOfMinByMillis.get( i ),
-                            compressionRatio
-                    ),
-                    gf.timeOffsetAndCompress(
-                            peekingBlockingNonDependencyOperationStreams.get( i ),
-                            newStartTimeAsMilli +
-                            peekingBlockingNonDependencyOperationStreamsAheadOfMinByMillis.get( i ),
-                            compressionRatio
-                    ),
+                    timeOffsetAndCompress( blockingDependencyOperationStreams.get( i ), minScheduledStartTimeAsMilli,
+                            newStartTimeAsMilli, compressionRatio ),
+                    timeOffsetAndCompress( blockingNonDependencyOperationStreams.get( i ),
+                            minScheduledStartTimeAsMilli, newStartTimeAsMilli, compressionRatio ),
                     blockingStreams.get( i ).childOperationGenerator()
             );
         }
@@ -224,6 +105,30 @@ public class WorkloadStreams
         return timeOffsetAndCompressedWorkloadStreams;
     }
 
+    private static long earliestScheduledStartTimeAsMilli( long earliestSoFarAsMilli, OperationStreamStage stream )
+    {
+        // empty streams do not start
+        return (stream.hasNext())
+               ? Math.min( earliestSoFarAsMilli, stream.firstScheduledStartTimeAsMilli() )
+               : earliestSoFarAsMilli;
+    }
+
+    /**
+     * Streams keep their distance from the earliest scheduled start time across all streams, compressed as well
+     */
+    private static Iterator<Operation> timeOffsetAndCompress(
+            OperationStreamStage stream,
+            long minScheduledStartTimeAsMilli,
+            long newStartTimeAsMilli,
+            double compressionRatio )
+    {
+        long streamAheadOfMinAsMilli = (stream.hasNext())
+                                       ? Math.round( (stream.firstScheduledStartTimeAsMilli() -
+                                                      minScheduledStartTimeAsMilli) * compressionRatio )
+                                       : 0;
+        return stream.timeOffsetAndCompress( newStartTimeAsMilli + streamAheadOfMinAsMilli, compressionRatio );
+    }
+
     // returns (workload_streams, workload, minimum_timestamp)
     public static Tuple3<WorkloadStreams,Workload,Long> createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
             DriverConfiguration configuration,
@@ -326,8 +231,10 @@ public class WorkloadStreams
         workloadStreams.setAsynchronousStream(
                 unlimitedWorkloadStreams.asynchronousStream().dependentOperationTypes(),
                 unlimitedWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
-                gf.limit( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), limitForStream[0] ),
-                gf.limit( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), limitForStream[1] ),
+                OperationStreamStage.of( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() )
+                        .limit( limitForStream[0] ),
+                OperationStreamStage.of( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() )
+                        .limit( limitForStream[1] ),
                 unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator()
         );
         for ( int i = 0; i < unlimitedBlockingStreams.size(); i++ )
@@ -335,8 +242,10 @@ public class WorkloadStreams
             workloadStreams.addBlockingStream(
                     unlimitedBlockingStreams.get( i ).dependentOperationTypes(),
                     unlimitedBlockingStreams.get( i ).dependencyOperationTypes(),
-                    gf.limit( unlimitedBlockingStreams.get( i ).dependencyOperations(), limitForStream[i * 2 + 2] ),
-                    gf.limit( unlimitedBlockingStreams.get( i ).nonDependencyOperations(), limitForStream[i * 2 + 3] ),
+                    OperationStreamStage.of( unlimitedBlockingStreams.get( i ).dependencyOperations() )
+                            .limit( limitForStream[i * 2 + 2] ),
+                    OperationStreamStage.of( unlimitedBlockingStreams.get( i ).nonDependencyOperations() )
+                            .limit( limitForStream[i * 2 + 3] ),
                     unlimitedBlockingStreams.get( i ).childOperationGenerator()
             );
         }
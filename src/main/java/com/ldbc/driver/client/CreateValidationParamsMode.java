@@ -15,6 +15,7 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.validation.ValidationParam;
+import com.ldbc.driver.validation.ValidationParamsBinaryWriter;
 import com.ldbc.driver.validation.ValidationParamsGenerator;
 import com.ldbc.driver.validation.ValidationParamsToCsvRows;
 
@@ -27,6 +28,10 @@ import static java.lang.String.format;
 
 public class CreateValidationParamsMode implements ClientMode<Object>
 {
+    public static final String VALIDATION_PARAMS_FORMAT_ARG = "validation_params_format";
+    public static final String VALIDATION_PARAMS_FORMAT_CSV = "csv";
+    public static final String VALIDATION_PARAMS_FORMAT_BINARY = "binary";
+
     private final ControlService controlService;
     private final LoggingService loggingService;
     private final long randomSeed;
@@ -34,6 +39,7 @@ public class CreateValidationParamsMode implements ClientMode<Object>
     private Workload workload = null;
     private Db database = null;
     private Iterator<Operation> timeMappedOperations = null;
+    private boolean binaryFormat = false;
 
     public CreateValidationParamsMode( ControlService controlService, long randomSeed ) throws ClientException
     {
@@ -57,6 +63,31 @@ public class CreateValidationParamsMode implements ClientMode<Object>
         }
         loggingService.info( format( "Loaded Workload: %s", workload.getClass().getName() ) );
 
+        String validationParamsFormat = controlService.configuration().asMap().get( VALIDATION_PARAMS_FORMAT_ARG );
+        if ( null == validationParamsFormat || VALIDATION_PARAMS_FORMAT_CSV.equals( validationParamsFormat ) )
+        {
+            binaryFormat = false;
+        }
+        else if ( VALIDATION_PARAMS_FORMAT_BINARY.equals( validationParamsFormat ) )
+        {
+            if ( null == workload.operationCodecs() )
+            {
+                throw new ClientException( format( "Workload %s does not support %s=%s",
+                        workload.getClass().getName(), VALIDATION_PARAMS_FORMAT_ARG, VALIDATION_PARAMS_FORMAT_BINARY ) );
+            }
+            binaryFormat = true;
+        }
+        else
+        {
+            throw new ClientException(
+                    format( "Invalid value for %s: %s, expected one of: %s, %s",
+                            VALIDATION_PARAMS_FORMAT_ARG,
+                            validationParamsFormat,
+                            VALIDATION_PARAMS_FORMAT_CSV,
+                            VALIDATION_PARAMS_FORMAT_BINARY )
+            );
+        }
+
         try
         {
             database = ClassLoaderHelper.loadDb( controlService.configuration().dbClassName() );
@@ -129,37 +160,15 @@ public class CreateValidationParamsMode implements ClientMode<Object>
                     w.dbValidationParametersFilter( validationSetSize ),
                     timeMappedOperations );
 
-            Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
-                    validationParamsGenerator,
-                    w,
-                    performSerializationMarshallingChecks );
-
-            int rowsWrittenSoFar = 0;
-            try ( SimpleCsvFileWriter simpleCsvFileWriter = new SimpleCsvFileWriter(
-                    validationFileToGenerate,
-                    SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+            if ( binaryFormat )
             {
-                DecimalFormat decimalFormat = new DecimalFormat( "###,###,##0" );
-                while ( csvRows.hasNext() )
-                {
-                    String[] csvRow = csvRows.next();
-                    simpleCsvFileWriter.writeRow( csvRow );
-                    rowsWrittenSoFar++;
-                    if ( rowsWrittenSoFar % 10 == 0 )
-                    {
-                        loggingService.info(
-                                format(
-                                        "%s / %s Validation Parameters Created\r",
-                                        decimalFormat.format( rowsWrittenSoFar ),
-                                        decimalFormat.format( validationSetSize )
-                                )
-                        );
-                    }
-                }
+                writeBinary( validationParamsGenerator, w, validationFileToGenerate, validationSetSize,
+                        performSerializationMarshallingChecks );
             }
-            catch ( IOException e )
+            else
             {
-                throw new ClientException( "Error trying to write validation parameters to CSV file writer", e );
+                writeCsv( validationParamsGenerator, w, validationFileToGenerate, validationSetSize,
+                        performSerializationMarshallingChecks );
             }
 
             int validationParametersGenerated =
@@ -174,4 +183,74 @@ public class CreateValidationParamsMode implements ClientMode<Object>
         }
         return null;
     }
+
+    private void writeCsv( Iterator<ValidationParam> validationParams,
+            Workload workload,
+            File validationFileToGenerate,
+            int validationSetSize,
+            boolean performSerializationMarshallingChecks ) throws ClientException
+    {
+        Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
+                validationParams,
+                workload,
+                performSerializationMarshallingChecks );
+
+        int rowsWrittenSoFar = 0;
+        try ( SimpleCsvFileWriter simpleCsvFileWriter = new SimpleCsvFileWriter(
+                validationFileToGenerate,
+                SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            while ( csvRows.hasNext() )
+            {
+                String[] csvRow = csvRows.next();
+                simpleCsvFileWriter.writeRow( csvRow );
+                rowsWrittenSoFar++;
+                logProgress( rowsWrittenSoFar, validationSetSize );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error trying to write validation parameters to CSV file writer", e );
+        }
+    }
+
+    private void writeBinary( Iterator<ValidationParam> validationParams,
+            Workload workload,
+            File validationFileToGenerate,
+            int validationSetSize,
+            boolean performSerializationMarshallingChecks ) throws ClientException
+    {
+        int paramsWrittenSoFar = 0;
+        try ( ValidationParamsBinaryWriter writer = new ValidationParamsBinaryWriter(
+                validationFileToGenerate,
+                workload.operationCodecs(),
+                performSerializationMarshallingChecks ) )
+        {
+            while ( validationParams.hasNext() )
+            {
+                writer.write( validationParams.next() );
+                paramsWrittenSoFar++;
+                logProgress( paramsWrittenSoFar, validationSetSize );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error trying to write validation parameters to binary file writer", e );
+        }
+    }
+
+    private void logProgress( int paramsWrittenSoFar, int validationSetSize )
+    {
+        if ( paramsWrittenSoFar % 10 == 0 )
+        {
+            DecimalFormat decimalFormat = new DecimalFormat( "###,###,##0" );
+            loggingService.info(
+                    format(
+                            "%s / %s Validation Parameters Created\r",
+                            decimalFormat.format( paramsWrittenSoFar ),
+                            decimalFormat.format( validationSetSize )
+                    )
+            );
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.ldbc.driver.client;
 import com.google.common.base.Charsets;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
 import com.ldbc.driver.DbException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
@@ -14,16 +15,25 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.OperationTimeouts;
+import com.ldbc.driver.runtime.PrometheusMetricsEndpoint;
 import com.ldbc.driver.runtime.WorkloadRunner;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.ColumnarResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.CsvResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsLogWriter;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsRecorder;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsService;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.StageTracer;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -40,12 +50,43 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
 public class ExecuteWorkloadMode implements ClientMode<Object>
 {
+    /**
+     * Port of the Prometheus metrics endpoint, the endpoint is only started when this parameter is set
+     */
+    public static final String METRICS_HTTP_PORT_ARG = "metrics_http_port";
+    /**
+     * Address the Prometheus metrics endpoint listens on, loopback (127.0.0.1) by default, 0.0.0.0 for all interfaces
+     */
+    public static final String METRICS_HTTP_BIND_ADDRESS_ARG = "metrics_http_bind_address";
+    /**
+     * Number of virtual users for closed loop execution of the asynchronous stream, 0 (default) for the scheduled
+     * open loop. In closed loop each user issues its next operation as soon as the previous one completes
+     */
+    public static final String CLOSED_LOOP_USERS_ARG = "closed_loop_users";
+    /**
+     * Duration, in milliseconds, a closed loop virtual user waits between operations, 0 by default
+     */
+    public static final String CLOSED_LOOP_THINK_TIME_ARG = "closed_loop_think_time_ms";
+    /**
+     * When true (default false) child operations of the asynchronous stream, e.g., short reads, are handed back to the
+     * executor at their scheduled start times instead of being executed as one chain by the thread of their parent
+     */
+    public static final String DISPATCH_CHILD_OPERATIONS_ARG = "dispatch_child_operations";
+    /**
+     * Timeout, in milliseconds, of every operation, 0 (default) for none. Overridden per operation type by
+     * operation_timeout_ms.[operation class simple name], e.g., operation_timeout_ms.LdbcQuery1=5000.
+     * Operations that exceed their timeout are cancelled, see ResultReporter.isCancelled(), and recorded as timed out
+     */
+    public static final String OPERATION_TIMEOUT_ARG = "operation_timeout_ms";
+
     private final ControlService controlService;
     private final TimeSource timeSource;
     private final LoggingService loggingService;
@@ -58,7 +99,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private MetricsService metricsService = null;
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
-    private SimpleCsvFileWriter csvResultsLogFileWriter = null;
+    private OperationTimeouts operationTimeouts = OperationTimeouts.NONE;
+    private ResultsLogWriter resultsLogWriter = null;
+    private IntervalMetricsRecorder intervalMetricsRecorder = null;
+    private IntervalMetricsLogWriter intervalMetricsLogWriter = null;
+    private PrometheusMetricsEndpoint prometheusMetricsEndpoint = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -145,35 +190,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
-        File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
-        if ( null != resultsLog )
-        {
-            try
-            {
-                csvResultsLogFileWriter = new SimpleCsvFileWriter(
-                        resultsLog,
-                        SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR
-                );
-
-                csvResultsLogFileWriter.writeRow(
-                        "operation_type",
-                        "scheduled_start_time_" + TimeUnit.MILLISECONDS.name(),
-                        "actual_start_time_" + TimeUnit.MILLISECONDS.name(),
-                        "execution_duration_" + controlService.configuration().timeUnit().name(),
-                        "result_code"
-                );
-            }
-            catch ( IOException e )
-            {
-                throw new ClientException(
-                        format( "Error while creating results log file: ", resultsLog.getAbsolutePath() ), e
-                );
-            }
-        }
-
         //  ==================
         //  ===  Workload  ===
         //  ==================
@@ -250,6 +266,44 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             loggingService.info( format( "Loaded DB: %s", database.getClass().getName() ) );
         }
 
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
+        File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
+        if ( null != resultsLog )
+        {
+            try
+            {
+                String[] operationNames = MetricsManager.toOperationNameArray( workload.operationTypeToClassMapping() );
+                if ( resultsDirectory.columnarResultsLog() )
+                {
+                    resultsLogWriter = new ColumnarResultsLogWriter( resultsLog, operationNames );
+                }
+                else
+                {
+                    SimpleCsvFileWriter csvResultsLogFileWriter = new SimpleCsvFileWriter(
+                            resultsLog,
+                            SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR
+                    );
+                    CsvResultsLogWriter.writeHeader(
+                            csvResultsLogFileWriter,
+                            controlService.configuration().timeUnit()
+                    );
+                    resultsLogWriter = new CsvResultsLogWriter(
+                            csvResultsLogFileWriter,
+                            operationNames,
+                            controlService.configuration().timeUnit()
+                    );
+                }
+            }
+            catch ( IOException | MetricsCollectionException e )
+            {
+                throw new ClientException(
+                        format( "Error while creating results log file: ", resultsLog.getAbsolutePath() ), e
+                );
+            }
+        }
+
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
@@ -261,7 +315,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     errorReporter,
                     controlService.configuration().timeUnit(),
                     DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
-                    csvResultsLogFileWriter,
+                    resultsLogWriter,
                     workload.operationTypeToClassMapping(),
                     controlService.loggingServiceFactory()
             );
@@ -270,6 +324,21 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error creating metrics service", e );
         }
+        if ( resultsDirectory.intervalsEnabled() )
+        {
+            try
+            {
+                intervalMetricsRecorder = new IntervalMetricsRecorder(
+                        workload.operationTypeToClassMapping(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO
+                );
+                metricsService = new IntervalMetricsService( metricsService, intervalMetricsRecorder );
+            }
+            catch ( MetricsCollectionException e )
+            {
+                throw new ClientException( "Error creating interval metrics recorder", e );
+            }
+        }
 
         //  =================================
         //  ===  Completion Time Service  ===
@@ -291,10 +360,44 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                             controlService.configuration().peerIds().toString() ), e );
         }
 
+        //  ===================================
+        //  ===  Interval Metrics Log Writer  ==
+        //  ===================================
+        if ( resultsDirectory.intervalsEnabled() )
+        {
+            File resultsIntervalsDirectory = resultsDirectory.getOrCreateResultsIntervalsDirectory( warmup );
+            try
+            {
+                intervalMetricsLogWriter = new IntervalMetricsLogWriter(
+                        intervalMetricsRecorder,
+                        resultsIntervalsDirectory,
+                        TimeUnit.SECONDS.toMillis( controlService.configuration().statusDisplayIntervalAsSeconds() ),
+                        timeSource,
+                        completionTimeService,
+                        errorReporter
+                );
+            }
+            catch ( MetricsCollectionException e )
+            {
+                throw new ClientException(
+                        format( "Error creating interval metrics log writer in: %s",
+                                resultsIntervalsDirectory.getAbsolutePath() ), e );
+            }
+        }
+
         //  ========================
         //  ===  Workload Runner  ==
         //  ========================
         loggingService.info( format( "Instantiating %s", WorkloadRunner.class.getSimpleName() ) );
+        int closedLoopUsers = (int) nonNegativeLongArg( CLOSED_LOOP_USERS_ARG );
+        long closedLoopThinkTimeAsMilli = nonNegativeLongArg( CLOSED_LOOP_THINK_TIME_ARG );
+        boolean dispatchChildOperations = booleanArg( DISPATCH_CHILD_OPERATIONS_ARG );
+        operationTimeouts = operationTimeouts();
+        if ( closedLoopUsers > 0 )
+        {
+            loggingService.info( format( "Closed loop execution: %s virtual users, think time %s ms",
+                    closedLoopUsers, closedLoopThinkTimeAsMilli ) );
+        }
         try
         {
             int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
@@ -310,13 +413,58 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    operationHandlerExecutorsBoundedQueueSize,
+                    closedLoopUsers,
+                    closedLoopThinkTimeAsMilli,
+                    dispatchChildOperations,
+                    operationTimeouts );
         }
         catch ( Exception e )
         {
             throw new ClientException( format( "Error instantiating %s", WorkloadRunner.class.getSimpleName() ), e );
         }
 
+        //  ===============================
+        //  ===  Metrics HTTP Endpoint  ===
+        //  ===============================
+        String metricsHttpPortString = controlService.configuration().asMap().get( METRICS_HTTP_PORT_ARG );
+        if ( null != metricsHttpPortString )
+        {
+            int metricsHttpPort;
+            try
+            {
+                metricsHttpPort = Integer.parseInt( metricsHttpPortString );
+            }
+            catch ( NumberFormatException e )
+            {
+                throw new ClientException(
+                        format( "Invalid value for %s: %s", METRICS_HTTP_PORT_ARG, metricsHttpPortString ), e );
+            }
+            String metricsHttpBindAddress = controlService.configuration().asMap().get( METRICS_HTTP_BIND_ADDRESS_ARG );
+            if ( null == metricsHttpBindAddress )
+            {
+                metricsHttpBindAddress = PrometheusMetricsEndpoint.DEFAULT_BIND_ADDRESS;
+            }
+            try
+            {
+                prometheusMetricsEndpoint = new PrometheusMetricsEndpoint(
+                        metricsHttpBindAddress,
+                        metricsHttpPort,
+                        metricsService,
+                        completionTimeService,
+                        workloadRunner,
+                        intervalMetricsLogWriter,
+                        timeSource
+                );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error creating metrics endpoint on %s:%s", metricsHttpBindAddress, metricsHttpPort ),
+                        e );
+            }
+        }
+
         //  ===========================================
         //  ===  Initialize Completion Time Service  ==
         //  ===========================================
@@ -377,11 +525,96 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
     }
 
+    private OperationTimeouts operationTimeouts() throws ClientException
+    {
+        long defaultTimeoutAsMilli = nonNegativeLongArg( OPERATION_TIMEOUT_ARG );
+        Map<Integer,Long> timeoutsAsMilli = new HashMap<>();
+        for ( Map.Entry<Integer,Class<? extends Operation>> operationType :
+                workload.operationTypeToClassMapping().entrySet() )
+        {
+            String operationTimeoutArg = OPERATION_TIMEOUT_ARG + "." + operationType.getValue().getSimpleName();
+            long timeoutAsMilli = (controlService.configuration().asMap().containsKey( operationTimeoutArg ))
+                                  ? nonNegativeLongArg( operationTimeoutArg )
+                                  : defaultTimeoutAsMilli;
+            if ( timeoutAsMilli > 0 )
+            {
+                loggingService.info( format( "Timeout of %s: %s ms",
+                        operationType.getValue().getSimpleName(), timeoutAsMilli ) );
+            }
+            timeoutsAsMilli.put( operationType.getKey(), timeoutAsMilli );
+        }
+        return OperationTimeouts.fromTimeoutsAsMilli( timeoutsAsMilli );
+    }
+
+    private long nonNegativeLongArg( String arg ) throws ClientException
+    {
+        String valueString = controlService.configuration().asMap().get( arg );
+        if ( null == valueString )
+        {
+            return 0;
+        }
+        try
+        {
+            long value = Long.parseLong( valueString );
+            if ( value >= 0 )
+            {
+                return value;
+            }
+        }
+        catch ( NumberFormatException e )
+        {
+            // reported below
+        }
+        throw new ClientException( format( "Invalid value for %s: %s, expected a non-negative integer", arg,
+                valueString ) );
+    }
+
+    private boolean booleanArg( String arg ) throws ClientException
+    {
+        String valueString = controlService.configuration().asMap().get( arg );
+        if ( null == valueString )
+        {
+            return false;
+        }
+        else if ( valueString.equalsIgnoreCase( "true" ) )
+        {
+            return true;
+        }
+        else if ( valueString.equalsIgnoreCase( "false" ) )
+        {
+            return false;
+        }
+        throw new ClientException( format( "Invalid value for %s: %s, expected true or false", arg, valueString ) );
+    }
+
     private void doExecute( boolean warmup ) throws ClientException
     {
+        if ( null != intervalMetricsLogWriter )
+        {
+            intervalMetricsLogWriter.start();
+        }
+        if ( null != prometheusMetricsEndpoint )
+        {
+            prometheusMetricsEndpoint.start();
+            loggingService.info( format( "Serving metrics at http://localhost:%s%s",
+                    prometheusMetricsEndpoint.port(), PrometheusMetricsEndpoint.METRICS_PATH ) );
+        }
         try
         {
             ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
+            operationTimeouts.shutdown();
+            if ( null != prometheusMetricsEndpoint )
+            {
+                loggingService.info( "Shutting down metrics endpoint..." );
+                prometheusMetricsEndpoint.shutdown();
+                prometheusMetricsEndpoint = null;
+            }
+            if ( null != intervalMetricsLogWriter )
+            {
+                loggingService.info( "Shutting down interval metrics log writer..." );
+                intervalMetricsLogWriter.shutdown();
+                intervalMetricsLogWriter = null;
+            }
             loggingService.info( "Shutting down workload..." );
             workload.close();
             if ( errorReporter.errorEncountered() )
@@ -391,6 +624,17 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
         catch ( Exception e )
         {
+            operationTimeouts.shutdown();
+            if ( null != prometheusMetricsEndpoint )
+            {
+                prometheusMetricsEndpoint.shutdown();
+                prometheusMetricsEndpoint = null;
+            }
+            if ( null != intervalMetricsLogWriter )
+            {
+                intervalMetricsLogWriter.interrupt();
+                intervalMetricsLogWriter = null;
+            }
             throw new ClientException( "Error running workload", e );
         }
 
@@ -410,6 +654,15 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             workloadResults = metricsService.getWriter().results();
             metricsService.shutdown();
+            if ( StageTracer.ENABLED )
+            {
+                workloadResults = workloadResults.withStageMetrics( StageTracer.instance().drainSnapshot() );
+            }
+            Map<String,Object> workloadSummary = workload.resultsSummary( workloadResults );
+            if ( null != workloadSummary )
+            {
+                workloadResults = workloadResults.withWorkloadSummary( workloadSummary );
+            }
         }
         catch ( MetricsCollectionException e )
         {
@@ -442,7 +695,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         configurationFile.toPath(),
                         controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
-                csvResultsLogFileWriter.close();
+                resultsLogWriter.close();
                 if ( false == controlService.configuration().ignoreScheduledStartTimes() )
                 {
                     loggingService.info( "Validating workload results..." );
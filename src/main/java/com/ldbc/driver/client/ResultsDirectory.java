@@ -5,6 +5,7 @@ import com.google.common.collect.Sets;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogReaders;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
@@ -21,17 +22,63 @@ public class ResultsDirectory
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
     public static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
+    public static final String COLUMNAR_RESULTS_LOG_FILENAME_SUFFIX = "-results_log.columnar";
     public static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     public static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     public static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
+    public static final String RESULTS_INTERVALS_DIRECTORY_SUFFIX = "-intervals";
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "results_log_format";
+    public static final String RESULTS_LOG_FORMAT_CSV = "csv";
+    public static final String RESULTS_LOG_FORMAT_COLUMNAR = "columnar";
+    /**
+     * When true (default false) per-interval runtime histograms and metrics are exported to the results directory
+     */
+    public static final String RESULTS_INTERVALS_ARG = "results_intervals";
 
     private final DriverConfiguration configuration;
     private final File resultsDir;
+    private final boolean columnarResultsLog;
+    private final boolean intervals;
 
     public ResultsDirectory( DriverConfiguration configuration ) throws ClientException
     {
         this.configuration = configuration;
+        String resultsLogFormat = configuration.asMap().get( RESULTS_LOG_FORMAT_ARG );
+        if ( null == resultsLogFormat || RESULTS_LOG_FORMAT_CSV.equals( resultsLogFormat ) )
+        {
+            this.columnarResultsLog = false;
+        }
+        else if ( RESULTS_LOG_FORMAT_COLUMNAR.equals( resultsLogFormat ) )
+        {
+            this.columnarResultsLog = true;
+        }
+        else
+        {
+            throw new ClientException(
+                    format( "Invalid value for %s: %s, expected one of: %s, %s",
+                            RESULTS_LOG_FORMAT_ARG,
+                            resultsLogFormat,
+                            RESULTS_LOG_FORMAT_CSV,
+                            RESULTS_LOG_FORMAT_COLUMNAR )
+            );
+        }
+        String resultsIntervals = configuration.asMap().get( RESULTS_INTERVALS_ARG );
+        if ( null == resultsIntervals || resultsIntervals.equalsIgnoreCase( "false" ) )
+        {
+            this.intervals = false;
+        }
+        else if ( resultsIntervals.equalsIgnoreCase( "true" ) )
+        {
+            this.intervals = true;
+        }
+        else
+        {
+            throw new ClientException(
+                    format( "Invalid value for %s: %s, expected true or false", RESULTS_INTERVALS_ARG,
+                            resultsIntervals ) );
+        }
         if ( null == configuration.resultDirPath() )
         {
             this.resultsDir = null;
@@ -97,8 +144,25 @@ public class ResultsDirectory
         }
     }
 
+    /**
+     * @return number of results in the results log, plus one for the header row of CSV logs
+     */
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
+        if ( columnarResultsLog )
+        {
+            try
+            {
+                // count as if there were a header, so length is the same for either format
+                return ResultsLogReaders.count( getResultsLogFile( warmup ) ) + 1;
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error calculating length of %s", getResultsLogFile( warmup ).getAbsolutePath() ), e
+                );
+            }
+        }
         try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
                 getResultsLogFile( warmup ),
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING
@@ -114,6 +178,14 @@ public class ResultsDirectory
         }
     }
 
+    /**
+     * @return true if results should be logged in the columnar format, false if as CSV
+     */
+    public boolean columnarResultsLog()
+    {
+        return columnarResultsLog;
+    }
+
     public File getOrCreateResultsSummaryFile( boolean warmup ) throws ClientException
     {
         File resultsSummary = getResultsSummaryFile( warmup );
@@ -209,6 +281,48 @@ public class ResultsDirectory
         }
     }
 
+    public File getOrCreateResultsIntervalsDirectory( boolean warmup ) throws ClientException
+    {
+        File resultsIntervalsDirectory = getResultsIntervalsDirectory( warmup );
+        if ( false == resultsIntervalsDirectory.exists() )
+        {
+            try
+            {
+                FileUtils.forceMkdir( resultsIntervalsDirectory );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error creating results intervals directory: %s",
+                                resultsIntervalsDirectory.getAbsolutePath() ),
+                        e
+                );
+            }
+        }
+        return resultsIntervalsDirectory;
+    }
+
+    public File getResultsIntervalsDirectory( boolean warmup ) throws ClientException
+    {
+        if ( null == resultsDir )
+        {
+            throw new ClientException( "Results directory is null" );
+        }
+        else
+        {
+            return new File( resultsDir, resultsIntervalsDirectoryName( warmup ) );
+        }
+    }
+
+    /**
+     * Interval metrics are only exported when requested, see RESULTS_INTERVALS_ARG. They are exported at the same
+     * interval as status is displayed, and are disabled along with it
+     */
+    public boolean intervalsEnabled()
+    {
+        return intervals && null != resultsDir && configuration.statusDisplayIntervalAsSeconds() > 0;
+    }
+
     public Set<File> files() throws ClientException
     {
         if ( null == resultsDir )
@@ -239,6 +353,10 @@ public class ResultsDirectory
                 expectedFiles.add( getResultsLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
+                if ( intervalsEnabled() )
+                {
+                    expectedFiles.add( getResultsIntervalsDirectory( true ) );
+                }
             }
             if ( false == configuration.ignoreScheduledStartTimes() )
             {
@@ -247,6 +365,10 @@ public class ResultsDirectory
             expectedFiles.add( getResultsLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
+            if ( intervalsEnabled() )
+            {
+                expectedFiles.add( getResultsIntervalsDirectory( false ) );
+            }
             return expectedFiles;
         }
     }
@@ -257,11 +379,17 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_VALIDATION_FILENAME_SUFFIX;
     }
 
+    private String resultsIntervalsDirectoryName( boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_INTERVALS_DIRECTORY_SUFFIX
+                        : configuration.name() + RESULTS_INTERVALS_DIRECTORY_SUFFIX;
+    }
+
     private String resultsLogFilename( boolean warmup )
     {
-        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER +
-                          RESULTS_LOG_FILENAME_SUFFIX
-                        : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
+        String suffix = (columnarResultsLog) ? COLUMNAR_RESULTS_LOG_FILENAME_SUFFIX : RESULTS_LOG_FILENAME_SUFFIX;
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + suffix
+                        : configuration.name() + suffix;
     }
 
     private String resultsSummaryFilename( boolean warmup )
@@ -0,0 +1,200 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricManager;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.CsvResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ResultsLogBlock;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogReaders;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Offline analysis of results logs, in either the CSV or columnar format:
+ * summarise - logs count, runtime percentiles and maximum start delay per operation type
+ * export - converts a results log to CSV, with durations in nanoseconds
+ */
+public class ResultsLogTool
+{
+    private static final String SUMMARISE = "summarise";
+    private static final String EXPORT = "export";
+    private static final long HIGHEST_EXPECTED_RUNTIME_AS_MICRO = TimeUnit.MINUTES.toMicros( 90 );
+    private static final long HIGHEST_EXPECTED_DELAY_AS_MILLI = TimeUnit.MINUTES.toMillis( 90 );
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+
+    private final LoggingService loggingService;
+
+    public static void main( String[] args )
+    {
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+        LoggingService loggingService = loggingServiceFactory.loggingServiceFor( ResultsLogTool.class.getSimpleName() );
+        try
+        {
+            new ResultsLogTool( loggingServiceFactory ).run( args );
+        }
+        catch ( ClientException e )
+        {
+            loggingService.info( (null == e.getCause())
+                                 ? e.getMessage()
+                                 : ConcurrentErrorReporter.stackTraceToString( e ) );
+            System.exit( 1 );
+        }
+    }
+
+    public ResultsLogTool( LoggingServiceFactory loggingServiceFactory )
+    {
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    public void run( String[] args ) throws ClientException
+    {
+        if ( args.length == 2 && SUMMARISE.equals( args[0] ) )
+        {
+            File resultsLog = new File( args[1] );
+            try
+            {
+                loggingService.info( summarise( resultsLog ) );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error summarising results log: %s", resultsLog.getAbsolutePath() ), e );
+            }
+        }
+        else if ( args.length == 3 && EXPORT.equals( args[0] ) )
+        {
+            File resultsLog = new File( args[1] );
+            File csvFile = new File( args[2] );
+            try
+            {
+                long count = export( resultsLog, csvFile );
+                loggingService.info( format( "Exported %s results to %s", count, csvFile.getAbsolutePath() ) );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( format( "Error exporting results log: %s\nTo: %s",
+                        resultsLog.getAbsolutePath(), csvFile.getAbsolutePath() ), e );
+            }
+        }
+        else
+        {
+            throw new ClientException( format( "Usage:\n" +
+                                               "  %s %s <results_log>\n" +
+                                               "  %s %s <results_log> <csv_file>",
+                    ResultsLogTool.class.getName(), SUMMARISE,
+                    ResultsLogTool.class.getName(), EXPORT ) );
+        }
+    }
+
+    /**
+     * @return count, runtime percentiles and maximum start delay per operation type, one line per type
+     */
+    public static String summarise( File resultsLog ) throws IOException
+    {
+        Map<String,ContinuousMetricManager> runtimes = new TreeMap<>();
+        Map<String,ContinuousMetricManager> delays = new TreeMap<>();
+        long totalCount = 0;
+        ResultsLogBlock block = new ResultsLogBlock();
+        try ( ResultsLogReader reader = ResultsLogReaders.open( resultsLog ) )
+        {
+            ContinuousMetricManager[] runtimesByType = new ContinuousMetricManager[0];
+            ContinuousMetricManager[] delaysByType = new ContinuousMetricManager[0];
+            while ( reader.readBlock( block ) )
+            {
+                for ( int i = 0; i < block.size(); i++ )
+                {
+                    int operationType = block.operationType( i );
+                    if ( operationType >= runtimesByType.length )
+                    {
+                        runtimesByType = Arrays.copyOf( runtimesByType, operationType + 1 );
+                        delaysByType = Arrays.copyOf( delaysByType, operationType + 1 );
+                    }
+                    if ( null == runtimesByType[operationType] )
+                    {
+                        String operationName = reader.operationName( operationType );
+                        runtimesByType[operationType] = new ContinuousMetricManager( operationName,
+                                TimeUnit.MICROSECONDS, HIGHEST_EXPECTED_RUNTIME_AS_MICRO, NUMBER_OF_SIGNIFICANT_DIGITS );
+                        delaysByType[operationType] = new ContinuousMetricManager( operationName,
+                                TimeUnit.MILLISECONDS, HIGHEST_EXPECTED_DELAY_AS_MILLI, NUMBER_OF_SIGNIFICANT_DIGITS );
+                        runtimes.put( operationName, runtimesByType[operationType] );
+                        delays.put( operationName, delaysByType[operationType] );
+                    }
+                    runtimesByType[operationType].addMeasurement( Math.min(
+                            TimeUnit.NANOSECONDS.toMicros( block.runDurationAsNano( i ) ),
+                            HIGHEST_EXPECTED_RUNTIME_AS_MICRO ) );
+                    delaysByType[operationType].addMeasurement( Math.min(
+                            Math.max( 0, block.actualStartTimeAsMilli( i ) - block.scheduledStartTimeAsMilli( i ) ),
+                            HIGHEST_EXPECTED_DELAY_AS_MILLI ) );
+                    totalCount++;
+                }
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append( format( "Results log: %s\n", resultsLog.getAbsolutePath() ) );
+        sb.append( format( "Operations: %s\n", totalCount ) );
+        sb.append( format( "%-40s %12s %12s %12s %12s %12s %12s %12s %12s",
+                "operation", "count", "mean(us)", "50th(us)", "90th(us)", "95th(us)", "99th(us)", "max(us)",
+                "delay(ms)" ) );
+        for ( Map.Entry<String,ContinuousMetricManager> entry : runtimes.entrySet() )
+        {
+            ContinuousMetricSnapshot runtime = entry.getValue().snapshot();
+            ContinuousMetricSnapshot delay = delays.get( entry.getKey() ).snapshot();
+            sb.append( format( "\n%-40s %12s %12.2f %12s %12s %12s %12s %12s %12s",
+                    entry.getKey(),
+                    runtime.count(),
+                    runtime.mean(),
+                    runtime.percentile50(),
+                    runtime.percentile90(),
+                    runtime.percentile95(),
+                    runtime.percentile99(),
+                    runtime.max(),
+                    delay.max() ) );
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return number of results exported
+     */
+    public static long export( File resultsLog, File csvFile ) throws IOException
+    {
+        long count = 0;
+        ResultsLogBlock block = new ResultsLogBlock();
+        try ( ResultsLogReader reader = ResultsLogReaders.open( resultsLog );
+              SimpleCsvFileWriter writer = new SimpleCsvFileWriter(
+                      csvFile,
+                      SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            CsvResultsLogWriter.writeHeader( writer, TimeUnit.NANOSECONDS );
+            while ( reader.readBlock( block ) )
+            {
+                for ( int i = 0; i < block.size(); i++ )
+                {
+                    writer.writeRow(
+                            reader.operationName( block.operationType( i ) ),
+                            Long.toString( block.scheduledStartTimeAsMilli( i ) ),
+                            Long.toString( block.actualStartTimeAsMilli( i ) ),
+                            Long.toString( block.runDurationAsNano( i ) ),
+                            Integer.toString( block.resultCode( i ) )
+                    );
+                }
+                count += block.size();
+            }
+        }
+        return count;
+    }
+}
@@ -1,7 +1,6 @@
 package com.ldbc.driver.client;
 
 import com.google.common.base.Charsets;
-import com.google.common.collect.Iterators;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
@@ -10,16 +9,23 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.ThreadAheadIterator;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.DbValidator;
 import com.ldbc.driver.validation.ValidationParam;
+import com.ldbc.driver.validation.ValidationParamsBinaryReader;
 import com.ldbc.driver.validation.ValidationParamsFromCsvRows;
 import org.apache.commons.io.FileUtils;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Iterator;
@@ -87,40 +93,60 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                             db.getClass().getName(), validationParamsFile.getAbsolutePath() ) );
 
             int validationParamsCount;
-            SimpleCsvFileReader validationParamsReader;
+            Iterator<ValidationParam> validationParams;
+            Closeable validationParamsReader;
             try
             {
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-                validationParamsCount = Iterators.size( validationParamsReader );
-                validationParamsReader.close();
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                if ( ValidationParamsBinaryReader.isBinary( validationParamsFile ) )
+                {
+                    if ( null == w.operationCodecs() )
+                    {
+                        throw new ClientException( format( "Workload %s can not read binary validation parameters",
+                                w.getClass().getName() ) );
+                    }
+                    validationParamsCount = ValidationParamsBinaryReader.count( validationParamsFile );
+                    ValidationParamsBinaryReader binaryReader =
+                            new ValidationParamsBinaryReader( validationParamsFile, w.operationCodecs() );
+                    validationParams = binaryReader;
+                    validationParamsReader = binaryReader;
+                }
+                else
+                {
+                    // one row per line, no need to split rows just to count them
+                    validationParamsCount = countLines( validationParamsFile );
+                    SimpleCsvFileReader csvReader = new SimpleCsvFileReader( validationParamsFile,
+                            SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                    validationParams = new ValidationParamsFromCsvRows( csvReader, w );
+                    validationParamsReader = csvReader;
+                }
             }
             catch ( IOException e )
             {
-                throw new ClientException( "Error encountered trying to create CSV file reader", e );
+                throw new ClientException( "Error encountered trying to create validation parameters file reader", e );
             }
 
+            // reading and parsing happens on a background thread, expected results are decoded lazily
             DbValidationResult databaseValidationResult;
-            try
+            try ( ThreadAheadIterator<ValidationParam> threadAheadValidationParams =
+                          new ThreadAheadIterator<>( validationParams ) )
             {
-                Iterator<ValidationParam> validationParams =
-                        new ValidationParamsFromCsvRows( validationParamsReader, w );
                 DbValidator dbValidator = new DbValidator();
                 databaseValidationResult = dbValidator.validate(
-                        validationParams,
+                        threadAheadValidationParams,
                         db,
                         validationParamsCount,
                         w
                 );
             }
-            catch ( WorkloadException e )
+            catch ( WorkloadException | GeneratorException e )
             {
                 throw new ClientException( format( "Error reading validation parameters file\nFile: %s",
                         validationParamsFile.getAbsolutePath() ), e );
             }
-            validationParamsReader.close();
+            finally
+            {
+                validationParamsReader.close();
+            }
 
             File failedValidationOperationsFile = new File( validationParamsFile.getParentFile(),
                     removeExtension( validationParamsFile.getName() ) + "-failed-actual.json" );
@@ -182,6 +208,20 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
         }
     }
 
+    private static int countLines( File file ) throws IOException
+    {
+        int lineCount = 0;
+        try ( BufferedReader reader =
+                      new BufferedReader( new InputStreamReader( new FileInputStream( file ), Charsets.UTF_8 ) ) )
+        {
+            while ( null != reader.readLine() )
+            {
+                lineCount++;
+            }
+        }
+        return lineCount;
+    }
+
     String removeExtension( String filename )
     {
         return (filename.indexOf( "." ) == -1) ? filename : filename.substring( 0, filename.lastIndexOf( "." ) );
@@ -12,6 +12,7 @@ import com.ldbc.driver.util.Tuple2;
 import com.ldbc.driver.util.Tuple3;
 import org.apache.commons.math3.random.RandomDataGenerator;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -34,6 +35,23 @@ public class GeneratorFactory
         this.randomDataGeneratorFactory = randomDataGeneratorFactory;
     }
 
+    /**
+     * Factory whose generators draw from their own random stream, split from the seed of this factory by streamId.
+     * Their sequences do not depend on how many values generators of other streams consumed.
+     *
+     * @param streamId
+     * @return
+     */
+    public GeneratorFactory split( long streamId )
+    {
+        return new GeneratorFactory( splitRandomDataGeneratorFactory( streamId ) );
+    }
+
+    public RandomDataGeneratorFactory splitRandomDataGeneratorFactory( long streamId )
+    {
+        return randomDataGeneratorFactory.split( streamId );
+    }
+
     private RandomDataGenerator randomDataGenerator = null;
 
     // Every returned generator (that takes a RandomDataGenerator as input) will use a different RandomDataGenerator
@@ -710,7 +728,7 @@ public class GeneratorFactory
     public Iterator<Operation> timeOffsetAndCompress( Iterator<Operation> generator, long newStartTimeAsMilli,
             Double compressionRatio )
     {
-        return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio );
+        return OperationStreamStage.of( generator ).timeOffsetAndCompress( newStartTimeAsMilli, compressionRatio );
     }
 
     /**
@@ -979,6 +997,133 @@ public class GeneratorFactory
         return new UniformByteGenerator( getRandom() );
     }
 
+    /**
+     * next() returns a read only buffer of uniform random bytes, its length given by lengths.next().
+     * Buffers are views of a shared, pre-filled, slab so nothing is boxed, slabs are allocated as needed, not recycled.
+     * Buffers are compared by content, so read them with absolute get()s or through a duplicate().
+     *
+     * @param lengths
+     * @return
+     */
+    public Iterator<ByteBuffer> sizedUniformByteBuffers( Iterator<? extends Number> lengths )
+    {
+        return new SizedUniformByteBufferGenerator( getRandom().getRandomGenerator(), lengths,
+                SizedUniformByteBufferGenerator.DEFAULT_SLAB_SIZE );
+    }
+
+    /**
+     * next() returns a zipfian random number within a min-max range, lowerBound is the most popular.
+     *
+     * @param lowerBound
+     * @param upperBound
+     * @return
+     */
+    public Iterator<Long> zipfian( long lowerBound, long upperBound )
+    {
+        return zipfian( lowerBound, upperBound, ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT );
+    }
+
+    public Iterator<Long> zipfian( long lowerBound, long upperBound, double zipfianConstant )
+    {
+        MinMaxGenerator<Long> boundingGenerator = constantBounds( lowerBound, upperBound );
+        return new ZipfianNumberGenerator( getRandom().getRandomGenerator(), boundingGenerator, boundingGenerator,
+                zipfianConstant );
+    }
+
+    /**
+     * next() returns a zipfian random number within a min-max range, lowerBound is the most popular.
+     * Range is defined by boundingGenerator, and may grow between calls.
+     *
+     * @param boundingGenerator
+     * @return
+     */
+    public Iterator<Long> dynamicRangeZipfian( MinMaxGenerator<Long> boundingGenerator )
+    {
+        return new ZipfianNumberGenerator( getRandom().getRandomGenerator(), boundingGenerator, boundingGenerator,
+                ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT );
+    }
+
+    /**
+     * next() returns a zipfian random number within a min-max range, popular numbers are scattered across the range.
+     *
+     * @param lowerBound
+     * @param upperBound
+     * @return
+     */
+    public Iterator<Long> scrambledZipfian( long lowerBound, long upperBound )
+    {
+        return dynamicRangeScrambledZipfian( constantBounds( lowerBound, upperBound ) );
+    }
+
+    /**
+     * next() returns a zipfian random number within a min-max range, popular numbers are scattered across the range.
+     * Range is defined by boundingGenerator, and may grow between calls.
+     *
+     * @param boundingGenerator
+     * @return
+     */
+    public Iterator<Long> dynamicRangeScrambledZipfian( MinMaxGenerator<Long> boundingGenerator )
+    {
+        return new ScrambledZipfianNumberGenerator( getRandom().getRandomGenerator(), boundingGenerator,
+                boundingGenerator );
+    }
+
+    /**
+     * next() returns a random number within a min-max range.
+     * hotOperationFraction of the numbers are drawn from the first hotSetFraction of the range.
+     *
+     * @param lowerBound
+     * @param upperBound
+     * @param hotSetFraction
+     * @param hotOperationFraction
+     * @return
+     */
+    public Iterator<Long> hotspot( long lowerBound, long upperBound, double hotSetFraction,
+            double hotOperationFraction )
+    {
+        return dynamicRangeHotspot( constantBounds( lowerBound, upperBound ), hotSetFraction, hotOperationFraction );
+    }
+
+    /**
+     * next() returns a random number within a min-max range.
+     * hotOperationFraction of the numbers are drawn from the first hotSetFraction of the range.
+     * Range is defined by boundingGenerator, and may grow between calls.
+     *
+     * @param boundingGenerator
+     * @param hotSetFraction
+     * @param hotOperationFraction
+     * @return
+     */
+    public Iterator<Long> dynamicRangeHotspot( MinMaxGenerator<Long> boundingGenerator, double hotSetFraction,
+            double hotOperationFraction )
+    {
+        return new HotspotNumberGenerator( getRandom().getRandomGenerator(), boundingGenerator, boundingGenerator,
+                hotSetFraction, hotOperationFraction );
+    }
+
+    /**
+     * next() returns a zipfian random number within a min-max range, upper bound is the most popular.
+     * Range is defined by boundingGenerator, e.g., an insert key generator, in which case recently inserted keys are
+     * the most popular.
+     *
+     * @param boundingGenerator
+     * @return
+     */
+    public Iterator<Long> latest( MinMaxGenerator<Long> boundingGenerator )
+    {
+        return new LatestNumberGenerator( getRandom().getRandomGenerator(), boundingGenerator );
+    }
+
+    private MinMaxGenerator<Long> constantBounds( long lowerBound, long upperBound )
+    {
+        if ( lowerBound > upperBound )
+        {
+            throw new GeneratorException(
+                    format( "Lower bound (%s) must not be greater than upper bound (%s)", lowerBound, upperBound ) );
+        }
+        return minMaxGenerator( constant( lowerBound ), lowerBound, upperBound );
+    }
+
     /**
      * next() returns a uniform random number within a min-max range.
      * Range is defined by boundingGenerator.
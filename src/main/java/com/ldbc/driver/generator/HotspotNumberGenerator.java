@@ -0,0 +1,55 @@
+package com.ldbc.driver.generator;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Numbers in a min-max range, split into a hot set at the start of the range and a cold set making up the rest.
+ * A hotOperationFraction of numbers are drawn (uniformly) from the hot set, the remainder from the cold set.
+ */
+public class HotspotNumberGenerator extends Generator<Long>
+{
+    private final RandomGenerator random;
+    private final MinMaxGenerator<Long> lowerBoundGenerator;
+    private final MinMaxGenerator<Long> upperBoundGenerator;
+    private final double hotSetFraction;
+    private final double hotOperationFraction;
+
+    HotspotNumberGenerator( RandomGenerator random,
+            MinMaxGenerator<Long> lowerBoundGenerator,
+            MinMaxGenerator<Long> upperBoundGenerator,
+            double hotSetFraction,
+            double hotOperationFraction )
+    {
+        if ( hotSetFraction < 0 || hotSetFraction > 1 )
+        {
+            throw new GeneratorException( "Hot set fraction must be in range [0,1], was: " + hotSetFraction );
+        }
+        if ( hotOperationFraction < 0 || hotOperationFraction > 1 )
+        {
+            throw new GeneratorException(
+                    "Hot operation fraction must be in range [0,1], was: " + hotOperationFraction );
+        }
+        this.random = random;
+        this.lowerBoundGenerator = lowerBoundGenerator;
+        this.upperBoundGenerator = upperBoundGenerator;
+        this.hotSetFraction = hotSetFraction;
+        this.hotOperationFraction = hotOperationFraction;
+    }
+
+    @Override
+    protected Long doNext() throws GeneratorException
+    {
+        long lowerBound = lowerBoundGenerator.getMin();
+        long itemCount = upperBoundGenerator.getMax() - lowerBound + 1;
+        long hotItemCount = (long) (itemCount * hotSetFraction);
+        long coldItemCount = itemCount - hotItemCount;
+        if ( 0 == coldItemCount || (hotItemCount > 0 && random.nextDouble() < hotOperationFraction) )
+        {
+            return lowerBound + (long) (random.nextDouble() * hotItemCount);
+        }
+        else
+        {
+            return lowerBound + hotItemCount + (long) (random.nextDouble() * coldItemCount);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ldbc.driver.generator;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Zipfian distributed numbers in a min-max range, where the largest numbers are most popular, e.g., to favour the
+ * most recently inserted keys when the bounding generator is the one that generates insert keys.
+ */
+public class LatestNumberGenerator extends Generator<Long>
+{
+    private final MinMaxGenerator<Long> boundingGenerator;
+    private final ZipfianNumberGenerator zipfian;
+
+    LatestNumberGenerator( RandomGenerator random, MinMaxGenerator<Long> boundingGenerator )
+    {
+        this.boundingGenerator = boundingGenerator;
+        this.zipfian = new ZipfianNumberGenerator(
+                random,
+                boundingGenerator,
+                boundingGenerator,
+                ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT );
+    }
+
+    @Override
+    protected Long doNext() throws GeneratorException
+    {
+        long upperBound = boundingGenerator.getMax();
+        long itemCount = upperBound - boundingGenerator.getMin() + 1;
+        return upperBound - zipfian.nextOffset( itemCount );
+    }
+}
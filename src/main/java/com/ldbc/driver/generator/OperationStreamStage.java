@@ -0,0 +1,187 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Filters operations by type, limits their number, and offsets and compresses their scheduled start times, all in
+ * one pass, as one iterator over the source stream.
+ * <p>
+ * Stages are configured in place: applying a further filter, limit or time mapping to a stream that is already a
+ * stage (see of()) adds no iterator layer. The first (remaining) operation can be looked at without consuming it, see
+ * firstScheduledStartTimeAsMilli(), so finding where streams start does not require wrapping them again either.
+ * <p>
+ * Order of application is: filter, then limit (counting operations that passed the filter), then time mapping.
+ */
+public class OperationStreamStage implements Iterator<Operation>
+{
+    private final Iterator<Operation> operations;
+    // indexed by operation type, null if all types are included
+    private boolean[] includedTypes = null;
+    private long remaining = Long.MAX_VALUE;
+    private boolean timeMapped = false;
+    private boolean compressed = false;
+    private long newStartTimeAsMilli;
+    private double compressionRatio;
+    private boolean started = false;
+    private boolean firstStartTimeKnown = false;
+    private long firstStartTimeAsMilli;
+    private Operation next = null;
+
+    /**
+     * @return operations, if it is a stage that has no time mapping yet, otherwise a new stage over operations
+     */
+    public static OperationStreamStage of( Iterator<Operation> operations )
+    {
+        if ( operations instanceof OperationStreamStage && false == ((OperationStreamStage) operations).timeMapped )
+        {
+            return (OperationStreamStage) operations;
+        }
+        return new OperationStreamStage( operations );
+    }
+
+    private OperationStreamStage( Iterator<Operation> operations )
+    {
+        this.operations = operations;
+    }
+
+    /**
+     * Only operations of these types pass, in addition to any types filter applied before
+     */
+    public OperationStreamStage includeOnlyTypes( Set<Integer> operationTypes )
+    {
+        int maxOperationType = -1;
+        for ( int operationType : operationTypes )
+        {
+            if ( operationType < 0 )
+            {
+                throw new GeneratorException( format( "Operation type must not be negative: %s", operationType ) );
+            }
+            maxOperationType = Math.max( maxOperationType, operationType );
+        }
+        boolean[] newIncludedTypes = new boolean[maxOperationType + 1];
+        for ( int operationType : operationTypes )
+        {
+            newIncludedTypes[operationType] = null == includedTypes || isIncluded( operationType );
+        }
+        includedTypes = newIncludedTypes;
+        if ( null != next && false == isIncluded( next.type() ) )
+        {
+            next = null;
+            // the first operation is only fixed once it was returned
+            firstStartTimeKnown = started;
+        }
+        return this;
+    }
+
+    /**
+     * At most this many (further) operations are returned
+     */
+    public OperationStreamStage limit( long limit )
+    {
+        if ( limit < 0 )
+        {
+            throw new GeneratorException( format( "Limit must not be negative: %s", limit ) );
+        }
+        remaining = Math.min( remaining, limit );
+        return this;
+    }
+
+    /**
+     * Offsets scheduled start times such that the first operation is scheduled at newStartTimeAsMilli, and scales the
+     * durations between scheduled start times by compressionRatio, e.g. 2.0 = 2x slower, 0.5 = 2x faster
+     *
+     * @param compressionRatio null to only offset
+     */
+    public OperationStreamStage timeOffsetAndCompress( long newStartTimeAsMilli, Double compressionRatio )
+    {
+        if ( timeMapped )
+        {
+            throw new GeneratorException( "Stage already offsets and compresses time, see of()" );
+        }
+        this.timeMapped = true;
+        this.newStartTimeAsMilli = newStartTimeAsMilli;
+        this.compressed = null != compressionRatio;
+        this.compressionRatio = (compressed) ? compressionRatio : 1.0;
+        return this;
+    }
+
+    /**
+     * @return scheduled start time, before time mapping, of the first operation the stage returns, -1 if none
+     */
+    public long firstScheduledStartTimeAsMilli()
+    {
+        if ( firstStartTimeKnown || hasNext() )
+        {
+            return firstStartTimeAsMilli;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ( 0 == remaining )
+        {
+            return false;
+        }
+        if ( null != next )
+        {
+            return true;
+        }
+        while ( operations.hasNext() )
+        {
+            Operation operation = operations.next();
+            if ( null == includedTypes || isIncluded( operation.type() ) )
+            {
+                next = operation;
+                if ( false == firstStartTimeKnown )
+                {
+                    firstStartTimeKnown = true;
+                    firstStartTimeAsMilli = operation.scheduledStartTimeAsMilli();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( "Operation stream is exhausted" );
+        }
+        Operation operation = next;
+        next = null;
+        started = true;
+        remaining--;
+        if ( timeMapped )
+        {
+            long durationFromFirstAsMilli = operation.scheduledStartTimeAsMilli() - firstStartTimeAsMilli;
+            if ( compressed )
+            {
+                durationFromFirstAsMilli = Math.round( durationFromFirstAsMilli * compressionRatio );
+            }
+            operation.setScheduledStartTimeAsMilli( newStartTimeAsMilli + durationFromFirstAsMilli );
+        }
+        return operation;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "Operation streams do not support remove" );
+    }
+
+    private boolean isIncluded( int operationType )
+    {
+        return operationType < includedTypes.length && includedTypes[operationType];
+    }
+}
@@ -0,0 +1,484 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeekerParams;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.Readables;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * Parameter rows (as produced by an EventDecoder) stored column by column: long, int and Date values in primitive
+ * arrays, strings once each in a dictionary, anything else (e.g., lists) as objects.
+ * <p>
+ * Parameter files are read once, then rows are served from memory. Stores are cached by file, decoder and delimiters,
+ * so workloads created for different passes over the same parameters (e.g., warmup then run) share one store rather
+ * than each reading the file again. A cached store is only used while file size and modification time are unchanged,
+ * otherwise the file is read again and its new store replaces the old one. Cached stores are softly referenced, once
+ * no workload uses a store anymore it may be reclaimed under memory pressure, and the file is read again if needed.
+ */
+public class ParameterStore
+{
+    private static final ConcurrentMap<String,CachedParameterStore> CACHE = new ConcurrentHashMap<>();
+
+    private final Column[] columns;
+    private final int rowCount;
+
+    public static ParameterStore cachedFrom(
+            File file,
+            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder,
+            int headerColumnCount,
+            CharSeekerParams charSeekerParams ) throws WorkloadException
+    {
+        String key = format( "%s|%s|%s%s%s",
+                file.getAbsolutePath(),
+                decoder.getClass().getName(),
+                charSeekerParams.columnDelimiter(),
+                charSeekerParams.arrayDelimiter(),
+                charSeekerParams.tupleDelimiter() );
+        long fileLength = file.length();
+        long fileLastModified = file.lastModified();
+        CachedParameterStore cached = CACHE.get( key );
+        ParameterStore parameterStore =
+                (null == cached) ? null : cached.parameterStoreIfOf( fileLength, fileLastModified );
+        if ( null != parameterStore )
+        {
+            return parameterStore;
+        }
+        parameterStore = from( file, decoder, headerColumnCount, charSeekerParams );
+        CachedParameterStore read = new CachedParameterStore( fileLength, fileLastModified, parameterStore );
+        // at most one store per key, the store of an earlier version of the file is no longer referenced
+        boolean readIsCached = (null == cached)
+                               ? null == CACHE.putIfAbsent( key, read )
+                               : CACHE.replace( key, cached, read );
+        if ( false == readIsCached )
+        {
+            // another thread cached the file concurrently, share its store unless that is stale or collected too
+            CachedParameterStore other = CACHE.get( key );
+            ParameterStore otherParameterStore =
+                    (null == other) ? null : other.parameterStoreIfOf( fileLength, fileLastModified );
+            if ( null != otherParameterStore )
+            {
+                return otherParameterStore;
+            }
+        }
+        return parameterStore;
+    }
+
+    public static void clearCache()
+    {
+        CACHE.clear();
+    }
+
+    static int cacheSize()
+    {
+        return CACHE.size();
+    }
+
+    public static ParameterStore from(
+            File file,
+            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder,
+            int headerColumnCount,
+            CharSeekerParams charSeekerParams ) throws WorkloadException
+    {
+        InputStream parametersInputStream;
+        try
+        {
+            parametersInputStream = new FileInputStream( file );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Unable to open parameters file: %s", file.getAbsolutePath() ), e );
+        }
+        return from( parametersInputStream, file.getAbsolutePath(), decoder, headerColumnCount, charSeekerParams );
+    }
+
+    /**
+     * Reads all rows from parametersInputStream, which is closed once read
+     */
+    public static ParameterStore from(
+            InputStream parametersInputStream,
+            String source,
+            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder,
+            int headerColumnCount,
+            CharSeekerParams charSeekerParams ) throws WorkloadException
+    {
+        CharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.wrap( new InputStreamReader( parametersInputStream, Charsets.UTF_8 ) ),
+                charSeekerParams.bufferSize()
+        );
+        try
+        {
+            Mark mark = new Mark();
+            int[] columnDelimiters = new int[]{charSeekerParams.columnDelimiter()};
+            // skip headers
+            for ( int i = 0; i < headerColumnCount; i++ )
+            {
+                charSeeker.seek( mark, columnDelimiters );
+            }
+            return fromRows(
+                    new CsvEventStreamReaderBasicCharSeeker<>(
+                            charSeeker,
+                            new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
+                            mark,
+                            decoder,
+                            charSeekerParams.columnDelimiter()
+                    )
+            );
+        }
+        catch ( IOException | GeneratorException e )
+        {
+            throw new WorkloadException( format( "Unable to read parameters from: %s", source ), e );
+        }
+        finally
+        {
+            try
+            {
+                charSeeker.close();
+                parametersInputStream.close();
+            }
+            catch ( IOException e )
+            {
+                // nothing more to read, failing to close does not affect the store
+            }
+        }
+    }
+
+    public static ParameterStore fromRows( Iterator<Object[]> rows )
+    {
+        Column[] columns = new Column[0];
+        int rowCount = 0;
+        while ( rows.hasNext() )
+        {
+            Object[] row = rows.next();
+            if ( 0 == rowCount )
+            {
+                columns = new Column[row.length];
+                for ( int column = 0; column < row.length; column++ )
+                {
+                    columns[column] = Column.forValue( row[column] );
+                }
+            }
+            else if ( row.length != columns.length )
+            {
+                throw new GeneratorException( format( "Row %s has %s columns, expected %s\n%s",
+                        rowCount, row.length, columns.length, Arrays.toString( row ) ) );
+            }
+            for ( int column = 0; column < row.length; column++ )
+            {
+                columns[column] = columns[column].add( rowCount, row[column] );
+            }
+            rowCount++;
+        }
+        for ( Column column : columns )
+        {
+            column.compact( rowCount );
+        }
+        return new ParameterStore( columns, rowCount );
+    }
+
+    private ParameterStore( Column[] columns, int rowCount )
+    {
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    public int columnCount()
+    {
+        return columns.length;
+    }
+
+    public Object[] row( int index )
+    {
+        Object[] row = new Object[columns.length];
+        for ( int column = 0; column < columns.length; column++ )
+        {
+            row[column] = columns[column].get( index );
+        }
+        return row;
+    }
+
+    /**
+     * @return iterator over all rows, starting again from the first once the last was returned, never ending unless
+     * the store is empty
+     */
+    public Iterator<Object[]> cycle()
+    {
+        return new NoRemoveIterator<Object[]>()
+        {
+            private int nextRow = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return rowCount > 0;
+            }
+
+            @Override
+            public Object[] next()
+            {
+                if ( 0 == rowCount )
+                {
+                    throw new NoSuchElementException( "Parameter store is empty" );
+                }
+                Object[] row = row( nextRow );
+                nextRow = (nextRow + 1 == rowCount) ? 0 : nextRow + 1;
+                return row;
+            }
+        };
+    }
+
+    private abstract static class Column
+    {
+        private static final int INITIAL_CAPACITY = 16;
+
+        static Column forValue( Object value )
+        {
+            if ( value instanceof Long )
+            {
+                return new LongColumn( false );
+            }
+            else if ( value instanceof Date )
+            {
+                return new LongColumn( true );
+            }
+            else if ( value instanceof Integer )
+            {
+                return new IntColumn();
+            }
+            else if ( value instanceof String )
+            {
+                return new StringColumn();
+            }
+            else
+            {
+                return new ObjectColumn();
+            }
+        }
+
+        static int grownCapacity( int capacity )
+        {
+            return Math.max( INITIAL_CAPACITY, capacity * 2 );
+        }
+
+        /**
+         * @return this column, or an object column holding all values, if value can not be stored in this column
+         */
+        abstract Column add( int row, Object value );
+
+        abstract Object get( int row );
+
+        abstract void compact( int rowCount );
+
+        Column toObjectColumn( int rowCount )
+        {
+            ObjectColumn objectColumn = new ObjectColumn();
+            for ( int row = 0; row < rowCount; row++ )
+            {
+                objectColumn.add( row, get( row ) );
+            }
+            return objectColumn;
+        }
+    }
+
+    private static class LongColumn extends Column
+    {
+        private final boolean dates;
+        private long[] values = new long[0];
+
+        private LongColumn( boolean dates )
+        {
+            this.dates = dates;
+        }
+
+        @Override
+        Column add( int row, Object value )
+        {
+            long longValue;
+            if ( false == dates && value instanceof Long )
+            {
+                longValue = (Long) value;
+            }
+            else if ( dates && value instanceof Date )
+            {
+                longValue = ((Date) value).getTime();
+            }
+            else
+            {
+                return toObjectColumn( row ).add( row, value );
+            }
+            if ( row == values.length )
+            {
+                values = Arrays.copyOf( values, grownCapacity( values.length ) );
+            }
+            values[row] = longValue;
+            return this;
+        }
+
+        @Override
+        Object get( int row )
+        {
+            // a new Date every time, as Date is mutable
+            return (dates) ? new Date( values[row] ) : (Object) values[row];
+        }
+
+        @Override
+        void compact( int rowCount )
+        {
+            values = Arrays.copyOf( values, rowCount );
+        }
+    }
+
+    private static class IntColumn extends Column
+    {
+        private int[] values = new int[0];
+
+        @Override
+        Column add( int row, Object value )
+        {
+            if ( false == value instanceof Integer )
+            {
+                return toObjectColumn( row ).add( row, value );
+            }
+            if ( row == values.length )
+            {
+                values = Arrays.copyOf( values, grownCapacity( values.length ) );
+            }
+            values[row] = (Integer) value;
+            return this;
+        }
+
+        @Override
+        Object get( int row )
+        {
+            return values[row];
+        }
+
+        @Override
+        void compact( int rowCount )
+        {
+            values = Arrays.copyOf( values, rowCount );
+        }
+    }
+
+    private static class StringColumn extends Column
+    {
+        private final List<String> dictionary = new ArrayList<>();
+        private Map<String,Integer> codes = new HashMap<>();
+        private int[] values = new int[0];
+
+        @Override
+        Column add( int row, Object value )
+        {
+            if ( false == value instanceof String )
+            {
+                return toObjectColumn( row ).add( row, value );
+            }
+            Integer code = codes.get( value );
+            if ( null == code )
+            {
+                code = dictionary.size();
+                dictionary.add( (String) value );
+                codes.put( (String) value, code );
+            }
+            if ( row == values.length )
+            {
+                values = Arrays.copyOf( values, grownCapacity( values.length ) );
+            }
+            values[row] = code;
+            return this;
+        }
+
+        @Override
+        Object get( int row )
+        {
+            return dictionary.get( values[row] );
+        }
+
+        @Override
+        void compact( int rowCount )
+        {
+            values = Arrays.copyOf( values, rowCount );
+            // only needed while adding
+            codes = null;
+        }
+    }
+
+    private static class ObjectColumn extends Column
+    {
+        private Object[] values = new Object[0];
+
+        @Override
+        Column add( int row, Object value )
+        {
+            if ( row == values.length )
+            {
+                values = Arrays.copyOf( values, grownCapacity( values.length ) );
+            }
+            values[row] = value;
+            return this;
+        }
+
+        @Override
+        Object get( int row )
+        {
+            return values[row];
+        }
+
+        @Override
+        void compact( int rowCount )
+        {
+            values = Arrays.copyOf( values, rowCount );
+        }
+    }
+
+    private static class CachedParameterStore
+    {
+        private final long fileLength;
+        private final long fileLastModified;
+        private final SoftReference<ParameterStore> parameterStore;
+
+        private CachedParameterStore( long fileLength, long fileLastModified, ParameterStore parameterStore )
+        {
+            this.fileLength = fileLength;
+            this.fileLastModified = fileLastModified;
+            this.parameterStore = new SoftReference<>( parameterStore );
+        }
+
+        /**
+         * @return cached store, null if the file changed since it was read or the store was reclaimed
+         */
+        private ParameterStore parameterStoreIfOf( long fileLength, long fileLastModified )
+        {
+            return (this.fileLength == fileLength && this.fileLastModified == fileLastModified)
+                   ? parameterStore.get()
+                   : null;
+        }
+    }
+}
@@ -6,16 +6,22 @@ import org.apache.commons.math3.random.RandomDataGenerator;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class RandomDataGeneratorFactory {
+    // odd 64 bit constant derived from the golden ratio, consecutive stream ids map to well spread seeds
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
 
     private final TimeSource timeSource = new SystemTimeSource();
+    private final long seed;
     private final RandomGenerator random;
 
     /**
      * Will use current time to seed a RandomGenerator, which will generate seeds for all returned RandomDataGenerator instances
      */
     public RandomDataGeneratorFactory() {
-        this.random = getRandomGenerator(timeSource.nowAsMilli());
+        this.seed = timeSource.nowAsMilli();
+        this.random = getRandomGenerator(seed);
     }
 
     /**
@@ -24,6 +30,7 @@ public class RandomDataGeneratorFactory {
      * @param seed
      */
     public RandomDataGeneratorFactory(Long seed) {
+        this.seed = seed;
         this.random = getRandomGenerator(seed);
     }
 
@@ -35,8 +42,45 @@ public class RandomDataGeneratorFactory {
         return new RandomDataGenerator(getRandomGenerator(getSeed()));
     }
 
+    /**
+     * Returns a factory for an independent stream, its seed is derived from the seed of this factory and streamId only.
+     * Unlike newRandom(), the result does not depend on how many generators were previously created by this factory.
+     *
+     * @param streamId
+     * @return
+     */
+    public RandomDataGeneratorFactory split(long streamId) {
+        return new RandomDataGeneratorFactory(splitSeed(seed, streamId));
+    }
+
+    /**
+     * One RandomDataGenerator per thread, so threads never contend on shared generator state.
+     * Each thread is given the next stream split from the seed of this factory when it first calls get(), i.e.,
+     * with the same seed and number of threads the same set of streams is used.
+     *
+     * @return
+     */
+    public ThreadLocal<RandomDataGenerator> newThreadLocalRandom() {
+        final long threadStreamsSeed = getSeed();
+        final AtomicInteger nextStreamId = new AtomicInteger(0);
+        return new ThreadLocal<RandomDataGenerator>() {
+            @Override
+            protected RandomDataGenerator initialValue() {
+                return newRandom(splitSeed(threadStreamsSeed, nextStreamId.getAndIncrement()));
+            }
+        };
+    }
+
+    static long splitSeed(long seed, long streamId) {
+        // SplitMix64 finalizer
+        long z = seed + GOLDEN_GAMMA * (streamId + 1);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
     private RandomGenerator getRandomGenerator(long seed) {
-        /* 
+        /*
          * From Docs: http://commons.apache.org/proper/commons-math/javadocs/api-3.2/index.html
          * If no RandomGenerator is provided in the constructor, the default is to use a Well19937c generator
          */
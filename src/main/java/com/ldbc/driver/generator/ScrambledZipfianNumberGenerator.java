@@ -0,0 +1,57 @@
+package com.ldbc.driver.generator;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Zipfian distributed numbers in a min-max range, but with the popular numbers scattered across the range rather
+ * than clustered at its start. Popularity is assigned by hashing the ranks of a zipfian generator over a fixed, very
+ * large, item space, so zeta(n) can be precomputed and the range may grow at no cost.
+ */
+public class ScrambledZipfianNumberGenerator extends Generator<Long>
+{
+    static final long ITEM_COUNT = 10_000_000_000L;
+    // zeta(ITEM_COUNT) for ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT
+    static final double ZETAN = 26.46902820178302;
+
+    private static final long FNV_OFFSET_BASIS_64 = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME_64 = 1099511628211L;
+
+    private final MinMaxGenerator<Long> lowerBoundGenerator;
+    private final MinMaxGenerator<Long> upperBoundGenerator;
+    private final ZipfianNumberGenerator zipfian;
+
+    ScrambledZipfianNumberGenerator( RandomGenerator random,
+            MinMaxGenerator<Long> lowerBoundGenerator,
+            MinMaxGenerator<Long> upperBoundGenerator )
+    {
+        this.lowerBoundGenerator = lowerBoundGenerator;
+        this.upperBoundGenerator = upperBoundGenerator;
+        this.zipfian = new ZipfianNumberGenerator(
+                random,
+                lowerBoundGenerator,
+                upperBoundGenerator,
+                ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT,
+                ITEM_COUNT,
+                ZETAN );
+    }
+
+    @Override
+    protected Long doNext() throws GeneratorException
+    {
+        long lowerBound = lowerBoundGenerator.getMin();
+        long itemCount = upperBoundGenerator.getMax() - lowerBound + 1;
+        return lowerBound + (fnvHash64( zipfian.nextOffset( ITEM_COUNT ) ) % itemCount);
+    }
+
+    static long fnvHash64( long value )
+    {
+        long hash = FNV_OFFSET_BASIS_64;
+        for ( int i = 0; i < 8; i++ )
+        {
+            hash ^= value & 0xff;
+            hash *= FNV_PRIME_64;
+            value >>>= 8;
+        }
+        return hash & Long.MAX_VALUE;
+    }
+}
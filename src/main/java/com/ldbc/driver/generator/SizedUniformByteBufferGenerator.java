@@ -0,0 +1,74 @@
+package com.ldbc.driver.generator;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * next() returns a read only buffer of uniform random bytes, its length given by the lengths generator.
+ * <p>
+ * Unlike SizedUniformByteGeneratorGenerator nothing is boxed: bytes are generated in bulk, eight per random long,
+ * into a large slab, and returned buffers are views of consecutive regions of that slab. A new slab is allocated when
+ * the current one is used up. Slabs are not recycled, regions are never handed out twice, so returned buffers may be
+ * retained (e.g., by operations waiting to be executed), a slab is garbage once no returned buffer refers to it.
+ */
+public class SizedUniformByteBufferGenerator extends Generator<ByteBuffer>
+{
+    static final int DEFAULT_SLAB_SIZE = 64 * 1024;
+
+    private final RandomGenerator random;
+    private final Iterator<? extends Number> lengths;
+    private final int slabSize;
+    private ByteBuffer slab;
+
+    SizedUniformByteBufferGenerator( RandomGenerator random, Iterator<? extends Number> lengths, int slabSize )
+    {
+        this.random = random;
+        this.lengths = lengths;
+        this.slabSize = slabSize;
+        this.slab = ByteBuffer.allocate( 0 );
+    }
+
+    @Override
+    protected ByteBuffer doNext() throws GeneratorException
+    {
+        if ( false == lengths.hasNext() )
+        {
+            return null;
+        }
+        int length = lengths.next().intValue();
+        if ( length > slab.remaining() )
+        {
+            slab = newSlab( Math.max( length, slabSize ) );
+        }
+        ByteBuffer value = slab.slice();
+        value.limit( length );
+        slab.position( slab.position() + length );
+        return value.asReadOnlyBuffer();
+    }
+
+    private ByteBuffer newSlab( int size )
+    {
+        byte[] bytes = new byte[size];
+        fill( random, bytes );
+        return ByteBuffer.wrap( bytes );
+    }
+
+    /**
+     * Fills bytes with uniform random bytes, eight per call to random
+     */
+    private static void fill( RandomGenerator random, byte[] bytes )
+    {
+        int i = 0;
+        while ( i < bytes.length )
+        {
+            long randomBytes = random.nextLong();
+            for ( int j = 0; j < 8 && i < bytes.length; j++ )
+            {
+                bytes[i++] = (byte) randomBytes;
+                randomBytes >>>= 8;
+            }
+        }
+    }
+}
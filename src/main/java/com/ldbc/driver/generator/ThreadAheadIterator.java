@@ -0,0 +1,182 @@
+package com.ldbc.driver.generator;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Like ThreadAheadReadable, but for iterators: a background thread drains the wrapped iterator, so when the consumer
+ * calls next() the element has (usually) already been read and parsed.
+ * Elements are handed over in batches, to keep the per element cost of crossing threads low.
+ * Exceptions thrown by the wrapped iterator are rethrown, wrapped in GeneratorException, by the consumer thread.
+ */
+public class ThreadAheadIterator<T> implements Iterator<T>, Closeable
+{
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final int DEFAULT_BATCHES_AHEAD = 16;
+
+    private static final List<Object> END = Collections.emptyList();
+    private static final long POLL_TIMEOUT_AS_MILLI = 100;
+
+    private final BlockingQueue<List<?>> batches;
+    private final ReaderThread readerThread;
+    private Iterator<T> currentBatch = Collections.emptyIterator();
+    private boolean exhausted = false;
+
+    public ThreadAheadIterator( Iterator<T> actual )
+    {
+        this( actual, DEFAULT_BATCH_SIZE, DEFAULT_BATCHES_AHEAD );
+    }
+
+    public ThreadAheadIterator( Iterator<T> actual, int batchSize, int batchesAhead )
+    {
+        this.batches = new ArrayBlockingQueue<>( batchesAhead );
+        this.readerThread = new ReaderThread( actual, batchSize );
+        this.readerThread.start();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while ( false == currentBatch.hasNext() )
+        {
+            if ( exhausted )
+            {
+                return false;
+            }
+            List<?> batch = takeBatch();
+            if ( END == batch )
+            {
+                exhausted = true;
+                if ( null != readerThread.error )
+                {
+                    throw new GeneratorException( "Error encountered by thread ahead iterator", readerThread.error );
+                }
+                return false;
+            }
+            currentBatch = (Iterator<T>) batch.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException();
+        }
+        return currentBatch.next();
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
+    }
+
+    /**
+     * Stops the background thread and waits for it to exit, elements not yet consumed are discarded.
+     * Once this returns the wrapped iterator is no longer used, so its source may be closed.
+     */
+    @Override
+    public void close()
+    {
+        exhausted = true;
+        currentBatch = Collections.emptyIterator();
+        readerThread.closed = true;
+        batches.clear();
+        try
+        {
+            // reader thread checks closed between elements, and at least every poll timeout while offering a batch
+            readerThread.join();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException( "Interrupted while waiting for thread ahead iterator to stop", e );
+        }
+        finally
+        {
+            batches.clear();
+        }
+    }
+
+    private List<?> takeBatch()
+    {
+        try
+        {
+            return batches.take();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException( "Interrupted while waiting for thread ahead iterator", e );
+        }
+    }
+
+    private class ReaderThread extends Thread
+    {
+        private final Iterator<T> actual;
+        private final int batchSize;
+        private volatile boolean closed = false;
+        private volatile Throwable error = null;
+
+        private ReaderThread( Iterator<T> actual, int batchSize )
+        {
+            super( ThreadAheadIterator.class.getSimpleName() );
+            this.actual = actual;
+            this.batchSize = batchSize;
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( false == closed && actual.hasNext() )
+                {
+                    List<T> batch = new ArrayList<>( batchSize );
+                    while ( batch.size() < batchSize && actual.hasNext() )
+                    {
+                        batch.add( actual.next() );
+                    }
+                    offer( batch );
+                }
+            }
+            catch ( Throwable e )
+            {
+                error = e;
+            }
+            finally
+            {
+                offer( END );
+            }
+        }
+
+        private void offer( List<?> batch )
+        {
+            try
+            {
+                while ( false == closed )
+                {
+                    if ( batches.offer( batch, POLL_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) )
+                    {
+                        return;
+                    }
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                closed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ldbc.driver.generator;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Zipfian distributed numbers in a min-max range, where smaller numbers are most popular, e.g., with the default
+ * constant (0.99) lowerBound is the most popular number, lowerBound+1 the second most popular, and so on.
+ * <p>
+ * Uses the algorithm from "Quickly Generating Billion-Record Synthetic Databases", Gray et al, SIGMOD 1994, which
+ * samples in constant time once zeta(n) is known. Range is read from the bounding generators on every call, so it may
+ * grow (e.g., as keys are inserted). When it does zeta(n) is updated incrementally, only for the new items.
+ */
+public class ZipfianNumberGenerator extends Generator<Long>
+{
+    public static final double DEFAULT_ZIPFIAN_CONSTANT = 0.99;
+
+    private final RandomGenerator random;
+    private final MinMaxGenerator<Long> lowerBoundGenerator;
+    private final MinMaxGenerator<Long> upperBoundGenerator;
+    private final double theta;
+    private final double alpha;
+    private final double zeta2theta;
+    private final double halfPowTheta;
+
+    private long itemCountForZeta;
+    private double zetan;
+    private double eta;
+
+    ZipfianNumberGenerator( RandomGenerator random,
+            MinMaxGenerator<Long> lowerBoundGenerator,
+            MinMaxGenerator<Long> upperBoundGenerator,
+            double zipfianConstant )
+    {
+        this( random, lowerBoundGenerator, upperBoundGenerator, zipfianConstant, 0, 0 );
+    }
+
+    /**
+     * For very large ranges zeta(n) can be precomputed, rather than computed (in linear time) on construction
+     */
+    ZipfianNumberGenerator( RandomGenerator random,
+            MinMaxGenerator<Long> lowerBoundGenerator,
+            MinMaxGenerator<Long> upperBoundGenerator,
+            double zipfianConstant,
+            long itemCountForZeta,
+            double zetan )
+    {
+        this.random = random;
+        this.lowerBoundGenerator = lowerBoundGenerator;
+        this.upperBoundGenerator = upperBoundGenerator;
+        this.theta = zipfianConstant;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zeta2theta = zeta( 0, 2, theta, 0 );
+        this.halfPowTheta = 1.0 + Math.pow( 0.5, theta );
+        this.itemCountForZeta = itemCountForZeta;
+        this.zetan = zetan;
+        this.eta = eta( itemCountForZeta );
+    }
+
+    @Override
+    protected Long doNext() throws GeneratorException
+    {
+        long lowerBound = lowerBoundGenerator.getMin();
+        long itemCount = upperBoundGenerator.getMax() - lowerBound + 1;
+        return lowerBound + nextOffset( itemCount );
+    }
+
+    /**
+     * @return zipfian distributed offset in range [0,itemCount)
+     */
+    long nextOffset( long itemCount )
+    {
+        if ( itemCount != itemCountForZeta )
+        {
+            zetan = (itemCount > itemCountForZeta)
+                    ? zeta( itemCountForZeta, itemCount, theta, zetan )
+                    : zeta( 0, itemCount, theta, 0 );
+            itemCountForZeta = itemCount;
+            eta = eta( itemCount );
+        }
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        if ( uz < 1.0 )
+        {
+            return 0;
+        }
+        if ( uz < halfPowTheta )
+        {
+            return (itemCount > 1) ? 1 : 0;
+        }
+        long offset = (long) (itemCount * Math.pow( eta * u - eta + 1, alpha ));
+        return Math.min( offset, itemCount - 1 );
+    }
+
+    private double eta( long itemCount )
+    {
+        return (1 - Math.pow( 2.0 / itemCount, 1 - theta )) / (1 - zeta2theta / zetan);
+    }
+
+    /**
+     * zeta(n) = sum(1/i^theta) for i in [1,n], computed incrementally from zeta(previousItemCount)
+     */
+    private static double zeta( long previousItemCount, long itemCount, double theta, double previousZeta )
+    {
+        double sum = previousZeta;
+        for ( long i = previousItemCount; i < itemCount; i++ )
+        {
+            sum += 1 / Math.pow( i + 1, theta );
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,153 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.ResultReporter;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Per operation type limits on operation run time.
+ * <p>
+ * When an operation runs for longer than the timeout of its type its ResultReporter is cancelled. Cancellation is
+ * cooperative, handlers observe it via ResultReporter.isCancelled() and may stop early, nothing is interrupted.
+ * Either way, the operation is recorded with ResultReporter.TIMED_OUT_RESULT_CODE.
+ * <p>
+ * Operations of types without timeout are not watched, i.e., cost nothing.
+ */
+public class OperationTimeouts
+{
+    public static final OperationTimeouts NONE = new OperationTimeouts( new long[0] );
+
+    // indexed by operation type, 0 means no timeout
+    private final long[] timeoutsAsMilli;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * @param timeoutsAsMilli operation type to timeout, types without positive timeout are not limited
+     */
+    public static OperationTimeouts fromTimeoutsAsMilli( Map<Integer,Long> timeoutsAsMilli )
+    {
+        int maxOperationType = -1;
+        for ( Map.Entry<Integer,Long> timeoutAsMilli : timeoutsAsMilli.entrySet() )
+        {
+            if ( timeoutAsMilli.getKey() < 0 )
+            {
+                throw new IllegalArgumentException(
+                        format( "Operation type must not be negative: %s", timeoutAsMilli.getKey() ) );
+            }
+            if ( timeoutAsMilli.getValue() > 0 )
+            {
+                maxOperationType = Math.max( maxOperationType, timeoutAsMilli.getKey() );
+            }
+        }
+        if ( -1 == maxOperationType )
+        {
+            return NONE;
+        }
+        long[] timeoutsAsMilliByType = new long[maxOperationType + 1];
+        for ( Map.Entry<Integer,Long> timeoutAsMilli : timeoutsAsMilli.entrySet() )
+        {
+            if ( timeoutAsMilli.getValue() > 0 )
+            {
+                timeoutsAsMilliByType[timeoutAsMilli.getKey()] = timeoutAsMilli.getValue();
+            }
+        }
+        return new OperationTimeouts( timeoutsAsMilliByType );
+    }
+
+    private OperationTimeouts( long[] timeoutsAsMilli )
+    {
+        this.timeoutsAsMilli = timeoutsAsMilli;
+        if ( 0 == timeoutsAsMilli.length )
+        {
+            this.scheduler = null;
+        }
+        else
+        {
+            this.scheduler = new ScheduledThreadPoolExecutor( 1, new ThreadFactory()
+            {
+                @Override
+                public Thread newThread( Runnable runnable )
+                {
+                    Thread thread = new Thread( runnable,
+                            OperationTimeouts.class.getSimpleName() + "-id(" + System.currentTimeMillis() + ")" );
+                    thread.setDaemon( true );
+                    return thread;
+                }
+            } );
+            // most operations complete in time, their watches should not linger in the queue until they expire
+            this.scheduler.setRemoveOnCancelPolicy( true );
+        }
+    }
+
+    /**
+     * @return timeout of operation type, 0 if operations of that type are not limited
+     */
+    public long timeoutAsMilli( int operationType )
+    {
+        return (operationType < timeoutsAsMilli.length) ? timeoutsAsMilli[operationType] : 0;
+    }
+
+    /**
+     * Starts watching an operation that is about to be executed
+     *
+     * @return watch to pass to unwatch() once the operation completed, null if the operation type has no timeout
+     */
+    public Future<?> watch( int operationType, final ResultReporter.SimpleResultReporter resultReporter )
+    {
+        long timeoutAsMilli = timeoutAsMilli( operationType );
+        if ( 0 == timeoutAsMilli )
+        {
+            return null;
+        }
+        return scheduler.schedule( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                resultReporter.cancel();
+            }
+        }, timeoutAsMilli, TimeUnit.MILLISECONDS );
+    }
+
+    /**
+     * Stops watching an operation that completed
+     *
+     * @return true if the operation timed out, i.e., its result reporter was cancelled
+     */
+    public boolean unwatch( Future<?> watch )
+    {
+        if ( null == watch || watch.cancel( false ) )
+        {
+            return false;
+        }
+        try
+        {
+            // cancellation is (being) signalled, wait for it so it can not leak into the next use of the reporter
+            watch.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch ( ExecutionException e )
+        {
+            // cancelling a result reporter does not fail
+        }
+        return true;
+    }
+
+    public void shutdown()
+    {
+        if ( null != scheduler )
+        {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.ldbc.driver.runtime;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsLogWriter;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Serves live driver metrics over HTTP, in the Prometheus text exposition format (version 0.0.4), at /metrics.
+ * Uses only the HTTP server that ships with the JDK, requests are served one at a time by a single daemon thread.
+ * <p>
+ * Exposed:
+ * per operation type counts and runtime percentiles, as reported by the metrics service
+ * operation handlers that are queued or executing, for the asynchronous and blocking executors
+ * GCT and GCT lag (now - GCT)
+ * schedule lag (actual start time - scheduled start time) of the latest interval, if intervals are being logged
+ * JVM garbage collection counts and durations
+ */
+public class PrometheusMetricsEndpoint
+{
+    public static final String METRICS_PATH = "/metrics";
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    public static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+    private static final String PREFIX = "ldbc_driver_";
+
+    private final MetricsServiceWriter metricsServiceWriter;
+    private final GlobalCompletionTimeReader globalCompletionTimeReader;
+    private final WorkloadRunner workloadRunner;
+    private final IntervalMetricsLogWriter intervalMetricsLogWriter;
+    private final TimeSource timeSource;
+    private final HttpServer httpServer;
+    private final ExecutorService httpExecutorService;
+
+    /**
+     * @param bindAddress address to listen on, e.g., DEFAULT_BIND_ADDRESS for loopback only, 0.0.0.0 for all interfaces
+     * @param port port to listen on, 0 for any free port
+     * @param workloadRunner source of executor metrics, may be null
+     * @param intervalMetricsLogWriter source of schedule lag, may be null
+     */
+    public PrometheusMetricsEndpoint( String bindAddress,
+            int port,
+            MetricsService metricsService,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            WorkloadRunner workloadRunner,
+            IntervalMetricsLogWriter intervalMetricsLogWriter,
+            TimeSource timeSource ) throws IOException
+    {
+        try
+        {
+            this.metricsServiceWriter = metricsService.getWriter();
+        }
+        catch ( Exception e )
+        {
+            throw new IOException( "Error while retrieving metrics writer", e );
+        }
+        this.globalCompletionTimeReader = globalCompletionTimeReader;
+        this.workloadRunner = workloadRunner;
+        this.intervalMetricsLogWriter = intervalMetricsLogWriter;
+        this.timeSource = timeSource;
+        this.httpServer = HttpServer.create( new InetSocketAddress( InetAddress.getByName( bindAddress ), port ), 0 );
+        this.httpExecutorService = Executors.newSingleThreadExecutor( new ThreadFactory()
+        {
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable,
+                        PrometheusMetricsEndpoint.class.getSimpleName() + "-" + System.currentTimeMillis() );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+        this.httpServer.setExecutor( httpExecutorService );
+        this.httpServer.createContext( METRICS_PATH, new MetricsHandler() );
+    }
+
+    public void start()
+    {
+        httpServer.start();
+    }
+
+    /**
+     * @return address the endpoint is listening on
+     */
+    public InetAddress bindAddress()
+    {
+        return httpServer.getAddress().getAddress();
+    }
+
+    /**
+     * @return port the endpoint is listening on
+     */
+    public int port()
+    {
+        return httpServer.getAddress().getPort();
+    }
+
+    public void shutdown()
+    {
+        httpServer.stop( 0 );
+        httpExecutorService.shutdownNow();
+    }
+
+    String scrape() throws Exception
+    {
+        StringBuilder sb = new StringBuilder();
+
+        WorkloadResultsSnapshot results = metricsServiceWriter.results();
+        header( sb, "operations_total", "counter", "Operations completed" );
+        sample( sb, "operations_total", "", results.totalOperationCount() );
+        header( sb, "operation_type_operations_total", "counter", "Operations completed, by operation type" );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            sample( sb, "operation_type_operations_total", operationLabel( operationMetrics ),
+                    operationMetrics.count() );
+        }
+        header( sb, "operation_type_runtime_seconds", "summary", "Operation runtimes, by operation type" );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            ContinuousMetricSnapshot runtime = operationMetrics.runTimeMetric();
+            String operation = operationLabel( operationMetrics );
+            sample( sb, "operation_type_runtime_seconds", operation + ",quantile=\"0.5\"",
+                    toSeconds( runtime.percentile50(), runtime.unit() ) );
+            sample( sb, "operation_type_runtime_seconds", operation + ",quantile=\"0.9\"",
+                    toSeconds( runtime.percentile90(), runtime.unit() ) );
+            sample( sb, "operation_type_runtime_seconds", operation + ",quantile=\"0.95\"",
+                    toSeconds( runtime.percentile95(), runtime.unit() ) );
+            sample( sb, "operation_type_runtime_seconds", operation + ",quantile=\"0.99\"",
+                    toSeconds( runtime.percentile99(), runtime.unit() ) );
+            sample( sb, "operation_type_runtime_seconds_sum", operation,
+                    toSeconds( runtime.mean(), runtime.unit() ) * runtime.count() );
+            sample( sb, "operation_type_runtime_seconds_count", operation, runtime.count() );
+        }
+        header( sb, "throughput", "gauge", "Operations completed per second, since the first operation started" );
+        sample( sb, "throughput", "", results.throughput() );
+
+        if ( null != workloadRunner )
+        {
+            header( sb, "uncompleted_operation_handlers", "gauge", "Operation handlers queued or executing" );
+            sample( sb, "uncompleted_operation_handlers", "executor=\"asynchronous\"",
+                    workloadRunner.asynchronousUncompletedOperationHandlerCount() );
+            sample( sb, "uncompleted_operation_handlers", "executor=\"blocking\"",
+                    workloadRunner.blockingUncompletedOperationHandlerCount() );
+        }
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        long globalCompletionTimeAsMilli = globalCompletionTimeReader.globalCompletionTimeAsMilli();
+        header( sb, "gct_milliseconds", "gauge", "Global completion time, -1 until it is known" );
+        sample( sb, "gct_milliseconds", "", globalCompletionTimeAsMilli );
+        if ( -1 != globalCompletionTimeAsMilli )
+        {
+            header( sb, "gct_lag_seconds", "gauge", "Time since global completion time" );
+            sample( sb, "gct_lag_seconds", "",
+                    toSeconds( Math.max( 0, nowAsMilli - globalCompletionTimeAsMilli ), TimeUnit.MILLISECONDS ) );
+        }
+
+        IntervalMetricsSnapshot latestInterval =
+                (null == intervalMetricsLogWriter) ? null : intervalMetricsLogWriter.latestInterval();
+        if ( null != latestInterval && latestInterval.operationCount() > 0 )
+        {
+            header( sb, "schedule_lag_seconds", "gauge",
+                    "Actual start time - scheduled start time, of operations started in the latest interval" );
+            sample( sb, "schedule_lag_seconds", "statistic=\"mean\"",
+                    toSeconds( latestInterval.scheduleLagMeanAsMilli(), TimeUnit.MILLISECONDS ) );
+            sample( sb, "schedule_lag_seconds", "statistic=\"p99\"",
+                    toSeconds( latestInterval.scheduleLagPercentile99AsMilli(), TimeUnit.MILLISECONDS ) );
+            sample( sb, "schedule_lag_seconds", "statistic=\"max\"",
+                    toSeconds( latestInterval.scheduleLagMaxAsMilli(), TimeUnit.MILLISECONDS ) );
+        }
+
+        sb.append( "# HELP jvm_gc_collections_total Garbage collections\n" );
+        sb.append( "# TYPE jvm_gc_collections_total counter\n" );
+        for ( GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans() )
+        {
+            sb.append( format( "jvm_gc_collections_total{gc=\"%s\"} %s\n",
+                    escape( garbageCollector.getName() ), garbageCollector.getCollectionCount() ) );
+        }
+        sb.append( "# HELP jvm_gc_collection_seconds_total Time spent in garbage collections\n" );
+        sb.append( "# TYPE jvm_gc_collection_seconds_total counter\n" );
+        for ( GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans() )
+        {
+            sb.append( format( Locale.US, "jvm_gc_collection_seconds_total{gc=\"%s\"} %.3f\n",
+                    escape( garbageCollector.getName() ),
+                    toSeconds( garbageCollector.getCollectionTime(), TimeUnit.MILLISECONDS ) ) );
+        }
+        return sb.toString();
+    }
+
+    private static void header( StringBuilder sb, String name, String type, String help )
+    {
+        sb.append( "# HELP " ).append( PREFIX ).append( name ).append( " " ).append( help ).append( "\n" );
+        sb.append( "# TYPE " ).append( PREFIX ).append( name ).append( " " ).append( type ).append( "\n" );
+    }
+
+    private static void sample( StringBuilder sb, String name, String labels, long value )
+    {
+        sb.append( PREFIX ).append( name );
+        if ( false == labels.isEmpty() )
+        {
+            sb.append( "{" ).append( labels ).append( "}" );
+        }
+        sb.append( " " ).append( value ).append( "\n" );
+    }
+
+    private static void sample( StringBuilder sb, String name, String labels, double value )
+    {
+        sb.append( PREFIX ).append( name );
+        if ( false == labels.isEmpty() )
+        {
+            sb.append( "{" ).append( labels ).append( "}" );
+        }
+        sb.append( " " ).append( format( Locale.US, "%.9f", value ) ).append( "\n" );
+    }
+
+    private static String operationLabel( OperationMetricsSnapshot operationMetrics )
+    {
+        return format( "operation=\"%s\"", escape( operationMetrics.name() ) );
+    }
+
+    private static String escape( String labelValue )
+    {
+        return labelValue.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ).replace( "\n", "\\n" );
+    }
+
+    private static double toSeconds( double value, TimeUnit unit )
+    {
+        return value * unit.toNanos( 1 ) / TimeUnit.SECONDS.toNanos( 1 );
+    }
+
+    private class MetricsHandler implements HttpHandler
+    {
+        @Override
+        public void handle( HttpExchange exchange ) throws IOException
+        {
+            try
+            {
+                byte[] body;
+                int status;
+                try
+                {
+                    body = scrape().getBytes( Charsets.UTF_8 );
+                    status = 200;
+                }
+                catch ( Exception e )
+                {
+                    body = format( "Error collecting metrics\n%s", ConcurrentErrorReporter.stackTraceToString( e ) )
+                            .getBytes( Charsets.UTF_8 );
+                    status = 500;
+                }
+                exchange.getResponseHeaders().set( "Content-Type", CONTENT_TYPE );
+                exchange.sendResponseHeaders( status, body.length );
+                try ( OutputStream responseBody = exchange.getResponseBody() )
+                {
+                    responseBody.write( body );
+                }
+            }
+            finally
+            {
+                exchange.close();
+            }
+        }
+    }
+}
@@ -8,6 +8,8 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.executor.AsyncOperationExecutor;
+import com.ldbc.driver.runtime.executor.ClosedLoopOperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
@@ -20,11 +22,11 @@ import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
@@ -51,6 +53,92 @@ public class WorkloadRunner
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                0,
+                0,
+                false
+        );
+    }
+
+    /**
+     * @param closedLoopUsers when greater than 0 the asynchronous stream is executed in closed loop, by this many
+     * virtual users that each issue their next operation as soon as the previous one completes. Scheduled start times
+     * are then ignored for all streams, see ClosedLoopOperationExecutor
+     * @param closedLoopThinkTimeAsMilli duration each virtual user waits between operations
+     * @param dispatchChildOperations when true child operations (e.g., short reads) of the asynchronous stream are
+     * handed back to the thread pool at their scheduled start times, rather than executed as one chain by the thread
+     * that executed their parent
+     */
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            int closedLoopUsers,
+            long closedLoopThinkTimeAsMilli,
+            boolean dispatchChildOperations ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                closedLoopUsers,
+                closedLoopThinkTimeAsMilli,
+                dispatchChildOperations,
+                OperationTimeouts.NONE
+        );
+    }
+
+    /**
+     * @param operationTimeouts cancels operations that run for longer than the timeout of their type
+     */
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            int closedLoopUsers,
+            long closedLoopThinkTimeAsMilli,
+            boolean dispatchChildOperations,
+            OperationTimeouts operationTimeouts ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -64,7 +152,11 @@ public class WorkloadRunner
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                closedLoopUsers,
+                closedLoopThinkTimeAsMilli,
+                dispatchChildOperations,
+                operationTimeouts
         );
     }
 
@@ -74,6 +166,27 @@ public class WorkloadRunner
         return workloadRunnerFuture;
     }
 
+    /**
+     * @return operation handlers of the asynchronous stream that are queued or executing
+     */
+    public long asynchronousUncompletedOperationHandlerCount()
+    {
+        return workloadRunnerFuture.workloadRunnerThread.executorForAsynchronous.uncompletedOperationHandlerCount();
+    }
+
+    /**
+     * @return operation handlers of all blocking streams that are queued or executing
+     */
+    public long blockingUncompletedOperationHandlerCount()
+    {
+        long count = 0;
+        for ( OperationExecutor executorForBlocking : workloadRunnerFuture.workloadRunnerThread.executorsForBlocking )
+        {
+            count += executorForBlocking.uncompletedOperationHandlerCount();
+        }
+        return count;
+    }
+
     private static class WorkloadRunnerFuture implements Future<ConcurrentErrorReporter>
     {
         private final WorkloadRunnerThread workloadRunnerThread;
@@ -94,7 +207,11 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                int closedLoopUsers,
+                long closedLoopThinkTimeAsMilli,
+                boolean dispatchChildOperations,
+                OperationTimeouts operationTimeouts ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -108,7 +225,11 @@ public class WorkloadRunner
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    closedLoopUsers,
+                    closedLoopThinkTimeAsMilli,
+                    dispatchChildOperations,
+                    operationTimeouts
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -119,10 +240,7 @@ public class WorkloadRunner
             if ( workloadRunnerThread.state().equals( WorkloadRunnerThreadState.NOT_STARTED ) )
             {
                 workloadRunnerThread.start();
-                while ( workloadRunnerThread.state().equals( WorkloadRunnerThreadState.NOT_STARTED ) )
-                {
-                    Spinner.powerNap( RUNNER_POLLING_INTERVAL_AS_MILLI );
-                }
+                workloadRunnerThread.awaitStarted();
             }
         }
 
@@ -230,33 +348,18 @@ public class WorkloadRunner
 
         private void waitForCompletion( long waitDurationMs ) throws TimeoutException
         {
-            long startTimeMs = timeSource.nowAsMilli();
-            while ( timeSource.nowAsMilli() - startTimeMs < waitDurationMs )
+            if ( workloadRunnerThread.state().equals( WorkloadRunnerThreadState.NOT_STARTED ) )
             {
-                switch ( workloadRunnerThread.state() )
-                {
-                case NOT_STARTED:
-                    throw new IllegalStateException( format(
-                            "%s is in %s state, but should have already started",
-                            WorkloadRunnerThread.class.getSimpleName(),
-                            WorkloadRunnerThreadState.NOT_STARTED.name()
-                    ) );
-                case RUNNING:
-                    Spinner.powerNap( RUNNER_POLLING_INTERVAL_AS_MILLI );
-                    continue;
-                case COMPLETED_SUCCEEDED:
-                    return;
-                case COMPLETED_FAILED:
-                    return;
-                default:
-                    throw new IllegalStateException( format(
-                            "Unknown %s: %s",
-                            WorkloadRunnerThreadState.class.getSimpleName(),
-                            WorkloadRunnerThreadState.NOT_STARTED.name()
-                    ) );
-                }
+                throw new IllegalStateException( format(
+                        "%s is in %s state, but should have already started",
+                        WorkloadRunnerThread.class.getSimpleName(),
+                        WorkloadRunnerThreadState.NOT_STARTED.name()
+                ) );
+            }
+            if ( false == workloadRunnerThread.awaitCompleted( waitDurationMs ) )
+            {
+                throw new TimeoutException( "Workload execution did not complete in time" );
             }
-            throw new TimeoutException( "Workload execution did not complete in time" );
         }
     }
 
@@ -279,6 +382,8 @@ public class WorkloadRunner
         private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
         private final long statusDisplayIntervalAsMilli;
         private final AtomicReference<WorkloadRunnerThreadState> stateRef;
+        private final CountDownLatch startedLatch = new CountDownLatch( 1 );
+        private final CountDownLatch completedLatch = new CountDownLatch( 1 );
 
         private enum ShutdownType
         {
@@ -297,12 +402,24 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                int closedLoopUsers,
+                long closedLoopThinkTimeAsMilli,
+                boolean dispatchChildOperations,
+                OperationTimeouts operationTimeouts ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            if ( closedLoopUsers > 0 && db.asyncInFlightLimit() > 0 )
+            {
+                throw new WorkloadException( format(
+                        "Closed loop execution (%s virtual users) can not be combined with asynchronous handler " +
+                        "execution (in-flight limit %s)", closedLoopUsers, db.asyncInFlightLimit() ) );
+            }
+            // in closed loop operations are issued as soon as a virtual user is idle, never at their scheduled time
+            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli,
+                    ignoreScheduleStartTimes || closedLoopUsers > 0 );
 
             if ( statusDisplayIntervalAsSeconds > 0 )
             {
@@ -329,19 +446,57 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create local completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    localCompletionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            if ( closedLoopUsers > 0 )
+            {
+                this.executorForAsynchronous = new ClosedLoopOperationExecutor(
+                        closedLoopUsers,
+                        closedLoopThinkTimeAsMilli,
+                        db,
+                        asynchronousStream,
+                        localCompletionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator(),
+                        operationTimeouts
+                );
+            }
+            else if ( db.asyncInFlightLimit() > 0 )
+            {
+                this.executorForAsynchronous = new AsyncOperationExecutor(
+                        db.asyncInFlightLimit(),
+                        db,
+                        asynchronousStream,
+                        localCompletionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator(),
+                        operationTimeouts
+                );
+            }
+            else
+            {
+                this.executorForAsynchronous = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        localCompletionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator(),
+                        dispatchChildOperations,
+                        operationTimeouts
+                );
+            }
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
@@ -374,7 +529,8 @@ public class WorkloadRunner
                         timeSource,
                         errorReporter,
                         metricsService,
-                        blockingStream.childOperationGenerator()
+                        blockingStream.childOperationGenerator(),
+                        operationTimeouts
                 );
                 this.executorsForBlocking.add( executorForBlocking );
                 this.blockingStreamExecutorServices.add(
@@ -394,6 +550,58 @@ public class WorkloadRunner
             return stateRef.get();
         }
 
+        private void awaitStarted()
+        {
+            boolean interrupted = false;
+            while ( true )
+            {
+                try
+                {
+                    startedLatch.await();
+                    break;
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
+            }
+            if ( interrupted )
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean awaitCompleted( long waitDurationMs )
+        {
+            try
+            {
+                return completedLatch.await( waitDurationMs, TimeUnit.MILLISECONDS );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void setState( WorkloadRunnerThreadState state )
+        {
+            stateRef.set( state );
+            switch ( state )
+            {
+            case RUNNING:
+                startedLatch.countDown();
+                break;
+            case COMPLETED_SUCCEEDED:
+            case COMPLETED_FAILED:
+                startedLatch.countDown();
+                completedLatch.countDown();
+                break;
+            default:
+                break;
+            }
+        }
+
         @Override
         public void run()
         {
@@ -402,64 +610,64 @@ public class WorkloadRunner
                 workloadStatusThread.start();
             }
 
-            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[blockingStreamExecutorServices.size() + 1];
-            executorFinishedFlags[0] = asynchronousStreamExecutorService.execute();
-            for ( int i = 0; i < blockingStreamExecutorServices.size(); i++ )
+            List<OperationStreamExecutorService> streamExecutorServices = new ArrayList<>();
+            streamExecutorServices.add( asynchronousStreamExecutorService );
+            streamExecutorServices.addAll( blockingStreamExecutorServices );
+            for ( OperationStreamExecutorService streamExecutorService : streamExecutorServices )
             {
-                executorFinishedFlags[i + 1] = blockingStreamExecutorServices.get( i ).execute();
+                streamExecutorService.execute();
             }
 
-            stateRef.set( WorkloadRunnerThreadState.RUNNING );
+            setState( WorkloadRunnerThreadState.RUNNING );
 
-            while ( true )
+            for ( OperationStreamExecutorService streamExecutorService : streamExecutorServices )
             {
-                // Error encountered in one or more of the worker threads --> terminate run
-                if ( errorReporter.errorEncountered() )
-                {
-                    shutdownEverything( ShutdownType.FORCED, errorReporter );
-                    stateRef.set( WorkloadRunnerThreadState.COMPLETED_FAILED );
-                    return;
-                }
-
-                // All executors have completed --> return
-                boolean allExecutorsHaveCompleted = true;
-                for ( int i = 0; i < executorFinishedFlags.length; i++ )
+                // Executors signal completion the moment their last handler finishes, waits are bounded only to
+                // notice errors encountered in one or more of the worker threads
+                while ( false == awaitFinished( streamExecutorService ) )
                 {
-                    if ( false == executorFinishedFlags[i].get() )
+                    // Error encountered in one or more of the worker threads --> terminate run
+                    if ( errorReporter.errorEncountered() )
                     {
-                        allExecutorsHaveCompleted = false;
-                        break;
+                        shutdownEverything( ShutdownType.FORCED, errorReporter );
+                        setState( WorkloadRunnerThreadState.COMPLETED_FAILED );
+                        return;
                     }
                 }
-                if ( allExecutorsHaveCompleted )
-                {
-                    break;
-                }
-
-                // Take short break between error & completion checks to reduce CPU utilization
-                Spinner.powerNap( RUNNER_POLLING_INTERVAL_AS_MILLI );
             }
 
             // One last check for errors encountered in any of the worker threads --> terminate run
             if ( errorReporter.errorEncountered() )
             {
                 shutdownEverything( ShutdownType.FORCED, errorReporter );
-                stateRef.set( WorkloadRunnerThreadState.COMPLETED_FAILED );
+                setState( WorkloadRunnerThreadState.COMPLETED_FAILED );
             }
             else
             {
                 shutdownEverything( ShutdownType.NORMAL, errorReporter );
                 if ( errorReporter.errorEncountered() )
                 {
-                    stateRef.set( WorkloadRunnerThreadState.COMPLETED_FAILED );
+                    setState( WorkloadRunnerThreadState.COMPLETED_FAILED );
                 }
                 else
                 {
-                    stateRef.set( WorkloadRunnerThreadState.COMPLETED_SUCCEEDED );
+                    setState( WorkloadRunnerThreadState.COMPLETED_SUCCEEDED );
                 }
             }
         }
 
+        private boolean awaitFinished( OperationStreamExecutorService streamExecutorService )
+        {
+            try
+            {
+                return streamExecutorService.awaitFinished( RUNNER_POLLING_INTERVAL_AS_MILLI );
+            }
+            catch ( InterruptedException e )
+            {
+                return false;
+            }
+        }
+
         private void shutdownEverything( ShutdownType shutdownType, ConcurrentErrorReporter errorReporter )
         {
             // if forced shutdown (error) some handlers likely still running,
@@ -0,0 +1,15 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * GCT reader that can block until GCT advances, rather than having to be polled
+ */
+public interface AwaitableGlobalCompletionTimeReader extends GlobalCompletionTimeReader
+{
+    /**
+     * @param timeAsMilli GCT to wait for
+     * @param waitAsMilli maximum duration to wait
+     * @return true if GCT reached timeAsMilli within wait duration, false otherwise
+     */
+    boolean awaitGlobalCompletionTimeAsMilli( long timeAsMilli, long waitAsMilli )
+            throws CompletionTimeException, InterruptedException;
+}
@@ -0,0 +1,136 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Threads waiting for GCT to reach some time register here, in a min-heap keyed by that time,
+ * and are parked until the thread that advances GCT releases them.
+ * Releasing is done in bulk, i.e., every waiter whose time has been reached is unparked by one call to advanced().
+ */
+public class GlobalCompletionTimeWaiters
+{
+    private final AtomicLong globalCompletionTimeReference;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    // read without lock by advanced(), to skip locking when nobody waits
+    private volatile int waiterCount = 0;
+
+    public GlobalCompletionTimeWaiters( AtomicLong globalCompletionTimeReference )
+    {
+        this.globalCompletionTimeReference = globalCompletionTimeReference;
+    }
+
+    /**
+     * @param timeAsMilli GCT to wait for
+     * @param waitAsMilli maximum duration to wait
+     * @return true if GCT reached timeAsMilli within wait duration, false otherwise
+     */
+    public boolean await( long timeAsMilli, long waitAsMilli ) throws InterruptedException
+    {
+        if ( globalCompletionTimeReference.get() >= timeAsMilli )
+        {
+            return true;
+        }
+        Waiter waiter = new Waiter( timeAsMilli, Thread.currentThread() );
+        lock.lock();
+        try
+        {
+            waiters.add( waiter );
+            waiterCount = waiters.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        // GCT is published before waiters are released, so checking after registration can not miss an advance
+        long deadlineAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( waitAsMilli );
+        try
+        {
+            while ( false == waiter.released && globalCompletionTimeReference.get() < timeAsMilli )
+            {
+                long remainingAsNano = deadlineAsNano - System.nanoTime();
+                if ( remainingAsNano <= 0 )
+                {
+                    break;
+                }
+                LockSupport.parkNanos( this, remainingAsNano );
+                if ( Thread.interrupted() )
+                {
+                    throw new InterruptedException();
+                }
+            }
+        }
+        finally
+        {
+            if ( false == waiter.released )
+            {
+                lock.lock();
+                try
+                {
+                    waiters.remove( waiter );
+                    waiterCount = waiters.size();
+                }
+                finally
+                {
+                    lock.unlock();
+                }
+            }
+        }
+        return globalCompletionTimeReference.get() >= timeAsMilli;
+    }
+
+    /**
+     * Must be called after every change to GCT, by the thread that made it
+     */
+    public void advanced()
+    {
+        if ( 0 == waiterCount )
+        {
+            return;
+        }
+        long globalCompletionTimeAsMilli = globalCompletionTimeReference.get();
+        lock.lock();
+        try
+        {
+            while ( false == waiters.isEmpty() && waiters.peek().timeAsMilli <= globalCompletionTimeAsMilli )
+            {
+                Waiter waiter = waiters.poll();
+                waiter.released = true;
+                LockSupport.unpark( waiter.thread );
+            }
+            waiterCount = waiters.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    int waiterCount()
+    {
+        return waiterCount;
+    }
+
+    private static class Waiter implements Comparable<Waiter>
+    {
+        private final long timeAsMilli;
+        private final Thread thread;
+        private volatile boolean released = false;
+
+        private Waiter( long timeAsMilli, Thread thread )
+        {
+            this.timeAsMilli = timeAsMilli;
+            this.thread = thread;
+        }
+
+        @Override
+        public int compareTo( Waiter other )
+        {
+            return Long.compare( timeAsMilli, other.timeAsMilli );
+        }
+    }
+}
@@ -20,13 +20,14 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
-public class ThreadedQueuedCompletionTimeService implements CompletionTimeService
+public class ThreadedQueuedCompletionTimeService implements CompletionTimeService, AwaitableGlobalCompletionTimeReader
 {
     private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
 
     private final TimeSource timeSource;
     private final QueueEventSubmitter<CompletionTimeEvent> queueEventSubmitter;
     private final AtomicLong sharedGctReference;
+    private final GlobalCompletionTimeWaiters globalCompletionTimeWaiters;
     private final AtomicLong sharedWriteEventCountReference;
     private final ThreadedQueuedConcurrentCompletionTimeServiceThread
             threadedQueuedConcurrentCompletionTimeServiceThread;
@@ -44,12 +45,14 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         this.queueEventSubmitter = QueueEventSubmitter.queueEventSubmitterFor( completionTimeEventQueue );
 
         this.sharedGctReference = new AtomicLong( -1 );
+        this.globalCompletionTimeWaiters = new GlobalCompletionTimeWaiters( sharedGctReference );
         this.sharedWriteEventCountReference = new AtomicLong( 0 );
         threadedQueuedConcurrentCompletionTimeServiceThread = new ThreadedQueuedConcurrentCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
                 peerIds,
-                sharedGctReference );
+                sharedGctReference,
+                globalCompletionTimeWaiters );
         threadedQueuedConcurrentCompletionTimeServiceThread.start();
     }
 
@@ -59,6 +62,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return sharedGctReference.get();
     }
 
+    @Override
+    public boolean awaitGlobalCompletionTimeAsMilli( long timeAsMilli, long waitAsMilli ) throws InterruptedException
+    {
+        return globalCompletionTimeWaiters.await( timeAsMilli, waitAsMilli );
+    }
+
     @Override
     public LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException
     {
@@ -31,6 +31,7 @@ public class ThreadedQueuedConcurrentCompletionTimeServiceThread extends Thread
     private final GlobalCompletionTimeStateManager globalCompletionTimeStateManager;
     private final MultiWriterLocalCompletionTimeConcurrentStateManager localCompletionTimeConcurrentStateManager;
     private final AtomicLong globalCompletionTimeSharedReference;
+    private final GlobalCompletionTimeWaiters globalCompletionTimeWaiters;
     private final QueueEventFetcher<CompletionTimeEvent> completionTimeEventQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
     private Long processedWriteEventCount = 0l;
@@ -41,7 +42,8 @@ public class ThreadedQueuedConcurrentCompletionTimeServiceThread extends Thread
     ThreadedQueuedConcurrentCompletionTimeServiceThread( Queue<CompletionTimeEvent> completionTimeQueue,
             ConcurrentErrorReporter errorReporter,
             Set<String> peerIds,
-            AtomicLong globalCompletionTimeSharedReference ) throws CompletionTimeException
+            AtomicLong globalCompletionTimeSharedReference,
+            GlobalCompletionTimeWaiters globalCompletionTimeWaiters ) throws CompletionTimeException
     {
         super( ThreadedQueuedConcurrentCompletionTimeServiceThread.class.getSimpleName() + "-" +
                System.currentTimeMillis() );
@@ -81,6 +83,7 @@ public class ThreadedQueuedConcurrentCompletionTimeServiceThread extends Thread
         this.completionTimeEventQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor( completionTimeQueue );
         this.errorReporter = errorReporter;
         this.globalCompletionTimeSharedReference = globalCompletionTimeSharedReference;
+        this.globalCompletionTimeWaiters = globalCompletionTimeWaiters;
         this.globalCompletionTimeSharedReference.set( globalCompletionTimeStateManager.globalCompletionTimeAsMilli() );
     }
 
@@ -223,6 +226,10 @@ public class ThreadedQueuedConcurrentCompletionTimeServiceThread extends Thread
         else
         {
             globalCompletionTimeSharedReference.set( newGlobalCompletionTimeAsMilli );
+            if ( newGlobalCompletionTimeAsMilli > prevGlobalCompletionTimeAsMilli )
+            {
+                globalCompletionTimeWaiters.advanced();
+            }
         }
     }
 }
@@ -0,0 +1,226 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.OperationTimeouts;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Issues operations from the calling thread without waiting for them to complete, relying on handlers that implement
+ * AsyncOperationHandler to not block. At most inFlightLimit operations are outstanding at any time, when the limit is
+ * reached execute() blocks until one completes.
+ * Child operations are issued by the thread that completes their parent, and count against the parent's permit.
+ * <p>
+ * Only the thread that calls execute() gets a worker connection state (see Db.newWorkerConnectionState()). Child
+ * operations are executed with the shared connection state, as the threads completing their parents are owned by the
+ * database client, and a worker connection state must not be used by two threads.
+ */
+public class AsyncOperationExecutor implements OperationExecutor
+{
+    private final UncompletedHandlerCounter uncompletedHandlers = new UncompletedHandlerCounter();
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final Semaphore inFlightPermits;
+    private final int inFlightLimit;
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public AsyncOperationExecutor( int inFlightLimit,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                inFlightLimit,
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                OperationTimeouts.NONE
+        );
+    }
+
+    /**
+     * @param operationTimeouts cancels operations that run for longer than the timeout of their type
+     */
+    public AsyncOperationExecutor( int inFlightLimit,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            OperationTimeouts operationTimeouts )
+    {
+        this.inFlightLimit = inFlightLimit;
+        this.inFlightPermits = new Semaphore( inFlightLimit );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                operationTimeouts
+        );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        try
+        {
+            inFlightPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting for in-flight operation to complete\nOperation: %s",
+                            operation ),
+                    e
+            );
+        }
+        uncompletedHandlers.increment();
+        final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        try
+        {
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+        }
+        catch ( Throwable e )
+        {
+            onOperationAndChildrenCompleted();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e
+            );
+        }
+        operationHandlerRunnableContext.runAsync().thenRun(
+                () -> executeChildren(
+                        (null == childOperationGenerator) ? 0 : childOperationGenerator.initialState(),
+                        operationHandlerRunnableContext
+                )
+        );
+    }
+
+    // on completion of each operation the next child is computed and issued, until the generator returns null
+    private void executeChildren( double state, OperationHandlerRunnableContext completedOperationHandlerRunnableContext )
+    {
+        final OperationHandlerRunnableContext childOperationHandlerRunnableContext;
+        final double nextState;
+        try
+        {
+            Operation childOperation = (null == childOperationGenerator) ? null : childOperationGenerator.nextOperation(
+                    state,
+                    completedOperationHandlerRunnableContext.operation(),
+                    completedOperationHandlerRunnableContext.resultReporter().result(),
+                    completedOperationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                    completedOperationHandlerRunnableContext.resultReporter().runDurationAsNano()
+            );
+            if ( null == childOperation )
+            {
+                onOperationAndChildrenCompleted();
+                return;
+            }
+            childOperationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( childOperation );
+            childOperationHandlerRunnableContext.useSharedDbConnectionState();
+            nextState = childOperationGenerator.updateState( state, childOperation.type() );
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError( this,
+                    format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            onOperationAndChildrenCompleted();
+            return;
+        }
+        finally
+        {
+            completedOperationHandlerRunnableContext.cleanup();
+        }
+        childOperationHandlerRunnableContext.runAsync().thenRun(
+                () -> executeChildren( nextState, childOperationHandlerRunnableContext )
+        );
+    }
+
+    private void onOperationAndChildrenCompleted()
+    {
+        uncompletedHandlers.decrement();
+        inFlightPermits.release();
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            if ( false == uncompletedHandlers.awaitZero( waitAsMilli ) )
+            {
+                throw new OperationExecutorException(
+                        format( "%s shutdown before all handlers could complete\n%s of %s permitted handlers were " +
+                                "in flight",
+                                getClass().getSimpleName(),
+                                uncompletedHandlers.get(),
+                                inFlightLimit )
+                );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    @Override
+    public boolean awaitAllOperationHandlersCompleted( long waitAsMilli ) throws InterruptedException
+    {
+        return uncompletedHandlers.awaitZero( waitAsMilli );
+    }
+}
@@ -0,0 +1,198 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Alternative to ChildOperationExecutor: rather than executing the whole chain of child operations in the thread
+ * that executed the parent, each child operation is handed back to the workers once it is due, i.e., at its
+ * scheduled start time. Chains therefore interleave with other operations and are spread across all workers.
+ * <p>
+ * The state of the child operation generator belongs to the chain, it travels with each dispatched child operation.
+ * Every dispatched child operation is counted as an uncompleted handler until it, and its successor dispatch,
+ * completed. Workers are never blocked by a dispatch: children are handed to the workers by a scheduler thread, which
+ * is the only thread waiting when the workers are saturated.
+ */
+class ChildOperationDispatcher
+{
+    private final ChildOperationGenerator childOperationGenerator;
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final UncompletedHandlerCounter uncompletedHandlers;
+    private final TimeSource timeSource;
+    private final ConcurrentErrorReporter errorReporter;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private Executor workers = null;
+
+    ChildOperationDispatcher( ChildOperationGenerator childOperationGenerator,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            UncompletedHandlerCounter uncompletedHandlers,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this.childOperationGenerator = childOperationGenerator;
+        this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+        this.uncompletedHandlers = uncompletedHandlers;
+        this.timeSource = timeSource;
+        this.errorReporter = errorReporter;
+        this.scheduler = new ScheduledThreadPoolExecutor( 1, new ThreadFactory()
+        {
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable,
+                        ChildOperationDispatcher.class.getSimpleName() + "-id(" + System.currentTimeMillis() + ")" );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+    }
+
+    /**
+     * Workers are typically created after the dispatcher, as they need it to dispatch the children they produce
+     */
+    void setWorkers( Executor workers )
+    {
+        this.workers = workers;
+    }
+
+    void dispatchFirst(
+            Operation parentOperation,
+            Object result,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano )
+            throws WorkloadException, DbException, OperationExecutorException, CompletionTimeException
+    {
+        // children are generated from results, operations without result (e.g., timed out) have no children
+        if ( null == childOperationGenerator || null == result )
+        {
+            return;
+        }
+        double state = childOperationGenerator.initialState();
+        Operation childOperation = childOperationGenerator.nextOperation(
+                state,
+                parentOperation,
+                result,
+                actualStartTimeAsMilli,
+                runDurationAsNano
+        );
+        dispatch( childOperation, state );
+    }
+
+    void dispatchNext( DispatchedChildOperation completed )
+            throws WorkloadException, DbException, OperationExecutorException, CompletionTimeException
+    {
+        OperationHandlerRunnableContext completedContext = completed.operationHandlerRunnableContext();
+        if ( null == completedContext.resultReporter().result() )
+        {
+            return;
+        }
+        double state = childOperationGenerator.updateState( completed.state(), completedContext.operation().type() );
+        Operation childOperation = childOperationGenerator.nextOperation(
+                state,
+                completedContext.operation(),
+                completedContext.resultReporter().result(),
+                completedContext.resultReporter().actualStartTimeAsMilli(),
+                completedContext.resultReporter().runDurationAsNano()
+        );
+        dispatch( childOperation, state );
+    }
+
+    void shutdown()
+    {
+        scheduler.shutdownNow();
+    }
+
+    private void dispatch( Operation childOperation, double state )
+            throws DbException, OperationExecutorException, CompletionTimeException
+    {
+        if ( null == childOperation )
+        {
+            return;
+        }
+        final DispatchedChildOperation dispatchedChildOperation = new DispatchedChildOperation(
+                operationHandlerRunnableContextRetriever.getInitializedHandlerFor( childOperation ),
+                state
+        );
+        uncompletedHandlers.increment();
+        long delayAsMilli = Math.max( 0, childOperation.scheduledStartTimeAsMilli() - timeSource.nowAsMilli() );
+        try
+        {
+            scheduleOnWorkers( dispatchedChildOperation, delayAsMilli );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            uncompletedHandlers.decrement();
+            dispatchedChildOperation.operationHandlerRunnableContext().cleanup();
+            throw new OperationExecutorException(
+                    format( "Child operation dispatched after shutdown\nOperation: %s", childOperation ), e );
+        }
+    }
+
+    private void scheduleOnWorkers( final DispatchedChildOperation dispatchedChildOperation, long delayAsMilli )
+    {
+        scheduler.schedule( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    // --- BLOCKING CALL (when queue of workers is full) ---
+                    workers.execute( dispatchedChildOperation );
+                }
+                catch ( Throwable e )
+                {
+                    uncompletedHandlers.decrement();
+                    dispatchedChildOperation.operationHandlerRunnableContext().cleanup();
+                    errorReporter.reportError( this,
+                            format( "Error dispatching child operation\nOperation: %s\n%s",
+                                    dispatchedChildOperation.operationHandlerRunnableContext().operation(),
+                                    ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                }
+            }
+        }, delayAsMilli, TimeUnit.MILLISECONDS );
+    }
+
+    static class DispatchedChildOperation implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        private final double state;
+
+        private DispatchedChildOperation( OperationHandlerRunnableContext operationHandlerRunnableContext,
+                double state )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.state = state;
+        }
+
+        OperationHandlerRunnableContext operationHandlerRunnableContext()
+        {
+            return operationHandlerRunnableContext;
+        }
+
+        double state()
+        {
+            return state;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.run();
+        }
+    }
+}
@@ -18,7 +18,8 @@ public class ChildOperationExecutor
             OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever )
             throws WorkloadException, DbException, OperationExecutorException, CompletionTimeException
     {
-        if ( null == childOperationGenerator )
+        // children are generated from results, operations without result (e.g., timed out) have no children
+        if ( null == childOperationGenerator || null == result )
         {
             return;
         }
@@ -40,6 +41,11 @@ public class ChildOperationExecutor
                             operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
                     childOperationHandlerRunnableContext.run();
                     state = childOperationGenerator.updateState( state, operation.type() );
+                    if ( null == childOperationHandlerRunnableContext.resultReporter().result() )
+                    {
+                        childOperationHandlerRunnableContext.cleanup();
+                        break;
+                    }
                     operation = childOperationGenerator.nextOperation(
                             state,
                             childOperationHandlerRunnableContext.operation(),
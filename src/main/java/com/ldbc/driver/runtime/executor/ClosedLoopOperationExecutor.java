@@ -0,0 +1,287 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.OperationTimeouts;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Closed loop execution: a fixed number of virtual users, each issuing the next operation of the stream as soon as its
+ * previous operation (and the child operations generated from it) completed, optionally after a think time.
+ * <p>
+ * There is no queue between the stream and the virtual users, execute() hands the operation directly to an idle user,
+ * blocking until there is one. Operations are still retrieved from the stream in order, by the calling thread, so
+ * initiated times are submitted exactly as for the other executors and dependency tracking is unaffected.
+ * Scheduled start times are expected to be ignored, i.e., the spinner should be created with
+ * ignoreScheduleStartTimes = true.
+ */
+public class ClosedLoopOperationExecutor implements OperationExecutor
+{
+    private static final long POLL_TIMEOUT_AS_MILLI = 100;
+
+    private final UncompletedHandlerCounter uncompletedHandlers = new UncompletedHandlerCounter();
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final AtomicBoolean terminate = new AtomicBoolean( false );
+    private final SynchronousQueue<Operation> handoff = new SynchronousQueue<>();
+    private final List<VirtualUserThread> virtualUsers;
+
+    public ClosedLoopOperationExecutor( int virtualUserCount,
+            long thinkTimeAsMilli,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                virtualUserCount,
+                thinkTimeAsMilli,
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                OperationTimeouts.NONE
+        );
+    }
+
+    /**
+     * @param operationTimeouts cancels operations that run for longer than the timeout of their type
+     */
+    public ClosedLoopOperationExecutor( int virtualUserCount,
+            long thinkTimeAsMilli,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            OperationTimeouts operationTimeouts )
+    {
+        if ( virtualUserCount < 1 )
+        {
+            throw new IllegalArgumentException( "Virtual user count must be at least 1: " + virtualUserCount );
+        }
+        if ( thinkTimeAsMilli < 0 )
+        {
+            throw new IllegalArgumentException( "Think time must not be negative: " + thinkTimeAsMilli );
+        }
+        OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever =
+                new OperationHandlerRunnableContextRetriever(
+                        streamDefinition,
+                        db,
+                        localCompletionTimeWriter,
+                        globalCompletionTimeReader,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        operationTimeouts
+                );
+        long factoryTimeStampId = System.currentTimeMillis();
+        this.virtualUsers = new ArrayList<>( virtualUserCount );
+        for ( int i = 0; i < virtualUserCount; i++ )
+        {
+            VirtualUserThread virtualUser = new VirtualUserThread(
+                    ClosedLoopOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                    "-user(" + i + ")",
+                    thinkTimeAsMilli,
+                    operationHandlerRunnableContextRetriever,
+                    childOperationGenerator,
+                    errorReporter
+            );
+            virtualUsers.add( virtualUser );
+            virtualUser.start();
+        }
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.increment();
+        try
+        {
+            // --- BLOCKING CALL (until a virtual user is idle) ---
+            while ( false == handoff.offer( operation, POLL_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) )
+            {
+                if ( terminate.get() )
+                {
+                    throw new OperationExecutorException(
+                            format( "Executor was shutdown before operation could be issued\nOperation: %s",
+                                    operation ) );
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            uncompletedHandlers.decrement();
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting for idle virtual user\nOperation: %s", operation ), e );
+        }
+        catch ( OperationExecutorException e )
+        {
+            uncompletedHandlers.decrement();
+            throw e;
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            boolean allHandlersCompleted = uncompletedHandlers.awaitZero( waitAsMilli );
+            terminate.set( true );
+            for ( VirtualUserThread virtualUser : virtualUsers )
+            {
+                virtualUser.interrupt();
+            }
+            for ( VirtualUserThread virtualUser : virtualUsers )
+            {
+                virtualUser.join( waitAsMilli );
+            }
+            if ( false == allHandlersCompleted )
+            {
+                throw new OperationExecutorException( format(
+                        "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                        getClass().getSimpleName(),
+                        uncompletedHandlers.get() ) );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for virtual users to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    @Override
+    public boolean awaitAllOperationHandlersCompleted( long waitAsMilli ) throws InterruptedException
+    {
+        return uncompletedHandlers.awaitZero( waitAsMilli );
+    }
+
+    private class VirtualUserThread extends Thread
+    {
+        private final long thinkTimeAsMilli;
+        private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+        private final ChildOperationGenerator childOperationGenerator;
+        private final ChildOperationExecutor childOperationExecutor = new ChildOperationExecutor();
+        private final ConcurrentErrorReporter errorReporter;
+
+        private VirtualUserThread( String name,
+                long thinkTimeAsMilli,
+                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+                ChildOperationGenerator childOperationGenerator,
+                ConcurrentErrorReporter errorReporter )
+        {
+            super( name );
+            this.thinkTimeAsMilli = thinkTimeAsMilli;
+            this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+            this.childOperationGenerator = childOperationGenerator;
+            this.errorReporter = errorReporter;
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            while ( false == terminate.get() )
+            {
+                Operation operation;
+                try
+                {
+                    operation = handoff.poll( POLL_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+                }
+                catch ( InterruptedException e )
+                {
+                    // interrupted by shutdown, loop condition decides whether to continue
+                    continue;
+                }
+                if ( null == operation )
+                {
+                    continue;
+                }
+                issue( operation );
+                if ( thinkTimeAsMilli > 0 && false == terminate.get() )
+                {
+                    Spinner.powerNap( thinkTimeAsMilli );
+                }
+            }
+        }
+
+        private void issue( Operation operation )
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+            try
+            {
+                operationHandlerRunnableContext =
+                        operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing operation\nOperation: %s\n%s",
+                                operation,
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrement();
+                if ( null != operationHandlerRunnableContext )
+                {
+                    operationHandlerRunnableContext.cleanup();
+                }
+            }
+        }
+    }
+}
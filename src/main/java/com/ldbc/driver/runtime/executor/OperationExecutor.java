@@ -18,4 +18,14 @@ public interface OperationExecutor {
     public void shutdown(long waitAsMilli) throws OperationExecutorException;
 
     public long uncompletedOperationHandlerCount();
+
+    /**
+     * Blocks until all operation handlers submitted to this executor have completed, returning as soon as the last
+     * one does
+     *
+     * @param waitAsMilli maximum duration to wait for running operation handlers to complete execution
+     * @return true if all operation handlers completed within wait duration, false otherwise
+     * @throws InterruptedException
+     */
+    public boolean awaitAllOperationHandlersCompleted(long waitAsMilli) throws InterruptedException;
 }
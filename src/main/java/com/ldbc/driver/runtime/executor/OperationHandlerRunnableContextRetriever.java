@@ -6,11 +6,13 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.OperationHandlerRunnableContext;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.OperationTimeouts;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.StageTracer;
 import com.ldbc.driver.runtime.scheduling.GctDependencyCheck;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
@@ -34,6 +36,7 @@ class OperationHandlerRunnableContextRetriever
     private final Set<Class<? extends Operation>> dependencyOperationTypes;
     private final Set<Class<? extends Operation>> dependentOperationTypes;
     private final GctDependencyCheck gctDependencyCheck;
+    private final OperationTimeouts operationTimeouts;
 
     OperationHandlerRunnableContextRetriever(
             WorkloadStreams.WorkloadStreamDefinition streamDefinition,
@@ -43,7 +46,8 @@ class OperationHandlerRunnableContextRetriever
             Spinner spinner,
             TimeSource timeSource,
             ConcurrentErrorReporter errorReporter,
-            MetricsService metricsService )
+            MetricsService metricsService,
+            OperationTimeouts operationTimeouts )
     {
         this.db = db;
         this.localCompletionTimeWriter = localCompletionTimeWriter;
@@ -55,12 +59,14 @@ class OperationHandlerRunnableContextRetriever
         this.dependentOperationTypes = streamDefinition.dependentOperationTypes();
         this.dependencyOperationTypes = streamDefinition.dependencyOperationTypes();
         this.gctDependencyCheck = new GctDependencyCheck( globalCompletionTimeReader, errorReporter );
+        this.operationTimeouts = operationTimeouts;
     }
 
     public OperationHandlerRunnableContext getInitializedHandlerFor( Operation operation )
             throws OperationExecutorException, CompletionTimeException, DbException
     {
         OperationHandlerRunnableContext operationHandlerRunnableContext;
+        long claimStartAsNano = (StageTracer.ENABLED) ? System.nanoTime() : 0;
         try
         {
             operationHandlerRunnableContext = db.getOperationHandlerRunnableContext( operation );
@@ -70,6 +76,10 @@ class OperationHandlerRunnableContextRetriever
             throw new OperationExecutorException(
                     format( "Error while retrieving handler for operation\nOperation: %s", operation ), e );
         }
+        if ( StageTracer.ENABLED )
+        {
+            StageTracer.instance().recordSince( StageTracer.Stage.POOL_CLAIM, claimStartAsNano );
+        }
         LocalCompletionTimeWriter localCompletionTimeWriterForHandler;
         // TODO this should really be a Set<Integer> --> even PrimitiveIntSet
         if ( dependencyOperationTypes.contains( operation.getClass() ) )
@@ -100,6 +110,15 @@ class OperationHandlerRunnableContextRetriever
         {
             operationHandlerRunnableContext.setBeforeExecuteCheck( gctDependencyCheck );
         }
+        if ( OperationTimeouts.NONE != operationTimeouts )
+        {
+            operationHandlerRunnableContext.setOperationTimeouts( operationTimeouts );
+        }
+        if ( StageTracer.ENABLED )
+        {
+            // handed to the executor on return, queue handoff ends when the context starts running
+            operationHandlerRunnableContext.setHandoffTimeAsNano( System.nanoTime() );
+        }
         return operationHandlerRunnableContext;
     }
 }
@@ -4,6 +4,7 @@ import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -15,6 +16,7 @@ public class OperationStreamExecutorService
 
     private final OperationStreamExecutorServiceThread operationStreamExecutorServiceThread;
     private final AtomicBoolean hasFinished = new AtomicBoolean( false );
+    private final CountDownLatch hasFinishedLatch = new CountDownLatch( 1 );
     private final ConcurrentErrorReporter errorReporter;
     private final AtomicBoolean executing = new AtomicBoolean( false );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
@@ -34,6 +36,7 @@ public class OperationStreamExecutorService
                     errorReporter,
                     streamDefinition,
                     hasFinished,
+                    hasFinishedLatch,
                     forceThreadToTerminate,
                     localCompletionTimeWriter );
         }
@@ -42,6 +45,7 @@ public class OperationStreamExecutorService
             this.operationStreamExecutorServiceThread = null;
             executing.set( true );
             hasFinished.set( true );
+            hasFinishedLatch.countDown();
             shutdown.set( false );
         }
     }
@@ -57,6 +61,19 @@ public class OperationStreamExecutorService
         return hasFinished;
     }
 
+    /**
+     * Blocks until the stream has been fully executed, i.e., all its operations were submitted and all their handlers
+     * have completed. Returns the moment the last handler completes.
+     *
+     * @param waitAsMilli maximum duration to wait
+     * @return true if stream execution finished within wait duration, false otherwise
+     * @throws InterruptedException
+     */
+    public boolean awaitFinished( long waitAsMilli ) throws InterruptedException
+    {
+        return hasFinishedLatch.await( waitAsMilli, TimeUnit.MILLISECONDS );
+    }
+
     synchronized public void shutdown( long shutdownWait ) throws OperationExecutorException
     {
         if ( shutdown.get() )
@@ -75,6 +92,11 @@ public class OperationStreamExecutorService
         try
         {
             forceThreadToTerminate.set( true );
+            if ( false == hasFinished.get() )
+            {
+                // wake thread if it is blocked waiting for handlers that will never complete
+                operationStreamExecutorServiceThread.interrupt();
+            }
             operationStreamExecutorServiceThread.join( shutdownWait );
         }
         catch ( Exception e )
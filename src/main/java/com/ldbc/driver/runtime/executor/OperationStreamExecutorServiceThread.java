@@ -4,17 +4,20 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
-import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.metrics.StageTracer;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 class OperationStreamExecutorServiceThread extends Thread
 {
-    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI = 100;
+    // upper bound on how long forced termination can go unnoticed, handlers completing are signalled immediately
+    private static final long MAX_WAIT_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI = 100;
 
     private final OperationExecutor operationExecutor;
     private final ConcurrentErrorReporter errorReporter;
     private final AtomicBoolean hasFinished;
+    private final CountDownLatch hasFinishedLatch;
     private final AtomicBoolean forcedTerminate;
     private final InitiatedTimeSubmittingOperationRetriever initiatedTimeSubmittingOperationRetriever;
 
@@ -24,11 +27,29 @@ class OperationStreamExecutorServiceThread extends Thread
             AtomicBoolean hasFinished,
             AtomicBoolean forcedTerminate,
             LocalCompletionTimeWriter localCompletionTimeWriter )
+    {
+        this( operationExecutor,
+                errorReporter,
+                streamDefinition,
+                hasFinished,
+                new CountDownLatch( 1 ),
+                forcedTerminate,
+                localCompletionTimeWriter );
+    }
+
+    OperationStreamExecutorServiceThread( OperationExecutor operationExecutor,
+            ConcurrentErrorReporter errorReporter,
+            WorkloadStreamDefinition streamDefinition,
+            AtomicBoolean hasFinished,
+            CountDownLatch hasFinishedLatch,
+            AtomicBoolean forcedTerminate,
+            LocalCompletionTimeWriter localCompletionTimeWriter )
     {
         super( OperationStreamExecutorServiceThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
         this.operationExecutor = operationExecutor;
         this.errorReporter = errorReporter;
         this.hasFinished = hasFinished;
+        this.hasFinishedLatch = hasFinishedLatch;
         this.forcedTerminate = forcedTerminate;
         this.initiatedTimeSubmittingOperationRetriever = new InitiatedTimeSubmittingOperationRetriever(
                 streamDefinition,
@@ -43,22 +64,47 @@ class OperationStreamExecutorServiceThread extends Thread
         {
             while ( initiatedTimeSubmittingOperationRetriever.hasNextOperation() && !forcedTerminate.get() )
             {
+                long retrievalStartAsNano = (StageTracer.ENABLED) ? System.nanoTime() : 0;
                 Operation operation = initiatedTimeSubmittingOperationRetriever.nextOperation();
+                if ( StageTracer.ENABLED )
+                {
+                    StageTracer.instance().recordSince( StageTracer.Stage.STREAM_DECODING, retrievalStartAsNano );
+                }
                 // --- BLOCKING CALL (when bounded queue is full) ---
                 operationExecutor.execute( operation );
             }
         }
         catch ( Throwable e )
         {
-            errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            if ( false == forcedTerminate.get() )
+            {
+                errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            }
         }
         finally
         {
-            while ( 0 < operationExecutor.uncompletedOperationHandlerCount() && !forcedTerminate.get() )
+            awaitLastHandlerToFinish();
+            this.hasFinished.set( true );
+            this.hasFinishedLatch.countDown();
+        }
+    }
+
+    private void awaitLastHandlerToFinish()
+    {
+        while ( false == forcedTerminate.get() )
+        {
+            try
             {
-                Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI );
+                if ( operationExecutor.awaitAllOperationHandlersCompleted(
+                        MAX_WAIT_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI ) )
+                {
+                    return;
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                // interrupted by forced termination, loop condition decides whether to continue waiting
             }
-            this.hasFinished.set( true );
         }
     }
 }
\ No newline at end of file
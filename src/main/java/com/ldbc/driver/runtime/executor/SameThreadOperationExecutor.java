@@ -6,19 +6,18 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.OperationHandlerRunnableContext;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.OperationTimeouts;
 import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
-import java.util.concurrent.atomic.AtomicLong;
-
 import static java.lang.String.format;
 
 public class SameThreadOperationExecutor implements OperationExecutor
 {
-    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final UncompletedHandlerCounter uncompletedHandlers = new UncompletedHandlerCounter();
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
     private final ChildOperationGenerator childOperationGenerator;
     private final ChildOperationExecutor childOperationExecutor;
@@ -32,6 +31,34 @@ public class SameThreadOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                OperationTimeouts.NONE
+        );
+    }
+
+    /**
+     * @param operationTimeouts cancels operations that run for longer than the timeout of their type
+     */
+    public SameThreadOperationExecutor( Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            OperationTimeouts operationTimeouts )
     {
         this.childOperationExecutor = new ChildOperationExecutor();
         this.childOperationGenerator = childOperationGenerator;
@@ -43,14 +70,15 @@ public class SameThreadOperationExecutor implements OperationExecutor
                 spinner,
                 timeSource,
                 errorReporter,
-                metricsService
+                metricsService,
+                operationTimeouts
         );
     }
 
     @Override
     public final void execute( Operation operation ) throws OperationExecutorException
     {
-        uncompletedHandlers.incrementAndGet();
+        uncompletedHandlers.increment();
         OperationHandlerRunnableContext operationHandlerRunnableContext = null;
         try
         {
@@ -79,7 +107,7 @@ public class SameThreadOperationExecutor implements OperationExecutor
         }
         finally
         {
-            uncompletedHandlers.decrementAndGet();
+            uncompletedHandlers.decrement();
             operationHandlerRunnableContext.cleanup();
         }
     }
@@ -94,4 +122,10 @@ public class SameThreadOperationExecutor implements OperationExecutor
     {
         return uncompletedHandlers.get();
     }
+
+    @Override
+    public boolean awaitAllOperationHandlersCompleted( long waitAsMilli ) throws InterruptedException
+    {
+        return uncompletedHandlers.awaitZero( waitAsMilli );
+    }
 }
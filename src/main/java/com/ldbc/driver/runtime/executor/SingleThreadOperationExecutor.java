@@ -7,6 +7,7 @@ import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.OperationTimeouts;
 import com.ldbc.driver.runtime.QueueEventSubmitter;
 import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
@@ -16,7 +17,6 @@ import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
@@ -46,7 +46,7 @@ public class SingleThreadOperationExecutor implements OperationExecutor
 
     private final SingleThreadOperationExecutorThread executorThread;
     private final QueueEventSubmitter<Operation> operationQueueEventSubmitter;
-    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final UncompletedHandlerCounter uncompletedHandlers = new UncompletedHandlerCounter();
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
 
     public SingleThreadOperationExecutor( Db db,
@@ -59,6 +59,36 @@ public class SingleThreadOperationExecutor implements OperationExecutor
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator,
             int boundedQueueSize )
+    {
+        this(
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                boundedQueueSize,
+                OperationTimeouts.NONE
+        );
+    }
+
+    /**
+     * @param operationTimeouts cancels operations that run for longer than the timeout of their type
+     */
+    public SingleThreadOperationExecutor( Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            int boundedQueueSize,
+            OperationTimeouts operationTimeouts )
     {
         Queue<Operation> operationQueue = DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
         this.operationQueueEventSubmitter = QueueEventSubmitter.queueEventSubmitterFor( operationQueue );
@@ -73,7 +103,8 @@ public class SingleThreadOperationExecutor implements OperationExecutor
                         spinner,
                         timeSource,
                         errorReporter,
-                        metricsService
+                        metricsService,
+                        operationTimeouts
                 );
 
         this.executorThread = new SingleThreadOperationExecutorThread(
@@ -88,7 +119,7 @@ public class SingleThreadOperationExecutor implements OperationExecutor
 
     public final void execute( Operation operation ) throws OperationExecutorException
     {
-        uncompletedHandlers.incrementAndGet();
+        uncompletedHandlers.increment();
         try
         {
             operationQueueEventSubmitter.submitEventToQueue( operation );
@@ -115,7 +146,7 @@ public class SingleThreadOperationExecutor implements OperationExecutor
                 executorThread.forceShutdown();
                 throw new OperationExecutorException( format(
                         "Executor shutdown before all handlers could complete - %s uncompleted handlers",
-                        uncompletedHandlers ) );
+                        uncompletedHandlers.get() ) );
             }
         }
         catch ( Exception e )
@@ -130,4 +161,10 @@ public class SingleThreadOperationExecutor implements OperationExecutor
     {
         return uncompletedHandlers.get();
     }
+
+    @Override
+    public boolean awaitAllOperationHandlersCompleted( long waitAsMilli ) throws InterruptedException
+    {
+        return uncompletedHandlers.awaitZero( waitAsMilli );
+    }
 }
@@ -8,7 +8,6 @@ import com.ldbc.driver.runtime.QueueEventFetcher;
 
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
@@ -16,7 +15,7 @@ public class SingleThreadOperationExecutorThread extends Thread
 {
     private final QueueEventFetcher<Operation> operationQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
-    private final AtomicLong uncompletedHandlers;
+    private final UncompletedHandlerCounter uncompletedHandlers;
     private final AtomicBoolean forcedShutdownRequested = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
     private final ChildOperationGenerator childOperationGenerator;
@@ -24,7 +23,7 @@ public class SingleThreadOperationExecutorThread extends Thread
 
     SingleThreadOperationExecutorThread( Queue<Operation> operationHandlerRunnerQueue,
             ConcurrentErrorReporter errorReporter,
-            AtomicLong uncompletedHandlers,
+            UncompletedHandlerCounter uncompletedHandlers,
             OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
             ChildOperationGenerator childOperationGenerator )
     {
@@ -73,7 +72,7 @@ public class SingleThreadOperationExecutorThread extends Thread
         }
         finally
         {
-            uncompletedHandlers.decrementAndGet();
+            uncompletedHandlers.decrement();
             operationHandlerRunnableContext.cleanup();
         }
     }
@@ -7,6 +7,7 @@ import com.ldbc.driver.OperationHandlerRunnableContext;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.OperationTimeouts;
 import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsService;
@@ -20,16 +21,16 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
 public class ThreadPoolOperationExecutor implements OperationExecutor
 {
     private final ExecutorService threadPoolExecutorService;
-    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final UncompletedHandlerCounter uncompletedHandlers = new UncompletedHandlerCounter();
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationDispatcher childOperationDispatcher;
 
     public ThreadPoolOperationExecutor( int threadCount,
             int boundedQueueSize,
@@ -42,6 +43,74 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                false
+        );
+    }
+
+    /**
+     * @param dispatchChildOperations when true each child operation is handed back to the thread pool at its
+     * scheduled start time, see ChildOperationDispatcher, otherwise the whole chain of child operations is executed
+     * by the thread that executed the parent operation
+     */
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            boolean dispatchChildOperations )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                dispatchChildOperations,
+                OperationTimeouts.NONE
+        );
+    }
+
+    /**
+     * @param operationTimeouts cancels operations that run for longer than the timeout of their type
+     */
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            boolean dispatchChildOperations,
+            OperationTimeouts operationTimeouts )
     {
         this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
                 streamDefinition,
@@ -51,7 +120,8 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 spinner,
                 timeSource,
                 errorReporter,
-                metricsService
+                metricsService,
+                operationTimeouts
         );
         ThreadFactory threadFactory = new ThreadFactory()
         {
@@ -69,21 +139,41 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 return newThread;
             }
         };
-        this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
+        if ( dispatchChildOperations && null != childOperationGenerator )
+        {
+            this.childOperationDispatcher = new ChildOperationDispatcher(
+                    childOperationGenerator,
+                    operationHandlerRunnableContextRetriever,
+                    uncompletedHandlers,
+                    timeSource,
+                    errorReporter
+            );
+        }
+        else
+        {
+            this.childOperationDispatcher = null;
+        }
+        ThreadPoolExecutorWithAfterExecute threadPoolExecutor = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
                 threadCount,
                 threadFactory,
                 uncompletedHandlers,
                 boundedQueueSize,
                 childOperationGenerator,
+                childOperationDispatcher,
                 operationHandlerRunnableContextRetriever,
                 errorReporter
         );
+        if ( null != childOperationDispatcher )
+        {
+            childOperationDispatcher.setWorkers( threadPoolExecutor );
+        }
+        this.threadPoolExecutorService = threadPoolExecutor;
     }
 
     @Override
     public final void execute( Operation operation ) throws OperationExecutorException
     {
-        uncompletedHandlers.incrementAndGet();
+        uncompletedHandlers.increment();
         try
         {
             OperationHandlerRunnableContext operationHandlerRunnableContext =
@@ -108,11 +198,19 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         {
             throw new OperationExecutorException( "Executor has already been shutdown" );
         }
+        // both waits share one deadline, so shutdown never takes longer than waitAsMilli
+        long deadlineAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( waitAsMilli );
         try
         {
+            if ( null != childOperationDispatcher )
+            {
+                // dispatched child operations are submitted to the thread pool later, it must still accept them
+                uncompletedHandlers.awaitZero( waitAsMilli );
+                childOperationDispatcher.shutdown();
+            }
             threadPoolExecutorService.shutdown();
-            boolean allHandlersCompleted =
-                    threadPoolExecutorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            boolean allHandlersCompleted = threadPoolExecutorService.awaitTermination(
+                    Math.max( 0, deadlineAsNano - System.nanoTime() ), TimeUnit.NANOSECONDS );
             if ( false == allHandlersCompleted )
             {
                 List<Runnable> stillRunningThreads = threadPoolExecutorService.shutdownNow();
@@ -144,18 +242,26 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         return uncompletedHandlers.get();
     }
 
+    @Override
+    public boolean awaitAllOperationHandlersCompleted( long waitAsMilli ) throws InterruptedException
+    {
+        return uncompletedHandlers.awaitZero( waitAsMilli );
+    }
+
     private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
     {
         private final ChildOperationGenerator childOperationGenerator;
         private final ChildOperationExecutor childOperationExecutor;
+        private final ChildOperationDispatcher childOperationDispatcher;
         private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
         private final ConcurrentErrorReporter errorReporter;
 
         public static ThreadPoolExecutorWithAfterExecute newFixedThreadPool( int threadCount,
                 ThreadFactory threadFactory,
-                AtomicLong uncompletedHandlers,
+                UncompletedHandlerCounter uncompletedHandlers,
                 int boundedQueueSize,
                 ChildOperationGenerator childOperationGenerator,
+                ChildOperationDispatcher childOperationDispatcher,
                 OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
                 ConcurrentErrorReporter errorReporter )
         {
@@ -173,12 +279,13 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                     threadFactory,
                     uncompletedHandlers,
                     childOperationGenerator,
+                    childOperationDispatcher,
                     operationHandlerRunnableContextInitializer,
                     errorReporter
             );
         }
 
-        private final AtomicLong uncompletedHandlers;
+        private final UncompletedHandlerCounter uncompletedHandlers;
 
         private ThreadPoolExecutorWithAfterExecute( int corePoolSize,
                 int maximumPoolSize,
@@ -186,13 +293,15 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 TimeUnit unit,
                 BlockingQueue<Runnable> workQueue,
                 ThreadFactory threadFactory,
-                AtomicLong uncompletedHandlers,
+                UncompletedHandlerCounter uncompletedHandlers,
                 ChildOperationGenerator childOperationGenerator,
+                ChildOperationDispatcher childOperationDispatcher,
                 OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
                 ConcurrentErrorReporter errorReporter )
         {
             super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory );
             this.childOperationExecutor = new ChildOperationExecutor();
+            this.childOperationDispatcher = childOperationDispatcher;
             this.uncompletedHandlers = uncompletedHandlers;
             this.childOperationGenerator = childOperationGenerator;
             this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
@@ -205,17 +314,36 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         {
             super.afterExecute( runnable, throwable );
             OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
+                    (runnable instanceof ChildOperationDispatcher.DispatchedChildOperation)
+                    ? ((ChildOperationDispatcher.DispatchedChildOperation) runnable).operationHandlerRunnableContext()
+                    : (OperationHandlerRunnableContext) runnable;
             try
             {
-                childOperationExecutor.execute(
-                        childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
-                        operationHandlerRunnableContextRetriever
-                );
+                if ( runnable instanceof ChildOperationDispatcher.DispatchedChildOperation )
+                {
+                    childOperationDispatcher.dispatchNext(
+                            (ChildOperationDispatcher.DispatchedChildOperation) runnable );
+                }
+                else if ( null != childOperationDispatcher )
+                {
+                    childOperationDispatcher.dispatchFirst(
+                            operationHandlerRunnableContext.operation(),
+                            operationHandlerRunnableContext.resultReporter().result(),
+                            operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                            operationHandlerRunnableContext.resultReporter().runDurationAsNano()
+                    );
+                }
+                else
+                {
+                    childOperationExecutor.execute(
+                            childOperationGenerator,
+                            operationHandlerRunnableContext.operation(),
+                            operationHandlerRunnableContext.resultReporter().result(),
+                            operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                            operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                            operationHandlerRunnableContextRetriever
+                    );
+                }
             }
             catch ( Throwable e )
             {
@@ -224,7 +352,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             }
             finally
             {
-                uncompletedHandlers.decrementAndGet();
+                uncompletedHandlers.decrement();
                 operationHandlerRunnableContext.cleanup();
             }
         }
@@ -0,0 +1,72 @@
+package com.ldbc.driver.runtime.executor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the number of operation handlers that have been submitted to an executor but have not yet completed.
+ * Threads waiting for the executor to drain are signalled the moment the count reaches zero, rather than having to
+ * poll it.
+ */
+class UncompletedHandlerCounter
+{
+    private final AtomicLong count = new AtomicLong( 0 );
+    private final Lock lock = new ReentrantLock();
+    private final Condition drained = lock.newCondition();
+
+    void increment()
+    {
+        count.incrementAndGet();
+    }
+
+    void decrement()
+    {
+        if ( 0 == count.decrementAndGet() )
+        {
+            lock.lock();
+            try
+            {
+                drained.signalAll();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    long get()
+    {
+        return count.get();
+    }
+
+    /**
+     * @param waitAsMilli maximum duration to wait
+     * @return true if count reached zero within wait duration, false otherwise
+     * @throws InterruptedException
+     */
+    boolean awaitZero( long waitAsMilli ) throws InterruptedException
+    {
+        long remainingAsNano = TimeUnit.MILLISECONDS.toNanos( waitAsMilli );
+        lock.lock();
+        try
+        {
+            while ( count.get() > 0 )
+            {
+                if ( remainingAsNano <= 0 )
+                {
+                    return false;
+                }
+                remainingAsNano = drained.awaitNanos( remainingAsNano );
+            }
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+}
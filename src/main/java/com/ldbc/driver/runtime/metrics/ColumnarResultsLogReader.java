@@ -0,0 +1,191 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static java.lang.String.format;
+
+/**
+ * Reads logs written by ColumnarResultsLogWriter.
+ * A log that ends without an end marker, e.g., because the driver was killed, is read up to its last complete block
+ */
+public class ColumnarResultsLogReader implements ResultsLogReader
+{
+    private final File file;
+    private final DataInputStream inputStream;
+    private final Inflater inflater = new Inflater();
+    private final String[] operationNames;
+    private byte[] compressed = new byte[0];
+    private byte[] uncompressed = new byte[0];
+    private int position;
+    private boolean finished = false;
+
+    public static boolean isColumnar( File file ) throws IOException
+    {
+        byte[] magic = new byte[ColumnarResultsLogWriter.MAGIC.length];
+        try ( DataInputStream inputStream = new DataInputStream( new FileInputStream( file ) ) )
+        {
+            inputStream.readFully( magic );
+        }
+        catch ( EOFException e )
+        {
+            return false;
+        }
+        return Arrays.equals( magic, ColumnarResultsLogWriter.MAGIC );
+    }
+
+    public ColumnarResultsLogReader( File file ) throws IOException
+    {
+        this.file = file;
+        this.inputStream = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) );
+        try
+        {
+            byte[] magic = new byte[ColumnarResultsLogWriter.MAGIC.length];
+            inputStream.readFully( magic );
+            if ( false == Arrays.equals( magic, ColumnarResultsLogWriter.MAGIC ) )
+            {
+                throw new IOException( format( "Not a columnar results log: %s", file.getAbsolutePath() ) );
+            }
+            int version = inputStream.readInt();
+            if ( ColumnarResultsLogWriter.FORMAT_VERSION != version )
+            {
+                throw new IOException( format( "Unsupported columnar results log version %s in: %s",
+                        version, file.getAbsolutePath() ) );
+            }
+            this.operationNames = new String[inputStream.readInt()];
+            for ( int i = 0; i < operationNames.length; i++ )
+            {
+                operationNames[i] = (inputStream.readBoolean()) ? inputStream.readUTF() : null;
+            }
+        }
+        catch ( IOException e )
+        {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean readBlock( ResultsLogBlock block ) throws IOException
+    {
+        block.clear( 0 );
+        if ( finished )
+        {
+            return false;
+        }
+        int recordCount;
+        int uncompressedLength;
+        int compressedLength;
+        try
+        {
+            recordCount = inputStream.readInt();
+            if ( 0 == recordCount )
+            {
+                finished = true;
+                return false;
+            }
+            uncompressedLength = inputStream.readInt();
+            compressedLength = inputStream.readInt();
+            if ( compressed.length < compressedLength )
+            {
+                compressed = new byte[compressedLength];
+            }
+            if ( uncompressed.length < uncompressedLength )
+            {
+                uncompressed = new byte[uncompressedLength];
+            }
+            inputStream.readFully( compressed, 0, compressedLength );
+        }
+        catch ( EOFException e )
+        {
+            // log ends without end marker or partway through a block, i.e., the driver did not close it
+            finished = true;
+            return false;
+        }
+        inflater.reset();
+        inflater.setInput( compressed, 0, compressedLength );
+        try
+        {
+            int inflatedLength = 0;
+            while ( inflatedLength < uncompressedLength && false == inflater.finished() )
+            {
+                int inflated = inflater.inflate( uncompressed, inflatedLength, uncompressedLength - inflatedLength );
+                if ( 0 == inflated && (inflater.needsInput() || inflater.needsDictionary()) )
+                {
+                    break;
+                }
+                inflatedLength += inflated;
+            }
+            if ( inflatedLength != uncompressedLength )
+            {
+                throw new IOException( format( "Corrupt block in: %s", file.getAbsolutePath() ) );
+            }
+        }
+        catch ( DataFormatException e )
+        {
+            throw new IOException( format( "Corrupt block in: %s", file.getAbsolutePath() ), e );
+        }
+
+        block.clear( recordCount );
+        position = 0;
+        long scheduledStartTimeAsMilli = 0;
+        for ( int i = 0; i < recordCount; i++ )
+        {
+            scheduledStartTimeAsMilli += readVarLong();
+            block.scheduledStartTimesAsMilli[i] = scheduledStartTimeAsMilli;
+        }
+        for ( int i = 0; i < recordCount; i++ )
+        {
+            block.actualStartTimesAsMilli[i] = block.scheduledStartTimesAsMilli[i] + readVarLong();
+        }
+        for ( int i = 0; i < recordCount; i++ )
+        {
+            block.runDurationsAsNano[i] = readVarLong();
+        }
+        for ( int i = 0; i < recordCount; i++ )
+        {
+            block.operationTypes[i] = (int) readVarLong();
+        }
+        for ( int i = 0; i < recordCount; i++ )
+        {
+            block.resultCodes[i] = (int) readVarLong();
+        }
+        block.size = recordCount;
+        return true;
+    }
+
+    @Override
+    public String operationName( int operationType )
+    {
+        return (operationType < operationNames.length) ? operationNames[operationType] : null;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        inflater.end();
+        inputStream.close();
+    }
+
+    private long readVarLong()
+    {
+        long zigZag = 0;
+        int shift = 0;
+        byte b;
+        do
+        {
+            b = uncompressed[position++];
+            zigZag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        while ( (b & 0x80) != 0 );
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Writes results in blocks of columns, rather than as one CSV row per result.
+ * <p>
+ * File layout:
+ * magic (8 bytes), format version (int), operation name table: count (int), then per type: present flag, name (UTF)
+ * blocks: record count (int), uncompressed length (int), compressed length (int), deflated block
+ * end marker: record count of 0
+ * <p>
+ * Within a block each column is stored contiguously, as zig-zag encoded variable length integers:
+ * scheduled start times (as deltas from the previous record), actual start times (as offsets from scheduled start
+ * time), run durations (nanoseconds), operation types, result codes.
+ * Start times are near-monotonic and delays are small, so most values encode in one or two bytes before compression.
+ * <p>
+ * Not thread safe, records are expected to be written from the single metrics service event handling thread
+ */
+public class ColumnarResultsLogWriter implements ResultsLogWriter
+{
+    public static final int DEFAULT_BLOCK_SIZE = 65536;
+    static final byte[] MAGIC = new byte[]{'L', 'D', 'B', 'C', 'R', 'L', 'O', 'G'};
+    static final int FORMAT_VERSION = 1;
+    // 3 longs and 2 ints, at most 10 and 5 bytes each when variable length encoded
+    static final int MAX_ENCODED_RECORD_LENGTH = 3 * 10 + 2 * 5;
+
+    private final DataOutputStream outputStream;
+    private final Deflater deflater = new Deflater( Deflater.BEST_SPEED );
+    private final long[] scheduledStartTimesAsMilli;
+    private final long[] actualStartTimesAsMilli;
+    private final long[] runDurationsAsNano;
+    private final int[] operationTypes;
+    private final int[] resultCodes;
+    private final byte[] uncompressed;
+    private byte[] compressed;
+    private int size = 0;
+    private boolean closed = false;
+
+    public ColumnarResultsLogWriter( File file, String[] operationNames ) throws IOException
+    {
+        this( file, operationNames, DEFAULT_BLOCK_SIZE );
+    }
+
+    public ColumnarResultsLogWriter( File file, String[] operationNames, int blockSize ) throws IOException
+    {
+        this.outputStream = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ) ) );
+        this.scheduledStartTimesAsMilli = new long[blockSize];
+        this.actualStartTimesAsMilli = new long[blockSize];
+        this.runDurationsAsNano = new long[blockSize];
+        this.operationTypes = new int[blockSize];
+        this.resultCodes = new int[blockSize];
+        this.uncompressed = new byte[blockSize * MAX_ENCODED_RECORD_LENGTH];
+        this.compressed = new byte[uncompressed.length / 2];
+        outputStream.write( MAGIC );
+        outputStream.writeInt( FORMAT_VERSION );
+        outputStream.writeInt( operationNames.length );
+        for ( String operationName : operationNames )
+        {
+            outputStream.writeBoolean( null != operationName );
+            if ( null != operationName )
+            {
+                outputStream.writeUTF( operationName );
+            }
+        }
+    }
+
+    @Override
+    public void write( int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode ) throws IOException
+    {
+        scheduledStartTimesAsMilli[size] = scheduledStartTimeAsMilli;
+        actualStartTimesAsMilli[size] = actualStartTimeAsMilli;
+        runDurationsAsNano[size] = runDurationAsNano;
+        operationTypes[size] = operationType;
+        resultCodes[size] = resultCode;
+        size++;
+        if ( size == operationTypes.length )
+        {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes any buffered records, as a (possibly short) block
+     */
+    public void flush() throws IOException
+    {
+        if ( size > 0 )
+        {
+            writeBlock();
+        }
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            flush();
+            outputStream.writeInt( 0 );
+        }
+        finally
+        {
+            deflater.end();
+            outputStream.close();
+        }
+    }
+
+    private void writeBlock() throws IOException
+    {
+        int position = 0;
+        long previousScheduledStartTimeAsMilli = 0;
+        for ( int i = 0; i < size; i++ )
+        {
+            position = writeVarLong( uncompressed, position,
+                    scheduledStartTimesAsMilli[i] - previousScheduledStartTimeAsMilli );
+            previousScheduledStartTimeAsMilli = scheduledStartTimesAsMilli[i];
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            position = writeVarLong( uncompressed, position,
+                    actualStartTimesAsMilli[i] - scheduledStartTimesAsMilli[i] );
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            position = writeVarLong( uncompressed, position, runDurationsAsNano[i] );
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            position = writeVarLong( uncompressed, position, operationTypes[i] );
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            position = writeVarLong( uncompressed, position, resultCodes[i] );
+        }
+
+        deflater.reset();
+        deflater.setInput( uncompressed, 0, position );
+        deflater.finish();
+        int compressedLength = 0;
+        while ( false == deflater.finished() )
+        {
+            if ( compressedLength == compressed.length )
+            {
+                compressed = Arrays.copyOf( compressed, compressed.length * 2 );
+            }
+            compressedLength += deflater.deflate( compressed, compressedLength, compressed.length - compressedLength );
+        }
+
+        outputStream.writeInt( size );
+        outputStream.writeInt( position );
+        outputStream.writeInt( compressedLength );
+        outputStream.write( compressed, 0, compressedLength );
+        size = 0;
+    }
+
+    static int writeVarLong( byte[] buffer, int position, long value )
+    {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ( (zigZag & ~0x7FL) != 0 )
+        {
+            buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        buffer[position++] = (byte) zigZag;
+        return position;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by CsvResultsLogWriter, with header.
+ * Operation type codes are assigned in order of first appearance, durations are converted from the unit in the header,
+ * or from milliseconds if the header does not name a unit
+ */
+public class CsvResultsLogReader implements ResultsLogReader
+{
+    private static final String DURATION_COLUMN_PREFIX = "execution_duration_";
+
+    private final SimpleCsvFileReader csvReader;
+    private final TimeUnit unit;
+    private final int blockSize;
+    private final Map<String,Integer> operationTypes = new HashMap<>();
+    private final List<String> operationNames = new ArrayList<>();
+
+    public CsvResultsLogReader( File file ) throws IOException
+    {
+        this( file, ColumnarResultsLogWriter.DEFAULT_BLOCK_SIZE );
+    }
+
+    public CsvResultsLogReader( File file, int blockSize ) throws IOException
+    {
+        this.blockSize = blockSize;
+        this.csvReader = new SimpleCsvFileReader( file, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+        // skip headers
+        String[] header = (csvReader.hasNext()) ? csvReader.next() : new String[0];
+        this.unit = durationUnitFrom( header );
+    }
+
+    @Override
+    public boolean readBlock( ResultsLogBlock block ) throws IOException
+    {
+        block.clear( blockSize );
+        int size = 0;
+        while ( size < blockSize && csvReader.hasNext() )
+        {
+            String[] row = csvReader.next();
+            try
+            {
+                block.operationTypes[size] = operationTypeFor( row[0] );
+                block.scheduledStartTimesAsMilli[size] = Long.parseLong( row[1] );
+                block.actualStartTimesAsMilli[size] = Long.parseLong( row[2] );
+                block.runDurationsAsNano[size] = unit.toNanos( Long.parseLong( row[3] ) );
+                block.resultCodes[size] = Integer.parseInt( row[4] );
+            }
+            catch ( NumberFormatException | ArrayIndexOutOfBoundsException e )
+            {
+                throw new IOException( format( "Malformed results log row: %s", String.join( "|", row ) ), e );
+            }
+            size++;
+        }
+        block.size = size;
+        return size > 0;
+    }
+
+    @Override
+    public String operationName( int operationType )
+    {
+        return (operationType < operationNames.size()) ? operationNames.get( operationType ) : null;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        csvReader.close();
+    }
+
+    private static TimeUnit durationUnitFrom( String[] header )
+    {
+        if ( header.length > 3 && header[3].startsWith( DURATION_COLUMN_PREFIX ) )
+        {
+            try
+            {
+                return TimeUnit.valueOf( header[3].substring( DURATION_COLUMN_PREFIX.length() ) );
+            }
+            catch ( IllegalArgumentException e )
+            {
+                return TimeUnit.MILLISECONDS;
+            }
+        }
+        return TimeUnit.MILLISECONDS;
+    }
+
+    private int operationTypeFor( String operationName )
+    {
+        Integer operationType = operationTypes.get( operationName );
+        if ( null == operationType )
+        {
+            operationType = operationNames.size();
+            operationNames.add( operationName );
+            operationTypes.put( operationName, operationType );
+        }
+        return operationType;
+    }
+}
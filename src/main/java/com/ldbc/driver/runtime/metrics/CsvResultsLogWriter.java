@@ -0,0 +1,56 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one CSV row per result: operation name, scheduled start time, actual start time, duration and result code
+ */
+public class CsvResultsLogWriter implements ResultsLogWriter
+{
+    private final SimpleCsvFileWriter csvWriter;
+    private final String[] operationNames;
+    private final TimeUnit unit;
+
+    public static void writeHeader( SimpleCsvFileWriter csvWriter, TimeUnit unit ) throws IOException
+    {
+        csvWriter.writeRow(
+                "operation_type",
+                "scheduled_start_time_" + TimeUnit.MILLISECONDS.name(),
+                "actual_start_time_" + TimeUnit.MILLISECONDS.name(),
+                "execution_duration_" + unit.name(),
+                "result_code"
+        );
+    }
+
+    public CsvResultsLogWriter( SimpleCsvFileWriter csvWriter, String[] operationNames, TimeUnit unit )
+    {
+        this.csvWriter = csvWriter;
+        this.operationNames = operationNames;
+        this.unit = unit;
+    }
+
+    @Override
+    public void write( int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode ) throws IOException
+    {
+        csvWriter.writeRow(
+                operationNames[operationType],
+                Long.toString( scheduledStartTimeAsMilli ),
+                Long.toString( actualStartTimeAsMilli ),
+                Long.toString( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
+                Integer.toString( resultCode )
+        );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        csvWriter.close();
+    }
+}
@@ -24,7 +24,7 @@ class DisruptorJavolutionMetricsEventHandler implements EventHandler<DisruptorJa
     private final ConcurrentErrorReporter errorReporter;
     private final SimpleCsvFileWriter csvResultsLogWriter;
     private final TimeUnit unit;
-    private long processedEventCount = 0l;
+    private final ProcessedEventCounter processedEventCount = new ProcessedEventCounter();
     private final String[] operationNames;
 
     DisruptorJavolutionMetricsEventHandler(
@@ -59,7 +59,7 @@ class DisruptorJavolutionMetricsEventHandler implements EventHandler<DisruptorJa
         return resultsSnapshotReference;
     }
 
-    long processedEventCount()
+    ProcessedEventCounter processedEventCount()
     {
         return processedEventCount;
     }
@@ -81,34 +81,23 @@ class DisruptorJavolutionMetricsEventHandler implements EventHandler<DisruptorJa
                         Integer.toString( event.resultCode() )
                 );
             }
-            metricsManager.measure( event.actualStartTimeAsMilli(), event.runDurationAsNano(), event.operationType() );
-            processedEventCount++;
+            metricsManager.measure(
+                    event.actualStartTimeAsMilli(),
+                    event.runDurationAsNano(),
+                    event.operationType(),
+                    event.resultCode()
+            );
+            processedEventCount.increment();
             break;
         }
         case DisruptorJavolutionMetricsEvent.WORKLOAD_STATUS:
         {
-            WorkloadStatusSnapshot newStatus = metricsManager.status();
-            WorkloadStatusSnapshot oldStatus;
-            int oldStamp;
-            do
-            {
-                oldStatus = statusSnapshotReference.getReference();
-                oldStamp = statusSnapshotReference.getStamp();
-            }
-            while ( false == statusSnapshotReference.compareAndSet( oldStatus, newStatus, oldStamp, oldStamp + 1 ) );
+            StampedSnapshots.publish( statusSnapshotReference, metricsManager.status() );
             break;
         }
         case DisruptorJavolutionMetricsEvent.WORKLOAD_RESULT:
         {
-            WorkloadResultsSnapshot newResults = metricsManager.snapshot();
-            WorkloadResultsSnapshot oldResults;
-            int oldStamp;
-            do
-            {
-                oldResults = resultsSnapshotReference.getReference();
-                oldStamp = resultsSnapshotReference.getStamp();
-            }
-            while ( false == resultsSnapshotReference.compareAndSet( oldResults, newResults, oldStamp, oldStamp + 1 ) );
+            StampedSnapshots.publish( resultsSnapshotReference, metricsManager.snapshot() );
             break;
         }
         default:
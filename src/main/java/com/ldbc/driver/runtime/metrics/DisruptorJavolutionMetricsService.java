@@ -20,7 +20,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicStampedReference;
-import java.util.concurrent.locks.LockSupport;
 
 import static com.ldbc.driver.runtime.metrics.DisruptorJavolutionMetricsEvent.MetricsCollectionEventFactory;
 import static com.ldbc.driver.runtime.metrics.DisruptorJavolutionMetricsEvent.SET_AS_REQUEST_WORKLOAD_RESULT;
@@ -41,7 +40,6 @@ public class DisruptorJavolutionMetricsService implements MetricsService
 
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
-    private final TimeSource timeSource;
     private final RingBuffer<DisruptorJavolutionMetricsEvent> ringBuffer;
     private final Disruptor<DisruptorJavolutionMetricsEvent> disruptor;
     private final DisruptorJavolutionMetricsEventHandler eventHandler;
@@ -97,7 +95,6 @@ public class DisruptorJavolutionMetricsService implements MetricsService
         // publishing.
         ringBuffer = disruptor.start();
 
-        this.timeSource = timeSource;
         metricsServiceWriters = new ConcurrentLinkedQueue<>();
     }
 
@@ -108,23 +105,24 @@ public class DisruptorJavolutionMetricsService implements MetricsService
         {
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
-        long startTimeMs = timeSource.nowAsMilli();
-        boolean shutdownSuccessful = false;
-        while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
+        boolean shutdownSuccessful;
+        try
         {
-            if ( eventHandler.processedEventCount() >= initiatedEvents.get() )
-            {
-                shutdownSuccessful = true;
-                break;
-            }
-            LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+            shutdownSuccessful = eventHandler.processedEventCount().awaitAtLeast(
+                    initiatedEvents.get(),
+                    SHUTDOWN_WAIT_TIMEOUT_AS_MILLI
+            );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for last operations to complete", e );
         }
         if ( false == shutdownSuccessful )
         {
             String errMsg =
                     format( "%s timed out waiting for last operations to complete\n%s/%s operations completed",
                             getClass().getSimpleName(),
-                            eventHandler.processedEventCount(),
+                            eventHandler.processedEventCount().get(),
                             initiatedEvents.get()
                     );
             throw new MetricsCollectionException( errMsg );
@@ -234,11 +232,7 @@ public class DisruptorJavolutionMetricsService implements MetricsService
             AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
             int oldStamp = statusSnapshotReference.getStamp();
             ringBuffer.publishEvent( SET_AS_STATUS );
-            while ( statusSnapshotReference.getStamp() <= oldStamp )
-            {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
-            }
-            return statusSnapshotReference.getReference();
+            return StampedSnapshots.awaitNewerThan( statusSnapshotReference, oldStamp );
         }
 
         @Override
@@ -251,11 +245,7 @@ public class DisruptorJavolutionMetricsService implements MetricsService
             AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference = eventHandler.resultsSnapshot();
             int oldStamp = resultsSnapshotReference.getStamp();
             ringBuffer.publishEvent( SET_AS_REQUEST_WORKLOAD_RESULT );
-            while ( resultsSnapshotReference.getStamp() <= oldStamp )
-            {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
-            }
-            return resultsSnapshotReference.getReference();
+            return StampedSnapshots.awaitNewerThan( resultsSnapshotReference, oldStamp );
         }
     }
 
@@ -2,7 +2,6 @@ package com.ldbc.driver.runtime.metrics;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
-import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
@@ -24,15 +23,12 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 
     private final MetricsManager metricsManager;
     private final ConcurrentErrorReporter errorReporter;
-    private final SimpleCsvFileWriter csvResultsLogWriter;
-    private final TimeUnit unit;
-    private long processedEventCount = 0l;
-    private final String[] operationNames;
+    private final ResultsLogWriter resultsLogWriter;
+    private final ProcessedEventCounter processedEventCount = new ProcessedEventCounter();
     private final MetricsEvent metricsEvent;
-    private final String[] csvResultsLogRow;
 
     DisruptorSbeMetricsEventHandler( ConcurrentErrorReporter errorReporter,
-            SimpleCsvFileWriter csvResultsLogWriter,
+            ResultsLogWriter resultsLogWriter,
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
@@ -40,17 +36,14 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         this.errorReporter = errorReporter;
-        this.csvResultsLogWriter = csvResultsLogWriter;
-        this.unit = unit;
+        this.resultsLogWriter = resultsLogWriter;
         this.metricsManager = new MetricsManager(
                 timeSource,
                 unit,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory );
-        operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
         this.metricsEvent = new MetricsEvent();
-        this.csvResultsLogRow = new String[5];
     }
 
     AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshot()
@@ -63,7 +56,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         return resultsSnapshotReference;
     }
 
-    long processedEventCount()
+    ProcessedEventCounter processedEventCount()
     {
         return processedEventCount;
     }
@@ -88,51 +81,28 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             long runDurationAsNano = metricsEvent.runDurationAsNano();
             int resultCode = metricsEvent.resultCode();
 
-            if ( null != csvResultsLogWriter )
+            if ( null != resultsLogWriter )
             {
-                // TODO benchmark
-//					csvResultsLogRow[0] = operationNames[operationType];
-//					csvResultsLogRow[1] = Long.toString(scheduledStartTimeAsMilli);
-//					csvResultsLogRow[2] = Long.toString(actualStartTimeAsMilli);
-//					csvResultsLogRow[3] = Long.toString(unit.convert(runDurationAsNano, TimeUnit.NANOSECONDS));
-//					csvResultsLogRow[4] = Integer.toString(resultCode);
-//					csvResultsLogWriter.writeRow(csvResultsLogRow);
-                csvResultsLogWriter.writeRow(
-                        operationNames[operationType],
-                        Long.toString( scheduledStartTimeAsMilli ),
-                        Long.toString( actualStartTimeAsMilli ),
-                        Long.toString( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
-                        Integer.toString( resultCode )
+                resultsLogWriter.write(
+                        operationType,
+                        scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli,
+                        runDurationAsNano,
+                        resultCode
                 );
             }
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
-            processedEventCount++;
+            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType, resultCode );
+            processedEventCount.increment();
             break;
         }
         case DisruptorJavolutionMetricsEvent.WORKLOAD_STATUS:
         {
-            WorkloadStatusSnapshot newStatus = metricsManager.status();
-            WorkloadStatusSnapshot oldStatus;
-            int oldStamp;
-            do
-            {
-                oldStatus = statusSnapshotReference.getReference();
-                oldStamp = statusSnapshotReference.getStamp();
-            }
-            while ( false == statusSnapshotReference.compareAndSet( oldStatus, newStatus, oldStamp, oldStamp + 1 ) );
+            StampedSnapshots.publish( statusSnapshotReference, metricsManager.status() );
             break;
         }
         case DisruptorJavolutionMetricsEvent.WORKLOAD_RESULT:
         {
-            WorkloadResultsSnapshot newResults = metricsManager.snapshot();
-            WorkloadResultsSnapshot oldResults;
-            int oldStamp;
-            do
-            {
-                oldResults = resultsSnapshotReference.getReference();
-                oldStamp = resultsSnapshotReference.getStamp();
-            }
-            while ( false == resultsSnapshotReference.compareAndSet( oldResults, newResults, oldStamp, oldStamp + 1 ) );
+            StampedSnapshots.publish( resultsSnapshotReference, metricsManager.snapshot() );
             break;
         }
         default:
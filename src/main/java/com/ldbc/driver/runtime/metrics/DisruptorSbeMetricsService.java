@@ -2,7 +2,6 @@ package com.ldbc.driver.runtime.metrics;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
-import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
@@ -24,7 +23,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicStampedReference;
-import java.util.concurrent.locks.LockSupport;
 
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS;
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS;
@@ -42,7 +40,6 @@ public class DisruptorSbeMetricsService implements MetricsService
 
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
-    private final TimeSource timeSource;
     private final RingBuffer<DirectBuffer> ringBuffer;
     private final Disruptor<DirectBuffer> disruptor;
     private final DisruptorSbeMetricsEventHandler eventHandler;
@@ -54,7 +51,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             ConcurrentErrorReporter errorReporter,
             TimeUnit timeUnit,
             long maxRuntimeDurationAsNano,
-            SimpleCsvFileWriter csvResultsLogWriter,
+            ResultsLogWriter resultsLogWriter,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
@@ -81,7 +78,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         // Connect the handler
         eventHandler = new DisruptorSbeMetricsEventHandler(
                 errorReporter,
-                csvResultsLogWriter,
+                resultsLogWriter,
                 timeUnit,
                 timeSource,
                 maxRuntimeDurationAsNano,
@@ -98,7 +95,6 @@ public class DisruptorSbeMetricsService implements MetricsService
         // publishing
         ringBuffer = disruptor.start();
 
-        this.timeSource = timeSource;
         metricsServiceWriters = new ConcurrentLinkedQueue<>();
     }
 
@@ -109,23 +105,24 @@ public class DisruptorSbeMetricsService implements MetricsService
         {
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
-        long startTimeMs = timeSource.nowAsMilli();
-        boolean shutdownSuccessful = false;
-        while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
+        boolean shutdownSuccessful;
+        try
         {
-            if ( eventHandler.processedEventCount() >= initiatedEvents.get() )
-            {
-                shutdownSuccessful = true;
-                break;
-            }
-            LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+            shutdownSuccessful = eventHandler.processedEventCount().awaitAtLeast(
+                    initiatedEvents.get(),
+                    SHUTDOWN_WAIT_TIMEOUT_AS_MILLI
+            );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for last operations to complete", e );
         }
         if ( false == shutdownSuccessful )
         {
             String errMsg =
                     format( "%s timed out waiting for last operations to complete\n%s/%s operations completed",
                             getClass().getSimpleName(),
-                            eventHandler.processedEventCount(),
+                            eventHandler.processedEventCount().get(),
                             initiatedEvents.get()
                     );
             throw new MetricsCollectionException( errMsg );
@@ -244,11 +241,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
             int oldStamp = statusSnapshotReference.getStamp();
             ringBuffer.publishEvent( getWorkloadStatusTranslator );
-            while ( statusSnapshotReference.getStamp() <= oldStamp )
-            {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
-            }
-            return statusSnapshotReference.getReference();
+            return StampedSnapshots.awaitNewerThan( statusSnapshotReference, oldStamp );
         }
 
         @Override
@@ -261,11 +254,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference = eventHandler.resultsSnapshot();
             int oldStamp = resultsSnapshotReference.getStamp();
             ringBuffer.publishEvent( getWorkloadResultsTranslator );
-            while ( resultsSnapshotReference.getStamp() <= oldStamp )
-            {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
-            }
-            return resultsSnapshotReference.getReference();
+            return StampedSnapshots.awaitNewerThan( resultsSnapshotReference, oldStamp );
         }
 
         public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
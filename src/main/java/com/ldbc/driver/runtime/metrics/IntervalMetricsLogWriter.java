@@ -0,0 +1,283 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically drains an interval recorder into a directory containing:
+ * one HdrHistogram log (compressed interval histograms of runtime, in nanoseconds) per operation type
+ * one CSV file with a row per interval: operation count, throughput, GCT lag (now - GCT) and schedule lag
+ * <p>
+ * Histogram logs are in the HdrHistogram log format (version 1.01) and can be read by HistogramLogReader.
+ * They are written here rather than through HistogramLogWriter, which in the HdrHistogram version in use encodes with
+ * javax.xml.bind, a module that is no longer part of the JDK.
+ * <p>
+ * The final, possibly partial, interval is written when the thread is shutdown, after which all files are closed
+ */
+public class IntervalMetricsLogWriter extends Thread
+{
+    public static final String HISTOGRAM_LOG_FILENAME_SUFFIX = ".hlog";
+    public static final String INTERVALS_FILENAME = "intervals.csv";
+    private static final String HISTOGRAM_LOG_FORMAT_VERSION = "1.01";
+    private static final int HISTOGRAM_COMPRESSION_LEVEL = 9;
+    private static final double HISTOGRAM_LOG_MAX_VALUE_UNIT_RATIO = 1000000.0;
+
+    private final IntervalMetricsRecorder intervalMetricsRecorder;
+    private final long intervalAsMilli;
+    private final TimeSource timeSource;
+    private final GlobalCompletionTimeReader globalCompletionTimeReader;
+    private final ConcurrentErrorReporter errorReporter;
+    private final PrintStream[] histogramLogStreams;
+    private final SimpleCsvFileWriter intervalsCsvWriter;
+    private final Histogram[] runtimeHistogramsAsNano;
+    private final Histogram scheduleLagHistogramAsMilli;
+    private final CountDownLatch shutdownLatch = new CountDownLatch( 1 );
+    private ByteBuffer histogramEncodingBuffer = null;
+    private volatile IntervalMetricsSnapshot latestInterval = null;
+    private long logStartTimeAsMilli = -1;
+    private long intervalStartTimeAsMilli = -1;
+
+    public IntervalMetricsLogWriter( IntervalMetricsRecorder intervalMetricsRecorder,
+            File directory,
+            long intervalAsMilli,
+            TimeSource timeSource,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            ConcurrentErrorReporter errorReporter ) throws MetricsCollectionException
+    {
+        super( IntervalMetricsLogWriter.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        this.intervalMetricsRecorder = intervalMetricsRecorder;
+        this.intervalAsMilli = intervalAsMilli;
+        this.timeSource = timeSource;
+        this.globalCompletionTimeReader = globalCompletionTimeReader;
+        this.errorReporter = errorReporter;
+        this.runtimeHistogramsAsNano = intervalMetricsRecorder.newRuntimeHistograms();
+        this.scheduleLagHistogramAsMilli = intervalMetricsRecorder.newScheduleLagHistogram();
+
+        String[] operationNames = intervalMetricsRecorder.operationNames();
+        this.histogramLogStreams = new PrintStream[operationNames.length];
+        File intervalsFile = new File( directory, INTERVALS_FILENAME );
+        try
+        {
+            for ( int i = 0; i < operationNames.length; i++ )
+            {
+                if ( null != operationNames[i] )
+                {
+                    histogramLogStreams[i] = new PrintStream(
+                            new FileOutputStream(
+                                    new File( directory, operationNames[i] + HISTOGRAM_LOG_FILENAME_SUFFIX ) ),
+                            false,
+                            Charsets.US_ASCII.name() );
+                }
+            }
+            this.intervalsCsvWriter =
+                    new SimpleCsvFileWriter( intervalsFile, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        }
+        catch ( FileNotFoundException | UnsupportedEncodingException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error creating histogram logs in: %s", directory.getAbsolutePath() ), e );
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error creating intervals file: %s", intervalsFile.getAbsolutePath() ), e );
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        try
+        {
+            writeHeaders();
+            while ( false == shutdownLatch.await( intervalAsMilli, TimeUnit.MILLISECONDS ) )
+            {
+                writeInterval();
+            }
+            writeInterval();
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError(
+                    this,
+                    format(
+                            "Interval metrics writer encountered unexpected error - exiting\n%s",
+                            ConcurrentErrorReporter.stackTraceToString( e )
+                    )
+            );
+        }
+        finally
+        {
+            close();
+        }
+    }
+
+    /**
+     * Writes the final interval, closes all files and returns once that is done
+     */
+    public void shutdown() throws InterruptedException
+    {
+        shutdownLatch.countDown();
+        join();
+    }
+
+    /**
+     * @return most recently written interval, null until the first interval has been written
+     */
+    public IntervalMetricsSnapshot latestInterval()
+    {
+        return latestInterval;
+    }
+
+    private void writeHeaders() throws IOException
+    {
+        logStartTimeAsMilli = timeSource.nowAsMilli();
+        intervalStartTimeAsMilli = logStartTimeAsMilli;
+        String[] operationNames = intervalMetricsRecorder.operationNames();
+        for ( int i = 0; i < histogramLogStreams.length; i++ )
+        {
+            if ( null != histogramLogStreams[i] )
+            {
+                PrintStream histogramLogStream = histogramLogStreams[i];
+                histogramLogStream.format( "#Interval runtimes of %s, in nanoseconds\n", operationNames[i] );
+                histogramLogStream.format( "#[Histogram log format version %s]\n", HISTOGRAM_LOG_FORMAT_VERSION );
+                histogramLogStream.format( Locale.US, "#[StartTime: %.3f (seconds since epoch), %s]\n",
+                        logStartTimeAsMilli / 1000.0, new Date( logStartTimeAsMilli ).toString() );
+                histogramLogStream.println(
+                        "\"StartTimestamp\",\"EndTimestamp\",\"Interval_Max\",\"Interval_Compressed_Histogram\"" );
+                histogramLogStream.flush();
+            }
+        }
+        intervalsCsvWriter.writeRow(
+                "interval_start_time_" + TimeUnit.MILLISECONDS.name(),
+                "interval_end_time_" + TimeUnit.MILLISECONDS.name(),
+                "operation_count",
+                "throughput_per_" + TimeUnit.SECONDS.name(),
+                "gct_lag_" + TimeUnit.MILLISECONDS.name(),
+                "schedule_lag_mean_" + TimeUnit.MILLISECONDS.name(),
+                "schedule_lag_99th_" + TimeUnit.MILLISECONDS.name(),
+                "schedule_lag_max_" + TimeUnit.MILLISECONDS.name()
+        );
+        intervalsCsvWriter.flush();
+    }
+
+    private void writeInterval() throws IOException, CompletionTimeException
+    {
+        long intervalEndTimeAsMilli = timeSource.nowAsMilli();
+        intervalMetricsRecorder.drainInto( runtimeHistogramsAsNano, scheduleLagHistogramAsMilli );
+
+        double intervalStartAsSeconds = (intervalStartTimeAsMilli - logStartTimeAsMilli) / 1000.0;
+        double intervalEndAsSeconds = (intervalEndTimeAsMilli - logStartTimeAsMilli) / 1000.0;
+        for ( int i = 0; i < histogramLogStreams.length; i++ )
+        {
+            if ( null != histogramLogStreams[i] )
+            {
+                writeIntervalHistogram(
+                        histogramLogStreams[i],
+                        intervalStartAsSeconds,
+                        intervalEndAsSeconds,
+                        runtimeHistogramsAsNano[i] );
+                histogramLogStreams[i].flush();
+                runtimeHistogramsAsNano[i].reset();
+            }
+        }
+
+        long operationCount = scheduleLagHistogramAsMilli.getTotalCount();
+        long intervalDurationAsMilli = intervalEndTimeAsMilli - intervalStartTimeAsMilli;
+        double throughput = (0 == intervalDurationAsMilli)
+                            ? 0
+                            : (double) operationCount / intervalDurationAsMilli * 1000;
+        long globalCompletionTimeAsMilli = globalCompletionTimeReader.globalCompletionTimeAsMilli();
+        long globalCompletionTimeLagAsMilli = (-1 == globalCompletionTimeAsMilli)
+                                              ? -1
+                                              : Math.max( 0, intervalEndTimeAsMilli - globalCompletionTimeAsMilli );
+        IntervalMetricsSnapshot interval = new IntervalMetricsSnapshot(
+                intervalStartTimeAsMilli,
+                intervalEndTimeAsMilli,
+                operationCount,
+                throughput,
+                globalCompletionTimeLagAsMilli,
+                (0 == operationCount) ? -1 : scheduleLagHistogramAsMilli.getMean(),
+                (0 == operationCount) ? -1 : scheduleLagHistogramAsMilli.getValueAtPercentile( 99 ),
+                (0 == operationCount) ? -1 : scheduleLagHistogramAsMilli.getMaxValue()
+        );
+        intervalsCsvWriter.writeRow(
+                Long.toString( interval.intervalStartTimeAsMilli() ),
+                Long.toString( interval.intervalEndTimeAsMilli() ),
+                Long.toString( interval.operationCount() ),
+                format( "%.2f", interval.throughput() ),
+                Long.toString( interval.globalCompletionTimeLagAsMilli() ),
+                (0 == operationCount) ? "-1" : format( "%.2f", interval.scheduleLagMeanAsMilli() ),
+                (0 == operationCount) ? "-1" : Long.toString( interval.scheduleLagPercentile99AsMilli() ),
+                (0 == operationCount) ? "-1" : Long.toString( interval.scheduleLagMaxAsMilli() )
+        );
+        intervalsCsvWriter.flush();
+        scheduleLagHistogramAsMilli.reset();
+        intervalStartTimeAsMilli = intervalEndTimeAsMilli;
+        latestInterval = interval;
+    }
+
+    private void writeIntervalHistogram( PrintStream histogramLogStream,
+            double intervalStartAsSeconds,
+            double intervalEndAsSeconds,
+            Histogram histogram )
+    {
+        if ( null == histogramEncodingBuffer ||
+             histogramEncodingBuffer.capacity() < histogram.getNeededByteBufferCapacity() )
+        {
+            histogramEncodingBuffer = ByteBuffer.allocate( histogram.getNeededByteBufferCapacity() );
+        }
+        histogramEncodingBuffer.clear();
+        int compressedLength =
+                histogram.encodeIntoCompressedByteBuffer( histogramEncodingBuffer, HISTOGRAM_COMPRESSION_LEVEL );
+        byte[] compressedHistogram = Arrays.copyOf( histogramEncodingBuffer.array(), compressedLength );
+        histogramLogStream.format( Locale.US, "%.3f,%.3f,%.3f,%s\n",
+                intervalStartAsSeconds,
+                intervalEndAsSeconds - intervalStartAsSeconds,
+                histogram.getMaxValue() / HISTOGRAM_LOG_MAX_VALUE_UNIT_RATIO,
+                Base64.getEncoder().encodeToString( compressedHistogram ) );
+    }
+
+    private void close()
+    {
+        for ( PrintStream histogramLogStream : histogramLogStreams )
+        {
+            if ( null != histogramLogStream )
+            {
+                histogramLogStream.close();
+            }
+        }
+        try
+        {
+            intervalsCsvWriter.close();
+        }
+        catch ( IOException e )
+        {
+            errorReporter.reportError(
+                    this,
+                    format( "Error closing intervals file\n%s", ConcurrentErrorReporter.stackTraceToString( e ) )
+            );
+        }
+    }
+}
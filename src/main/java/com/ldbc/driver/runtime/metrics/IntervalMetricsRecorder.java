@@ -0,0 +1,139 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.IntHistogram;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates operation runtimes and schedule lag (actual start time - scheduled start time) of the current interval.
+ * Every recording thread writes into its own stripe, the only contention is with the interval reader, which briefly
+ * locks each stripe once per interval to drain it.
+ * Runtimes are tracked at microsecond resolution and 2 significant digits to keep per thread footprint small.
+ */
+public class IntervalMetricsRecorder
+{
+    static final long LOWEST_TRACKABLE_RUNTIME_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 1 );
+    static final long HIGHEST_TRACKABLE_SCHEDULE_LAG_AS_MILLI = TimeUnit.HOURS.toMillis( 1 );
+    static final int NUMBER_OF_SIGNIFICANT_DIGITS = 2;
+
+    private final String[] operationNames;
+    private final long highestTrackableRuntimeAsNano;
+    private final Queue<Stripe> allStripes = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Stripe> localStripes = new ThreadLocal<Stripe>()
+    {
+        @Override
+        protected Stripe initialValue()
+        {
+            Stripe stripe = new Stripe();
+            allStripes.add( stripe );
+            return stripe;
+        }
+    };
+
+    public IntervalMetricsRecorder( Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            long highestTrackableRuntimeAsNano ) throws MetricsCollectionException
+    {
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.highestTrackableRuntimeAsNano = highestTrackableRuntimeAsNano;
+    }
+
+    /**
+     * @return operation names indexed by operation type, null for types that are not mapped
+     */
+    public String[] operationNames()
+    {
+        return operationNames;
+    }
+
+    public void record( int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano )
+    {
+        localStripes.get().record( operationType, actualStartTimeAsMilli - scheduledStartTimeAsMilli,
+                runDurationAsNano );
+    }
+
+    /**
+     * @return runtime histograms indexed by operation type, compatible with drainInto
+     */
+    public Histogram[] newRuntimeHistograms()
+    {
+        Histogram[] runtimeHistograms = new Histogram[operationNames.length];
+        for ( int i = 0; i < operationNames.length; i++ )
+        {
+            if ( null != operationNames[i] )
+            {
+                runtimeHistograms[i] = new Histogram(
+                        LOWEST_TRACKABLE_RUNTIME_AS_NANO,
+                        highestTrackableRuntimeAsNano,
+                        NUMBER_OF_SIGNIFICANT_DIGITS );
+            }
+        }
+        return runtimeHistograms;
+    }
+
+    public Histogram newScheduleLagHistogram()
+    {
+        return new Histogram( HIGHEST_TRACKABLE_SCHEDULE_LAG_AS_MILLI, NUMBER_OF_SIGNIFICANT_DIGITS );
+    }
+
+    /**
+     * Moves everything recorded since the previous call into the given histograms, leaving the stripes empty
+     */
+    public void drainInto( Histogram[] runtimeHistogramsAsNano, Histogram scheduleLagHistogramAsMilli )
+    {
+        for ( Stripe stripe : allStripes )
+        {
+            stripe.drainInto( runtimeHistogramsAsNano, scheduleLagHistogramAsMilli );
+        }
+    }
+
+    private class Stripe
+    {
+        // allocated on first use, most threads only ever execute a subset of operation types
+        private final AbstractHistogram[] runtimeHistograms = new AbstractHistogram[operationNames.length];
+        private final AbstractHistogram scheduleLagHistogram =
+                new IntHistogram( HIGHEST_TRACKABLE_SCHEDULE_LAG_AS_MILLI, NUMBER_OF_SIGNIFICANT_DIGITS );
+
+        private synchronized void record( int operationType, long scheduleLagAsMilli, long runDurationAsNano )
+        {
+            AbstractHistogram runtimeHistogram = runtimeHistograms[operationType];
+            if ( null == runtimeHistogram )
+            {
+                runtimeHistogram = new IntHistogram(
+                        LOWEST_TRACKABLE_RUNTIME_AS_NANO,
+                        highestTrackableRuntimeAsNano,
+                        NUMBER_OF_SIGNIFICANT_DIGITS );
+                runtimeHistograms[operationType] = runtimeHistogram;
+            }
+            runtimeHistogram.recordValue( Math.min( runDurationAsNano, highestTrackableRuntimeAsNano ) );
+            scheduleLagHistogram.recordValue(
+                    Math.max( 0, Math.min( scheduleLagAsMilli, HIGHEST_TRACKABLE_SCHEDULE_LAG_AS_MILLI ) ) );
+        }
+
+        private synchronized void drainInto( Histogram[] runtimeHistogramsAsNano,
+                Histogram scheduleLagHistogramAsMilli )
+        {
+            for ( int i = 0; i < runtimeHistograms.length; i++ )
+            {
+                if ( null != runtimeHistograms[i] && runtimeHistograms[i].getTotalCount() > 0 )
+                {
+                    runtimeHistogramsAsNano[i].add( runtimeHistograms[i] );
+                    runtimeHistograms[i].reset();
+                }
+            }
+            if ( scheduleLagHistogram.getTotalCount() > 0 )
+            {
+                scheduleLagHistogramAsMilli.add( scheduleLagHistogram );
+                scheduleLagHistogram.reset();
+            }
+        }
+    }
+}
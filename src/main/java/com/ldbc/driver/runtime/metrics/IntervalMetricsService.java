@@ -0,0 +1,74 @@
+package com.ldbc.driver.runtime.metrics;
+
+/**
+ * Decorates another metrics service, additionally recording every operation result into an interval recorder
+ */
+public class IntervalMetricsService implements MetricsService
+{
+    private final MetricsService innerMetricsService;
+    private final IntervalMetricsRecorder intervalMetricsRecorder;
+
+    public IntervalMetricsService( MetricsService innerMetricsService,
+            IntervalMetricsRecorder intervalMetricsRecorder )
+    {
+        this.innerMetricsService = innerMetricsService;
+        this.intervalMetricsRecorder = intervalMetricsRecorder;
+    }
+
+    @Override
+    public void shutdown() throws MetricsCollectionException
+    {
+        innerMetricsService.shutdown();
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        return new IntervalMetricsServiceWriter( innerMetricsService.getWriter(), intervalMetricsRecorder );
+    }
+
+    private static class IntervalMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final MetricsServiceWriter innerMetricsServiceWriter;
+        private final IntervalMetricsRecorder intervalMetricsRecorder;
+
+        private IntervalMetricsServiceWriter( MetricsServiceWriter innerMetricsServiceWriter,
+                IntervalMetricsRecorder intervalMetricsRecorder )
+        {
+            this.innerMetricsServiceWriter = innerMetricsServiceWriter;
+            this.intervalMetricsRecorder = intervalMetricsRecorder;
+        }
+
+        @Override
+        public void submitOperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode ) throws MetricsCollectionException
+        {
+            innerMetricsServiceWriter.submitOperationResult(
+                    operationType,
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    resultCode );
+            intervalMetricsRecorder.record(
+                    operationType,
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            return innerMetricsServiceWriter.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            return innerMetricsServiceWriter.results();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ldbc.driver.runtime.metrics;
+
+import static java.lang.String.format;
+
+/**
+ * Summary of one interval written by IntervalMetricsLogWriter, schedule lag values are -1 when no operations completed
+ */
+public class IntervalMetricsSnapshot
+{
+    private final long intervalStartTimeAsMilli;
+    private final long intervalEndTimeAsMilli;
+    private final long operationCount;
+    private final double throughput;
+    private final long globalCompletionTimeLagAsMilli;
+    private final double scheduleLagMeanAsMilli;
+    private final long scheduleLagPercentile99AsMilli;
+    private final long scheduleLagMaxAsMilli;
+
+    public IntervalMetricsSnapshot( long intervalStartTimeAsMilli,
+            long intervalEndTimeAsMilli,
+            long operationCount,
+            double throughput,
+            long globalCompletionTimeLagAsMilli,
+            double scheduleLagMeanAsMilli,
+            long scheduleLagPercentile99AsMilli,
+            long scheduleLagMaxAsMilli )
+    {
+        this.intervalStartTimeAsMilli = intervalStartTimeAsMilli;
+        this.intervalEndTimeAsMilli = intervalEndTimeAsMilli;
+        this.operationCount = operationCount;
+        this.throughput = throughput;
+        this.globalCompletionTimeLagAsMilli = globalCompletionTimeLagAsMilli;
+        this.scheduleLagMeanAsMilli = scheduleLagMeanAsMilli;
+        this.scheduleLagPercentile99AsMilli = scheduleLagPercentile99AsMilli;
+        this.scheduleLagMaxAsMilli = scheduleLagMaxAsMilli;
+    }
+
+    public long intervalStartTimeAsMilli()
+    {
+        return intervalStartTimeAsMilli;
+    }
+
+    public long intervalEndTimeAsMilli()
+    {
+        return intervalEndTimeAsMilli;
+    }
+
+    public long operationCount()
+    {
+        return operationCount;
+    }
+
+    public double throughput()
+    {
+        return throughput;
+    }
+
+    public long globalCompletionTimeLagAsMilli()
+    {
+        return globalCompletionTimeLagAsMilli;
+    }
+
+    public double scheduleLagMeanAsMilli()
+    {
+        return scheduleLagMeanAsMilli;
+    }
+
+    public long scheduleLagPercentile99AsMilli()
+    {
+        return scheduleLagPercentile99AsMilli;
+    }
+
+    public long scheduleLagMaxAsMilli()
+    {
+        return scheduleLagMaxAsMilli;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "Interval [%s, %s], Operations: %s, Throughput: %.2f, GCT Lag: %s ms, " +
+                       "Schedule Lag (mean: %.2f ms, 99th: %s ms, max: %s ms)",
+                intervalStartTimeAsMilli,
+                intervalEndTimeAsMilli,
+                operationCount,
+                throughput,
+                globalCompletionTimeLagAsMilli,
+                scheduleLagMeanAsMilli,
+                scheduleLagPercentile99AsMilli,
+                scheduleLagMaxAsMilli );
+    }
+}
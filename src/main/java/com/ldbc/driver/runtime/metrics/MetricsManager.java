@@ -2,6 +2,7 @@ package com.ldbc.driver.runtime.metrics;
 
 import com.google.common.collect.Ordering;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
 
@@ -138,6 +139,12 @@ public class MetricsManager
 
     void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
             throws MetricsCollectionException
+    {
+        measure( actualStartTimeAsMilli, runDurationAsNano, operationType, 0 );
+    }
+
+    void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType, int resultCode )
+            throws MetricsCollectionException
     {
         if ( actualStartTimeAsMilli < startTimeAsMilli )
         {
@@ -150,7 +157,14 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        if ( ResultReporter.TIMED_OUT_RESULT_CODE == resultCode )
+        {
+            operationTypeMetricsManagers[operationType].timedOut();
+        }
+        else
+        {
+            operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        }
     }
 
     private long totalOperationCount()
@@ -171,7 +185,8 @@ public class MetricsManager
         Map<String,OperationMetricsSnapshot> operationMetricsMap = new HashMap<>();
         for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
         {
-            if ( null != operationTypeMetricsManager && operationTypeMetricsManager.count() > 0 )
+            if ( null != operationTypeMetricsManager &&
+                 (operationTypeMetricsManager.count() > 0 || operationTypeMetricsManager.timedOutCount() > 0) )
             {
                 OperationMetricsSnapshot snapshot = operationTypeMetricsManager.snapshot();
                 operationMetricsMap.put( snapshot.name(), snapshot );
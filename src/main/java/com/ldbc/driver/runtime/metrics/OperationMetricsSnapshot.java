@@ -13,6 +13,8 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    @JsonProperty("timed_out_count")
+    private long timedOutCount;
 
     private OperationMetricsSnapshot() {
     }
@@ -21,10 +23,22 @@ public class OperationMetricsSnapshot {
                                     TimeUnit durationUnit,
                                     long count,
                                     ContinuousMetricSnapshot rutTimeMetric) {
+        this(name, durationUnit, count, rutTimeMetric, 0);
+    }
+
+    /**
+     * @param timedOutCount operations that exceeded their timeout, these are not included in count or run time
+     */
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    long timedOutCount) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.timedOutCount = timedOutCount;
     }
 
     public String name() {
@@ -43,6 +57,10 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    public long timedOutCount() {
+        return timedOutCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -51,6 +69,7 @@ public class OperationMetricsSnapshot {
         OperationMetricsSnapshot that = (OperationMetricsSnapshot) o;
 
         if (count != that.count) return false;
+        if (timedOutCount != that.timedOutCount) return false;
         if (durationUnit != that.durationUnit) return false;
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
@@ -65,6 +84,7 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (int) (timedOutCount ^ (timedOutCount >>> 32));
         return result;
     }
 
@@ -75,6 +95,7 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", timedOutCount=" + timedOutCount +
                 '}';
     }
 }
@@ -19,6 +19,7 @@ public class OperationTypeMetricsManager
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
     private final LoggingService loggingService;
+    private long timedOutCount = 0;
 
     OperationTypeMetricsManager(
             String name,
@@ -87,9 +88,17 @@ public class OperationTypeMetricsManager
         }
     }
 
+    /**
+     * Counts an operation that exceeded its timeout, its run time is not measured as it was cut short
+     */
+    void timedOut()
+    {
+        timedOutCount++;
+    }
+
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot(), timedOutCount );
     }
 
     public String name()
@@ -102,6 +111,11 @@ public class OperationTypeMetricsManager
         return runTimeMetric.snapshot().count();
     }
 
+    public long timedOutCount()
+    {
+        return timedOutCount;
+    }
+
     static class OperationMetricsNameComparator implements Comparator<OperationMetricsSnapshot>
     {
         private static final String EMPTY_STRING = "";
@@ -0,0 +1,68 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count of events processed by a single metrics event handler thread.
+ * Other threads may block until some number of events has been processed, e.g., during shutdown.
+ * The handler thread only pays for signalling while there is a thread waiting.
+ */
+class ProcessedEventCounter
+{
+    private final AtomicLong count = new AtomicLong( 0 );
+    private final Object monitor = new Object();
+    private volatile int waiterCount = 0;
+
+    /**
+     * Must only be called by the single event handler thread
+     */
+    void increment()
+    {
+        count.set( count.get() + 1 );
+        if ( waiterCount > 0 )
+        {
+            synchronized ( monitor )
+            {
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    long get()
+    {
+        return count.get();
+    }
+
+    /**
+     * @param targetCount number of processed events to wait for
+     * @param waitAsMilli maximum duration to wait
+     * @return true if target count was reached within wait duration, false otherwise
+     * @throws InterruptedException
+     */
+    boolean awaitAtLeast( long targetCount, long waitAsMilli ) throws InterruptedException
+    {
+        long deadlineAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( waitAsMilli );
+        synchronized ( monitor )
+        {
+            waiterCount++;
+            try
+            {
+                while ( count.get() < targetCount )
+                {
+                    long remainingAsMilli = TimeUnit.NANOSECONDS.toMillis( deadlineAsNano - System.nanoTime() );
+                    if ( remainingAsMilli <= 0 )
+                    {
+                        return false;
+                    }
+                    monitor.wait( remainingAsMilli );
+                }
+                return true;
+            }
+            finally
+            {
+                waiterCount--;
+            }
+        }
+    }
+}
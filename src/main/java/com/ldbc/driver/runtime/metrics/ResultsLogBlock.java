@@ -0,0 +1,73 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Reusable block of results, as columns of primitives, filled by a ResultsLogReader
+ */
+public class ResultsLogBlock
+{
+    long[] scheduledStartTimesAsMilli;
+    long[] actualStartTimesAsMilli;
+    long[] runDurationsAsNano;
+    int[] operationTypes;
+    int[] resultCodes;
+    int size = 0;
+
+    public ResultsLogBlock()
+    {
+        this( ColumnarResultsLogWriter.DEFAULT_BLOCK_SIZE );
+    }
+
+    public ResultsLogBlock( int capacity )
+    {
+        this.scheduledStartTimesAsMilli = new long[capacity];
+        this.actualStartTimesAsMilli = new long[capacity];
+        this.runDurationsAsNano = new long[capacity];
+        this.operationTypes = new int[capacity];
+        this.resultCodes = new int[capacity];
+    }
+
+    void clear( int requiredCapacity )
+    {
+        if ( operationTypes.length < requiredCapacity )
+        {
+            scheduledStartTimesAsMilli = Arrays.copyOf( scheduledStartTimesAsMilli, requiredCapacity );
+            actualStartTimesAsMilli = Arrays.copyOf( actualStartTimesAsMilli, requiredCapacity );
+            runDurationsAsNano = Arrays.copyOf( runDurationsAsNano, requiredCapacity );
+            operationTypes = Arrays.copyOf( operationTypes, requiredCapacity );
+            resultCodes = Arrays.copyOf( resultCodes, requiredCapacity );
+        }
+        size = 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int operationType( int index )
+    {
+        return operationTypes[index];
+    }
+
+    public long scheduledStartTimeAsMilli( int index )
+    {
+        return scheduledStartTimesAsMilli[index];
+    }
+
+    public long actualStartTimeAsMilli( int index )
+    {
+        return actualStartTimesAsMilli[index];
+    }
+
+    public long runDurationAsNano( int index )
+    {
+        return runDurationsAsNano[index];
+    }
+
+    public int resultCode( int index )
+    {
+        return resultCodes[index];
+    }
+}
@@ -0,0 +1,22 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streams a results log one block at a time, independent of the format the log was written in
+ */
+public interface ResultsLogReader extends Closeable
+{
+    /**
+     * Replaces the contents of block with the next block of results
+     *
+     * @return false if there are no more results, in which case block is empty
+     */
+    boolean readBlock( ResultsLogBlock block ) throws IOException;
+
+    /**
+     * @return name of operation type code, as it appears in results blocks
+     */
+    String operationName( int operationType );
+}
@@ -0,0 +1,34 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+
+public class ResultsLogReaders
+{
+    /**
+     * @return reader for a results log in either the CSV or columnar format, detected from the file contents
+     */
+    public static ResultsLogReader open( File resultsLog ) throws IOException
+    {
+        return (ColumnarResultsLogReader.isColumnar( resultsLog ))
+               ? new ColumnarResultsLogReader( resultsLog )
+               : new CsvResultsLogReader( resultsLog );
+    }
+
+    /**
+     * @return number of results in a results log
+     */
+    public static long count( File resultsLog ) throws IOException
+    {
+        long count = 0;
+        ResultsLogBlock block = new ResultsLogBlock();
+        try ( ResultsLogReader reader = open( resultsLog ) )
+        {
+            while ( reader.readBlock( block ) )
+            {
+                count += block.size();
+            }
+        }
+        return count;
+    }
+}
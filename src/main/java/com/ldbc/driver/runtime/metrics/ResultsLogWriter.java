@@ -0,0 +1,16 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Destination of per operation results, called only from the metrics service's event handling thread
+ */
+public interface ResultsLogWriter extends Closeable
+{
+    void write( int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode ) throws IOException;
+}
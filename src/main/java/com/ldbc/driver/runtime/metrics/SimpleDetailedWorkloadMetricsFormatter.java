@@ -64,6 +64,12 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
                 .append( unit ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Count:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().count() ) ).append( "\n" );
+        if ( metric.timedOutCount() > 0 )
+        {
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Timed Out:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.timedOutCount() ) ).append( "\n" );
+        }
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Min:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().min() ) ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
@@ -0,0 +1,155 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.IntHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional instrumentation of the operation hot path, aggregates the time operations spend in each Stage into per
+ * stage histograms.
+ * <p>
+ * Tracing is enabled by starting the JVM with -Dldbc.driver.stage_tracing=true. ENABLED is a compile time constant as
+ * far as the JIT is concerned, so every call site must be guarded by it, e.g.,
+ * <pre>
+ * long startAsNano = (StageTracer.ENABLED) ? System.nanoTime() : 0;
+ * ...
+ * if ( StageTracer.ENABLED ) { StageTracer.instance().recordSince( Stage.POOL_CLAIM, startAsNano ); }
+ * </pre>
+ * When disabled the guarded code is removed entirely, not even the time stamps are taken.
+ * <p>
+ * Like IntervalMetricsRecorder, every recording thread writes into its own stripe.
+ */
+public class StageTracer
+{
+    public static final String STAGE_TRACING_PROPERTY = "ldbc.driver.stage_tracing";
+    public static final boolean ENABLED = Boolean.getBoolean( STAGE_TRACING_PROPERTY );
+
+    static final long HIGHEST_TRACKABLE_DURATION_AS_NANO = TimeUnit.HOURS.toNanos( 1 );
+    static final int NUMBER_OF_SIGNIFICANT_DIGITS = 2;
+
+    private static final StageTracer INSTANCE = new StageTracer();
+
+    public enum Stage
+    {
+        // retrieving the next operation from its stream, which is where lazy stream decoding happens
+        STREAM_DECODING,
+        // Db.getOperationHandlerRunnableContext(), i.e., claiming a runnable context from the pool
+        POOL_CLAIM,
+        // from the runnable context being handed to the executor until a worker thread starts running it
+        QUEUE_HANDOFF,
+        // waiting for scheduled start time and, for dependent operations, for GCT
+        SPINNER_WAIT,
+        HANDLER_EXECUTION,
+        METRICS_PUBLICATION,
+        COMPLETION_TIME_SUBMISSION
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Queue<Stripe> allStripes = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Stripe> localStripes = new ThreadLocal<Stripe>()
+    {
+        @Override
+        protected Stripe initialValue()
+        {
+            Stripe stripe = new Stripe();
+            allStripes.add( stripe );
+            return stripe;
+        }
+    };
+
+    /**
+     * @return tracer used by the driver runtime, only records when ENABLED
+     */
+    public static StageTracer instance()
+    {
+        return INSTANCE;
+    }
+
+    public void recordSince( Stage stage, long startAsNano )
+    {
+        record( stage, System.nanoTime() - startAsNano );
+    }
+
+    public void record( Stage stage, long durationAsNano )
+    {
+        localStripes.get().record( stage.ordinal(), durationAsNano );
+    }
+
+    /**
+     * Moves everything recorded since the previous call into a snapshot, leaving the stripes empty.
+     * Stages with no recorded durations are omitted.
+     *
+     * @return per stage durations, in nanoseconds
+     */
+    public List<ContinuousMetricSnapshot> drainSnapshot()
+    {
+        Histogram[] histograms = new Histogram[STAGES.length];
+        for ( int i = 0; i < STAGES.length; i++ )
+        {
+            histograms[i] = new Histogram( HIGHEST_TRACKABLE_DURATION_AS_NANO, NUMBER_OF_SIGNIFICANT_DIGITS );
+        }
+        for ( Stripe stripe : allStripes )
+        {
+            stripe.drainInto( histograms );
+        }
+        List<ContinuousMetricSnapshot> snapshots = new ArrayList<>();
+        for ( int i = 0; i < STAGES.length; i++ )
+        {
+            Histogram histogram = histograms[i];
+            if ( histogram.getTotalCount() > 0 )
+            {
+                snapshots.add(
+                        new ContinuousMetricSnapshot(
+                                STAGES[i].name(),
+                                TimeUnit.NANOSECONDS,
+                                histogram.getTotalCount(),
+                                histogram.getMean(),
+                                histogram.getMinValue(),
+                                histogram.getMaxValue(),
+                                histogram.getValueAtPercentile( 50 ),
+                                histogram.getValueAtPercentile( 90 ),
+                                histogram.getValueAtPercentile( 95 ),
+                                histogram.getValueAtPercentile( 99 )
+                        )
+                );
+            }
+        }
+        return snapshots;
+    }
+
+    private static class Stripe
+    {
+        // allocated on first use, most threads only ever pass through a subset of the stages
+        private final AbstractHistogram[] histograms = new AbstractHistogram[STAGES.length];
+
+        private synchronized void record( int stage, long durationAsNano )
+        {
+            AbstractHistogram histogram = histograms[stage];
+            if ( null == histogram )
+            {
+                histogram = new IntHistogram( HIGHEST_TRACKABLE_DURATION_AS_NANO, NUMBER_OF_SIGNIFICANT_DIGITS );
+                histograms[stage] = histogram;
+            }
+            histogram.recordValue( Math.max( 0, Math.min( durationAsNano, HIGHEST_TRACKABLE_DURATION_AS_NANO ) ) );
+        }
+
+        private synchronized void drainInto( Histogram[] histogramsAsNano )
+        {
+            for ( int i = 0; i < histograms.length; i++ )
+            {
+                if ( null != histograms[i] && histograms[i].getTotalCount() > 0 )
+                {
+                    histogramsAsNano[i].add( histograms[i] );
+                    histograms[i].reset();
+                }
+            }
+        }
+    }
+}
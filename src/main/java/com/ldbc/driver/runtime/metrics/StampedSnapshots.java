@@ -0,0 +1,51 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+/**
+ * Hand-off of status/results snapshots from a metrics event handler thread to the threads that requested them.
+ * Requesters block on the reference's monitor and are woken as soon as a newer snapshot is published.
+ */
+class StampedSnapshots
+{
+    static <T> void publish( AtomicStampedReference<T> snapshotReference, T newSnapshot )
+    {
+        T oldSnapshot;
+        int oldStamp;
+        do
+        {
+            oldSnapshot = snapshotReference.getReference();
+            oldStamp = snapshotReference.getStamp();
+        }
+        while ( false == snapshotReference.compareAndSet( oldSnapshot, newSnapshot, oldStamp, oldStamp + 1 ) );
+        synchronized ( snapshotReference )
+        {
+            snapshotReference.notifyAll();
+        }
+    }
+
+    static <T> T awaitNewerThan( AtomicStampedReference<T> snapshotReference, int oldStamp )
+    {
+        // snapshot request has already been published, so it will be answered --> interrupts do not abort the wait
+        boolean interrupted = false;
+        synchronized ( snapshotReference )
+        {
+            while ( snapshotReference.getStamp() <= oldStamp )
+            {
+                try
+                {
+                    snapshotReference.wait();
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+        return snapshotReference.getReference();
+    }
+}
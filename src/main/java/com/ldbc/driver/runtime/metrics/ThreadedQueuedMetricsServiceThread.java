@@ -118,7 +118,8 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                 metricsManager.measure(
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
-                        submitOperationResultEvent.operationType()
+                        submitOperationResultEvent.operationType(),
+                        submitOperationResultEvent.resultCode()
                 );
             }
             catch ( MetricsCollectionException e )
@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import org.codehaus.jackson.annotate.JsonProperty;
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
 import org.codehaus.jackson.util.DefaultPrettyPrinter;
 
 import java.io.File;
@@ -18,7 +19,15 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "all_metrics" )
     private List<OperationMetricsSnapshot> metrics;
 
-    
+    // only present when stage tracing is enabled, see StageTracer
+    @JsonProperty( value = "stage_metrics" )
+    @JsonSerialize( include = JsonSerialize.Inclusion.NON_NULL )
+    private List<ContinuousMetricSnapshot> stageMetrics;
+
+    // only present when the workload summarizes its results, see Workload.resultsSummary()
+    @JsonProperty( value = "workload_summary" )
+    @JsonSerialize( include = JsonSerialize.Inclusion.NON_NULL )
+    private Map<String,Object> workloadSummary;
 
     @JsonProperty( value = "unit" )
     private TimeUnit unit;
@@ -74,7 +83,58 @@ public class WorkloadResultsSnapshot
         return metrics;
     }
 
-    
+    /**
+     * @return per stage durations recorded by StageTracer, null if stage tracing was not enabled
+     */
+    @JsonProperty( value = "stage_metrics" )
+    public List<ContinuousMetricSnapshot> stageMetrics()
+    {
+        return stageMetrics;
+    }
+
+    /**
+     * @return copy of this snapshot that also reports the given per stage durations
+     */
+    public WorkloadResultsSnapshot withStageMetrics( List<ContinuousMetricSnapshot> stageMetrics )
+    {
+        WorkloadResultsSnapshot snapshot = copy();
+        snapshot.stageMetrics = stageMetrics;
+        return snapshot;
+    }
+
+    /**
+     * @return workload specific summary of the results, null if the workload did not provide one
+     */
+    @JsonProperty( value = "workload_summary" )
+    public Map<String,Object> workloadSummary()
+    {
+        return workloadSummary;
+    }
+
+    /**
+     * @return copy of this snapshot that also reports the given workload specific summary
+     */
+    public WorkloadResultsSnapshot withWorkloadSummary( Map<String,Object> workloadSummary )
+    {
+        WorkloadResultsSnapshot snapshot = copy();
+        snapshot.workloadSummary = workloadSummary;
+        return snapshot;
+    }
+
+    private WorkloadResultsSnapshot copy()
+    {
+        WorkloadResultsSnapshot snapshot = new WorkloadResultsSnapshot();
+        snapshot.metrics = metrics;
+        snapshot.stageMetrics = stageMetrics;
+        snapshot.workloadSummary = workloadSummary;
+        snapshot.unit = unit;
+        snapshot.startTimeAsUnit = startTimeAsUnit;
+        snapshot.latestFinishTimeAsUnit = latestFinishTimeAsUnit;
+        snapshot.totalRunDurationAsUnit = totalRunDurationAsUnit;
+        snapshot.operationCount = operationCount;
+        snapshot.throughput = throughput;
+        return snapshot;
+    }
 
     public long startTimeAsMilli()
     {
@@ -119,6 +179,8 @@ public class WorkloadResultsSnapshot
     {
         return "WorkloadResultsSnapshot{" +
                "metrics=" + metrics +
+               ", stageMetrics=" + stageMetrics +
+               ", workloadSummary=" + workloadSummary +
                ", unit=" + unit +
                ", startTimeAsUnit=" + startTimeAsUnit +
                ", latestFinishTimeAsUnit=" + latestFinishTimeAsUnit +
@@ -148,6 +210,11 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( metrics != null ? !metrics.equals( that.metrics ) : that.metrics != null )
         { return false; }
+        if ( stageMetrics != null ? !stageMetrics.equals( that.stageMetrics ) : that.stageMetrics != null )
+        { return false; }
+        if ( workloadSummary != null ? !workloadSummary.equals( that.workloadSummary )
+                                     : that.workloadSummary != null )
+        { return false; }
         if ( unit != that.unit )
         { return false; }
 
@@ -158,6 +225,8 @@ public class WorkloadResultsSnapshot
     public int hashCode()
     {
         int result = metrics != null ? metrics.hashCode() : 0;
+        result = 31 * result + (stageMetrics != null ? stageMetrics.hashCode() : 0);
+        result = 31 * result + (workloadSummary != null ? workloadSummary.hashCode() : 0);
         result = 31 * result + (unit != null ? unit.hashCode() : 0);
         result = 31 * result + (int) (startTimeAsUnit ^ (startTimeAsUnit >>> 32));
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
@@ -2,6 +2,7 @@ package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.AwaitableGlobalCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -11,7 +12,11 @@ import static java.lang.String.format;
 public class GctDependencyCheck implements SpinnerCheck
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    // bounds how long a waiting worker goes without re-checking, e.g., in case GCT will never advance
+    private static final long MAX_AWAIT_AS_MILLI = 1000;
     private final GlobalCompletionTimeReader globalCompletionTimeReader;
+    // null if GCT can only be polled
+    private final AwaitableGlobalCompletionTimeReader awaitableGlobalCompletionTimeReader;
     private final ConcurrentErrorReporter errorReporter;
 
     public GctDependencyCheck(
@@ -20,6 +25,10 @@ public class GctDependencyCheck implements SpinnerCheck
     {
         this.globalCompletionTimeReader = globalCompletionTimeReader;
         this.errorReporter = errorReporter;
+        this.awaitableGlobalCompletionTimeReader =
+                (globalCompletionTimeReader instanceof AwaitableGlobalCompletionTimeReader)
+                ? (AwaitableGlobalCompletionTimeReader) globalCompletionTimeReader
+                : null;
     }
 
     @Override
@@ -41,6 +50,34 @@ public class GctDependencyCheck implements SpinnerCheck
         }
     }
 
+    /**
+     * Blocks until GCT reaches the dependency time of the operation, if GCT can be awaited, otherwise sleeps
+     */
+    @Override
+    public void awaitChange( Operation operation, long sleepDurationAsMilli )
+    {
+        if ( null == awaitableGlobalCompletionTimeReader )
+        {
+            Spinner.powerNap( sleepDurationAsMilli );
+            return;
+        }
+        try
+        {
+            awaitableGlobalCompletionTimeReader.awaitGlobalCompletionTimeAsMilli(
+                    operation.dependencyTimeStamp(),
+                    MAX_AWAIT_AS_MILLI
+            );
+        }
+        catch ( InterruptedException e )
+        {
+            // do nothing, same as Spinner.powerNap(), the check will simply be performed again
+        }
+        catch ( CompletionTimeException e )
+        {
+            // do nothing, next doCheck will encounter and report the error
+        }
+    }
+
     @Override
     public boolean handleFailedCheck( Operation operation )
     {
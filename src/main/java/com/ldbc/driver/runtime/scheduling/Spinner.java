@@ -97,7 +97,7 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                check.awaitChange( operation, sleepDurationAsMilli );
             }
 
             // wait for scheduled operation start time
@@ -125,7 +125,7 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                check.awaitChange( operation, sleepDurationAsMilli );
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
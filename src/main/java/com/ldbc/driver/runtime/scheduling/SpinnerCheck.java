@@ -27,4 +27,16 @@ public interface SpinnerCheck
      * @return operation may still be executed
      */
     boolean handleFailedCheck( Operation operation );
+
+    /**
+     * Called by Spinner between checks that returned STILL_CHECKING.
+     * Checks that can be notified when their result may have changed should block until then, instead of sleeping.
+     *
+     * @param operation
+     * @param sleepDurationAsMilli spinner sleep duration
+     */
+    default void awaitChange( Operation operation, long sleepDurationAsMilli )
+    {
+        Spinner.powerNap( sleepDurationAsMilli );
+    }
 }
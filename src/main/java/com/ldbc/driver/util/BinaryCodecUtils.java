@@ -0,0 +1,253 @@
+package com.ldbc.driver.util;
+
+import com.google.common.collect.Lists;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Building blocks for OperationCodec implementations.
+ * Unlike DataOutput.writeUTF(), strings are not limited to 64KB and may be null.
+ * Collections are length prefixed, null collections are written with a length of -1.
+ */
+public class BinaryCodecUtils
+{
+    private static final int NULL_LENGTH = -1;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte INT_VALUE = 1;
+    private static final byte LONG_VALUE = 2;
+    private static final byte DOUBLE_VALUE = 3;
+    private static final byte BOOLEAN_VALUE = 4;
+    private static final byte STRING_VALUE = 5;
+    private static final byte LIST_VALUE = 6;
+
+    public static void writeString( DataOutput output, String value ) throws IOException
+    {
+        if ( null == value )
+        {
+            output.writeInt( NULL_LENGTH );
+        }
+        else
+        {
+            byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+            output.writeInt( bytes.length );
+            output.write( bytes );
+        }
+    }
+
+    public static String readString( DataInput input ) throws IOException
+    {
+        int length = input.readInt();
+        if ( NULL_LENGTH == length )
+        {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    public static void writeStrings( DataOutput output, Iterable<String> values ) throws IOException
+    {
+        if ( null == values )
+        {
+            output.writeInt( NULL_LENGTH );
+            return;
+        }
+        Collection<String> collection = asCollection( values );
+        output.writeInt( collection.size() );
+        for ( String value : collection )
+        {
+            writeString( output, value );
+        }
+    }
+
+    public static List<String> readStrings( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        if ( NULL_LENGTH == size )
+        {
+            return null;
+        }
+        List<String> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( readString( input ) );
+        }
+        return values;
+    }
+
+    public static void writeLongs( DataOutput output, Iterable<? extends Number> values ) throws IOException
+    {
+        if ( null == values )
+        {
+            output.writeInt( NULL_LENGTH );
+            return;
+        }
+        Collection<? extends Number> collection = asCollection( values );
+        output.writeInt( collection.size() );
+        for ( Number value : collection )
+        {
+            output.writeLong( value.longValue() );
+        }
+    }
+
+    public static List<Long> readLongs( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        if ( NULL_LENGTH == size )
+        {
+            return null;
+        }
+        List<Long> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( input.readLong() );
+        }
+        return values;
+    }
+
+    /**
+     * Writes a loosely typed value, e.g., an element of the List&lt;Object&gt; tuples some results contain.
+     * Supported: null, Integer, Long, Double, Boolean, String, and Lists of those.
+     * The type is preserved, readValue() returns an instance of the same class.
+     */
+    public static void writeValue( DataOutput output, Object value ) throws IOException
+    {
+        if ( null == value )
+        {
+            output.writeByte( NULL_VALUE );
+        }
+        else if ( value instanceof Integer )
+        {
+            output.writeByte( INT_VALUE );
+            output.writeInt( (Integer) value );
+        }
+        else if ( value instanceof Long )
+        {
+            output.writeByte( LONG_VALUE );
+            output.writeLong( (Long) value );
+        }
+        else if ( value instanceof Double )
+        {
+            output.writeByte( DOUBLE_VALUE );
+            output.writeDouble( (Double) value );
+        }
+        else if ( value instanceof Boolean )
+        {
+            output.writeByte( BOOLEAN_VALUE );
+            output.writeBoolean( (Boolean) value );
+        }
+        else if ( value instanceof String )
+        {
+            output.writeByte( STRING_VALUE );
+            writeString( output, (String) value );
+        }
+        else if ( value instanceof List )
+        {
+            output.writeByte( LIST_VALUE );
+            writeValues( output, (List<?>) value );
+        }
+        else
+        {
+            throw new IOException( format( "Unsupported value type: %s", value.getClass().getName() ) );
+        }
+    }
+
+    public static Object readValue( DataInput input ) throws IOException
+    {
+        byte valueType = input.readByte();
+        switch ( valueType )
+        {
+        case NULL_VALUE:
+            return null;
+        case INT_VALUE:
+            return input.readInt();
+        case LONG_VALUE:
+            return input.readLong();
+        case DOUBLE_VALUE:
+            return input.readDouble();
+        case BOOLEAN_VALUE:
+            return input.readBoolean();
+        case STRING_VALUE:
+            return readString( input );
+        case LIST_VALUE:
+            return readValues( input );
+        default:
+            throw new IOException( format( "Unknown value type: %s", valueType ) );
+        }
+    }
+
+    public static void writeValues( DataOutput output, Iterable<?> values ) throws IOException
+    {
+        if ( null == values )
+        {
+            output.writeInt( NULL_LENGTH );
+            return;
+        }
+        Collection<?> collection = asCollection( values );
+        output.writeInt( collection.size() );
+        for ( Object value : collection )
+        {
+            writeValue( output, value );
+        }
+    }
+
+    public static List<Object> readValues( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        if ( NULL_LENGTH == size )
+        {
+            return null;
+        }
+        List<Object> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( readValue( input ) );
+        }
+        return values;
+    }
+
+    public static void writeValueLists( DataOutput output, Iterable<List<Object>> valueLists ) throws IOException
+    {
+        if ( null == valueLists )
+        {
+            output.writeInt( NULL_LENGTH );
+            return;
+        }
+        Collection<List<Object>> collection = asCollection( valueLists );
+        output.writeInt( collection.size() );
+        for ( List<Object> values : collection )
+        {
+            writeValues( output, values );
+        }
+    }
+
+    public static List<List<Object>> readValueLists( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        if ( NULL_LENGTH == size )
+        {
+            return null;
+        }
+        List<List<Object>> valueLists = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            valueLists.add( readValues( input ) );
+        }
+        return valueLists;
+    }
+
+    private static <T> Collection<T> asCollection( Iterable<T> values )
+    {
+        return (values instanceof Collection) ? (Collection<T>) values : Lists.newArrayList( values );
+    }
+}
@@ -1,10 +1,12 @@
 package com.ldbc.driver.validation;
 
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogBlock;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogReaders;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 
 import static com.ldbc.driver.validation.ResultsLogValidationResult.ValidationErrorType;
 import static java.lang.String.format;
@@ -46,6 +48,9 @@ public class ResultsLogValidator
         return result;
     }
 
+    /**
+     * @param resultsLog results log, in either the CSV or columnar format
+     */
     public ResultsLogValidationSummary compute( File resultsLog, long excessiveDelayThresholdAsMilli )
             throws ValidationException
     {
@@ -55,27 +60,21 @@ public class ResultsLogValidator
                 excessiveDelayThresholdAsMilli
         );
 
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        ResultsLogBlock block = new ResultsLogBlock();
+        try ( ResultsLogReader reader = ResultsLogReaders.open( resultsLog ) )
         {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+            while ( reader.readBlock( block ) )
             {
-                String[] row = reader.next();
-                String operationType = row[0];
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                calculator.recordDelay( operationType, delayAsMilli );
+                for ( int i = 0; i < block.size(); i++ )
+                {
+                    long delayAsMilli = block.actualStartTimeAsMilli( i ) - block.scheduledStartTimeAsMilli( i );
+                    calculator.recordDelay( reader.operationName( block.operationType( i ) ), delayAsMilli );
+                }
             }
         }
-        catch ( FileNotFoundException e )
+        catch ( IOException e )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
         }
 
         return calculator.snapshot();
@@ -84,46 +83,42 @@ public class ResultsLogValidator
     private long maxDelayAsMilli( File resultsLog ) throws ValidationException
     {
         long maxDelayAsMilli = 0;
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        ResultsLogBlock block = new ResultsLogBlock();
+        try ( ResultsLogReader reader = ResultsLogReaders.open( resultsLog ) )
         {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+            while ( reader.readBlock( block ) )
             {
-                String[] row = reader.next();
-                
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                if ( delayAsMilli < 0 )
-                {
-                    throw new ValidationException(
-                            format( "Delay can not be negative\n" +
-                                    "Delay: %s (ms) / %s\n" +
-                                    "Scheduled Start Time: %s (ms) / %s\n" +
-                                    "Actual Start Time: %s (ms) / %s",
-                                    delayAsMilli,
-                                    TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
-                                    scheduledStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
-                                    actualStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
-                            )
-                    );
-                }
-                if ( delayAsMilli > maxDelayAsMilli )
+                for ( int i = 0; i < block.size(); i++ )
                 {
-                    maxDelayAsMilli = delayAsMilli;
+                    long scheduledStartTimeAsMilli = block.scheduledStartTimeAsMilli( i );
+                    long actualStartTimeAsMilli = block.actualStartTimeAsMilli( i );
+                    long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+                    if ( delayAsMilli < 0 )
+                    {
+                        throw new ValidationException(
+                                format( "Delay can not be negative\n" +
+                                        "Delay: %s (ms) / %s\n" +
+                                        "Scheduled Start Time: %s (ms) / %s\n" +
+                                        "Actual Start Time: %s (ms) / %s",
+                                        delayAsMilli,
+                                        TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
+                                        scheduledStartTimeAsMilli,
+                                        TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                                        actualStartTimeAsMilli,
+                                        TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
+                                )
+                        );
+                    }
+                    if ( delayAsMilli > maxDelayAsMilli )
+                    {
+                        maxDelayAsMilli = delayAsMilli;
+                    }
                 }
             }
         }
-        catch ( FileNotFoundException e )
+        catch ( IOException e )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
         }
         return maxDelayAsMilli;
     }
@@ -1,10 +1,12 @@
 package com.ldbc.driver.validation;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.util.Function0;
 
 public class ValidationParam {
     private final Operation operation;
-    private final Object operationResult;
+    private Object operationResult;
+    private Function0<Object> operationResultDecoder;
 
     public static <OPERATION extends Operation<RESULT>, RESULT> ValidationParam createTyped(OPERATION operation, RESULT operationResult) {
         return new ValidationParam(operation, operationResult);
@@ -14,9 +16,20 @@ public class ValidationParam {
         return new ValidationParam(operation, operationResult);
     }
 
+    /**
+     * Expected result is only decoded when first requested, as it may be large and is not needed if, e.g., the
+     * operation fails to execute. Not thread safe, a lazy parameter must only be consumed by one thread.
+     */
+    public static ValidationParam createLazy(Operation operation, Function0<Object> operationResultDecoder) {
+        ValidationParam validationParam = new ValidationParam(operation, null);
+        validationParam.operationResultDecoder = operationResultDecoder;
+        return validationParam;
+    }
+
     private ValidationParam(Operation operation, Object operationResult) {
         this.operation = operation;
         this.operationResult = operationResult;
+        this.operationResultDecoder = null;
     }
 
     public Operation operation() {
@@ -24,6 +37,10 @@ public class ValidationParam {
     }
 
     public Object operationResult() {
+        if (null != operationResultDecoder) {
+            operationResult = operationResultDecoder.apply();
+            operationResultDecoder = null;
+        }
         return operationResult;
     }
 
@@ -35,7 +52,9 @@ public class ValidationParam {
         ValidationParam that = (ValidationParam) o;
 
         if (operation != null ? !operation.equals(that.operation) : that.operation != null) return false;
-        if (operationResult != null ? !operationResult.equals(that.operationResult) : that.operationResult != null)
+        Object operationResult = operationResult();
+        Object thatOperationResult = that.operationResult();
+        if (operationResult != null ? !operationResult.equals(thatOperationResult) : thatOperationResult != null)
             return false;
 
         return true;
@@ -44,6 +63,7 @@ public class ValidationParam {
     @Override
     public int hashCode() {
         int result = operation != null ? operation.hashCode() : 0;
+        Object operationResult = operationResult();
         result = 31 * result + (operationResult != null ? operationResult.hashCode() : 0);
         return result;
     }
@@ -52,7 +72,7 @@ public class ValidationParam {
     public String toString() {
         return "ValidationParam{" +
                 "operation=" + operation +
-                ", operationResult=" + operationResult +
+                ", operationResult=" + operationResult() +
                 '}';
     }
 }
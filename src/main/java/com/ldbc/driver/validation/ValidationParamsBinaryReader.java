@@ -0,0 +1,217 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodecs;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.util.Function0;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Reads validation parameters written by ValidationParamsBinaryWriter.
+ * Operations are decoded as records are read, expected results are kept encoded until first requested.
+ */
+public class ValidationParamsBinaryReader implements Iterator<ValidationParam>, Closeable
+{
+    private final OperationCodecs codecs;
+    private final DataInputStream input;
+    private int nextOperationType;
+    private boolean hasNext;
+
+    public ValidationParamsBinaryReader( File file, OperationCodecs codecs ) throws IOException
+    {
+        this.codecs = codecs;
+        this.input = openAndReadHeader( file );
+        advance();
+    }
+
+    /**
+     * @return true if file starts with the header written by ValidationParamsBinaryWriter
+     */
+    public static boolean isBinary( File file ) throws IOException
+    {
+        byte[] magic = new byte[ValidationParamsBinaryWriter.MAGIC.length];
+        try ( InputStream inputStream = new FileInputStream( file ) )
+        {
+            int read = 0;
+            while ( read < magic.length )
+            {
+                int count = inputStream.read( magic, read, magic.length - read );
+                if ( -1 == count )
+                {
+                    return false;
+                }
+                read += count;
+            }
+        }
+        return Arrays.equals( ValidationParamsBinaryWriter.MAGIC, magic );
+    }
+
+    /**
+     * Counts records by skipping over their encoded operations and results, without decoding them
+     */
+    public static int count( File file ) throws IOException
+    {
+        int count = 0;
+        try ( DataInputStream input = openAndReadHeader( file ) )
+        {
+            while ( true )
+            {
+                try
+                {
+                    input.readInt();
+                }
+                catch ( EOFException e )
+                {
+                    return count;
+                }
+                skipFully( input, input.readInt() );
+                skipFully( input, input.readInt() );
+                count++;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return hasNext;
+    }
+
+    @Override
+    public ValidationParam next()
+    {
+        if ( false == hasNext )
+        {
+            throw new NoSuchElementException();
+        }
+        int operationType = nextOperationType;
+        Operation operation;
+        byte[] serializedOperationResult;
+        try
+        {
+            input.readInt();
+            operation = codecs.readOperation( operationType, input );
+            serializedOperationResult = new byte[input.readInt()];
+            input.readFully( serializedOperationResult );
+            advance();
+        }
+        catch ( IOException | SerializingMarshallingException e )
+        {
+            throw new GeneratorException(
+                    format( "Error reading validation parameter of operation type %s", operationType ), e );
+        }
+        return ValidationParam.createLazy(
+                operation,
+                new ResultDecoder( codecs, operationType, serializedOperationResult ) );
+    }
+
+    private void advance() throws IOException
+    {
+        try
+        {
+            nextOperationType = input.readInt();
+            hasNext = true;
+        }
+        catch ( EOFException e )
+        {
+            hasNext = false;
+        }
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        input.close();
+    }
+
+    private static DataInputStream openAndReadHeader( File file ) throws IOException
+    {
+        DataInputStream input = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) );
+        try
+        {
+            byte[] magic = new byte[ValidationParamsBinaryWriter.MAGIC.length];
+            input.readFully( magic );
+            if ( false == Arrays.equals( ValidationParamsBinaryWriter.MAGIC, magic ) )
+            {
+                throw new IOException( format( "Not a binary validation parameters file: %s",
+                        file.getAbsolutePath() ) );
+            }
+            int version = input.readInt();
+            if ( ValidationParamsBinaryWriter.VERSION != version )
+            {
+                throw new IOException( format( "Unsupported binary validation parameters version %s in: %s",
+                        version, file.getAbsolutePath() ) );
+            }
+            return input;
+        }
+        catch ( IOException e )
+        {
+            input.close();
+            throw e;
+        }
+    }
+
+    private static void skipFully( DataInputStream input, int length ) throws IOException
+    {
+        int skipped = 0;
+        while ( skipped < length )
+        {
+            int count = input.skipBytes( length - skipped );
+            if ( 0 == count )
+            {
+                throw new EOFException( "Truncated validation parameters file" );
+            }
+            skipped += count;
+        }
+    }
+
+    private static class ResultDecoder implements Function0<Object>
+    {
+        private final OperationCodecs codecs;
+        private final int operationType;
+        private final byte[] serializedOperationResult;
+
+        private ResultDecoder( OperationCodecs codecs, int operationType, byte[] serializedOperationResult )
+        {
+            this.codecs = codecs;
+            this.operationType = operationType;
+            this.serializedOperationResult = serializedOperationResult;
+        }
+
+        @Override
+        public Object apply()
+        {
+            try
+            {
+                return codecs.readResult( operationType,
+                        new DataInputStream( new ByteArrayInputStream( serializedOperationResult ) ) );
+            }
+            catch ( SerializingMarshallingException e )
+            {
+                throw new GeneratorException(
+                        format( "Error decoding result of operation type %s", operationType ), e );
+            }
+        }
+    }
+}
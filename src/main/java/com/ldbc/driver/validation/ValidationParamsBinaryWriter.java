@@ -0,0 +1,161 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodecs;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Writes validation parameters in the binary format read by ValidationParamsBinaryReader:
+ * <pre>
+ * file   := MAGIC VERSION record*
+ * record := type:int operation_length:int operation:byte[] result_length:int result:byte[]
+ * </pre>
+ * Operations and results are encoded by the OperationCodecs of the workload.
+ * Length prefixes allow readers to count or skip records without decoding them.
+ */
+public class ValidationParamsBinaryWriter implements Closeable
+{
+    static final byte[] MAGIC = "LDBCVPRM".getBytes( StandardCharsets.US_ASCII );
+    static final int VERSION = 1;
+
+    private final OperationCodecs codecs;
+    private final boolean performSerializationMarshallingChecks;
+    private final DataOutputStream output;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream bufferOutput = new DataOutputStream( buffer );
+
+    public ValidationParamsBinaryWriter( File file,
+            OperationCodecs codecs,
+            boolean performSerializationMarshallingChecks ) throws IOException
+    {
+        this.codecs = codecs;
+        this.performSerializationMarshallingChecks = performSerializationMarshallingChecks;
+        this.output = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ) ) );
+        output.write( MAGIC );
+        output.writeInt( VERSION );
+    }
+
+    public void write( ValidationParam validationParam ) throws IOException
+    {
+        Operation operation = validationParam.operation();
+        Object operationResult = validationParam.operationResult();
+        int operationType = operation.type();
+
+        byte[] serializedOperation;
+        try
+        {
+            buffer.reset();
+            codecs.writeOperation( operation, bufferOutput );
+            serializedOperation = buffer.toByteArray();
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            throw new GeneratorException( format( "Unable to serialize operation\nOperation: %s", operation ), e );
+        }
+
+        byte[] serializedOperationResult;
+        try
+        {
+            buffer.reset();
+            codecs.writeResult( operationType, operationResult, bufferOutput );
+            serializedOperationResult = buffer.toByteArray();
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            throw new GeneratorException(
+                    format(
+                            "Error serializing operation result\n"
+                            + "Operation: %s\n"
+                            + "Operation Result: %s",
+                            operation, operationResult ),
+                    e );
+        }
+
+        // Assert that serialization/marshalling is performed correctly
+        if ( performSerializationMarshallingChecks )
+        {
+            check( validationParam, operationType, serializedOperation, serializedOperationResult );
+        }
+
+        output.writeInt( operationType );
+        output.writeInt( serializedOperation.length );
+        output.write( serializedOperation );
+        output.writeInt( serializedOperationResult.length );
+        output.write( serializedOperationResult );
+    }
+
+    private void check( ValidationParam validationParam,
+            int operationType,
+            byte[] serializedOperation,
+            byte[] serializedOperationResult )
+    {
+        Operation marshaledOperation;
+        Object marshaledOperationResult;
+        try
+        {
+            marshaledOperation = codecs.readOperation( operationType,
+                    new DataInputStream( new ByteArrayInputStream( serializedOperation ) ) );
+            marshaledOperationResult = codecs.readResult( operationType,
+                    new DataInputStream( new ByteArrayInputStream( serializedOperationResult ) ) );
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Error marshalling serialized operation or result\n"
+                            + "Operation: %s\n"
+                            + "Operation Result: %s",
+                            validationParam.operation(), validationParam.operationResult() ),
+                    e );
+        }
+        if ( false == marshaledOperation.equals( validationParam.operation() ) )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Operation and serialized-then-marshaled operation do not equal\n"
+                            + "Operation: %s\n"
+                            + "Marshaled Operation: %s\n"
+                            + "Serialized Operation: %s",
+                            validationParam.operation(), marshaledOperation, Arrays.toString( serializedOperation ) )
+            );
+        }
+        if ( false == marshaledOperationResult.equals( validationParam.operationResult() ) )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Operation result and serialized-then-marshaled operation result do not equal\n"
+                            + "Operation: %s\n"
+                            + "Actual Result: %s\n"
+                            + "Marshaled Result: %s",
+                            validationParam.operation(), validationParam.operationResult(),
+                            marshaledOperationResult )
+            );
+        }
+    }
+
+    public void flush() throws IOException
+    {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        output.close();
+    }
+}
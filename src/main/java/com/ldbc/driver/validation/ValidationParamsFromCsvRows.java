@@ -4,11 +4,15 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.util.Function0;
 
 import java.util.Iterator;
 
 import static java.lang.String.format;
 
+/**
+ * Marshals operations as rows are read, expected results are only marshaled when they are first requested
+ */
 public class ValidationParamsFromCsvRows implements Iterator<ValidationParam>
 {
     private final Iterator<String[]> csvRows;
@@ -43,17 +47,7 @@ public class ValidationParamsFromCsvRows implements Iterator<ValidationParam>
             throw new GeneratorException( format( "Error marshalling operation\n%s", serializedOperation ), e );
         }
 
-        Object operationResult;
-        try
-        {
-            operationResult = operation.marshalResult( serializedOperationResult );
-        }
-        catch ( SerializingMarshallingException e )
-        {
-            throw new GeneratorException( format( "Error marshalling operation result\n%s", serializedOperationResult ),
-                    e );
-        }
-        return ValidationParam.createUntyped( operation, operationResult );
+        return ValidationParam.createLazy( operation, new ResultMarshaller( operation, serializedOperationResult ) );
     }
 
     @Override
@@ -61,4 +55,30 @@ public class ValidationParamsFromCsvRows implements Iterator<ValidationParam>
     {
         throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
     }
+
+    private static class ResultMarshaller implements Function0<Object>
+    {
+        private final Operation operation;
+        private final String serializedOperationResult;
+
+        private ResultMarshaller( Operation operation, String serializedOperationResult )
+        {
+            this.operation = operation;
+            this.serializedOperationResult = serializedOperationResult;
+        }
+
+        @Override
+        public Object apply()
+        {
+            try
+            {
+                return operation.marshalResult( serializedOperationResult );
+            }
+            catch ( SerializingMarshallingException e )
+            {
+                throw new GeneratorException(
+                        format( "Error marshalling operation result\n%s", serializedOperationResult ), e );
+            }
+        }
+    }
 }
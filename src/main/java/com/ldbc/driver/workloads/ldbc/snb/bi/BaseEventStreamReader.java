@@ -1,69 +1,68 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 
-import com.google.common.base.Charsets;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
-import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
-import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
-import com.ldbc.driver.csv.charseeker.Extractors;
-import com.ldbc.driver.csv.charseeker.Mark;
-import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.NoRemoveIterator;
+import com.ldbc.driver.generator.ParameterStore;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.Iterator;
 
 import static java.lang.String.format;
 
 abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> implements Closeable
 {
-    private final CharSeeker charSeeker;
-    private final InputStream parametersInputStream;
     private final Iterator<Object[]> parametersIterator;
 
-    public BaseEventStreamReader(
+    /**
+     * Parameters are read into memory once, by this constructor, parametersInputStream is closed when it returns.
+     * Readers created by cachedFrom() are instead served from the parameter store cached for their file
+     */
+    BaseEventStreamReader(
             InputStream parametersInputStream,
-            CharSeekerParams charSeekerParams,
-            GeneratorFactory gf ) throws WorkloadException
+            CharSeekerParams charSeekerParams ) throws WorkloadException
     {
-        this.parametersInputStream = parametersInputStream;
-        charSeeker = new BufferedCharSeeker(
-                Readables.wrap(
-                        new InputStreamReader( parametersInputStream, Charsets.UTF_8 )
-                ),
-                charSeekerParams.bufferSize()
-        );
-        Mark mark = new Mark();
-        // skip headers
-        try
+        ParameterStore parameterStore;
+        if ( parametersInputStream instanceof ParametersFileInputStream )
         {
-            for ( int i = 0; i < columnCount(); i++ )
-            {
-                charSeeker.seek( mark, new int[]{charSeekerParams.columnDelimiter()} );
-            }
+            parameterStore = ParameterStore.cachedFrom(
+                    ((ParametersFileInputStream) parametersInputStream).parametersFile,
+                    decoder(),
+                    columnCount(),
+                    charSeekerParams
+            );
         }
-        catch ( IOException e )
+        else
         {
-            throw new WorkloadException(
-                    format( "Unable to advance parameters stream beyond headers: %s", parametersInputStream ), e );
+            parameterStore = ParameterStore.from(
+                    parametersInputStream,
+                    parametersInputStream.toString(),
+                    decoder(),
+                    columnCount(),
+                    charSeekerParams
+            );
         }
+        parametersIterator = parameterStore.cycle();
+    }
 
-        parametersIterator = gf.repeating(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
-                        mark,
-                        decoder(),
-                        charSeekerParams.columnDelimiter()
-                )
-        );
+    /**
+     * Creates a reader with readerConstructor, served from the parameter store cached for parametersFile, the file is
+     * read only on first use
+     */
+    static <READER extends BaseEventStreamReader> READER cachedFrom(
+            File parametersFile,
+            CharSeekerParams charSeekerParams,
+            GeneratorFactory gf,
+            ReaderConstructor<READER> readerConstructor ) throws WorkloadException
+    {
+        return readerConstructor.newReader( new ParametersFileInputStream( parametersFile ), charSeekerParams, gf );
     }
 
     @Override
@@ -84,8 +83,7 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
     @Override
     public void close() throws IOException
     {
-        charSeeker.close();
-        parametersInputStream.close();
+        // parameters are held in memory, no file remains open
     }
 
     abstract Operation operationFromParameters( Object[] parameters );
@@ -93,4 +91,40 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
     abstract CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder();
 
     abstract int columnCount();
+
+    /**
+     * Public constructor of a reader, e.g., Query1EventStreamReader::new
+     */
+    interface ReaderConstructor<READER extends BaseEventStreamReader>
+    {
+        READER newReader(
+                InputStream parametersInputStream,
+                CharSeekerParams charSeekerParams,
+                GeneratorFactory gf ) throws WorkloadException;
+    }
+
+    /**
+     * Passed to reader constructors in place of an input stream, to name the file of the cached parameter store
+     */
+    private static class ParametersFileInputStream extends InputStream
+    {
+        private final File parametersFile;
+
+        private ParametersFileInputStream( File parametersFile )
+        {
+            this.parametersFile = parametersFile;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            throw new IOException( format( "Parameters of %s are read by the parameter store", parametersFile ) );
+        }
+
+        @Override
+        public String toString()
+        {
+            return parametersFile.getAbsolutePath();
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package com.ldbc.driver.workloads.ldbc.snb.bi;
+
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of a POWER or THROUGHPUT run: mean run time of each query, the geometric mean of those means (so every
+ * query weighs the same, regardless of how long it runs), and the query throughput of the run as a whole.
+ */
+class LdbcSnbBiResultsSummary
+{
+    static final String RUN_MODE = "run_mode";
+    static final String STREAMS = "streams";
+    static final String QUERY_MEAN_RUN_TIMES = "query_mean_run_time_ms";
+    static final String GEOMETRIC_MEAN_RUN_TIME = "geometric_mean_run_time_ms";
+    static final String TOTAL_DURATION = "total_duration_ms";
+    static final String QUERY_COUNT = "query_count";
+    static final String QUERIES_PER_HOUR = "queries_per_hour";
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    static Map<String,Object> summarize(
+            LdbcSnbBiWorkloadConfiguration.RunMode runMode,
+            int streams,
+            WorkloadResultsSnapshot workloadResults )
+    {
+        Map<String,Double> queryMeanRunTimes = new LinkedHashMap<>();
+        double logRunTimesSum = 0;
+        for ( OperationMetricsSnapshot operationMetrics : workloadResults.allMetrics() )
+        {
+            ContinuousMetricSnapshot runTimeMetric = operationMetrics.runTimeMetric();
+            if ( 0 == operationMetrics.count() )
+            {
+                continue;
+            }
+            double meanRunTimeAsMilli = runTimeMetric.mean() * runTimeMetric.unit().toNanos( 1 ) / NANOS_PER_MILLI;
+            queryMeanRunTimes.put( operationMetrics.name(), meanRunTimeAsMilli );
+            logRunTimesSum += Math.log( meanRunTimeAsMilli );
+        }
+        double geometricMeanRunTimeAsMilli =
+                (queryMeanRunTimes.isEmpty()) ? 0 : Math.exp( logRunTimesSum / queryMeanRunTimes.size() );
+
+        double totalDurationAsMilli = workloadResults.totalRunDurationAsNano() / NANOS_PER_MILLI;
+        double queriesPerHour = (0 == totalDurationAsMilli)
+                                ? 0
+                                : workloadResults.totalOperationCount() * TimeUnit.HOURS.toMillis( 1 ) /
+                                  totalDurationAsMilli;
+
+        Map<String,Object> summary = new LinkedHashMap<>();
+        summary.put( RUN_MODE, runMode.name() );
+        summary.put( STREAMS, streams );
+        summary.put( QUERY_MEAN_RUN_TIMES, queryMeanRunTimes );
+        summary.put( GEOMETRIC_MEAN_RUN_TIME, geometricMeanRunTimeAsMilli );
+        summary.put( TOTAL_DURATION, totalDurationAsMilli );
+        summary.put( QUERY_COUNT, workloadResults.totalOperationCount() );
+        summary.put( QUERIES_PER_HOUR, queriesPerHour );
+        return summary;
+    }
+}
@@ -9,13 +9,11 @@ import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
 
-import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,31 +30,30 @@ public class LdbcSnbBiWorkload extends Workload
 {
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     // TODO alternatively they could be CloseableStream (or similar) where files and everything are in 1 class
-    private List<Closeable> readOperationFileReaders = new ArrayList<>();
-    private FileInputStream readOperation1FileInputStream;
-    private FileInputStream readOperation2FileInputStream;
-    private FileInputStream readOperation3FileInputStream;
-    private FileInputStream readOperation4FileInputStream;
-    private FileInputStream readOperation5FileInputStream;
-    private FileInputStream readOperation6FileInputStream;
-    private FileInputStream readOperation7FileInputStream;
-    private FileInputStream readOperation8FileInputStream;
-    private FileInputStream readOperation9FileInputStream;
-    private FileInputStream readOperation10FileInputStream;
-    private FileInputStream readOperation11FileInputStream;
-    private FileInputStream readOperation12FileInputStream;
-    private FileInputStream readOperation13FileInputStream;
-    private FileInputStream readOperation14FileInputStream;
-    private FileInputStream readOperation15FileInputStream;
-    private FileInputStream readOperation16FileInputStream;
-    private FileInputStream readOperation17FileInputStream;
-    private FileInputStream readOperation18FileInputStream;
-    private FileInputStream readOperation19FileInputStream;
-    private FileInputStream readOperation20FileInputStream;
-    private FileInputStream readOperation21FileInputStream;
-    private FileInputStream readOperation22FileInputStream;
-    private FileInputStream readOperation23FileInputStream;
-    private FileInputStream readOperation24FileInputStream;
+    private File readOperation1File;
+    private File readOperation2File;
+    private File readOperation3File;
+    private File readOperation4File;
+    private File readOperation5File;
+    private File readOperation6File;
+    private File readOperation7File;
+    private File readOperation8File;
+    private File readOperation9File;
+    private File readOperation10File;
+    private File readOperation11File;
+    private File readOperation12File;
+    private File readOperation13File;
+    private File readOperation14File;
+    private File readOperation15File;
+    private File readOperation16File;
+    private File readOperation17File;
+    private File readOperation18File;
+    private File readOperation19File;
+    private File readOperation20File;
+    private File readOperation21File;
+    private File readOperation22File;
+    private File readOperation23File;
+    private File readOperation24File;
 
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     private LdbcSnbBiWorkloadConfiguration.LdbcSnbBiInterleaves interleaves = null;
@@ -65,6 +62,12 @@ public class LdbcSnbBiWorkload extends Workload
 
     private Set<Class> enabledOperationTypes;
 
+    private LdbcSnbBiWorkloadConfiguration.RunMode runMode;
+    private int throughputStreams;
+
+    // random stream of the first throughput stream query order, later streams use the following random streams
+    private static final long QUERY_ORDER_RANDOM_STREAM = 0;
+
     private static final int BUFFER_SIZE = 1 * 1024 * 1024;
     private static final char COLUMN_DELIMITER = '|';
     private static final char ARRAY_DELIMITER = ';';
@@ -118,85 +121,31 @@ public class LdbcSnbBiWorkload extends Workload
                 ) );
             }
         }
-        try
-        {
-            readOperation1FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME )
-            );
-            readOperation2FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME )
-            );
-            readOperation3FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME )
-            );
-            readOperation4FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME )
-            );
-            readOperation5FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME )
-            );
-            readOperation6FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME )
-            );
-            readOperation7FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME )
-            );
-            readOperation8FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME )
-            );
-            readOperation9FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME )
-            );
-            readOperation10FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME )
-            );
-            readOperation11FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME )
-            );
-            readOperation12FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME )
-            );
-            readOperation13FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME )
-            );
-            readOperation14FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME )
-            );
-            readOperation15FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME )
-            );
-            readOperation16FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME )
-            );
-            readOperation17FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME )
-            );
-            readOperation18FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME )
-            );
-            readOperation19FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME )
-            );
-            readOperation20FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME )
-            );
-            readOperation21FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_21_PARAMS_FILENAME )
-            );
-            readOperation22FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_22_PARAMS_FILENAME )
-            );
-            readOperation23FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_23_PARAMS_FILENAME )
-            );
-            readOperation24FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_24_PARAMS_FILENAME )
-            );
-        }
-        catch ( FileNotFoundException e )
-        {
-            throw new WorkloadException( "Error load query parameters file", e );
-        }
+        // parameter files are only read by streams of enabled queries, see getStreams()
+        readOperation1File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME );
+        readOperation2File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME );
+        readOperation3File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME );
+        readOperation4File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME );
+        readOperation5File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME );
+        readOperation6File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME );
+        readOperation7File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME );
+        readOperation8File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME );
+        readOperation9File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME );
+        readOperation10File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME );
+        readOperation11File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME );
+        readOperation12File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME );
+        readOperation13File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME );
+        readOperation14File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME );
+        readOperation15File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME );
+        readOperation16File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME );
+        readOperation17File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME );
+        readOperation18File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME );
+        readOperation19File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME );
+        readOperation20File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME );
+        readOperation21File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_21_PARAMS_FILENAME );
+        readOperation22File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_22_PARAMS_FILENAME );
+        readOperation23File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_23_PARAMS_FILENAME );
+        readOperation24File = new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_24_PARAMS_FILENAME );
 
         enabledOperationTypes = new HashSet<>();
         for ( String operationEnableKey : LdbcSnbBiWorkloadConfiguration.OPERATION_ENABLE_KEYS )
@@ -245,19 +194,206 @@ public class LdbcSnbBiWorkload extends Workload
 
         this.compressionRatio =
                 Double.parseDouble( params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim() );
+
+        this.runMode = LdbcSnbBiWorkloadConfiguration.runModeFromParams( params );
+        this.throughputStreams = LdbcSnbBiWorkloadConfiguration.throughputStreamsFromParams( params );
     }
 
     @Override
     synchronized protected void onClose() throws IOException
     {
-        for ( Closeable readOperationFileReader : readOperationFileReaders )
-        {
-            readOperationFileReader.close();
-        }
+        // parameters are held in memory by the parameter store, no parameter file remains open
     }
 
     @Override
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
+    {
+        switch ( runMode )
+        {
+        case POWER:
+            return sequentialQueryStreams( gf, 1, false );
+        case THROUGHPUT:
+            return sequentialQueryStreams( gf, throughputStreams, true );
+        default:
+            return interleavedQueryStreams( gf );
+        }
+    }
+
+    /**
+     * Every stream executes each enabled query once, one query after the other, as it is a blocking stream.
+     * Operations are all due at workload start, i.e., each query is started as soon as its predecessor completed.
+     * Streams are executed concurrently, each is given the next parameters of each query.
+     *
+     * @param permuteQueryOrder if false queries are executed in query order, otherwise each stream is given its own
+     * (deterministic) permutation of the query order
+     */
+    private WorkloadStreams sequentialQueryStreams( GeneratorFactory gf, int streamCount, boolean permuteQueryOrder )
+            throws WorkloadException
+    {
+        long workloadStartTimeAsMilli = 0;
+        WorkloadStreams ldbcSnbBiWorkloadStreams = new WorkloadStreams();
+        List<Iterator<Operation>> queryParameters = enabledQueryParameters( gf );
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            int[] queryOrder = new int[queryParameters.size()];
+            if ( permuteQueryOrder && queryOrder.length > 0 )
+            {
+                queryOrder = gf.splitRandomDataGeneratorFactory( QUERY_ORDER_RANDOM_STREAM + stream ).newRandom()
+                        .nextPermutation( queryOrder.length, queryOrder.length );
+            }
+            else
+            {
+                for ( int i = 0; i < queryOrder.length; i++ )
+                {
+                    queryOrder[i] = i;
+                }
+            }
+            List<Operation> streamOperations = new ArrayList<>();
+            for ( int query : queryOrder )
+            {
+                streamOperations.add( queryParameters.get( query ).next() );
+            }
+            ldbcSnbBiWorkloadStreams.addBlockingStream(
+                    new HashSet<Class<? extends Operation>>(),
+                    new HashSet<Class<? extends Operation>>(),
+                    Collections.<Operation>emptyIterator(),
+                    gf.assignStartTimes( gf.constant( workloadStartTimeAsMilli ), streamOperations.iterator() ),
+                    null
+            );
+        }
+        return ldbcSnbBiWorkloadStreams;
+    }
+
+    /**
+     * @return parameters of each enabled query, in query order
+     */
+    private List<Iterator<Operation>> enabledQueryParameters( GeneratorFactory gf ) throws WorkloadException
+    {
+        List<Iterator<Operation>> queryParameters = new ArrayList<>();
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery1PostingSummary.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation1File, CHAR_SEEKER_PARAMS, gf, Query1EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery2TopTags.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation2File, CHAR_SEEKER_PARAMS, gf, Query2EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery3TagEvolution.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation3File, CHAR_SEEKER_PARAMS, gf, Query3EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery4PopularCountryTopics.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation4File, CHAR_SEEKER_PARAMS, gf, Query4EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery5TopCountryPosters.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation5File, CHAR_SEEKER_PARAMS, gf, Query5EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery6ActivePosters.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation6File, CHAR_SEEKER_PARAMS, gf, Query6EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery7AuthoritativeUsers.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation7File, CHAR_SEEKER_PARAMS, gf, Query7EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery8RelatedTopics.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation8File, CHAR_SEEKER_PARAMS, gf, Query8EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery9RelatedForums.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation9File, CHAR_SEEKER_PARAMS, gf, Query9EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery10TagPerson.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation10File, CHAR_SEEKER_PARAMS, gf, Query10EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery11UnrelatedReplies.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation11File, CHAR_SEEKER_PARAMS, gf, Query11EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery12TrendingPosts.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation12File, CHAR_SEEKER_PARAMS, gf, Query12EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery13PopularMonthlyTags.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation13File, CHAR_SEEKER_PARAMS, gf, Query13EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery14TopThreadInitiators.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation14File, CHAR_SEEKER_PARAMS, gf, Query14EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery15SocialNormals.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation15File, CHAR_SEEKER_PARAMS, gf, Query15EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery16ExpertsInSocialCircle.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation16File, CHAR_SEEKER_PARAMS, gf, Query16EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery17FriendshipTriangles.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation17File, CHAR_SEEKER_PARAMS, gf, Query17EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery18PersonPostCounts.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation18File, CHAR_SEEKER_PARAMS, gf, Query18EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery19StrangerInteraction.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation19File, CHAR_SEEKER_PARAMS, gf, Query19EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery20HighLevelTopics.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation20File, CHAR_SEEKER_PARAMS, gf, Query20EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery21Zombies.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation21File, CHAR_SEEKER_PARAMS, gf, Query21EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery22InternationalDialog.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation22File, CHAR_SEEKER_PARAMS, gf, Query22EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery23HolidayDestinations.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation23File, CHAR_SEEKER_PARAMS, gf, Query23EventStreamReader::new ) );
+        }
+        if ( enabledOperationTypes.contains( LdbcSnbBiQuery24MessagesByTopic.class ) )
+        {
+            queryParameters.add( BaseEventStreamReader.cachedFrom(
+                    readOperation24File, CHAR_SEEKER_PARAMS, gf, Query24EventStreamReader::new ) );
+        }
+        return queryParameters;
+    }
+
+    private WorkloadStreams interleavedQueryStreams( GeneratorFactory gf ) throws WorkloadException
     {
         long workloadStartTimeAsMilli = 0;
         WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
@@ -269,12 +405,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 1
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery1PostingSummary.class ) )
         {
-            Query1EventStreamReader operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    readOperation1FileInputStream,
+            Query1EventStreamReader operation1StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation1File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query1EventStreamReader::new
             );
-            readOperationFileReaders.add( operation1StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -289,12 +425,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 2
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery2TopTags.class ) )
         {
-            Query2EventStreamReader operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    readOperation2FileInputStream,
+            Query2EventStreamReader operation2StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation2File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query2EventStreamReader::new
             );
-            readOperationFileReaders.add( operation2StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -309,12 +445,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 3
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery3TagEvolution.class ) )
         {
-            Query3EventStreamReader operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    readOperation3FileInputStream,
+            Query3EventStreamReader operation3StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation3File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query3EventStreamReader::new
             );
-            readOperationFileReaders.add( operation3StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -330,12 +466,12 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery4PopularCountryTopics.class ) )
         {
             Query4EventStreamReader operation4StreamWithoutTimes = null;
-            operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    readOperation4FileInputStream,
+            operation4StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation4File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query4EventStreamReader::new
             );
-            readOperationFileReaders.add( operation4StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -350,12 +486,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 5
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery5TopCountryPosters.class ) )
         {
-            Query5EventStreamReader operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    readOperation5FileInputStream,
+            Query5EventStreamReader operation5StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation5File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query5EventStreamReader::new
             );
-            readOperationFileReaders.add( operation5StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -370,12 +506,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 6
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery6ActivePosters.class ) )
         {
-            Query6EventStreamReader operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    readOperation6FileInputStream,
+            Query6EventStreamReader operation6StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation6File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query6EventStreamReader::new
             );
-            readOperationFileReaders.add( operation6StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -390,12 +526,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 7
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery7AuthoritativeUsers.class ) )
         {
-            Query7EventStreamReader operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    readOperation7FileInputStream,
+            Query7EventStreamReader operation7StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation7File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query7EventStreamReader::new
             );
-            readOperationFileReaders.add( operation7StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -410,12 +546,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 8
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery8RelatedTopics.class ) )
         {
-            Query8EventStreamReader operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    readOperation8FileInputStream,
+            Query8EventStreamReader operation8StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation8File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query8EventStreamReader::new
             );
-            readOperationFileReaders.add( operation8StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -430,12 +566,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 9
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery9RelatedForums.class ) )
         {
-            Query9EventStreamReader operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    readOperation9FileInputStream,
+            Query9EventStreamReader operation9StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation9File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query9EventStreamReader::new
             );
-            readOperationFileReaders.add( operation9StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -450,12 +586,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 10
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery10TagPerson.class ) )
         {
-            Query10EventStreamReader operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    readOperation10FileInputStream,
+            Query10EventStreamReader operation10StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation10File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query10EventStreamReader::new
             );
-            readOperationFileReaders.add( operation10StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -470,12 +606,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 11
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery11UnrelatedReplies.class ) )
         {
-            Query11EventStreamReader operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    readOperation11FileInputStream,
+            Query11EventStreamReader operation11StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation11File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query11EventStreamReader::new
             );
-            readOperationFileReaders.add( operation11StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -490,12 +626,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 12
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery12TrendingPosts.class ) )
         {
-            Query12EventStreamReader operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    readOperation12FileInputStream,
+            Query12EventStreamReader operation12StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation12File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query12EventStreamReader::new
             );
-            readOperationFileReaders.add( operation12StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -510,12 +646,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 13
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery13PopularMonthlyTags.class ) )
         {
-            Query13EventStreamReader operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    readOperation13FileInputStream,
+            Query13EventStreamReader operation13StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation13File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query13EventStreamReader::new
             );
-            readOperationFileReaders.add( operation13StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -530,12 +666,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 14
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery14TopThreadInitiators.class ) )
         {
-            Query14EventStreamReader operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    readOperation14FileInputStream,
+            Query14EventStreamReader operation14StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation14File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query14EventStreamReader::new
             );
-            readOperationFileReaders.add( operation14StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -550,12 +686,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 15
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery15SocialNormals.class ) )
         {
-            Query15EventStreamReader operation15StreamWithoutTimes = new Query15EventStreamReader(
-                    readOperation15FileInputStream,
+            Query15EventStreamReader operation15StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation15File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query15EventStreamReader::new
             );
-            readOperationFileReaders.add( operation15StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -570,12 +706,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 16
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery16ExpertsInSocialCircle.class ) )
         {
-            Query16EventStreamReader operation16StreamWithoutTimes = new Query16EventStreamReader(
-                    readOperation16FileInputStream,
+            Query16EventStreamReader operation16StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation16File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query16EventStreamReader::new
             );
-            readOperationFileReaders.add( operation16StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -590,12 +726,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 17
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery17FriendshipTriangles.class ) )
         {
-            Query17EventStreamReader operation17StreamWithoutTimes = new Query17EventStreamReader(
-                    readOperation17FileInputStream,
+            Query17EventStreamReader operation17StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation17File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query17EventStreamReader::new
             );
-            readOperationFileReaders.add( operation17StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -610,12 +746,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 18
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery18PersonPostCounts.class ) )
         {
-            Query18EventStreamReader operation18StreamWithoutTimes = new Query18EventStreamReader(
-                    readOperation18FileInputStream,
+            Query18EventStreamReader operation18StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation18File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query18EventStreamReader::new
             );
-            readOperationFileReaders.add( operation18StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -630,12 +766,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 19
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery19StrangerInteraction.class ) )
         {
-            Query19EventStreamReader operation19StreamWithoutTimes = new Query19EventStreamReader(
-                    readOperation19FileInputStream,
+            Query19EventStreamReader operation19StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation19File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query19EventStreamReader::new
             );
-            readOperationFileReaders.add( operation19StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -650,12 +786,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 20
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery20HighLevelTopics.class ) )
         {
-            Query20EventStreamReader operation20StreamWithoutTimes = new Query20EventStreamReader(
-                    readOperation20FileInputStream,
+            Query20EventStreamReader operation20StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation20File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query20EventStreamReader::new
             );
-            readOperationFileReaders.add( operation20StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -670,12 +806,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 21
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery21Zombies.class ) )
         {
-            Query21EventStreamReader operation21StreamWithoutTimes = new Query21EventStreamReader(
-                    readOperation21FileInputStream,
+            Query21EventStreamReader operation21StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation21File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query21EventStreamReader::new
             );
-            readOperationFileReaders.add( operation21StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -690,12 +826,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 22
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery22InternationalDialog.class ) )
         {
-            Query22EventStreamReader operation22StreamWithoutTimes = new Query22EventStreamReader(
-                    readOperation22FileInputStream,
+            Query22EventStreamReader operation22StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation22File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query22EventStreamReader::new
             );
-            readOperationFileReaders.add( operation22StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -710,12 +846,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 23
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery23HolidayDestinations.class ) )
         {
-            Query23EventStreamReader operation23StreamWithoutTimes = new Query23EventStreamReader(
-                    readOperation23FileInputStream,
+            Query23EventStreamReader operation23StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation23File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query23EventStreamReader::new
             );
-            readOperationFileReaders.add( operation23StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -730,12 +866,12 @@ public class LdbcSnbBiWorkload extends Workload
         // Query 24
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery24MessagesByTopic.class ) )
         {
-            Query24EventStreamReader operation24StreamWithoutTimes = new Query24EventStreamReader(
-                    readOperation24FileInputStream,
+            Query24EventStreamReader operation24StreamWithoutTimes = BaseEventStreamReader.cachedFrom(
+                    readOperation24File,
                     CHAR_SEEKER_PARAMS,
-                    gf
+                    gf,
+                    Query24EventStreamReader::new
             );
-            readOperationFileReaders.add( operation24StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
                             gf.incrementing(
@@ -816,6 +952,20 @@ public class LdbcSnbBiWorkload extends Workload
         };
     }
 
+    @Override
+    public Map<String,Object> resultsSummary( WorkloadResultsSnapshot workloadResults )
+    {
+        switch ( runMode )
+        {
+        case POWER:
+            return LdbcSnbBiResultsSummary.summarize( runMode, 1, workloadResults );
+        case THROUGHPUT:
+            return LdbcSnbBiResultsSummary.summarize( runMode, throughputStreams, workloadResults );
+        default:
+            return null;
+        }
+    }
+
     @Override
     public long maxExpectedInterleaveAsMilli()
     {
@@ -12,6 +12,7 @@ import com.ldbc.driver.util.MapUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -27,6 +28,11 @@ public class LdbcSnbBiWorkloadConfiguration
     public final static String LDBC_SNB_BI_PARAM_NAME_PREFIX = "ldbc.snb.bi.";
     // directory that contains the substitution parameters files
     public final static String PARAMETERS_DIRECTORY = LDBC_SNB_BI_PARAM_NAME_PREFIX + "parameters_dir";
+    // how queries are executed, one of RunMode, INTERLEAVED if not set
+    public final static String RUN_MODE = LDBC_SNB_BI_PARAM_NAME_PREFIX + "run_mode";
+    // number of concurrent query streams in THROUGHPUT run mode
+    public final static String THROUGHPUT_STREAMS = LDBC_SNB_BI_PARAM_NAME_PREFIX + "throughput_streams";
+    public final static int DEFAULT_THROUGHPUT_STREAMS = 2;
     // TODO this should be private and conversion to class names should be done by this class
     private final static String LDBC_SNB_BI_PACKAGE_PREFIX = removeSuffix(
             LdbcSnbBiWorkloadConfiguration.class.getName(), LdbcSnbBiWorkloadConfiguration.class.getSimpleName()
@@ -679,6 +685,67 @@ public class LdbcSnbBiWorkloadConfiguration
         return operationTypeToClassMapping;
     }
 
+    public enum RunMode
+    {
+        /**
+         * All enabled queries in one asynchronous stream, each query started at its own interleave
+         */
+        INTERLEAVED,
+        /**
+         * Each enabled query once, one after the other, in query order
+         */
+        POWER,
+        /**
+         * Concurrent query streams, each executing every enabled query once, one after the other, in its own order
+         */
+        THROUGHPUT
+    }
+
+    static RunMode runModeFromParams( Map<String,String> params ) throws WorkloadException
+    {
+        String runModeString = params.get( RUN_MODE );
+        if ( null == runModeString )
+        {
+            return RunMode.INTERLEAVED;
+        }
+        try
+        {
+            return RunMode.valueOf( runModeString.trim().toUpperCase() );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new WorkloadException(
+                    format( "Invalid value for %s: %s\nExpected one of: %s",
+                            RUN_MODE, runModeString, Arrays.toString( RunMode.values() ) ),
+                    e );
+        }
+    }
+
+    static int throughputStreamsFromParams( Map<String,String> params ) throws WorkloadException
+    {
+        String throughputStreamsString = params.get( THROUGHPUT_STREAMS );
+        if ( null == throughputStreamsString )
+        {
+            return DEFAULT_THROUGHPUT_STREAMS;
+        }
+        int throughputStreams;
+        try
+        {
+            throughputStreams = Integer.parseInt( throughputStreamsString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException(
+                    format( "Invalid value for %s: %s", THROUGHPUT_STREAMS, throughputStreamsString ), e );
+        }
+        if ( throughputStreams < 1 )
+        {
+            throw new WorkloadException(
+                    format( "%s must be at least 1, was: %s", THROUGHPUT_STREAMS, throughputStreams ) );
+        }
+        return throughputStreams;
+    }
+
     static Set<String> missingParameters( Map<String,String> parameters, Iterable<String> compulsoryParameterKeys )
     {
         Set<String> missingPropertyKeys = new HashSet<>();
@@ -23,7 +23,7 @@ public class Query11EventStreamReader extends BaseEventStreamReader
             CharSeekerParams charSeekerParams,
             GeneratorFactory gf ) throws WorkloadException
     {
-        super( parametersInputStream, charSeekerParams, gf );
+        super( parametersInputStream, charSeekerParams );
     }
 
     @Override
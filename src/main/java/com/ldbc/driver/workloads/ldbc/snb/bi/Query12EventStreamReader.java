@@ -21,7 +21,7 @@ public class Query12EventStreamReader extends BaseEventStreamReader
             CharSeekerParams charSeekerParams,
             GeneratorFactory gf ) throws WorkloadException
     {
-        super( parametersInputStream, charSeekerParams, gf );
+        super( parametersInputStream, charSeekerParams );
     }
 
     @Override
@@ -20,7 +20,7 @@ public class Query13EventStreamReader extends BaseEventStreamReader
             CharSeekerParams charSeekerParams,
             GeneratorFactory gf ) throws WorkloadException
     {
-        super( parametersInputStream, charSeekerParams, gf );
+        super( parametersInputStream, charSeekerParams );
     }
 
     @Override
@@ -11,13 +11,14 @@ import static java.lang.String.format;
 
 public class SerializationUtil
 {
+    // ObjectMapper is thread safe once configured, no locking needed
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final TypeReference<List<List<Object>>> LIST_OF_LISTS_TYPE_REFERENCE =
             new TypeReference<List<List<Object>>>()
             {
             };
 
-    public static synchronized List<List<Object>> marshalListOfLists( String serializedJson )
+    public static List<List<Object>> marshalListOfLists( String serializedJson )
             throws SerializingMarshallingException
     {
         try
@@ -30,7 +31,7 @@ public class SerializationUtil
         }
     }
 
-    public static synchronized String toJson( Object object ) throws SerializingMarshallingException
+    public static String toJson( Object object ) throws SerializingMarshallingException
     {
         try
         {
@@ -0,0 +1,26 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import java.util.Date;
+
+/**
+ * Interactive operations hold their dates as epoch milliseconds. Their Date constructors still accept null, a null Date
+ * is held as NULL_DATE_AS_MILLI and is viewed as null again by the Date accessors.
+ */
+public class LdbcDates
+{
+    public static final long NULL_DATE_AS_MILLI = Long.MIN_VALUE;
+
+    private LdbcDates()
+    {
+    }
+
+    static long asMilli( Date date )
+    {
+        return (null == date) ? NULL_DATE_AS_MILLI : date.getTime();
+    }
+
+    static Date asDate( long dateAsMilli )
+    {
+        return (NULL_DATE_AS_MILLI == dateAsMilli) ? null : new Date( dateAsMilli );
+    }
+}
@@ -16,7 +16,7 @@ public class LdbcQuery14Result {
     public Iterable<? extends Number> personsIdsInPath() {
         // force to List, as Guava/Jackson magic changes it to a strange collection that breaks equality somewhere
         // not performance sensitive code path, only used for validation & serialization - not during runs
-        return Lists.newArrayList(personIdsInPath);
+        return (null == personIdsInPath) ? null : Lists.newArrayList(personIdsInPath);
     }
 
     public double pathWeight() {
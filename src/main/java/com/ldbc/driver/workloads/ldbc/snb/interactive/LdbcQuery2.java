@@ -19,24 +19,43 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
     public static final int TYPE = 2;
     public static final int DEFAULT_LIMIT = 20;
     private final long personId;
-    private final Date maxDate;
+    private final long maxDateAsMilli;
     private final int limit;
+    // Date views of the AsMilli fields, created on first use
+    private Date maxDate = null;
 
-    public LdbcQuery2( long personId, Date maxDate, int limit )
+    public LdbcQuery2( long personId, long maxDateAsMilli, int limit )
     {
         super();
         this.personId = personId;
-        this.maxDate = maxDate;
+        this.maxDateAsMilli = maxDateAsMilli;
         this.limit = limit;
     }
 
+    public LdbcQuery2( long personId, Date maxDate, int limit )
+    {
+        this( personId, LdbcDates.asMilli( maxDate ), limit );
+    }
+
     public long personId()
     {
         return personId;
     }
 
+    public long maxDateAsMilli()
+    {
+        return maxDateAsMilli;
+    }
+
+    /**
+     * @return maxDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date maxDate()
     {
+        if ( null == maxDate )
+        {
+            maxDate = LdbcDates.asDate( maxDateAsMilli );
+        }
         return maxDate;
     }
 
@@ -59,7 +78,7 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( maxDate != null ? !maxDate.equals( that.maxDate ) : that.maxDate != null )
+        if ( maxDateAsMilli != that.maxDateAsMilli )
         { return false; }
 
         return true;
@@ -69,7 +88,7 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
     public int hashCode()
     {
         int result = (int) (personId ^ (personId >>> 32));
-        result = 31 * result + (maxDate != null ? maxDate.hashCode() : 0);
+        result = 31 * result + (int) (maxDateAsMilli ^ (maxDateAsMilli >>> 32));
         result = 31 * result + limit;
         return result;
     }
@@ -79,7 +98,7 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
     {
         return "LdbcQuery2{" +
                "personId=" + personId +
-               ", maxDate=" + maxDate +
+               ", maxDate=" + maxDate() +
                ", limit=" + limit +
                '}';
     }
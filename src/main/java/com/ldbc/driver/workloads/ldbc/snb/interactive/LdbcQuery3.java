@@ -21,21 +21,29 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
     private final long personId;
     private final String countryXName;
     private final String countryYName;
-    private final Date startDate;
+    private final long startDateAsMilli;
     private final int durationDays;
     private final int limit;
+    // Date views of the AsMilli fields, created on first use
+    private Date startDate = null;
 
-    public LdbcQuery3( long personId, String countryXName, String countryYName, Date startDate, int durationDays,
+    public LdbcQuery3( long personId, String countryXName, String countryYName, long startDateAsMilli, int durationDays,
             int limit )
     {
         this.personId = personId;
         this.countryXName = countryXName;
         this.countryYName = countryYName;
-        this.startDate = startDate;
+        this.startDateAsMilli = startDateAsMilli;
         this.durationDays = durationDays;
         this.limit = limit;
     }
 
+    public LdbcQuery3( long personId, String countryXName, String countryYName, Date startDate, int durationDays,
+            int limit )
+    {
+        this( personId, countryXName, countryYName, LdbcDates.asMilli( startDate ), durationDays, limit );
+    }
+
     public long personId()
     {
         return personId;
@@ -51,8 +59,20 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         return countryYName;
     }
 
+    public long startDateAsMilli()
+    {
+        return startDateAsMilli;
+    }
+
+    /**
+     * @return startDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date startDate()
     {
+        if ( null == startDate )
+        {
+            startDate = LdbcDates.asDate( startDateAsMilli );
+        }
         return startDate;
     }
 
@@ -86,7 +106,7 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         { return false; }
         if ( countryYName != null ? !countryYName.equals( that.countryYName ) : that.countryYName != null )
         { return false; }
-        if ( startDate != null ? !startDate.equals( that.startDate ) : that.startDate != null )
+        if ( startDateAsMilli != that.startDateAsMilli )
         { return false; }
 
         return true;
@@ -98,7 +118,7 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         int result = (int) (personId ^ (personId >>> 32));
         result = 31 * result + (countryXName != null ? countryXName.hashCode() : 0);
         result = 31 * result + (countryYName != null ? countryYName.hashCode() : 0);
-        result = 31 * result + (startDate != null ? startDate.hashCode() : 0);
+        result = 31 * result + (int) (startDateAsMilli ^ (startDateAsMilli >>> 32));
         result = 31 * result + durationDays;
         result = 31 * result + limit;
         return result;
@@ -111,7 +131,7 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
                "personId=" + personId +
                ", countryXName='" + countryXName + '\'' +
                ", countryYName='" + countryYName + '\'' +
-               ", startDate=" + startDate +
+               ", startDate=" + startDate() +
                ", durationDays=" + durationDays +
                ", limit=" + limit +
                '}';
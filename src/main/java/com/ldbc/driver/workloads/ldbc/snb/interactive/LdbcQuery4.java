@@ -19,25 +19,44 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     public static final int TYPE = 4;
     public static final int DEFAULT_LIMIT = 10;
     private final long personId;
-    private final Date startDate;
+    private final long startDateAsMilli;
     private final int durationDays;
     private final int limit;
+    // Date views of the AsMilli fields, created on first use
+    private Date startDate = null;
 
-    public LdbcQuery4( long personId, Date startDate, int durationDays, int limit )
+    public LdbcQuery4( long personId, long startDateAsMilli, int durationDays, int limit )
     {
         this.personId = personId;
-        this.startDate = startDate;
+        this.startDateAsMilli = startDateAsMilli;
         this.durationDays = durationDays;
         this.limit = limit;
     }
 
+    public LdbcQuery4( long personId, Date startDate, int durationDays, int limit )
+    {
+        this( personId, LdbcDates.asMilli( startDate ), durationDays, limit );
+    }
+
     public long personId()
     {
         return personId;
     }
 
+    public long startDateAsMilli()
+    {
+        return startDateAsMilli;
+    }
+
+    /**
+     * @return startDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date startDate()
     {
+        if ( null == startDate )
+        {
+            startDate = LdbcDates.asDate( startDateAsMilli );
+        }
         return startDate;
     }
 
@@ -67,7 +86,7 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( startDate != null ? !startDate.equals( that.startDate ) : that.startDate != null )
+        if ( startDateAsMilli != that.startDateAsMilli )
         { return false; }
 
         return true;
@@ -77,7 +96,7 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     public int hashCode()
     {
         int result = (int) (personId ^ (personId >>> 32));
-        result = 31 * result + (startDate != null ? startDate.hashCode() : 0);
+        result = 31 * result + (int) (startDateAsMilli ^ (startDateAsMilli >>> 32));
         result = 31 * result + durationDays;
         result = 31 * result + limit;
         return result;
@@ -88,7 +107,7 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     {
         return "LdbcQuery4{" +
                "personId=" + personId +
-               ", startDate=" + startDate +
+               ", startDate=" + startDate() +
                ", durationDays=" + durationDays +
                ", limit=" + limit +
                '}';
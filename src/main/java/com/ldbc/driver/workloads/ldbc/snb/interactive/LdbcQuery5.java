@@ -19,24 +19,43 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     public static final int TYPE = 5;
     public static final int DEFAULT_LIMIT = 20;
     private final long personId;
-    private final Date minDate;
+    private final long minDateAsMilli;
     private final int limit;
+    // Date views of the AsMilli fields, created on first use
+    private Date minDate = null;
 
-    public LdbcQuery5( long personId, Date minDate, int limit )
+    public LdbcQuery5( long personId, long minDateAsMilli, int limit )
     {
         super();
         this.personId = personId;
-        this.minDate = minDate;
+        this.minDateAsMilli = minDateAsMilli;
         this.limit = limit;
     }
 
+    public LdbcQuery5( long personId, Date minDate, int limit )
+    {
+        this( personId, LdbcDates.asMilli( minDate ), limit );
+    }
+
     public long personId()
     {
         return personId;
     }
 
+    public long minDateAsMilli()
+    {
+        return minDateAsMilli;
+    }
+
+    /**
+     * @return minDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date minDate()
     {
+        if ( null == minDate )
+        {
+            minDate = LdbcDates.asDate( minDateAsMilli );
+        }
         return minDate;
     }
 
@@ -59,7 +78,7 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( minDate != null ? !minDate.equals( that.minDate ) : that.minDate != null )
+        if ( minDateAsMilli != that.minDateAsMilli )
         { return false; }
 
         return true;
@@ -69,7 +88,7 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     public int hashCode()
     {
         int result = (int) (personId ^ (personId >>> 32));
-        result = 31 * result + (minDate != null ? minDate.hashCode() : 0);
+        result = 31 * result + (int) (minDateAsMilli ^ (minDateAsMilli >>> 32));
         result = 31 * result + limit;
         return result;
     }
@@ -79,7 +98,7 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     {
         return "LdbcQuery5{" +
                "personId=" + personId +
-               ", minDate=" + minDate +
+               ", minDate=" + minDate() +
                ", limit=" + limit +
                '}';
     }
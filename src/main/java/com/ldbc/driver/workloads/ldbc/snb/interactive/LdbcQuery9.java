@@ -19,23 +19,42 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
     public static final int TYPE = 9;
     public static final int DEFAULT_LIMIT = 20;
     private final long personId;
-    private final Date maxDate;
+    private final long maxDateAsMilli;
     private final int limit;
+    // Date views of the AsMilli fields, created on first use
+    private Date maxDate = null;
 
-    public LdbcQuery9( long personId, Date maxDate, int limit )
+    public LdbcQuery9( long personId, long maxDateAsMilli, int limit )
     {
         this.personId = personId;
-        this.maxDate = maxDate;
+        this.maxDateAsMilli = maxDateAsMilli;
         this.limit = limit;
     }
 
+    public LdbcQuery9( long personId, Date maxDate, int limit )
+    {
+        this( personId, LdbcDates.asMilli( maxDate ), limit );
+    }
+
     public long personId()
     {
         return personId;
     }
 
+    public long maxDateAsMilli()
+    {
+        return maxDateAsMilli;
+    }
+
+    /**
+     * @return maxDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date maxDate()
     {
+        if ( null == maxDate )
+        {
+            maxDate = LdbcDates.asDate( maxDateAsMilli );
+        }
         return maxDate;
     }
 
@@ -58,7 +77,7 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( maxDate != null ? !maxDate.equals( that.maxDate ) : that.maxDate != null )
+        if ( maxDateAsMilli != that.maxDateAsMilli )
         { return false; }
 
         return true;
@@ -68,7 +87,7 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
     public int hashCode()
     {
         int result = (int) (personId ^ (personId >>> 32));
-        result = 31 * result + (maxDate != null ? maxDate.hashCode() : 0);
+        result = 31 * result + (int) (maxDateAsMilli ^ (maxDateAsMilli >>> 32));
         result = 31 * result + limit;
         return result;
     }
@@ -78,7 +97,7 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
     {
         return "LdbcQuery9{" +
                "personId=" + personId +
-               ", maxDate=" + maxDate +
+               ", maxDate=" + maxDate() +
                ", limit=" + limit +
                '}';
     }
@@ -0,0 +1,1151 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodec;
+import com.ldbc.driver.OperationCodecs;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ldbc.driver.util.BinaryCodecUtils.readLongs;
+import static com.ldbc.driver.util.BinaryCodecUtils.readString;
+import static com.ldbc.driver.util.BinaryCodecUtils.readStrings;
+import static com.ldbc.driver.util.BinaryCodecUtils.readValueLists;
+import static com.ldbc.driver.util.BinaryCodecUtils.writeLongs;
+import static com.ldbc.driver.util.BinaryCodecUtils.writeString;
+import static com.ldbc.driver.util.BinaryCodecUtils.writeStrings;
+import static com.ldbc.driver.util.BinaryCodecUtils.writeValueLists;
+
+/**
+ * Binary codecs of all LDBC SNB Interactive operations and their results.
+ * Fields are written in the same order as in LdbcSnbInteractiveWorkload.serializeOperation() and the
+ * serializeResult() method of each operation.
+ */
+public class LdbcSnbInteractiveOperationCodecs
+{
+    public static final OperationCodecs CODECS = OperationCodecs.builder()
+            .with( LdbcQuery1.TYPE, new LdbcQuery1Codec() )
+            .with( LdbcQuery2.TYPE, new LdbcQuery2Codec() )
+            .with( LdbcQuery3.TYPE, new LdbcQuery3Codec() )
+            .with( LdbcQuery4.TYPE, new LdbcQuery4Codec() )
+            .with( LdbcQuery5.TYPE, new LdbcQuery5Codec() )
+            .with( LdbcQuery6.TYPE, new LdbcQuery6Codec() )
+            .with( LdbcQuery7.TYPE, new LdbcQuery7Codec() )
+            .with( LdbcQuery8.TYPE, new LdbcQuery8Codec() )
+            .with( LdbcQuery9.TYPE, new LdbcQuery9Codec() )
+            .with( LdbcQuery10.TYPE, new LdbcQuery10Codec() )
+            .with( LdbcQuery11.TYPE, new LdbcQuery11Codec() )
+            .with( LdbcQuery12.TYPE, new LdbcQuery12Codec() )
+            .with( LdbcQuery13.TYPE, new LdbcQuery13Codec() )
+            .with( LdbcQuery14.TYPE, new LdbcQuery14Codec() )
+            .with( LdbcShortQuery1PersonProfile.TYPE, new LdbcShortQuery1PersonProfileCodec() )
+            .with( LdbcShortQuery2PersonPosts.TYPE, new LdbcShortQuery2PersonPostsCodec() )
+            .with( LdbcShortQuery3PersonFriends.TYPE, new LdbcShortQuery3PersonFriendsCodec() )
+            .with( LdbcShortQuery4MessageContent.TYPE, new LdbcShortQuery4MessageContentCodec() )
+            .with( LdbcShortQuery5MessageCreator.TYPE, new LdbcShortQuery5MessageCreatorCodec() )
+            .with( LdbcShortQuery6MessageForum.TYPE, new LdbcShortQuery6MessageForumCodec() )
+            .with( LdbcShortQuery7MessageReplies.TYPE, new LdbcShortQuery7MessageRepliesCodec() )
+            .with( LdbcUpdate1AddPerson.TYPE, new LdbcUpdate1AddPersonCodec() )
+            .with( LdbcUpdate2AddPostLike.TYPE, new LdbcUpdate2AddPostLikeCodec() )
+            .with( LdbcUpdate3AddCommentLike.TYPE, new LdbcUpdate3AddCommentLikeCodec() )
+            .with( LdbcUpdate4AddForum.TYPE, new LdbcUpdate4AddForumCodec() )
+            .with( LdbcUpdate5AddForumMembership.TYPE, new LdbcUpdate5AddForumMembershipCodec() )
+            .with( LdbcUpdate6AddPost.TYPE, new LdbcUpdate6AddPostCodec() )
+            .with( LdbcUpdate7AddComment.TYPE, new LdbcUpdate7AddCommentCodec() )
+            .with( LdbcUpdate8AddFriendship.TYPE, new LdbcUpdate8AddFriendshipCodec() )
+            .build();
+
+    private LdbcSnbInteractiveOperationCodecs()
+    {
+    }
+
+    /**
+     * Codec of an operation whose result is a list of rows
+     */
+    private abstract static class ListResultCodec<OPERATION extends Operation<List<ROW>>, ROW>
+            implements OperationCodec<OPERATION,List<ROW>>
+    {
+        @Override
+        public final void writeResult( List<ROW> rows, DataOutput output ) throws IOException
+        {
+            output.writeInt( rows.size() );
+            for ( int i = 0; i < rows.size(); i++ )
+            {
+                writeRow( rows.get( i ), output );
+            }
+        }
+
+        @Override
+        public final List<ROW> readResult( DataInput input ) throws IOException
+        {
+            int size = input.readInt();
+            List<ROW> rows = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                rows.add( readRow( input ) );
+            }
+            return rows;
+        }
+
+        abstract void writeRow( ROW row, DataOutput output ) throws IOException;
+
+        abstract ROW readRow( DataInput input ) throws IOException;
+    }
+
+    /**
+     * Codec of an update operation, updates have no result to encode
+     */
+    private abstract static class UpdateCodec<OPERATION extends Operation<LdbcNoResult>>
+            implements OperationCodec<OPERATION,LdbcNoResult>
+    {
+        @Override
+        public final void writeResult( LdbcNoResult result, DataOutput output )
+        {
+        }
+
+        @Override
+        public final LdbcNoResult readResult( DataInput input )
+        {
+            return LdbcNoResult.INSTANCE;
+        }
+    }
+
+    private static class LdbcQuery1Codec extends ListResultCodec<LdbcQuery1,LdbcQuery1Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery1 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            writeString( output, operation.firstName() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery1 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery1( input.readLong(), readString( input ), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery1Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.friendId() );
+            writeString( output, row.friendLastName() );
+            output.writeInt( row.distanceFromPerson() );
+            output.writeLong( row.friendBirthday() );
+            output.writeLong( row.friendCreationDate() );
+            writeString( output, row.friendGender() );
+            writeString( output, row.friendBrowserUsed() );
+            writeString( output, row.friendLocationIp() );
+            writeStrings( output, row.friendEmails() );
+            writeStrings( output, row.friendLanguages() );
+            writeString( output, row.friendCityName() );
+            writeValueLists( output, row.friendUniversities() );
+            writeValueLists( output, row.friendCompanies() );
+        }
+
+        @Override
+        LdbcQuery1Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery1Result(
+                    input.readLong(),
+                    readString( input ),
+                    input.readInt(),
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    readStrings( input ),
+                    readStrings( input ),
+                    readString( input ),
+                    readValueLists( input ),
+                    readValueLists( input )
+            );
+        }
+    }
+
+    private static class LdbcQuery2Codec extends ListResultCodec<LdbcQuery2,LdbcQuery2Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery2 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.maxDateAsMilli() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery2 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery2( input.readLong(), input.readLong(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery2Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            output.writeLong( row.postOrCommentId() );
+            writeString( output, row.postOrCommentContent() );
+            output.writeLong( row.postOrCommentCreationDate() );
+        }
+
+        @Override
+        LdbcQuery2Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery2Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong()
+            );
+        }
+    }
+
+    private static class LdbcQuery3Codec extends ListResultCodec<LdbcQuery3,LdbcQuery3Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery3 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            writeString( output, operation.countryXName() );
+            writeString( output, operation.countryYName() );
+            output.writeLong( operation.startDateAsMilli() );
+            output.writeInt( operation.durationDays() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery3 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery3(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    input.readInt(),
+                    input.readInt()
+            );
+        }
+
+        @Override
+        void writeRow( LdbcQuery3Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            output.writeLong( row.xCount() );
+            output.writeLong( row.yCount() );
+            output.writeLong( row.count() );
+        }
+
+        @Override
+        LdbcQuery3Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery3Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong()
+            );
+        }
+    }
+
+    private static class LdbcQuery4Codec extends ListResultCodec<LdbcQuery4,LdbcQuery4Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery4 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.startDateAsMilli() );
+            output.writeInt( operation.durationDays() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery4 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery4( input.readLong(), input.readLong(), input.readInt(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery4Result row, DataOutput output ) throws IOException
+        {
+            writeString( output, row.tagName() );
+            output.writeInt( row.postCount() );
+        }
+
+        @Override
+        LdbcQuery4Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery4Result( readString( input ), input.readInt() );
+        }
+    }
+
+    private static class LdbcQuery5Codec extends ListResultCodec<LdbcQuery5,LdbcQuery5Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery5 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.minDateAsMilli() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery5 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery5( input.readLong(), input.readLong(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery5Result row, DataOutput output ) throws IOException
+        {
+            writeString( output, row.forumTitle() );
+            output.writeInt( row.postCount() );
+        }
+
+        @Override
+        LdbcQuery5Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery5Result( readString( input ), input.readInt() );
+        }
+    }
+
+    private static class LdbcQuery6Codec extends ListResultCodec<LdbcQuery6,LdbcQuery6Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery6 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            writeString( output, operation.tagName() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery6 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery6( input.readLong(), readString( input ), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery6Result row, DataOutput output ) throws IOException
+        {
+            writeString( output, row.tagName() );
+            output.writeInt( row.postCount() );
+        }
+
+        @Override
+        LdbcQuery6Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery6Result( readString( input ), input.readInt() );
+        }
+    }
+
+    private static class LdbcQuery7Codec extends ListResultCodec<LdbcQuery7,LdbcQuery7Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery7 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery7 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery7( input.readLong(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery7Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            output.writeLong( row.likeCreationDate() );
+            output.writeLong( row.commentOrPostId() );
+            writeString( output, row.commentOrPostContent() );
+            output.writeInt( row.minutesLatency() );
+            output.writeBoolean( row.isNew() );
+        }
+
+        @Override
+        LdbcQuery7Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery7Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input ),
+                    input.readInt(),
+                    input.readBoolean()
+            );
+        }
+    }
+
+    private static class LdbcQuery8Codec extends ListResultCodec<LdbcQuery8,LdbcQuery8Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery8 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery8 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery8( input.readLong(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery8Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            output.writeLong( row.commentCreationDate() );
+            output.writeLong( row.commentId() );
+            writeString( output, row.commentContent() );
+        }
+
+        @Override
+        LdbcQuery8Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery8Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input )
+            );
+        }
+    }
+
+    private static class LdbcQuery9Codec extends ListResultCodec<LdbcQuery9,LdbcQuery9Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery9 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.maxDateAsMilli() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery9 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery9( input.readLong(), input.readLong(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery9Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            output.writeLong( row.commentOrPostId() );
+            writeString( output, row.commentOrPostContent() );
+            output.writeLong( row.commentOrPostCreationDate() );
+        }
+
+        @Override
+        LdbcQuery9Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery9Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong()
+            );
+        }
+    }
+
+    private static class LdbcQuery10Codec extends ListResultCodec<LdbcQuery10,LdbcQuery10Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery10 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeInt( operation.month() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery10 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery10( input.readLong(), input.readInt(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery10Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            output.writeInt( row.commonInterestScore() );
+            writeString( output, row.personGender() );
+            writeString( output, row.personCityName() );
+        }
+
+        @Override
+        LdbcQuery10Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery10Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readInt(),
+                    readString( input ),
+                    readString( input )
+            );
+        }
+    }
+
+    private static class LdbcQuery11Codec extends ListResultCodec<LdbcQuery11,LdbcQuery11Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery11 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            writeString( output, operation.countryName() );
+            output.writeInt( operation.workFromYear() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery11 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery11( input.readLong(), readString( input ), input.readInt(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery11Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            writeString( output, row.organizationName() );
+            output.writeInt( row.organizationWorkFromYear() );
+        }
+
+        @Override
+        LdbcQuery11Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery11Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery12Codec extends ListResultCodec<LdbcQuery12,LdbcQuery12Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery12 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            writeString( output, operation.tagClassName() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery12 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery12( input.readLong(), readString( input ), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery12Result row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.personFirstName() );
+            writeString( output, row.personLastName() );
+            writeStrings( output, row.tagNames() );
+            output.writeInt( row.replyCount() );
+        }
+
+        @Override
+        LdbcQuery12Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery12Result(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readStrings( input ),
+                    input.readInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery13Codec implements OperationCodec<LdbcQuery13,LdbcQuery13Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery13 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.person1Id() );
+            output.writeLong( operation.person2Id() );
+        }
+
+        @Override
+        public LdbcQuery13 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery13( input.readLong(), input.readLong() );
+        }
+
+        @Override
+        public void writeResult( LdbcQuery13Result result, DataOutput output ) throws IOException
+        {
+            output.writeInt( result.shortestPathLength() );
+        }
+
+        @Override
+        public LdbcQuery13Result readResult( DataInput input ) throws IOException
+        {
+            return new LdbcQuery13Result( input.readInt() );
+        }
+    }
+
+    private static class LdbcQuery14Codec extends ListResultCodec<LdbcQuery14,LdbcQuery14Result>
+    {
+        @Override
+        public void writeOperation( LdbcQuery14 operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.person1Id() );
+            output.writeLong( operation.person2Id() );
+        }
+
+        @Override
+        public LdbcQuery14 readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcQuery14( input.readLong(), input.readLong() );
+        }
+
+        @Override
+        void writeRow( LdbcQuery14Result row, DataOutput output ) throws IOException
+        {
+            writeLongs( output, row.personsIdsInPath() );
+            output.writeDouble( row.pathWeight() );
+        }
+
+        @Override
+        LdbcQuery14Result readRow( DataInput input ) throws IOException
+        {
+            return new LdbcQuery14Result( readLongs( input ), input.readDouble() );
+        }
+    }
+
+    private static class LdbcShortQuery1PersonProfileCodec
+            implements OperationCodec<LdbcShortQuery1PersonProfile,LdbcShortQuery1PersonProfileResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery1PersonProfile operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+        }
+
+        @Override
+        public LdbcShortQuery1PersonProfile readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery1PersonProfile( input.readLong() );
+        }
+
+        @Override
+        public void writeResult( LdbcShortQuery1PersonProfileResult result, DataOutput output ) throws IOException
+        {
+            writeString( output, result.firstName() );
+            writeString( output, result.lastName() );
+            output.writeLong( result.birthday() );
+            writeString( output, result.locationIp() );
+            writeString( output, result.browserUsed() );
+            output.writeLong( result.cityId() );
+            writeString( output, result.gender() );
+            output.writeLong( result.creationDate() );
+        }
+
+        @Override
+        public LdbcShortQuery1PersonProfileResult readResult( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery1PersonProfileResult(
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong()
+            );
+        }
+    }
+
+    private static class LdbcShortQuery2PersonPostsCodec
+            extends ListResultCodec<LdbcShortQuery2PersonPosts,LdbcShortQuery2PersonPostsResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery2PersonPosts operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcShortQuery2PersonPosts readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery2PersonPosts( input.readLong(), input.readInt() );
+        }
+
+        @Override
+        void writeRow( LdbcShortQuery2PersonPostsResult row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.messageId() );
+            writeString( output, row.messageContent() );
+            output.writeLong( row.messageCreationDate() );
+            output.writeLong( row.originalPostId() );
+            output.writeLong( row.originalPostAuthorId() );
+            writeString( output, row.originalPostAuthorFirstName() );
+            writeString( output, row.originalPostAuthorLastName() );
+        }
+
+        @Override
+        LdbcShortQuery2PersonPostsResult readRow( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery2PersonPostsResult(
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input )
+            );
+        }
+    }
+
+    private static class LdbcShortQuery3PersonFriendsCodec
+            extends ListResultCodec<LdbcShortQuery3PersonFriends,LdbcShortQuery3PersonFriendsResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery3PersonFriends operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+        }
+
+        @Override
+        public LdbcShortQuery3PersonFriends readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery3PersonFriends( input.readLong() );
+        }
+
+        @Override
+        void writeRow( LdbcShortQuery3PersonFriendsResult row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.personId() );
+            writeString( output, row.firstName() );
+            writeString( output, row.lastName() );
+            output.writeLong( row.friendshipCreationDate() );
+        }
+
+        @Override
+        LdbcShortQuery3PersonFriendsResult readRow( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery3PersonFriendsResult(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong()
+            );
+        }
+    }
+
+    private static class LdbcShortQuery4MessageContentCodec
+            implements OperationCodec<LdbcShortQuery4MessageContent,LdbcShortQuery4MessageContentResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery4MessageContent operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.messageId() );
+        }
+
+        @Override
+        public LdbcShortQuery4MessageContent readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery4MessageContent( input.readLong() );
+        }
+
+        @Override
+        public void writeResult( LdbcShortQuery4MessageContentResult result, DataOutput output ) throws IOException
+        {
+            writeString( output, result.messageContent() );
+            output.writeLong( result.messageCreationDate() );
+        }
+
+        @Override
+        public LdbcShortQuery4MessageContentResult readResult( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery4MessageContentResult( readString( input ), input.readLong() );
+        }
+    }
+
+    private static class LdbcShortQuery5MessageCreatorCodec
+            implements OperationCodec<LdbcShortQuery5MessageCreator,LdbcShortQuery5MessageCreatorResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery5MessageCreator operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.messageId() );
+        }
+
+        @Override
+        public LdbcShortQuery5MessageCreator readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery5MessageCreator( input.readLong() );
+        }
+
+        @Override
+        public void writeResult( LdbcShortQuery5MessageCreatorResult result, DataOutput output ) throws IOException
+        {
+            output.writeLong( result.personId() );
+            writeString( output, result.firstName() );
+            writeString( output, result.lastName() );
+        }
+
+        @Override
+        public LdbcShortQuery5MessageCreatorResult readResult( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery5MessageCreatorResult( input.readLong(), readString( input ), readString( input ) );
+        }
+    }
+
+    private static class LdbcShortQuery6MessageForumCodec
+            implements OperationCodec<LdbcShortQuery6MessageForum,LdbcShortQuery6MessageForumResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery6MessageForum operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.messageId() );
+        }
+
+        @Override
+        public LdbcShortQuery6MessageForum readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery6MessageForum( input.readLong() );
+        }
+
+        @Override
+        public void writeResult( LdbcShortQuery6MessageForumResult result, DataOutput output ) throws IOException
+        {
+            output.writeLong( result.forumId() );
+            writeString( output, result.forumTitle() );
+            output.writeLong( result.moderatorId() );
+            writeString( output, result.moderatorFirstName() );
+            writeString( output, result.moderatorLastName() );
+        }
+
+        @Override
+        public LdbcShortQuery6MessageForumResult readResult( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery6MessageForumResult(
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input )
+            );
+        }
+    }
+
+    private static class LdbcShortQuery7MessageRepliesCodec
+            extends ListResultCodec<LdbcShortQuery7MessageReplies,LdbcShortQuery7MessageRepliesResult>
+    {
+        @Override
+        public void writeOperation( LdbcShortQuery7MessageReplies operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.messageId() );
+        }
+
+        @Override
+        public LdbcShortQuery7MessageReplies readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery7MessageReplies( input.readLong() );
+        }
+
+        @Override
+        void writeRow( LdbcShortQuery7MessageRepliesResult row, DataOutput output ) throws IOException
+        {
+            output.writeLong( row.commentId() );
+            writeString( output, row.commentContent() );
+            output.writeLong( row.commentCreationDate() );
+            output.writeLong( row.replyAuthorId() );
+            writeString( output, row.replyAuthorFirstName() );
+            writeString( output, row.replyAuthorLastName() );
+            output.writeBoolean( row.isReplyAuthorKnowsOriginalMessageAuthor() );
+        }
+
+        @Override
+        LdbcShortQuery7MessageRepliesResult readRow( DataInput input ) throws IOException
+        {
+            return new LdbcShortQuery7MessageRepliesResult(
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readBoolean()
+            );
+        }
+    }
+
+    private static class LdbcUpdate1AddPersonCodec extends UpdateCodec<LdbcUpdate1AddPerson>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate1AddPerson operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            writeString( output, operation.personFirstName() );
+            writeString( output, operation.personLastName() );
+            writeString( output, operation.gender() );
+            output.writeLong( operation.birthdayAsMilli() );
+            output.writeLong( operation.creationDateAsMilli() );
+            writeString( output, operation.locationIp() );
+            writeString( output, operation.browserUsed() );
+            output.writeLong( operation.cityId() );
+            writeStrings( output, operation.languages() );
+            writeStrings( output, operation.emails() );
+            writeLongs( output, operation.tagIds() );
+            writeOrganizations( operation.studyAt(), output );
+            writeOrganizations( operation.workAt(), output );
+        }
+
+        @Override
+        public LdbcUpdate1AddPerson readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate1AddPerson(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readStrings( input ),
+                    readStrings( input ),
+                    readLongs( input ),
+                    readOrganizations( input ),
+                    readOrganizations( input )
+            );
+        }
+
+        private void writeOrganizations( List<LdbcUpdate1AddPerson.Organization> organizations, DataOutput output )
+                throws IOException
+        {
+            output.writeInt( organizations.size() );
+            for ( LdbcUpdate1AddPerson.Organization organization : organizations )
+            {
+                output.writeLong( organization.organizationId() );
+                output.writeInt( organization.year() );
+            }
+        }
+
+        private List<LdbcUpdate1AddPerson.Organization> readOrganizations( DataInput input ) throws IOException
+        {
+            int size = input.readInt();
+            List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                organizations.add( new LdbcUpdate1AddPerson.Organization( input.readLong(), input.readInt() ) );
+            }
+            return organizations;
+        }
+    }
+
+    private static class LdbcUpdate2AddPostLikeCodec extends UpdateCodec<LdbcUpdate2AddPostLike>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate2AddPostLike operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.postId() );
+            output.writeLong( operation.creationDateAsMilli() );
+        }
+
+        @Override
+        public LdbcUpdate2AddPostLike readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate2AddPostLike( input.readLong(), input.readLong(), input.readLong() );
+        }
+    }
+
+    private static class LdbcUpdate3AddCommentLikeCodec extends UpdateCodec<LdbcUpdate3AddCommentLike>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate3AddCommentLike operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.commentId() );
+            output.writeLong( operation.creationDateAsMilli() );
+        }
+
+        @Override
+        public LdbcUpdate3AddCommentLike readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate3AddCommentLike( input.readLong(), input.readLong(), input.readLong() );
+        }
+    }
+
+    private static class LdbcUpdate4AddForumCodec extends UpdateCodec<LdbcUpdate4AddForum>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate4AddForum operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.forumId() );
+            writeString( output, operation.forumTitle() );
+            output.writeLong( operation.creationDateAsMilli() );
+            output.writeLong( operation.moderatorPersonId() );
+            writeLongs( output, operation.tagIds() );
+        }
+
+        @Override
+        public LdbcUpdate4AddForum readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate4AddForum(
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong(),
+                    input.readLong(),
+                    readLongs( input )
+            );
+        }
+    }
+
+    private static class LdbcUpdate5AddForumMembershipCodec extends UpdateCodec<LdbcUpdate5AddForumMembership>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate5AddForumMembership operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.forumId() );
+            output.writeLong( operation.personId() );
+            output.writeLong( operation.joinDateAsMilli() );
+        }
+
+        @Override
+        public LdbcUpdate5AddForumMembership readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate5AddForumMembership( input.readLong(), input.readLong(), input.readLong() );
+        }
+    }
+
+    private static class LdbcUpdate6AddPostCodec extends UpdateCodec<LdbcUpdate6AddPost>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate6AddPost operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.postId() );
+            writeString( output, operation.imageFile() );
+            output.writeLong( operation.creationDateAsMilli() );
+            writeString( output, operation.locationIp() );
+            writeString( output, operation.browserUsed() );
+            writeString( output, operation.language() );
+            writeString( output, operation.content() );
+            output.writeInt( operation.length() );
+            output.writeLong( operation.authorPersonId() );
+            output.writeLong( operation.forumId() );
+            output.writeLong( operation.countryId() );
+            writeLongs( output, operation.tagIds() );
+        }
+
+        @Override
+        public LdbcUpdate6AddPost readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate6AddPost(
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readInt(),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    readLongs( input )
+            );
+        }
+    }
+
+    private static class LdbcUpdate7AddCommentCodec extends UpdateCodec<LdbcUpdate7AddComment>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate7AddComment operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.commentId() );
+            output.writeLong( operation.creationDateAsMilli() );
+            writeString( output, operation.locationIp() );
+            writeString( output, operation.browserUsed() );
+            writeString( output, operation.content() );
+            output.writeInt( operation.length() );
+            output.writeLong( operation.authorPersonId() );
+            output.writeLong( operation.countryId() );
+            output.writeLong( operation.replyToPostId() );
+            output.writeLong( operation.replyToCommentId() );
+            writeLongs( output, operation.tagIds() );
+        }
+
+        @Override
+        public LdbcUpdate7AddComment readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate7AddComment(
+                    input.readLong(),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readInt(),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    readLongs( input )
+            );
+        }
+    }
+
+    private static class LdbcUpdate8AddFriendshipCodec extends UpdateCodec<LdbcUpdate8AddFriendship>
+    {
+        @Override
+        public void writeOperation( LdbcUpdate8AddFriendship operation, DataOutput output ) throws IOException
+        {
+            output.writeLong( operation.person1Id() );
+            output.writeLong( operation.person2Id() );
+            output.writeLong( operation.creationDateAsMilli() );
+        }
+
+        @Override
+        public LdbcUpdate8AddFriendship readOperation( DataInput input ) throws IOException
+        {
+            return new LdbcUpdate8AddFriendship( input.readLong(), input.readLong(), input.readLong() );
+        }
+    }
+}
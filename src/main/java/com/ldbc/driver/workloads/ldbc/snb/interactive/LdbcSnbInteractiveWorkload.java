@@ -2,28 +2,26 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Function;
-import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
-import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodecs;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
-import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.csv.charseeker.Extractors;
-import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
-import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.OperationStreamStage;
+import com.ldbc.driver.generator.ParameterStore;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.ClassLoadingException;
@@ -37,19 +35,15 @@ import org.codehaus.jackson.type.TypeReference;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -57,12 +51,13 @@ import static java.lang.String.format;
 
 public class LdbcSnbInteractiveWorkload extends Workload
 {
+    private static final long SHORT_READS_RANDOM_STREAM = 0;
+
     private List<Closeable> forumUpdateOperationsFileReaders = new ArrayList<>();
     private List<File> forumUpdateOperationFiles = new ArrayList<>();
     private List<Closeable> personUpdateOperationsFileReaders = new ArrayList<>();
     private List<File> personUpdateOperationFiles = new ArrayList<>();
 
-    private List<Closeable> readOperationFileReaders = new ArrayList<>();
     private File readOperation1File;
     private File readOperation2File;
     private File readOperation3File;
@@ -101,6 +96,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class> enabledShortReadOperationTypes;
     private Set<Class> enabledWriteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private int updateStreamLanes;
+    private UpdateStreamCache updateStreamCache;
 
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
@@ -402,6 +399,39 @@ public class LdbcSnbInteractiveWorkload extends Workload
             throw new WorkloadException( "Invalid parser: " + parserString );
         }
         this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
+
+        String updateStreamLanesString = params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_LANES );
+        try
+        {
+            this.updateStreamLanes = (null == updateStreamLanesString)
+                                     ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_LANES
+                                     : Integer.parseInt( updateStreamLanesString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( "Unable to parse update stream lanes: " + updateStreamLanesString, e );
+        }
+        if ( updateStreamLanes < 0 )
+        {
+            throw new WorkloadException( "Update stream lanes must not be negative: " + updateStreamLanes );
+        }
+
+        String updateStreamCacheDirectoryPath =
+                params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_CACHE_DIRECTORY );
+        if ( null == updateStreamCacheDirectoryPath )
+        {
+            this.updateStreamCache = null;
+        }
+        else
+        {
+            File updateStreamCacheDirectory = new File( updateStreamCacheDirectoryPath.trim() );
+            if ( false == updateStreamCacheDirectory.isDirectory() && false == updateStreamCacheDirectory.mkdirs() )
+            {
+                throw new WorkloadException( "Unable to create update stream cache directory: " +
+                                             updateStreamCacheDirectory.getAbsolutePath() );
+            }
+            this.updateStreamCache = new UpdateStreamCache( updateStreamCacheDirectory );
+        }
         this.compressionRatio = Double.parseDouble(
                 params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
         );
@@ -419,11 +449,6 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             personUpdateOperationsFileReader.close();
         }
-
-        for ( Closeable readOperationFileReader : readOperationFileReaders )
-        {
-            readOperationFileReader.close();
-        }
     }
 
     private Tuple2<Iterator<Operation>,Closeable> fileToWriteStreamParser( File updateOperationsFile,
@@ -476,6 +501,87 @@ public class LdbcSnbInteractiveWorkload extends Workload
                 csvFileReader );
     }
 
+    /**
+     * Opens an update file through the update stream cache, if enabled. A file that is not cached yet is parsed once,
+     * completely, to (re)build its cache, later runs read the cache instead
+     */
+    private Tuple2<Iterator<Operation>,Closeable> openUpdateStream( File updateOperationsFile )
+            throws IOException, WorkloadException
+    {
+        if ( null == updateStreamCache )
+        {
+            return fileToWriteStreamParser( updateOperationsFile, parser );
+        }
+        if ( false == updateStreamCache.isCached( updateOperationsFile ) )
+        {
+            Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
+                    fileToWriteStreamParser( updateOperationsFile, parser );
+            try
+            {
+                updateStreamCache.write( updateOperationsFile, parserAndCloseable._1() );
+            }
+            finally
+            {
+                parserAndCloseable._2().close();
+            }
+        }
+        UpdateStreamCache.CachedUpdateStream cachedUpdateStream = updateStreamCache.read( updateOperationsFile );
+        return Tuple.<Iterator<Operation>,Closeable>tuple2( cachedUpdateStream, cachedUpdateStream );
+    }
+
+    /**
+     * Opens the update files of one lane, files without events are skipped
+     */
+    private List<OperationStreamStage> updateOperationLane( List<File> updateOperationFiles,
+            List<Closeable> updateOperationsFileReaders ) throws WorkloadException
+    {
+        List<OperationStreamStage> updateOperationLane = new ArrayList<>();
+        for ( File updateOperationFile : updateOperationFiles )
+        {
+            Iterator<Operation> updateOperationsParser;
+            try
+            {
+                Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
+                        openUpdateStream( updateOperationFile );
+                updateOperationsParser = parserAndCloseable._1();
+                updateOperationsFileReaders.add( parserAndCloseable._2() );
+            }
+            catch ( IOException e )
+            {
+                throw new WorkloadException(
+                        "Unable to open update stream: " + updateOperationFile.getAbsolutePath(), e );
+            }
+            if ( false == updateOperationsParser.hasNext() )
+            {
+                // Update stream is empty
+                System.out.println(
+                        format( ""
+                                + "***********************************************\n"
+                                + "  !! WARMING !!\n"
+                                + "  Update stream is empty: %s\n"
+                                + "  Check that data generation process completed successfully\n"
+                                + "***********************************************",
+                                updateOperationFile.getAbsolutePath()
+                        )
+                );
+                continue;
+            }
+            updateOperationLane.add( OperationStreamStage.of( updateOperationsParser ) );
+        }
+        return updateOperationLane;
+    }
+
+    private static Iterator<Operation> mergeSortByTimeStamp( GeneratorFactory gf,
+            List<OperationStreamStage> updateOperationLane )
+    {
+        if ( 1 == updateOperationLane.size() )
+        {
+            return updateOperationLane.get( 0 );
+        }
+        // every file is ordered by time stamp, so is their merge
+        return gf.mergeSortOperationsByTimeStamp( updateOperationLane.toArray( new Iterator[0] ) );
+    }
+
     @Override
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
     {
@@ -494,69 +600,42 @@ public class LdbcSnbInteractiveWorkload extends Workload
          * *******
          * *******/
 
-        // TODO put person/forum update stream pairs into same streams, to half required thread count
+        // Filter Write Operations, by type code, in the same stage that later offsets and compresses their times
+        Set<Integer> enabledWriteOperationTypeCodes = new HashSet<>();
+        for ( Map.Entry<Integer,Class<? extends Operation>> operationType : operationTypeToClassMapping().entrySet() )
+        {
+            if ( enabledWriteOperationTypes.contains( operationType.getValue() ) )
+            {
+                enabledWriteOperationTypeCodes.add( operationType.getKey() );
+            }
+        }
+
          /*
-         * Create person write operation streams
+         * Create person write operation streams, one per lane of person update files
          */
         if ( enabledWriteOperationTypes.contains( LdbcUpdate1AddPerson.class ) )
         {
-            for ( File personUpdateOperationFile : personUpdateOperationFiles )
+            for ( List<File> personUpdateOperationLaneFiles : LdbcSnbInteractiveWorkloadConfiguration
+                    .updateStreamLanes( personUpdateOperationFiles, updateStreamLanes ) )
             {
-                Iterator<Operation> personUpdateOperationsParser;
-                try
-                {
-                    Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
-                            fileToWriteStreamParser( personUpdateOperationFile, parser );
-                    personUpdateOperationsParser = parserAndCloseable._1();
-                    personUpdateOperationsFileReaders.add( parserAndCloseable._2() );
-                }
-                catch ( IOException e )
-                {
-                    throw new WorkloadException(
-                            "Unable to open person update stream: " + personUpdateOperationFile.getAbsolutePath(), e );
-                }
-                if ( false == personUpdateOperationsParser.hasNext() )
+                List<OperationStreamStage> personUpdateOperationLane =
+                        updateOperationLane( personUpdateOperationLaneFiles, personUpdateOperationsFileReaders );
+                if ( personUpdateOperationLane.isEmpty() )
                 {
-                    // Update stream is empty
-                    System.out.println(
-                            format( ""
-                                    + "***********************************************\n"
-                                    + "  !! WARMING !!\n"
-                                    + "  Update stream is empty: %s\n"
-                                    + "  Check that data generation process completed successfully\n"
-                                    + "***********************************************",
-                                    personUpdateOperationFile.getAbsolutePath()
-                            )
-                    );
                     continue;
                 }
-                PeekingIterator<Operation> unfilteredPersonUpdateOperations =
-                        Iterators.peekingIterator( personUpdateOperationsParser );
-
-                try
+                for ( OperationStreamStage unfilteredPersonUpdateOperations : personUpdateOperationLane )
                 {
-                    if ( unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli() <
+                    if ( unfilteredPersonUpdateOperations.firstScheduledStartTimeAsMilli() <
                          workloadStartTimeAsMilli )
                     {
-                        workloadStartTimeAsMilli = unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli();
+                        workloadStartTimeAsMilli = unfilteredPersonUpdateOperations.firstScheduledStartTimeAsMilli();
                     }
                 }
-                catch ( NoSuchElementException e )
-                {
-                    // do nothing, exception just means that stream was empty
-                }
 
-                // Filter Write Operations
-                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
-                {
-                    @Override
-                    public boolean apply( Operation operation )
-                    {
-                        return enabledWriteOperationTypes.contains( operation.getClass() );
-                    }
-                };
-                Iterator<Operation> filteredPersonUpdateOperations =
-                        Iterators.filter( unfilteredPersonUpdateOperations, enabledWriteOperationsFilter );
+                Iterator<Operation> filteredPersonUpdateOperations = OperationStreamStage
+                        .of( mergeSortByTimeStamp( gf, personUpdateOperationLane ) )
+                        .includeOnlyTypes( enabledWriteOperationTypeCodes );
 
                 Set<Class<? extends Operation>> dependentPersonUpdateOperationTypes = Sets.newHashSet();
                 Set<Class<? extends Operation>> dependencyPersonUpdateOperationTypes =
@@ -577,7 +656,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
         }
 
         /*
-         * Create forum write operation streams
+         * Create forum write operation streams, one per lane of forum update files
          */
         if ( enabledWriteOperationTypes.contains( LdbcUpdate2AddPostLike.class ) ||
              enabledWriteOperationTypes.contains( LdbcUpdate3AddCommentLike.class ) ||
@@ -588,62 +667,26 @@ public class LdbcSnbInteractiveWorkload extends Workload
              enabledWriteOperationTypes.contains( LdbcUpdate8AddFriendship.class )
                 )
         {
-            for ( File forumUpdateOperationFile : forumUpdateOperationFiles )
+            for ( List<File> forumUpdateOperationLaneFiles : LdbcSnbInteractiveWorkloadConfiguration
+                    .updateStreamLanes( forumUpdateOperationFiles, updateStreamLanes ) )
             {
-                Iterator<Operation> forumUpdateOperationsParser;
-                try
+                List<OperationStreamStage> forumUpdateOperationLane =
+                        updateOperationLane( forumUpdateOperationLaneFiles, forumUpdateOperationsFileReaders );
+                if ( forumUpdateOperationLane.isEmpty() )
                 {
-                    Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
-                            fileToWriteStreamParser( forumUpdateOperationFile, parser );
-                    forumUpdateOperationsParser = parserAndCloseable._1();
-                    forumUpdateOperationsFileReaders.add( parserAndCloseable._2() );
-                }
-                catch ( IOException e )
-                {
-                    throw new WorkloadException(
-                            "Unable to open forum update stream: " + forumUpdateOperationFile.getAbsolutePath(), e );
-                }
-                if ( false == forumUpdateOperationsParser.hasNext() )
-                {
-                    // Update stream is empty
-                    System.out.println(
-                            format( ""
-                                    + "***********************************************\n"
-                                    + "  !! WARMING !!\n"
-                                    + "  Update stream is empty: %s\n"
-                                    + "  Check that data generation process completed successfully\n"
-                                    + "***********************************************",
-                                    forumUpdateOperationFile.getAbsolutePath()
-                            )
-                    );
                     continue;
                 }
-                PeekingIterator<Operation> unfilteredForumUpdateOperations =
-                        Iterators.peekingIterator( forumUpdateOperationsParser );
-
-                try
+                for ( OperationStreamStage unfilteredForumUpdateOperations : forumUpdateOperationLane )
                 {
-                    if ( unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli() < workloadStartTimeAsMilli )
+                    if ( unfilteredForumUpdateOperations.firstScheduledStartTimeAsMilli() < workloadStartTimeAsMilli )
                     {
-                        workloadStartTimeAsMilli = unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli();
+                        workloadStartTimeAsMilli = unfilteredForumUpdateOperations.firstScheduledStartTimeAsMilli();
                     }
                 }
-                catch ( NoSuchElementException e )
-                {
-                    // do nothing, exception just means that stream was empty
-                }
 
-                // Filter Write Operations
-                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
-                {
-                    @Override
-                    public boolean apply( Operation operation )
-                    {
-                        return enabledWriteOperationTypes.contains( operation.getClass() );
-                    }
-                };
-                Iterator<Operation> filteredForumUpdateOperations =
-                        Iterators.filter( unfilteredForumUpdateOperations, enabledWriteOperationsFilter );
+                Iterator<Operation> filteredForumUpdateOperations = OperationStreamStage
+                        .of( mergeSortByTimeStamp( gf, forumUpdateOperationLane ) )
+                        .includeOnlyTypes( enabledWriteOperationTypeCodes );
 
                 Set<Class<? extends Operation>> dependentForumUpdateOperationTypes =
                         Sets.<Class<? extends Operation>>newHashSet(
@@ -683,55 +726,19 @@ public class LdbcSnbInteractiveWorkload extends Workload
         /*
          * Create read operation streams, with specified interleaves
          */
-        int bufferSize = 1 * 1024 * 1024;
-        char columnDelimiter = '|';
-        char arrayDelimiter = ';';
-        char tupleDelimiter = ',';
+        // parameters of enabled queries only are loaded, once, then cycled through from memory
+        CharSeekerParams charSeekerParams = new CharSeekerParams( 1 * 1024 * 1024, '|', ';', ',' );
 
-        Iterator<Operation> readOperation1Stream;
+        Iterator<Operation> readOperation1Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery1.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query1EventStreamReader.Query1Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation1File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation1File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation1File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation1File,
+                            new Query1EventStreamReader.Query1Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation1StartTimes =
@@ -742,54 +749,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation1StartTimes,
                     operation1StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation2Stream;
+        Iterator<Operation> readOperation2Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery2.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query2EventStreamReader.Query2Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation2File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation2File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation2File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation2File,
+                            new Query2EventStreamReader.Query2Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation2StartTimes =
@@ -800,57 +771,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation2StartTimes,
                     operation2StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation3Stream;
+        Iterator<Operation> readOperation3Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery3.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query3EventStreamReader.Query3Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation3File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation3File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation3File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation3File,
+                            new Query3EventStreamReader.Query3Decoder(),
+                            5,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation3StartTimes =
@@ -861,55 +793,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation3StartTimes,
                     operation3StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation4Stream;
+        Iterator<Operation> readOperation4Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery4.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query4EventStreamReader.Query4Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation4File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation4File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation4File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation4File,
+                            new Query4EventStreamReader.Query4Decoder(),
+                            3,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation4StartTimes =
@@ -920,54 +815,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation4StartTimes,
                     operation4StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation5Stream;
+        Iterator<Operation> readOperation5Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery5.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query5EventStreamReader.Query5Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation5File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation5File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation5File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation5File,
+                            new Query5EventStreamReader.Query5Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation5StartTimes =
@@ -978,54 +837,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation5StartTimes,
                     operation5StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation6Stream;
+        Iterator<Operation> readOperation6Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery6.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query6EventStreamReader.Query6Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation6File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation6File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation6File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation6File,
+                            new Query6EventStreamReader.Query6Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation6StartTimes =
@@ -1036,53 +859,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation6StartTimes,
                     operation6StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation7Stream;
+        Iterator<Operation> readOperation7Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery7.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query7EventStreamReader.Query7Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation7File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation7File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation7File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation7File,
+                            new Query7EventStreamReader.Query7Decoder(),
+                            1,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation7StartTimes =
@@ -1093,53 +881,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation7StartTimes,
                     operation7StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation8Stream;
+        Iterator<Operation> readOperation8Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery8.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query8EventStreamReader.Query8Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation8File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation8File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation8File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation8File,
+                            new Query8EventStreamReader.Query8Decoder(),
+                            1,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation8StartTimes =
@@ -1150,54 +903,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation8StartTimes,
                     operation8StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation9Stream;
+        Iterator<Operation> readOperation9Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery9.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query9EventStreamReader.Query9Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation9File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation9File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation9File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation9File,
+                            new Query9EventStreamReader.Query9Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation9StartTimes =
@@ -1208,54 +925,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation9StartTimes,
                     operation9StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation10Stream;
+        Iterator<Operation> readOperation10Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery10.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query10EventStreamReader.Query10Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation10File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation10File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation10File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation10File,
+                            new Query10EventStreamReader.Query10Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation10StartTimes =
@@ -1266,55 +947,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation10StartTimes,
                     operation10StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation11Stream;
+        Iterator<Operation> readOperation11Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery11.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query11EventStreamReader.Query11Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation11File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation11File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation11File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation11File,
+                            new Query11EventStreamReader.Query11Decoder(),
+                            3,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation11StartTimes =
@@ -1325,54 +969,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation11StartTimes,
                     operation11StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation12Stream;
+        Iterator<Operation> readOperation12Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery12.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query12EventStreamReader.Query12Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation12File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation12File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation12File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation12File,
+                            new Query12EventStreamReader.Query12Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation12StartTimes =
@@ -1383,54 +991,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation12StartTimes,
                     operation12StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation13Stream;
+        Iterator<Operation> readOperation13Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery13.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query13EventStreamReader.Query13Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation13File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation13File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation13File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation13File,
+                            new Query13EventStreamReader.Query13Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation13StartTimes =
@@ -1441,54 +1013,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation13StartTimes,
                     operation13StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation14Stream;
+        Iterator<Operation> readOperation14Stream = null;
+        if ( enabledLongReadOperationTypes.contains( LdbcQuery14.class ) )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query14EventStreamReader.Query14Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation14File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation14File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation14File.getAbsolutePath() ), e );
-            }
-
             Iterator<Operation> operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+                    ParameterStore.cachedFrom(
+                            readOperation14File,
+                            new Query14EventStreamReader.Query14Decoder(),
+                            2,
+                            charSeekerParams
+                    ).cycle()
             );
 
             Iterator<Long> operation14StartTimes =
@@ -1499,8 +1035,6 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     operation14StartTimes,
                     operation14StreamWithoutTimes
             );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
         if ( enabledLongReadOperationTypes.contains( LdbcQuery1.class ) )
@@ -1573,14 +1107,16 @@ public class LdbcSnbInteractiveWorkload extends Workload
             longReadInterleavesAsMilli.put( LdbcQuery13.TYPE, readOperation13InterleaveAsMilli );
             longReadInterleavesAsMilli.put( LdbcQuery14.TYPE, readOperation14InterleaveAsMilli );
 
-            RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory( 42l );
+            // split from the run seed, the generator gives every executor thread its own stream of that seed
+            RandomDataGeneratorFactory randomFactory = gf.splitRandomDataGeneratorFactory( SHORT_READS_RANDOM_STREAM );
             double initialProbability = 1.0;
-            Queue<Long> personIdBuffer = (hasDbConnected)
-                                         ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                         : LdbcSnbShortReadGenerator.constantBuffer( 1 );
-            Queue<Long> messageIdBuffer = (hasDbConnected)
-                                          ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                          : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+            // striped, so workers replenishing and polling ids do not contend on a single lock
+            LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = (hasDbConnected)
+                    ? LdbcSnbShortReadGenerator.stripedCircularBuffer( 1024 )
+                    : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+            LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = (hasDbConnected)
+                    ? LdbcSnbShortReadGenerator.stripedCircularBuffer( 1024 )
+                    : LdbcSnbShortReadGenerator.constantBuffer( 1 );
             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
                                                                                              ?
                                                                                              LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
@@ -1728,7 +1264,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             List<Object> operationAsList = new ArrayList<>();
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.maxDate().getTime() );
+            operationAsList.add( ldbcQuery.maxDateAsMilli() );
             operationAsList.add( ldbcQuery.limit() );
             try
             {
@@ -1748,7 +1284,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.personId() );
             operationAsList.add( ldbcQuery.countryXName() );
             operationAsList.add( ldbcQuery.countryYName() );
-            operationAsList.add( ldbcQuery.startDate().getTime() );
+            operationAsList.add( ldbcQuery.startDateAsMilli() );
             operationAsList.add( ldbcQuery.durationDays() );
             operationAsList.add( ldbcQuery.limit() );
             try
@@ -1767,7 +1303,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             List<Object> operationAsList = new ArrayList<>();
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.startDate().getTime() );
+            operationAsList.add( ldbcQuery.startDateAsMilli() );
             operationAsList.add( ldbcQuery.durationDays() );
             operationAsList.add( ldbcQuery.limit() );
             try
@@ -1786,7 +1322,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             List<Object> operationAsList = new ArrayList<>();
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.minDate().getTime() );
+            operationAsList.add( ldbcQuery.minDateAsMilli() );
             operationAsList.add( ldbcQuery.limit() );
             try
             {
@@ -1856,7 +1392,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             List<Object> operationAsList = new ArrayList<>();
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.maxDate().getTime() );
+            operationAsList.add( ldbcQuery.maxDateAsMilli() );
             operationAsList.add( ldbcQuery.limit() );
             try
             {
@@ -2079,8 +1615,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.personFirstName() );
             operationAsList.add( ldbcQuery.personLastName() );
             operationAsList.add( ldbcQuery.gender() );
-            operationAsList.add( ldbcQuery.birthday().getTime() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.birthdayAsMilli() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.locationIp() );
             operationAsList.add( ldbcQuery.browserUsed() );
             operationAsList.add( ldbcQuery.cityId() );
@@ -2130,7 +1666,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
             operationAsList.add( ldbcQuery.postId() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2148,7 +1684,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
             operationAsList.add( ldbcQuery.commentId() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2166,7 +1702,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.forumId() );
             operationAsList.add( ldbcQuery.forumTitle() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.moderatorPersonId() );
             operationAsList.add( ldbcQuery.tagIds() );
             try
@@ -2186,7 +1722,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.forumId() );
             operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.joinDate().getTime() );
+            operationAsList.add( ldbcQuery.joinDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2204,7 +1740,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.postId() );
             operationAsList.add( ldbcQuery.imageFile() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.locationIp() );
             operationAsList.add( ldbcQuery.browserUsed() );
             operationAsList.add( ldbcQuery.language() );
@@ -2230,7 +1766,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             List<Object> operationAsList = new ArrayList<>();
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.commentId() );
-            operationAsList.add( ldbcQuery.creationDate() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.locationIp() );
             operationAsList.add( ldbcQuery.browserUsed() );
             operationAsList.add( ldbcQuery.content() );
@@ -2257,7 +1793,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.person1Id() );
             operationAsList.add( ldbcQuery.person2Id() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2307,9 +1843,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
         if ( operationTypeName.equals( LdbcQuery2.class.getName() ) )
         {
             long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date maxDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
+            long maxDateAsMilli = ((Number) operationAsList.get( 2 )).longValue();
             int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery2( personId, maxDate, limit );
+            return new LdbcQuery2( personId, maxDateAsMilli, limit );
         }
 
         if ( operationTypeName.equals( LdbcQuery3.class.getName() ) )
@@ -2317,27 +1853,27 @@ public class LdbcSnbInteractiveWorkload extends Workload
             long personId = ((Number) operationAsList.get( 1 )).longValue();
             String countryXName = (String) operationAsList.get( 2 );
             String countryYName = (String) operationAsList.get( 3 );
-            Date startDate = new Date( ((Number) operationAsList.get( 4 )).longValue() );
+            long startDateAsMilli = ((Number) operationAsList.get( 4 )).longValue();
             int durationDays = ((Number) operationAsList.get( 5 )).intValue();
             int limit = ((Number) operationAsList.get( 6 )).intValue();
-            return new LdbcQuery3( personId, countryXName, countryYName, startDate, durationDays, limit );
+            return new LdbcQuery3( personId, countryXName, countryYName, startDateAsMilli, durationDays, limit );
         }
 
         if ( operationTypeName.equals( LdbcQuery4.class.getName() ) )
         {
             long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date startDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
+            long startDateAsMilli = ((Number) operationAsList.get( 2 )).longValue();
             int durationDays = ((Number) operationAsList.get( 3 )).intValue();
             int limit = ((Number) operationAsList.get( 4 )).intValue();
-            return new LdbcQuery4( personId, startDate, durationDays, limit );
+            return new LdbcQuery4( personId, startDateAsMilli, durationDays, limit );
         }
 
         if ( operationTypeName.equals( LdbcQuery5.class.getName() ) )
         {
             long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date minDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
+            long minDateAsMilli = ((Number) operationAsList.get( 2 )).longValue();
             int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery5( personId, minDate, limit );
+            return new LdbcQuery5( personId, minDateAsMilli, limit );
         }
 
         if ( operationTypeName.equals( LdbcQuery6.class.getName() ) )
@@ -2365,9 +1901,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
         if ( operationTypeName.equals( LdbcQuery9.class.getName() ) )
         {
             long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date maxDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
+            long maxDateAsMilli = ((Number) operationAsList.get( 2 )).longValue();
             int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery9( personId, maxDate, limit );
+            return new LdbcQuery9( personId, maxDateAsMilli, limit );
         }
 
         if ( operationTypeName.equals( LdbcQuery10.class.getName() ) )
@@ -2458,8 +1994,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             String personFirstName = (String) operationAsList.get( 2 );
             String personLastName = (String) operationAsList.get( 3 );
             String gender = (String) operationAsList.get( 4 );
-            Date birthday = new Date( ((Number) operationAsList.get( 5 )).longValue() );
-            Date creationDate = new Date( ((Number) operationAsList.get( 6 )).longValue() );
+            long birthdayAsMilli = ((Number) operationAsList.get( 5 )).longValue();
+            long creationDateAsMilli = ((Number) operationAsList.get( 6 )).longValue();
             String locationIp = (String) operationAsList.get( 7 );
             String browserUsed = (String) operationAsList.get( 8 );
             long cityId = ((Number) operationAsList.get( 9 )).longValue();
@@ -2499,33 +2035,33 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         }
                     } ) );
 
-            return new LdbcUpdate1AddPerson( personId, personFirstName, personLastName, gender, birthday, creationDate,
-                    locationIp, browserUsed, cityId, languages, emails, tagIds, studyAt, workAt );
+            return new LdbcUpdate1AddPerson( personId, personFirstName, personLastName, gender, birthdayAsMilli,
+                    creationDateAsMilli, locationIp, browserUsed, cityId, languages, emails, tagIds, studyAt, workAt );
         }
 
         if ( operationTypeName.equals( LdbcUpdate2AddPostLike.class.getName() ) )
         {
             long personId = ((Number) operationAsList.get( 1 )).longValue();
             long postId = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 3 )).longValue();
 
-            return new LdbcUpdate2AddPostLike( personId, postId, creationDate );
+            return new LdbcUpdate2AddPostLike( personId, postId, creationDateAsMilli );
         }
 
         if ( operationTypeName.equals( LdbcUpdate3AddCommentLike.class.getName() ) )
         {
             long personId = ((Number) operationAsList.get( 1 )).longValue();
             long commentId = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 3 )).longValue();
 
-            return new LdbcUpdate3AddCommentLike( personId, commentId, creationDate );
+            return new LdbcUpdate3AddCommentLike( personId, commentId, creationDateAsMilli );
         }
 
         if ( operationTypeName.equals( LdbcUpdate4AddForum.class.getName() ) )
         {
             long forumId = ((Number) operationAsList.get( 1 )).longValue();
             String forumTitle = (String) operationAsList.get( 2 );
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 3 )).longValue();
             long moderatorPersonId = ((Number) operationAsList.get( 4 )).longValue();
             List<Long> tagIds = Lists.newArrayList(
                     Iterables.transform( (List<Number>) operationAsList.get( 5 ), new Function<Number,Long>()
@@ -2537,7 +2073,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         }
                     } ) );
 
-            return new LdbcUpdate4AddForum( forumId, forumTitle, creationDate, moderatorPersonId, tagIds );
+            return new LdbcUpdate4AddForum( forumId, forumTitle, creationDateAsMilli, moderatorPersonId, tagIds );
         }
 
 
@@ -2545,16 +2081,16 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             long forumId = ((Number) operationAsList.get( 1 )).longValue();
             long personId = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 3 )).longValue();
 
-            return new LdbcUpdate5AddForumMembership( forumId, personId, creationDate );
+            return new LdbcUpdate5AddForumMembership( forumId, personId, creationDateAsMilli );
         }
 
         if ( operationTypeName.equals( LdbcUpdate6AddPost.class.getName() ) )
         {
             long postId = ((Number) operationAsList.get( 1 )).longValue();
             String imageFile = (String) operationAsList.get( 2 );
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 3 )).longValue();
             String locationIp = (String) operationAsList.get( 4 );
             String browserUsed = (String) operationAsList.get( 5 );
             String language = (String) operationAsList.get( 6 );
@@ -2573,14 +2109,14 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         }
                     } ) );
 
-            return new LdbcUpdate6AddPost( postId, imageFile, creationDate, locationIp, browserUsed, language, content,
-                    length, authorPersonId, forumId, countryId, tagIds );
+            return new LdbcUpdate6AddPost( postId, imageFile, creationDateAsMilli, locationIp, browserUsed, language,
+                    content, length, authorPersonId, forumId, countryId, tagIds );
         }
 
         if ( operationTypeName.equals( LdbcUpdate7AddComment.class.getName() ) )
         {
             long commentId = ((Number) operationAsList.get( 1 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 2 )).longValue();
             String locationIp = (String) operationAsList.get( 3 );
             String browserUsed = (String) operationAsList.get( 4 );
             String content = (String) operationAsList.get( 5 );
@@ -2599,7 +2135,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         }
                     } ) );
 
-            return new LdbcUpdate7AddComment( commentId, creationDate, locationIp, browserUsed, content, length,
+            return new LdbcUpdate7AddComment( commentId, creationDateAsMilli, locationIp, browserUsed, content, length,
                     authorPersonId, countryId, replyToPostId, replyToCommentId, tagIds );
         }
 
@@ -2607,9 +2143,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             long person1Id = ((Number) operationAsList.get( 1 )).longValue();
             long person2Id = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+            long creationDateAsMilli = ((Number) operationAsList.get( 3 )).longValue();
 
-            return new LdbcUpdate8AddFriendship( person1Id, person2Id, creationDate );
+            return new LdbcUpdate8AddFriendship( person1Id, person2Id, creationDateAsMilli );
         }
 
         throw new SerializingMarshallingException(
@@ -2632,10 +2168,28 @@ public class LdbcSnbInteractiveWorkload extends Workload
         @Override
         public int hash( LdbcQuery14Result result )
         {
-            return 1;
+            // consistent with LdbcQuery14Result.equals(), which compares ids by long value
+            Iterable<? extends Number> personIdsInPath = result.personsIdsInPath();
+            if ( null == personIdsInPath )
+            {
+                // equals() never holds for a result without path, any hash is consistent with it
+                return 0;
+            }
+            int hash = 1;
+            for ( Number personId : personIdsInPath )
+            {
+                hash = 31 * hash + ((null == personId) ? 0 : Long.hashCode( personId.longValue() ));
+            }
+            return hash;
         }
     };
 
+    @Override
+    public OperationCodecs operationCodecs()
+    {
+        return LdbcSnbInteractiveOperationCodecs.CODECS;
+    }
+
     @Override
     public boolean resultsEqual( Operation operation, Object result1, Object result2 ) throws WorkloadException
     {
@@ -2643,6 +2197,12 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             return false;
         }
+        else if ( result1 instanceof List && result2 instanceof List
+                  && ((List) result1).size() != ((List) result2).size() )
+        {
+            // early exit, avoids comparing (or for Query 14, grouping) rows of results that can not be equal
+            return false;
+        }
         else if ( operation.type() == LdbcQuery14.TYPE )
         {
             // TODO can this logic not be moved to LdbcQuery14Result class and performed in equals() method?
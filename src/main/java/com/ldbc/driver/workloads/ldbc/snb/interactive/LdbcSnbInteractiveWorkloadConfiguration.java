@@ -11,7 +11,10 @@ import com.ldbc.driver.util.MapUtils;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +50,15 @@ public class LdbcSnbInteractiveWorkloadConfiguration
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
     public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+
+    // Number of writer lanes (blocking streams) each of person and forum update files are merged into, balanced by
+    // file size in bytes. 0 (default) gives every update file its own lane
+    public final static String UPDATE_STREAM_LANES = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_stream_lanes";
+    public final static int DEFAULT_UPDATE_STREAM_LANES = 0;
+
+    // Directory of the on-disk cache of decoded update streams, see UpdateStreamCache. Not set (default) disables it
+    public final static String UPDATE_STREAM_CACHE_DIRECTORY =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_stream_cache_dir";
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix( LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName() );
 
@@ -538,6 +550,55 @@ public class LdbcSnbInteractiveWorkloadConfiguration
         return filesWithSuffixInDirectory( directory, "_person.csv" );
     }
 
+    /**
+     * Assigns update files to lanes, largest file first to the lane with fewest bytes so far. Files of one partition
+     * cover the same simulation time range, so bytes approximate event density. Every file is assigned to exactly one
+     * lane, i.e., the order of events of any one person or forum is not changed by merging the files of a lane.
+     *
+     * @param laneCount 0, or at least as many as files, to give every file its own lane
+     */
+    static List<List<File>> updateStreamLanes( List<File> updateFiles, int laneCount )
+    {
+        List<List<File>> lanes = new ArrayList<>();
+        if ( 0 == laneCount || laneCount >= updateFiles.size() )
+        {
+            for ( File updateFile : updateFiles )
+            {
+                lanes.add( Lists.newArrayList( updateFile ) );
+            }
+            return lanes;
+        }
+        List<File> filesLargestFirst = new ArrayList<>( updateFiles );
+        Collections.sort( filesLargestFirst, new Comparator<File>()
+        {
+            @Override
+            public int compare( File file1, File file2 )
+            {
+                int bySize = Long.compare( file2.length(), file1.length() );
+                return (0 == bySize) ? file1.getName().compareTo( file2.getName() ) : bySize;
+            }
+        } );
+        long[] laneSizes = new long[laneCount];
+        for ( int lane = 0; lane < laneCount; lane++ )
+        {
+            lanes.add( new ArrayList<File>() );
+        }
+        for ( File updateFile : filesLargestFirst )
+        {
+            int smallestLane = 0;
+            for ( int lane = 1; lane < laneCount; lane++ )
+            {
+                if ( laneSizes[lane] < laneSizes[smallestLane] )
+                {
+                    smallestLane = lane;
+                }
+            }
+            lanes.get( smallestLane ).add( updateFile );
+            laneSizes[smallestLane] += updateFile.length();
+        }
+        return lanes;
+    }
+
     private static List<File> filesWithSuffixInDirectory( File directory, final String fileNameSuffix )
     {
         return Lists.newArrayList(
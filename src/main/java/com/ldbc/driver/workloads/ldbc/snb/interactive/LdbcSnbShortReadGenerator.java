@@ -12,8 +12,6 @@ import com.ldbc.driver.util.Tuple2;
 import org.apache.commons.math3.random.RandomDataGenerator;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -27,8 +25,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private final double initialProbability;
     private final LdbcShortQueryFactory[] shortReadFactories;
     private final double[] probabilityDegradationFactors;
-    private final Queue<Long> personIdBuffer;
-    private final Queue<Long> messageIdBuffer;
+    private final IdBuffer personIdBuffer;
+    private final IdBuffer messageIdBuffer;
     private final long[] interleavesAsMilli;
     private final BufferReplenishFun bufferReplenishFun;
 
@@ -50,6 +48,33 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             Map<Integer,Long> longReadInterleaves,
             SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy,
             BufferReplenishFun bufferReplenishFun )
+    {
+        this(
+                initialProbability,
+                probabilityDegradationFactor,
+                updateInterleaveAsMilli,
+                enabledShortReadOperationTypes,
+                compressionRatio,
+                queueBuffer( personIdBuffer ),
+                queueBuffer( messageIdBuffer ),
+                randomFactory,
+                longReadInterleaves,
+                scheduledStartTimePolicy,
+                bufferReplenishFun
+        );
+    }
+
+    public LdbcSnbShortReadGenerator( double initialProbability,
+            double probabilityDegradationFactor,
+            long updateInterleaveAsMilli,
+            Set<Class> enabledShortReadOperationTypes,
+            double compressionRatio,
+            IdBuffer personIdBuffer,
+            IdBuffer messageIdBuffer,
+            RandomDataGeneratorFactory randomFactory,
+            Map<Integer,Long> longReadInterleaves,
+            SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy,
+            BufferReplenishFun bufferReplenishFun )
     {
         this.initialProbability = initialProbability;
         this.personIdBuffer = personIdBuffer;
@@ -337,7 +362,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
         {
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery1PersonProfile.TYPE,
-                    new CoinTossingFactory( randomFactory.newRandom(),
+                    new CoinTossingFactory( randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery1Factory( scheduledStartTimePolicy ), minProbability, maxProbability )
             );
         }
@@ -345,7 +370,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
         {
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery2PersonPosts.TYPE,
-                    new CoinTossingFactory( randomFactory.newRandom(),
+                    new CoinTossingFactory( randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery2Factory( scheduledStartTimePolicy ), minProbability, maxProbability )
             );
         }
@@ -353,7 +378,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
         {
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery3PersonFriends.TYPE,
-                    new CoinTossingFactory( randomFactory.newRandom(),
+                    new CoinTossingFactory( randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery3Factory( scheduledStartTimePolicy ), minProbability, maxProbability )
             );
         }
@@ -377,7 +402,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery4MessageContent.TYPE,
                     new CoinTossingFactory(
-                            randomFactory.newRandom(),
+                            randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery4Factory( scheduledStartTimePolicy ),
                             minProbability,
                             maxProbability
@@ -389,7 +414,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery5MessageCreator.TYPE,
                     new CoinTossingFactory(
-                            randomFactory.newRandom(),
+                            randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery5Factory( scheduledStartTimePolicy ),
                             minProbability,
                             maxProbability
@@ -401,7 +426,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery6MessageForum.TYPE,
                     new CoinTossingFactory(
-                            randomFactory.newRandom(),
+                            randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery6Factory( scheduledStartTimePolicy ),
                             minProbability,
                             maxProbability
@@ -412,7 +437,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
         {
             return Tuple.<Integer,LdbcShortQueryFactory>tuple2(
                     LdbcShortQuery7MessageReplies.TYPE,
-                    new CoinTossingFactory( randomFactory.newRandom(),
+                    new CoinTossingFactory( randomFactory.newThreadLocalRandom(),
                             new LdbcShortQuery7Factory( scheduledStartTimePolicy ), minProbability, maxProbability )
             );
         }
@@ -518,10 +543,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
     public static class ResultBufferReplenishFun implements BufferReplenishFun
     {
-        private final Queue<Long> personIdBuffer;
-        private final Queue<Long> messageIdBuffer;
+        private final IdBuffer personIdBuffer;
+        private final IdBuffer messageIdBuffer;
 
         public ResultBufferReplenishFun( Queue<Long> personIdBuffer, Queue<Long> messageIdBuffer )
+        {
+            this( queueBuffer( personIdBuffer ), queueBuffer( messageIdBuffer ) );
+        }
+
+        public ResultBufferReplenishFun( IdBuffer personIdBuffer, IdBuffer messageIdBuffer )
         {
             this.personIdBuffer = personIdBuffer;
             this.messageIdBuffer = messageIdBuffer;
@@ -690,8 +720,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private interface LdbcShortQueryFactory
     {
         Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -704,8 +734,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     {
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -732,8 +762,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -751,14 +781,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
         }
     }
 
+    // child operations are generated by many executor threads, each tosses coins with its own random stream
     private class CoinTossingFactory implements LdbcShortQueryFactory
     {
-        private final RandomDataGenerator random;
+        private final ThreadLocal<RandomDataGenerator> random;
         private final LdbcShortQueryFactory innerFactory;
         private final double min;
         private final double max;
 
-        private CoinTossingFactory( RandomDataGenerator random,
+        private CoinTossingFactory( ThreadLocal<RandomDataGenerator> random,
                 LdbcShortQueryFactory innerFactory,
                 double min,
                 double max )
@@ -771,14 +802,14 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            double coinToss = random.nextUniform( min, max );
+            double coinToss = random.get().nextUniform( min, max );
             if ( state > coinToss )
             {
                 return innerFactory.create(
@@ -816,8 +847,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -884,15 +915,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -951,15 +982,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1018,15 +1049,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1085,15 +1116,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1152,15 +1183,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1219,15 +1250,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1286,15 +1317,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1363,122 +1394,62 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     Buffer
      */
 
-    static Queue<Long> synchronizedCircularQueueBuffer( int bufferSize )
+    /**
+     * Source of ids for short reads, replenished from the results of previously executed operations.
+     * Ids are primitive, an empty buffer is signalled by {@link #NO_ID}.
+     */
+    public static interface IdBuffer
     {
-        return Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) );
+        long NO_ID = Long.MIN_VALUE;
+
+        void add( long id );
+
+        long poll();
     }
 
-    static Queue<Long> constantBuffer( final long value )
+    static IdBuffer stripedCircularBuffer( int bufferSize )
     {
-        return new Queue<Long>()
-        {
-            @Override
-            public boolean add( Long aLong )
-            {
-                return true;
-            }
+        return new StripedLongRingBuffer( bufferSize, Runtime.getRuntime().availableProcessors() );
+    }
 
-            @Override
-            public boolean offer( Long aLong )
-            {
-                return true;
-            }
+    static IdBuffer synchronizedCircularQueueBuffer( int bufferSize )
+    {
+        return queueBuffer( Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) ) );
+    }
 
+    static IdBuffer queueBuffer( final Queue<Long> queue )
+    {
+        return new IdBuffer()
+        {
             @Override
-            public Long remove()
+            public void add( long id )
             {
-                throw new UnsupportedOperationException( "Method not implemented" );
+                queue.add( id );
             }
 
             @Override
-            public Long poll()
+            public long poll()
             {
-                return value;
+                Long id = queue.poll();
+                return (null == id) ? NO_ID : id;
             }
+        };
+    }
 
+    static IdBuffer constantBuffer( final long value )
+    {
+        return new IdBuffer()
+        {
             @Override
-            public Long element()
+            public void add( long id )
             {
-                return value;
             }
 
             @Override
-            public Long peek()
+            public long poll()
             {
                 return value;
             }
-
-            @Override
-            public int size()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean isEmpty()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean contains( Object o )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public Iterator<Long> iterator()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public Object[] toArray()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public <T> T[] toArray( T[] a )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean remove( Object o )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean containsAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean addAll( Collection<? extends Long> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean removeAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean retainAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public void clear()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
         };
     }
-}
\ No newline at end of file
+}
@@ -20,8 +20,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
     private final String personFirstName;
     private final String personLastName;
     private final String gender;
-    private final Date birthday; // input format "1984-03-22"
-    private final Date creationDate; // input format "2004-03-22"
+    private final long birthdayAsMilli; // input format "1984-03-22"
+    private final long creationDateAsMilli; // input format "2004-03-22"
     private final String locationIp;
     private final String browserUsed;
     private final long cityId;
@@ -30,13 +30,16 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
     private final List<Long> tagIds;
     private final List<Organization> studyAt;
     private final List<Organization> workAt;
+    // Date views of the AsMilli fields, created on first use
+    private Date birthday = null;
+    private Date creationDate = null;
 
     public LdbcUpdate1AddPerson( long personId,
             String personFirstName,
             String personLastName,
             String gender,
-            Date birthday,
-            Date creationDate,
+            long birthdayAsMilli,
+            long creationDateAsMilli,
             String locationIp,
             String browserUsed,
             long cityId,
@@ -50,8 +53,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         this.personFirstName = personFirstName;
         this.personLastName = personLastName;
         this.gender = gender;
-        this.birthday = birthday;
-        this.creationDate = creationDate;
+        this.birthdayAsMilli = birthdayAsMilli;
+        this.creationDateAsMilli = creationDateAsMilli;
         this.locationIp = locationIp;
         this.browserUsed = browserUsed;
         this.cityId = cityId;
@@ -62,6 +65,26 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         this.workAt = workAt;
     }
 
+    public LdbcUpdate1AddPerson( long personId,
+            String personFirstName,
+            String personLastName,
+            String gender,
+            Date birthday,
+            Date creationDate,
+            String locationIp,
+            String browserUsed,
+            long cityId,
+            List<String> languages,
+            List<String> emails,
+            List<Long> tagIds,
+            List<Organization> studyAt,
+            List<Organization> workAt )
+    {
+        this( personId, personFirstName, personLastName, gender, LdbcDates.asMilli( birthday ),
+                LdbcDates.asMilli( creationDate ), locationIp, browserUsed, cityId, languages, emails, tagIds, studyAt,
+                workAt );
+    }
+
     public long personId()
     {
         return personId;
@@ -82,13 +105,37 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         return gender;
     }
 
+    public long birthdayAsMilli()
+    {
+        return birthdayAsMilli;
+    }
+
+    /**
+     * @return birthdayAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date birthday()
     {
+        if ( null == birthday )
+        {
+            birthday = LdbcDates.asDate( birthdayAsMilli );
+        }
         return birthday;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -145,11 +192,11 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( birthday != null ? !birthday.equals( that.birthday ) : that.birthday != null )
+        if ( birthdayAsMilli != that.birthdayAsMilli )
         { return false; }
         if ( browserUsed != null ? !browserUsed.equals( that.browserUsed ) : that.browserUsed != null )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
         if ( emails != null ? !ListUtils.listsEqual( sort( emails ), sort( that.emails ) ) : that.emails != null )
         { return false; }
@@ -187,8 +234,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         result = 31 * result + (personFirstName != null ? personFirstName.hashCode() : 0);
         result = 31 * result + (personLastName != null ? personLastName.hashCode() : 0);
         result = 31 * result + (gender != null ? gender.hashCode() : 0);
-        result = 31 * result + (birthday != null ? birthday.hashCode() : 0);
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (birthdayAsMilli ^ (birthdayAsMilli >>> 32));
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         result = 31 * result + (locationIp != null ? locationIp.hashCode() : 0);
         result = 31 * result + (browserUsed != null ? browserUsed.hashCode() : 0);
         result = 31 * result + (int) (cityId ^ (cityId >>> 32));
@@ -208,8 +255,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
                ", personFirstName='" + personFirstName + '\'' +
                ", personLastName='" + personLastName + '\'' +
                ", gender='" + gender + '\'' +
-               ", birthday=" + birthday +
-               ", creationDate=" + creationDate +
+               ", birthday=" + birthday() +
+               ", creationDate=" + creationDate() +
                ", locationIp='" + locationIp + '\'' +
                ", browserUsed='" + browserUsed + '\'' +
                ", cityId=" + cityId +
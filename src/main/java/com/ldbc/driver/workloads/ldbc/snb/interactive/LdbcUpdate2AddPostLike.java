@@ -15,13 +15,20 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
     public static final int TYPE = 1002;
     private final long personId;
     private final long postId;
-    private final Date creationDate;
+    private final long creationDateAsMilli;
+    // Date views of the AsMilli fields, created on first use
+    private Date creationDate = null;
 
-    public LdbcUpdate2AddPostLike( long personId, long postId, Date creationDate )
+    public LdbcUpdate2AddPostLike( long personId, long postId, long creationDateAsMilli )
     {
         this.personId = personId;
         this.postId = postId;
-        this.creationDate = creationDate;
+        this.creationDateAsMilli = creationDateAsMilli;
+    }
+
+    public LdbcUpdate2AddPostLike( long personId, long postId, Date creationDate )
+    {
+        this( personId, postId, LdbcDates.asMilli( creationDate ) );
     }
 
     public long personId()
@@ -34,8 +41,20 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
         return postId;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -53,7 +72,7 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
         { return false; }
         if ( postId != that.postId )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
 
         return true;
@@ -64,7 +83,7 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
     {
         int result = (int) (personId ^ (personId >>> 32));
         result = 31 * result + (int) (postId ^ (postId >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         return result;
     }
 
@@ -74,7 +93,7 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
         return "LdbcUpdate2AddPostLike{" +
                "personId=" + personId +
                ", postId=" + postId +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                '}';
     }
 
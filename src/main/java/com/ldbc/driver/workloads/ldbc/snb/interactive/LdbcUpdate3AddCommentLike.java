@@ -15,13 +15,20 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
     public static final int TYPE = 1003;
     private final long personId;
     private final long commentId;
-    private final Date creationDate;
+    private final long creationDateAsMilli;
+    // Date views of the AsMilli fields, created on first use
+    private Date creationDate = null;
 
-    public LdbcUpdate3AddCommentLike( long personId, long commentId, Date creationDate )
+    public LdbcUpdate3AddCommentLike( long personId, long commentId, long creationDateAsMilli )
     {
         this.personId = personId;
         this.commentId = commentId;
-        this.creationDate = creationDate;
+        this.creationDateAsMilli = creationDateAsMilli;
+    }
+
+    public LdbcUpdate3AddCommentLike( long personId, long commentId, Date creationDate )
+    {
+        this( personId, commentId, LdbcDates.asMilli( creationDate ) );
     }
 
     public long personId()
@@ -34,8 +41,20 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         return commentId;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -53,7 +72,7 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
 
         return true;
@@ -64,7 +83,7 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
     {
         int result = (int) (personId ^ (personId >>> 32));
         result = 31 * result + (int) (commentId ^ (commentId >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         return result;
     }
 
@@ -74,7 +93,7 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         return "LdbcUpdate3AddCommentLike{" +
                "personId=" + personId +
                ", commentId=" + commentId +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                '}';
     }
 
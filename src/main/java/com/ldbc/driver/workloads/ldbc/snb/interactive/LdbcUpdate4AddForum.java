@@ -18,20 +18,28 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
     public static final int TYPE = 1004;
     private final long forumId;
     private final String forumTitle;
-    private final Date creationDate;
+    private final long creationDateAsMilli;
     private final long moderatorPersonId;
     private final List<Long> tagIds;
+    // Date views of the AsMilli fields, created on first use
+    private Date creationDate = null;
 
-    public LdbcUpdate4AddForum( long forumId, String forumTitle, Date creationDate, long moderatorPersonId,
+    public LdbcUpdate4AddForum( long forumId, String forumTitle, long creationDateAsMilli, long moderatorPersonId,
             List<Long> tagIds )
     {
         this.forumId = forumId;
         this.forumTitle = forumTitle;
-        this.creationDate = creationDate;
+        this.creationDateAsMilli = creationDateAsMilli;
         this.moderatorPersonId = moderatorPersonId;
         this.tagIds = tagIds;
     }
 
+    public LdbcUpdate4AddForum( long forumId, String forumTitle, Date creationDate, long moderatorPersonId,
+            List<Long> tagIds )
+    {
+        this( forumId, forumTitle, LdbcDates.asMilli( creationDate ), moderatorPersonId, tagIds );
+    }
+
     public long forumId()
     {
         return forumId;
@@ -42,8 +50,20 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         return forumTitle;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -71,7 +91,7 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         { return false; }
         if ( moderatorPersonId != that.moderatorPersonId )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
         if ( forumTitle != null ? !forumTitle.equals( that.forumTitle ) : that.forumTitle != null )
         { return false; }
@@ -92,7 +112,7 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
     {
         int result = (int) (forumId ^ (forumId >>> 32));
         result = 31 * result + (forumTitle != null ? forumTitle.hashCode() : 0);
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         result = 31 * result + (int) (moderatorPersonId ^ (moderatorPersonId >>> 32));
         result = 31 * result + (tagIds != null ? tagIds.hashCode() : 0);
         return result;
@@ -104,7 +124,7 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         return "LdbcUpdate4AddForum{" +
                "forumId=" + forumId +
                ", forumTitle='" + forumTitle + '\'' +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                ", moderatorPersonId=" + moderatorPersonId +
                ", tagIds=" + tagIds +
                '}';
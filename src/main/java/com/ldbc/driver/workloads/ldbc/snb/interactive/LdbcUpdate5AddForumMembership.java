@@ -15,13 +15,20 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
     public static final int TYPE = 1005;
     private final long forumId;
     private final long personId;
-    private final Date joinDate;
+    private final long joinDateAsMilli;
+    // Date views of the AsMilli fields, created on first use
+    private Date joinDate = null;
 
-    public LdbcUpdate5AddForumMembership( long forumId, long personId, Date joinDate )
+    public LdbcUpdate5AddForumMembership( long forumId, long personId, long joinDateAsMilli )
     {
         this.forumId = forumId;
         this.personId = personId;
-        this.joinDate = joinDate;
+        this.joinDateAsMilli = joinDateAsMilli;
+    }
+
+    public LdbcUpdate5AddForumMembership( long forumId, long personId, Date joinDate )
+    {
+        this( forumId, personId, LdbcDates.asMilli( joinDate ) );
     }
 
     public long forumId()
@@ -34,8 +41,20 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         return personId;
     }
 
+    public long joinDateAsMilli()
+    {
+        return joinDateAsMilli;
+    }
+
+    /**
+     * @return joinDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date joinDate()
     {
+        if ( null == joinDate )
+        {
+            joinDate = LdbcDates.asDate( joinDateAsMilli );
+        }
         return joinDate;
     }
 
@@ -53,7 +72,7 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( joinDate != null ? !joinDate.equals( that.joinDate ) : that.joinDate != null )
+        if ( joinDateAsMilli != that.joinDateAsMilli )
         { return false; }
 
         return true;
@@ -64,7 +83,7 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
     {
         int result = (int) (forumId ^ (forumId >>> 32));
         result = 31 * result + (int) (personId ^ (personId >>> 32));
-        result = 31 * result + (joinDate != null ? joinDate.hashCode() : 0);
+        result = 31 * result + (int) (joinDateAsMilli ^ (joinDateAsMilli >>> 32));
         return result;
     }
 
@@ -74,7 +93,7 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         return "LdbcUpdate5AddForumMembership{" +
                "forumId=" + forumId +
                ", personId=" + personId +
-               ", joinDate=" + joinDate +
+               ", joinDate=" + joinDate() +
                '}';
     }
 
@@ -18,7 +18,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     public static final int TYPE = 1006;
     private final long postId;
     private final String imageFile;
-    private final Date creationDate;
+    private final long creationDateAsMilli;
     private final String locationIp;
     private final String browserUsed;
     private final String language;
@@ -28,10 +28,12 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     private final long forumId;
     private final long countryId;
     private final List<Long> tagIds;
+    // Date views of the AsMilli fields, created on first use
+    private Date creationDate = null;
 
     public LdbcUpdate6AddPost( long postId,
             String imageFile,
-            Date creationDate,
+            long creationDateAsMilli,
             String locationIp,
             String browserUsed,
             String language,
@@ -44,7 +46,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     {
         this.postId = postId;
         this.imageFile = imageFile;
-        this.creationDate = creationDate;
+        this.creationDateAsMilli = creationDateAsMilli;
         this.locationIp = locationIp;
         this.browserUsed = browserUsed;
         this.language = language;
@@ -56,6 +58,23 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         this.tagIds = tagIds;
     }
 
+    public LdbcUpdate6AddPost( long postId,
+            String imageFile,
+            Date creationDate,
+            String locationIp,
+            String browserUsed,
+            String language,
+            String content,
+            int length,
+            long authorPersonId,
+            long forumId,
+            long countryId,
+            List<Long> tagIds )
+    {
+        this( postId, imageFile, LdbcDates.asMilli( creationDate ), locationIp, browserUsed, language, content, length,
+                authorPersonId, forumId, countryId, tagIds );
+    }
+
     public long postId()
     {
         return postId;
@@ -66,8 +85,20 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         return imageFile;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -140,7 +171,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         { return false; }
         if ( content != null ? !content.equals( that.content ) : that.content != null )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
         if ( imageFile != null ? !imageFile.equals( that.imageFile ) : that.imageFile != null )
         { return false; }
@@ -165,7 +196,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     {
         int result = (int) (postId ^ (postId >>> 32));
         result = 31 * result + (imageFile != null ? imageFile.hashCode() : 0);
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         result = 31 * result + (locationIp != null ? locationIp.hashCode() : 0);
         result = 31 * result + (browserUsed != null ? browserUsed.hashCode() : 0);
         result = 31 * result + (language != null ? language.hashCode() : 0);
@@ -184,7 +215,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         return "LdbcUpdate6AddPost{" +
                "postId=" + postId +
                ", imageFile='" + imageFile + '\'' +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                ", locationIp='" + locationIp + '\'' +
                ", browserUsed='" + browserUsed + '\'' +
                ", language='" + language + '\'' +
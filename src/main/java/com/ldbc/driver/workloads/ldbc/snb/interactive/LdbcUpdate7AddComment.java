@@ -17,7 +17,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final int TYPE = 1007;
     private final long commentId;
-    private final Date creationDate;
+    private final long creationDateAsMilli;
     private final String locationIp;
     private final String browserUsed;
     private final String content;
@@ -27,9 +27,11 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     private final long replyToPostId;
     private final long replyToCommentId;
     private final List<Long> tagIds;
+    // Date views of the AsMilli fields, created on first use
+    private Date creationDate = null;
 
     public LdbcUpdate7AddComment( long commentId,
-            Date creationDate,
+            long creationDateAsMilli,
             String locationIp,
             String browserUsed,
             String content,
@@ -41,7 +43,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
             List<Long> tagIds )
     {
         this.commentId = commentId;
-        this.creationDate = creationDate;
+        this.creationDateAsMilli = creationDateAsMilli;
         this.locationIp = locationIp;
         this.browserUsed = browserUsed;
         this.content = content;
@@ -53,13 +55,41 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
         this.tagIds = tagIds;
     }
 
+    public LdbcUpdate7AddComment( long commentId,
+            Date creationDate,
+            String locationIp,
+            String browserUsed,
+            String content,
+            int length,
+            long authorPersonId,
+            long countryId,
+            long replyToPostId,
+            long replyToCommentId,
+            List<Long> tagIds )
+    {
+        this( commentId, LdbcDates.asMilli( creationDate ), locationIp, browserUsed, content, length, authorPersonId,
+                countryId, replyToPostId, replyToCommentId, tagIds );
+    }
+
     public long commentId()
     {
         return commentId;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -134,7 +164,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
         { return false; }
         if ( content != null ? !content.equals( that.content ) : that.content != null )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
         if ( locationIp != null ? !locationIp.equals( that.locationIp ) : that.locationIp != null )
         { return false; }
@@ -154,7 +184,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     public int hashCode()
     {
         int result = (int) (commentId ^ (commentId >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         result = 31 * result + (locationIp != null ? locationIp.hashCode() : 0);
         result = 31 * result + (browserUsed != null ? browserUsed.hashCode() : 0);
         result = 31 * result + (content != null ? content.hashCode() : 0);
@@ -172,7 +202,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     {
         return "LdbcUpdate7AddComment{" +
                "commentId=" + commentId +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                ", locationIp='" + locationIp + '\'' +
                ", browserUsed='" + browserUsed + '\'' +
                ", content='" + content + '\'' +
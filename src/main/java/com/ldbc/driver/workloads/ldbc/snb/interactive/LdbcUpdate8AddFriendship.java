@@ -15,13 +15,20 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
     public static final int TYPE = 1008;
     private final long person1Id;
     private final long person2Id;
-    private final Date creationDate;
+    private final long creationDateAsMilli;
+    // Date views of the AsMilli fields, created on first use
+    private Date creationDate = null;
 
-    public LdbcUpdate8AddFriendship( long person1Id, long person2Id, Date creationDate )
+    public LdbcUpdate8AddFriendship( long person1Id, long person2Id, long creationDateAsMilli )
     {
         this.person1Id = person1Id;
         this.person2Id = person2Id;
-        this.creationDate = creationDate;
+        this.creationDateAsMilli = creationDateAsMilli;
+    }
+
+    public LdbcUpdate8AddFriendship( long person1Id, long person2Id, Date creationDate )
+    {
+        this( person1Id, person2Id, LdbcDates.asMilli( creationDate ) );
     }
 
     public long person1Id()
@@ -34,8 +41,20 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         return person2Id;
     }
 
+    public long creationDateAsMilli()
+    {
+        return creationDateAsMilli;
+    }
+
+    /**
+     * @return creationDateAsMilli() as Date, created on first use, null if the operation was created with a null Date
+     */
     public Date creationDate()
     {
+        if ( null == creationDate )
+        {
+            creationDate = LdbcDates.asDate( creationDateAsMilli );
+        }
         return creationDate;
     }
 
@@ -53,7 +72,7 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         { return false; }
         if ( person2Id != that.person2Id )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDateAsMilli != that.creationDateAsMilli )
         { return false; }
 
         return true;
@@ -64,7 +83,7 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
     {
         int result = (int) (person1Id ^ (person1Id >>> 32));
         result = 31 * result + (int) (person2Id ^ (person2Id >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDateAsMilli ^ (creationDateAsMilli >>> 32));
         return result;
     }
 
@@ -74,7 +93,7 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         return "LdbcUpdate8AddFriendship{" +
                "person1Id=" + person1Id +
                ", person2Id=" + person2Id +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                '}';
     }
 
@@ -0,0 +1,131 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded, evicting buffer of primitive ids, split into stripes to avoid a single lock shared by all workers.
+ * <p>
+ * Each thread adds to and polls from its own stripe (chosen by thread id). When that stripe is empty, poll() steals
+ * from the other stripes. Within a stripe ids are returned oldest first and, once the stripe is full, the oldest id
+ * is overwritten, as with an evicting queue.
+ */
+class StripedLongRingBuffer implements LdbcSnbShortReadGenerator.IdBuffer
+{
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    StripedLongRingBuffer( int capacity, int stripeCount )
+    {
+        if ( capacity < 1 || stripeCount < 1 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Capacity and stripe count must be positive: capacity=%s, stripes=%s",
+                            capacity, stripeCount ) );
+        }
+        int stripesLength = nextPowerOfTwo( stripeCount );
+        int stripeCapacity = nextPowerOfTwo( (capacity + stripesLength - 1) / stripesLength );
+        this.stripes = new Stripe[stripesLength];
+        for ( int i = 0; i < stripesLength; i++ )
+        {
+            stripes[i] = new Stripe( stripeCapacity );
+        }
+        this.stripeMask = stripesLength - 1;
+    }
+
+    @Override
+    public void add( long id )
+    {
+        stripes[homeStripe()].add( id );
+    }
+
+    @Override
+    public long poll()
+    {
+        int homeStripe = homeStripe();
+        for ( int i = 0; i < stripes.length; i++ )
+        {
+            long id = stripes[(homeStripe + i) & stripeMask].poll();
+            if ( NO_ID != id )
+            {
+                return id;
+            }
+        }
+        return NO_ID;
+    }
+
+    int size()
+    {
+        int size = 0;
+        for ( int i = 0; i < stripes.length; i++ )
+        {
+            size += stripes[i].size;
+        }
+        return size;
+    }
+
+    int stripeCount()
+    {
+        return stripes.length;
+    }
+
+    private int homeStripe()
+    {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    private static int nextPowerOfTwo( int value )
+    {
+        int powerOfTwo = 1;
+        while ( powerOfTwo < value )
+        {
+            powerOfTwo <<= 1;
+        }
+        return powerOfTwo;
+    }
+
+    private static class Stripe
+    {
+        private final long[] ids;
+        private final int mask;
+        private long head = 0;
+        private long tail = 0;
+        // read without the lock, so empty stripes are skipped without contending for them
+        private volatile int size = 0;
+
+        private Stripe( int capacity )
+        {
+            this.ids = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private synchronized void add( long id )
+        {
+            ids[(int) (tail & mask)] = id;
+            tail++;
+            if ( tail - head > ids.length )
+            {
+                head++;
+            }
+            size = (int) (tail - head);
+        }
+
+        private long poll()
+        {
+            if ( 0 == size )
+            {
+                return NO_ID;
+            }
+            synchronized ( this )
+            {
+                if ( head == tail )
+                {
+                    return NO_ID;
+                }
+                long id = ids[(int) (head & mask)];
+                head++;
+                size = (int) (tail - head);
+                return id;
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodecs;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.ldbc.driver.util.BinaryCodecUtils.readString;
+import static com.ldbc.driver.util.BinaryCodecUtils.writeString;
+import static java.lang.String.format;
+
+/**
+ * On-disk cache of decoded update streams, so repeated runs on the same dataset do not parse the update CSV files
+ * again.
+ * <p>
+ * Every update file gets one cache file, valid for as long as the path, size and modification time of the update file
+ * are the ones recorded in its header:
+ * <pre>
+ * file   := MAGIC VERSION source_path:string source_length:long source_last_modified:long record*
+ * record := length:int type:int scheduled_start_time:long time_stamp:long dependency_time_stamp:long operation:byte[]
+ * </pre>
+ * Operations are encoded by LdbcSnbInteractiveOperationCodecs, length covers the rest of the record. Cache files are
+ * written to a temporary file first and renamed once complete, so a partial cache file is never read.
+ * <p>
+ * Cache files are read through memory mapped windows, an operation is only decoded when it is returned by next().
+ */
+public class UpdateStreamCache
+{
+    static final byte[] MAGIC = "LDBCUPDC".getBytes( StandardCharsets.US_ASCII );
+    static final int VERSION = 1;
+    static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private static final String CACHE_FILE_SUFFIX = ".cache";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    // length and type
+    private static final int RECORD_PREFIX_SIZE = 4 + 4;
+
+    private final File directory;
+    private final OperationCodecs codecs;
+    private final int windowSize;
+
+    public UpdateStreamCache( File directory )
+    {
+        this( directory, LdbcSnbInteractiveOperationCodecs.CODECS, DEFAULT_WINDOW_SIZE );
+    }
+
+    UpdateStreamCache( File directory, OperationCodecs codecs, int windowSize )
+    {
+        this.directory = directory;
+        this.codecs = codecs;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @return true if the cache of updateFile exists and was written from updateFile as it is now
+     */
+    public boolean isCached( File updateFile ) throws IOException
+    {
+        File cacheFile = cacheFileFor( updateFile );
+        if ( false == cacheFile.exists() )
+        {
+            return false;
+        }
+        try ( DataInputStream input = new DataInputStream( Files.newInputStream( cacheFile.toPath() ) ) )
+        {
+            return readHeader( input, updateFile );
+        }
+        catch ( IOException e )
+        {
+            // truncated or foreign file, it is replaced by the next write()
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the cache of updateFile with all of operations, which must be the operations parsed from updateFile
+     */
+    public void write( File updateFile, Iterator<Operation> operations ) throws IOException
+    {
+        File cacheFile = cacheFileFor( updateFile );
+        File temporaryFile = new File( cacheFile.getPath() + TEMPORARY_FILE_SUFFIX );
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream bufferOutput = new DataOutputStream( buffer );
+        try ( DataOutputStream output =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( temporaryFile ) ) ) )
+        {
+            output.write( MAGIC );
+            output.writeInt( VERSION );
+            writeString( output, updateFile.getAbsolutePath() );
+            output.writeLong( updateFile.length() );
+            output.writeLong( updateFile.lastModified() );
+            while ( operations.hasNext() )
+            {
+                Operation operation = operations.next();
+                buffer.reset();
+                try
+                {
+                    codecs.writeOperation( operation, bufferOutput );
+                }
+                catch ( SerializingMarshallingException e )
+                {
+                    throw new IOException( format( "Unable to cache operation\n%s", operation ), e );
+                }
+                output.writeInt( 4 + 8 + 8 + 8 + buffer.size() );
+                output.writeInt( operation.type() );
+                output.writeLong( operation.scheduledStartTimeAsMilli() );
+                output.writeLong( operation.timeStamp() );
+                output.writeLong( operation.dependencyTimeStamp() );
+                buffer.writeTo( output );
+            }
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            Files.deleteIfExists( temporaryFile.toPath() );
+            throw e;
+        }
+        try
+        {
+            Files.move( temporaryFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( AtomicMoveNotSupportedException e )
+        {
+            Files.move( temporaryFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+
+    /**
+     * Opens the cache of updateFile, isCached() must be true
+     *
+     * @return operations of updateFile, close once done
+     */
+    public CachedUpdateStream read( File updateFile ) throws IOException
+    {
+        File cacheFile = cacheFileFor( updateFile );
+        long headerLength;
+        try ( DataInputStream input = new DataInputStream( Files.newInputStream( cacheFile.toPath() ) ) )
+        {
+            if ( false == readHeader( input, updateFile ) )
+            {
+                throw new IOException( format( "Update stream cache is stale: %s", cacheFile.getAbsolutePath() ) );
+            }
+            headerLength = headerLength( updateFile );
+        }
+        return new CachedUpdateStream( new RandomAccessFile( cacheFile, "r" ).getChannel(), headerLength, codecs,
+                windowSize );
+    }
+
+    File cacheFileFor( File updateFile )
+    {
+        // name keeps cache files recognizable, hash keeps equally named files of different directories apart
+        String absolutePath = updateFile.getAbsolutePath();
+        return new File( directory,
+                format( "%s.%08x%s", updateFile.getName(), absolutePath.hashCode(), CACHE_FILE_SUFFIX ) );
+    }
+
+    private static boolean readHeader( DataInputStream input, File updateFile ) throws IOException
+    {
+        byte[] magic = new byte[MAGIC.length];
+        input.readFully( magic );
+        return Arrays.equals( MAGIC, magic )
+               && VERSION == input.readInt()
+               && updateFile.getAbsolutePath().equals( readString( input ) )
+               && updateFile.length() == input.readLong()
+               && updateFile.lastModified() == input.readLong();
+    }
+
+    private static long headerLength( File updateFile )
+    {
+        return MAGIC.length + 4 + 4 + updateFile.getAbsolutePath().getBytes( StandardCharsets.UTF_8 ).length + 8 + 8;
+    }
+
+    /**
+     * Operations of one cached update file. The file is mapped one window at a time, a record that does not fit into
+     * the rest of the current window starts the next window
+     */
+    public static class CachedUpdateStream implements Iterator<Operation>, Closeable
+    {
+        private final FileChannel channel;
+        private final OperationCodecs codecs;
+        private final int windowSize;
+        private final long fileLength;
+        private final RecordInputStream record = new RecordInputStream();
+        private final DataInputStream recordInput = new DataInputStream( record );
+        private byte[] recordBytes = new byte[256];
+        private MappedByteBuffer window;
+        private long windowPosition;
+
+        private CachedUpdateStream( FileChannel channel, long position, OperationCodecs codecs, int windowSize )
+                throws IOException
+        {
+            this.channel = channel;
+            this.codecs = codecs;
+            this.windowSize = windowSize;
+            this.fileLength = channel.size();
+            map( position, 0 );
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return windowPosition + window.position() < fileLength;
+        }
+
+        @Override
+        public Operation next()
+        {
+            if ( false == hasNext() )
+            {
+                throw new NoSuchElementException( "Update stream cache is exhausted" );
+            }
+            int operationType = -1;
+            try
+            {
+                if ( window.remaining() < RECORD_PREFIX_SIZE )
+                {
+                    map( windowPosition + window.position(), RECORD_PREFIX_SIZE );
+                }
+                int length = window.getInt( window.position() );
+                if ( window.remaining() < 4 + length )
+                {
+                    map( windowPosition + window.position(), 4 + length );
+                }
+                window.getInt();
+                operationType = window.getInt();
+                long scheduledStartTimeAsMilli = window.getLong();
+                long timeStamp = window.getLong();
+                long dependencyTimeStamp = window.getLong();
+                int operationLength = length - (4 + 8 + 8 + 8);
+                if ( recordBytes.length < operationLength )
+                {
+                    recordBytes = new byte[Math.max( operationLength, recordBytes.length * 2 )];
+                }
+                window.get( recordBytes, 0, operationLength );
+                record.wrap( recordBytes, operationLength );
+                Operation operation = codecs.readOperation( operationType, recordInput );
+                operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+                operation.setTimeStamp( timeStamp );
+                operation.setDependencyTimeStamp( dependencyTimeStamp );
+                return operation;
+            }
+            catch ( IOException | SerializingMarshallingException e )
+            {
+                throw new GeneratorException(
+                        format( "Error reading cached update operation of type %s", operationType ), e );
+            }
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            channel.close();
+        }
+
+        /**
+         * Maps the window starting at position, large enough to hold minimumSize bytes even if windowSize is smaller
+         */
+        private void map( long position, int minimumSize ) throws IOException
+        {
+            if ( fileLength - position < minimumSize )
+            {
+                throw new IOException( format( "Truncated update stream cache, expected %s bytes at %s",
+                        minimumSize, position ) );
+            }
+            windowPosition = position;
+            window = channel.map( FileChannel.MapMode.READ_ONLY, position,
+                    Math.min( Math.max( windowSize, minimumSize ), fileLength - position ) );
+        }
+    }
+
+    /**
+     * Reusable input over the operation bytes of one record at a time
+     */
+    private static class RecordInputStream extends ByteArrayInputStream
+    {
+        private RecordInputStream()
+        {
+            super( new byte[0] );
+        }
+
+        private void wrap( byte[] bytes, int length )
+        {
+            this.buf = bytes;
+            this.pos = 0;
+            this.count = length;
+            this.mark = 0;
+        }
+    }
+}
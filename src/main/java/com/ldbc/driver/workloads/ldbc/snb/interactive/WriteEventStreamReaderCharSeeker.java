@@ -62,13 +62,12 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving gender");
                 }
 
-                Long birthdayAsMilli;
+                long birthdayAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
                     birthdayAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving birthday");
                 }
-                Date birthday = new Date(birthdayAsMilli);
 
                 long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
@@ -76,7 +75,6 @@ public class WriteEventStreamReaderCharSeeker {
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
-                Date creationDate = new Date(creationDateAsMilli);
 
                 String locationIp;
                 if (charSeeker.seek(mark, columnDelimiters)) {
@@ -160,8 +158,8 @@ public class WriteEventStreamReaderCharSeeker {
                         firstName,
                         lastName,
                         gender,
-                        birthday,
-                        creationDate,
+                        birthdayAsMilli,
+                        creationDateAsMilli,
                         locationIp,
                         browserUsed,
                         cityId,
@@ -198,15 +196,14 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving post id");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate2AddPostLike(personId, postId, creationDate);
+                Operation operation = new LdbcUpdate2AddPostLike(personId, postId, creationDateAsMilli);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -235,15 +232,14 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving comment id");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate3AddCommentLike(personId, commentId, creationDate);
+                Operation operation = new LdbcUpdate3AddCommentLike(personId, commentId, creationDateAsMilli);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -273,10 +269,9 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving forum title");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
@@ -299,7 +294,7 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving tags");
                 }
 
-                Operation operation = new LdbcUpdate4AddForum(forumId, forumTitle, creationDate, moderatorPersonId, tagIds);
+                Operation operation = new LdbcUpdate4AddForum(forumId, forumTitle, creationDateAsMilli, moderatorPersonId, tagIds);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -328,15 +323,14 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving person id");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate5AddForumMembership(forumId, personId, creationDate);
+                Operation operation = new LdbcUpdate5AddForumMembership(forumId, personId, creationDateAsMilli);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -366,10 +360,9 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving image file");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
@@ -448,7 +441,7 @@ public class WriteEventStreamReaderCharSeeker {
                 Operation operation = new LdbcUpdate6AddPost(
                         postId,
                         imageFile,
-                        creationDate,
+                        creationDateAsMilli,
                         locationIp,
                         browserUsed,
                         language,
@@ -479,10 +472,9 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving comment id");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
@@ -559,7 +551,7 @@ public class WriteEventStreamReaderCharSeeker {
 
                 Operation operation = new LdbcUpdate7AddComment(
                         commentId,
-                        creationDate,
+                        creationDateAsMilli,
                         locationIp,
                         browserUsed,
                         content,
@@ -597,15 +589,14 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving person id 2");
                 }
 
-                Date creationDate;
+                long creationDateAsMilli;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
-                    creationDate = new Date(creationDateAsMilli);
+                    creationDateAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
                 } else {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate8AddFriendship(person1Id, person2Id, creationDate);
+                Operation operation = new LdbcUpdate8AddFriendship(person1Id, person2Id, creationDateAsMilli);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
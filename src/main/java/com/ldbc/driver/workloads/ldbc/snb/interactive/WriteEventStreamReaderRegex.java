@@ -53,10 +53,10 @@ public class WriteEventStreamReaderRegex {
             String gender = csvRow[6];
 
             String birthdayString = csvRow[7];
-            Date birthday = new Date(Long.parseLong(birthdayString));
+            long birthdayAsMilli = Long.parseLong(birthdayString);
 
             String creationDateString = csvRow[8];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
             String locationIp = csvRow[9];
 
@@ -116,8 +116,8 @@ public class WriteEventStreamReaderRegex {
                     firstName,
                     lastName,
                     gender,
-                    birthday,
-                    creationDate,
+                    birthdayAsMilli,
+                    creationDateAsMilli,
                     locationIp,
                     browserUsed,
                     cityId,
@@ -147,9 +147,9 @@ public class WriteEventStreamReaderRegex {
             long postId = Long.parseLong(csvRow[4]);
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
-            Operation operation = new LdbcUpdate2AddPostLike(personId, postId, creationDate);
+            Operation operation = new LdbcUpdate2AddPostLike(personId, postId, creationDateAsMilli);
             operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
             operation.setTimeStamp(scheduledStartTimeAsMilli);
             operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -171,9 +171,9 @@ public class WriteEventStreamReaderRegex {
             long commentId = Long.parseLong(csvRow[4]);
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
-            Operation operation = new LdbcUpdate3AddCommentLike(personId, commentId, creationDate);
+            Operation operation = new LdbcUpdate3AddCommentLike(personId, commentId, creationDateAsMilli);
             operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
             operation.setTimeStamp(scheduledStartTimeAsMilli);
             operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -197,7 +197,7 @@ public class WriteEventStreamReaderRegex {
             String forumTitle = csvRow[4];
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
             long moderatorPersonId = Long.parseLong(csvRow[6]);
 
@@ -210,7 +210,7 @@ public class WriteEventStreamReaderRegex {
                 }
             }
 
-            Operation operation = new LdbcUpdate4AddForum(forumId, forumTitle, creationDate, moderatorPersonId, tagIds);
+            Operation operation = new LdbcUpdate4AddForum(forumId, forumTitle, creationDateAsMilli, moderatorPersonId, tagIds);
             operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
             operation.setTimeStamp(scheduledStartTimeAsMilli);
             operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -232,9 +232,9 @@ public class WriteEventStreamReaderRegex {
             long personId = Long.parseLong(csvRow[4]);
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
-            Operation operation = new LdbcUpdate5AddForumMembership(forumId, personId, creationDate);
+            Operation operation = new LdbcUpdate5AddForumMembership(forumId, personId, creationDateAsMilli);
             operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
             operation.setTimeStamp(scheduledStartTimeAsMilli);
             operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -258,7 +258,7 @@ public class WriteEventStreamReaderRegex {
             String imageFile = csvRow[4];
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
             String locationIp = csvRow[6];
 
@@ -288,7 +288,7 @@ public class WriteEventStreamReaderRegex {
             Operation operation = new LdbcUpdate6AddPost(
                     postId,
                     imageFile,
-                    creationDate,
+                    creationDateAsMilli,
                     locationIp,
                     browserUsed,
                     language,
@@ -319,7 +319,7 @@ public class WriteEventStreamReaderRegex {
             long commentId = Long.parseLong(csvRow[3]);
 
             String creationDateString = csvRow[4];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
             String locationIp = csvRow[5];
 
@@ -348,7 +348,7 @@ public class WriteEventStreamReaderRegex {
 
             Operation operation = new LdbcUpdate7AddComment(
                     commentId,
-                    creationDate,
+                    creationDateAsMilli,
                     locationIp,
                     browserUsed,
                     content,
@@ -379,9 +379,9 @@ public class WriteEventStreamReaderRegex {
             long person2Id = Long.parseLong(csvRow[4]);
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date(Long.parseLong(creationDateString));
+            long creationDateAsMilli = Long.parseLong(creationDateString);
 
-            Operation operation = new LdbcUpdate8AddFriendship(person1Id, person2Id, creationDate);
+            Operation operation = new LdbcUpdate8AddFriendship(person1Id, person2Id, creationDateAsMilli);
             operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
             operation.setTimeStamp(scheduledStartTimeAsMilli);
             operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -0,0 +1,86 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive.db;
+
+import java.util.Arrays;
+
+/**
+ * Growable, primitive, per vertex lists of (target vertex, stamp) edges, where vertices are dense int indexes and
+ * stamp is typically the edge creation date. Edges are stored in insertion order. Not thread safe.
+ */
+class AdjacencyLists
+{
+    private static final int[] NO_TARGETS = new int[0];
+    private static final long[] NO_STAMPS = new long[0];
+    private static final int INITIAL_LIST_CAPACITY = 4;
+
+    private int[][] targets;
+    private long[][] stamps;
+    private int[] sizes;
+
+    AdjacencyLists( int initialVertexCapacity )
+    {
+        this.targets = new int[initialVertexCapacity][];
+        this.stamps = new long[initialVertexCapacity][];
+        this.sizes = new int[initialVertexCapacity];
+        Arrays.fill( targets, NO_TARGETS );
+        Arrays.fill( stamps, NO_STAMPS );
+    }
+
+    void add( int from, int to, long stamp )
+    {
+        ensureVertexCapacity( from + 1 );
+        int size = sizes[from];
+        if ( size == targets[from].length )
+        {
+            int capacity = Math.max( INITIAL_LIST_CAPACITY, size << 1 );
+            targets[from] = Arrays.copyOf( targets[from], capacity );
+            stamps[from] = Arrays.copyOf( stamps[from], capacity );
+        }
+        targets[from][size] = to;
+        stamps[from][size] = stamp;
+        sizes[from] = size + 1;
+    }
+
+    int size( int vertex )
+    {
+        return (vertex < sizes.length) ? sizes[vertex] : 0;
+    }
+
+    int target( int vertex, int i )
+    {
+        return targets[vertex][i];
+    }
+
+    long stamp( int vertex, int i )
+    {
+        return stamps[vertex][i];
+    }
+
+    boolean contains( int from, int to )
+    {
+        int size = size( from );
+        int[] fromTargets = (size > 0) ? targets[from] : NO_TARGETS;
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( fromTargets[i] == to )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureVertexCapacity( int vertexCount )
+    {
+        int oldCapacity = sizes.length;
+        if ( vertexCount <= oldCapacity )
+        {
+            return;
+        }
+        int capacity = Math.max( vertexCount, oldCapacity << 1 );
+        targets = Arrays.copyOf( targets, capacity );
+        stamps = Arrays.copyOf( stamps, capacity );
+        sizes = Arrays.copyOf( sizes, capacity );
+        Arrays.fill( targets, oldCapacity, capacity, NO_TARGETS );
+        Arrays.fill( stamps, oldCapacity, capacity, NO_STAMPS );
+    }
+}
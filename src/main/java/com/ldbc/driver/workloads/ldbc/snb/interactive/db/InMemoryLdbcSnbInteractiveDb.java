@@ -0,0 +1,1439 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive.db;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcNoResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery10;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery10Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery11;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery11Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery12;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery12Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery13;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery13Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery14;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery14Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery3;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery3Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery4;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery4Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery5;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery5Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery6;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery6Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery7;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery7Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery8;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery8Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery9;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery9Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery1PersonProfile;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery1PersonProfileResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery2PersonPosts;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery2PersonPostsResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery3PersonFriends;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery3PersonFriendsResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery4MessageContent;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery4MessageContentResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery5MessageCreator;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery5MessageCreatorResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery6MessageForum;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery6MessageForumResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery7MessageReplies;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery7MessageRepliesResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate1AddPerson;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate2AddPostLike;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate3AddCommentLike;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate4AddForum;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate5AddForumMembership;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate6AddPost;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate7AddComment;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate8AddFriendship;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+
+import static java.lang.String.format;
+
+/**
+ * Embedded, in-memory, SNB Interactive database, for measuring the driver against a local target that does real work.
+ * <p>
+ * On initialization a small social network is generated (see InMemorySnbGraph.generate()), its size and seed are
+ * configurable. Updates are applied to the graph, and short reads look up the entities they ask for. Complex reads are
+ * simplified versions of the specification queries: they traverse the same parts of the graph and return results of
+ * the right shape, but e.g. places, organisations, and tag classes are not modelled. Ids that are not in the graph
+ * are folded onto entities that are, so every operation does work, and every id returned can be looked up by the
+ * short reads chained to it.
+ * <p>
+ * Reads execute concurrently, updates are serialized with respect to each other and to reads.
+ */
+public class InMemoryLdbcSnbInteractiveDb extends Db
+{
+    public static final String PERSON_COUNT_ARG = "ldbc.snb.interactive.db.in_memory.person_count";
+    public static final String KNOWS_PER_PERSON_ARG = "ldbc.snb.interactive.db.in_memory.knows_per_person";
+    public static final String POSTS_PER_PERSON_ARG = "ldbc.snb.interactive.db.in_memory.posts_per_person";
+    public static final String COMMENTS_PER_POST_ARG = "ldbc.snb.interactive.db.in_memory.comments_per_post";
+    public static final String SEED_ARG = "ldbc.snb.interactive.db.in_memory.seed";
+    public static final int PERSON_COUNT_DEFAULT = 1000;
+    public static final int KNOWS_PER_PERSON_DEFAULT = 20;
+    public static final int POSTS_PER_PERSON_DEFAULT = 10;
+    public static final int COMMENTS_PER_POST_DEFAULT = 3;
+    public static final long SEED_DEFAULT = 42;
+
+    static class InMemoryDbConnectionState extends DbConnectionState
+    {
+        private final InMemorySnbGraph graph;
+
+        InMemoryDbConnectionState( InMemorySnbGraph graph )
+        {
+            this.graph = graph;
+        }
+
+        InMemorySnbGraph graph()
+        {
+            return graph;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+        }
+    }
+
+    private InMemoryDbConnectionState connectionState = null;
+
+    @Override
+    protected void onInit( Map<String,String> params, LoggingService loggingService ) throws DbException
+    {
+        int personCount = (int) longParam( params, PERSON_COUNT_ARG, PERSON_COUNT_DEFAULT );
+        int knowsPerPerson = (int) longParam( params, KNOWS_PER_PERSON_ARG, KNOWS_PER_PERSON_DEFAULT );
+        int postsPerPerson = (int) longParam( params, POSTS_PER_PERSON_ARG, POSTS_PER_PERSON_DEFAULT );
+        int commentsPerPost = (int) longParam( params, COMMENTS_PER_POST_ARG, COMMENTS_PER_POST_DEFAULT );
+        long seed = longParam( params, SEED_ARG, SEED_DEFAULT );
+        InMemorySnbGraph graph;
+        try
+        {
+            graph = InMemorySnbGraph.generate( personCount, knowsPerPerson, postsPerPerson, commentsPerPost, seed );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DbException( "Error generating in-memory graph", e );
+        }
+        loggingService.info( format( "Generated %s", graph ) );
+        connectionState = new InMemoryDbConnectionState( graph );
+
+        // Long Reads
+        registerOperationHandler( LdbcQuery1.class, LdbcQuery1Handler.class );
+        registerOperationHandler( LdbcQuery2.class, LdbcQuery2Handler.class );
+        registerOperationHandler( LdbcQuery3.class, LdbcQuery3Handler.class );
+        registerOperationHandler( LdbcQuery4.class, LdbcQuery4Handler.class );
+        registerOperationHandler( LdbcQuery5.class, LdbcQuery5Handler.class );
+        registerOperationHandler( LdbcQuery6.class, LdbcQuery6Handler.class );
+        registerOperationHandler( LdbcQuery7.class, LdbcQuery7Handler.class );
+        registerOperationHandler( LdbcQuery8.class, LdbcQuery8Handler.class );
+        registerOperationHandler( LdbcQuery9.class, LdbcQuery9Handler.class );
+        registerOperationHandler( LdbcQuery10.class, LdbcQuery10Handler.class );
+        registerOperationHandler( LdbcQuery11.class, LdbcQuery11Handler.class );
+        registerOperationHandler( LdbcQuery12.class, LdbcQuery12Handler.class );
+        registerOperationHandler( LdbcQuery13.class, LdbcQuery13Handler.class );
+        registerOperationHandler( LdbcQuery14.class, LdbcQuery14Handler.class );
+        // Short Reads
+        registerOperationHandler( LdbcShortQuery1PersonProfile.class, LdbcShortQuery1PersonProfileHandler.class );
+        registerOperationHandler( LdbcShortQuery2PersonPosts.class, LdbcShortQuery2PersonPostsHandler.class );
+        registerOperationHandler( LdbcShortQuery3PersonFriends.class, LdbcShortQuery3PersonFriendsHandler.class );
+        registerOperationHandler( LdbcShortQuery4MessageContent.class, LdbcShortQuery4MessageContentHandler.class );
+        registerOperationHandler( LdbcShortQuery5MessageCreator.class, LdbcShortQuery5MessageCreatorHandler.class );
+        registerOperationHandler( LdbcShortQuery6MessageForum.class, LdbcShortQuery6MessageForumHandler.class );
+        registerOperationHandler( LdbcShortQuery7MessageReplies.class, LdbcShortQuery7MessageRepliesHandler.class );
+        // Updates
+        registerOperationHandler( LdbcUpdate1AddPerson.class, LdbcUpdate1AddPersonHandler.class );
+        registerOperationHandler( LdbcUpdate2AddPostLike.class, LdbcUpdate2AddPostLikeHandler.class );
+        registerOperationHandler( LdbcUpdate3AddCommentLike.class, LdbcUpdate3AddCommentLikeHandler.class );
+        registerOperationHandler( LdbcUpdate4AddForum.class, LdbcUpdate4AddForumHandler.class );
+        registerOperationHandler( LdbcUpdate5AddForumMembership.class, LdbcUpdate5AddForumMembershipHandler.class );
+        registerOperationHandler( LdbcUpdate6AddPost.class, LdbcUpdate6AddPostHandler.class );
+        registerOperationHandler( LdbcUpdate7AddComment.class, LdbcUpdate7AddCommentHandler.class );
+        registerOperationHandler( LdbcUpdate8AddFriendship.class, LdbcUpdate8AddFriendshipHandler.class );
+    }
+
+    private static long longParam( Map<String,String> params, String arg, long defaultValue ) throws DbException
+    {
+        String valueString = params.get( arg );
+        if ( null == valueString )
+        {
+            params.put( arg, Long.toString( defaultValue ) );
+            return defaultValue;
+        }
+        try
+        {
+            return Long.parseLong( valueString );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new DbException(
+                    format( "Error encountered while trying to parse value [%s] for %s", valueString, arg ), e );
+        }
+    }
+
+    @Override
+    protected void onClose() throws IOException
+    {
+    }
+
+    @Override
+    protected DbConnectionState getConnectionState() throws DbException
+    {
+        return connectionState;
+    }
+
+    private static <T> List<T> sortAndLimit( List<T> results, Comparator<? super T> comparator, int limit )
+    {
+        Collections.sort( results, comparator );
+        return (results.size() > limit) ? new ArrayList<>( results.subList( 0, limit ) ) : results;
+    }
+
+    private static int birthdayMonth( long birthday, int[] dayOfMonth )
+    {
+        ZonedDateTime date = Instant.ofEpochMilli( birthday ).atZone( ZoneOffset.UTC );
+        dayOfMonth[0] = date.getDayOfMonth();
+        return date.getMonthValue();
+    }
+
+    /*
+    LONG READS
+     */
+
+    public static class LdbcQuery1Handler implements OperationHandler<LdbcQuery1,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery1 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcQuery1Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, graph.resolvePerson( operation.personId() ), 3 );
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    if ( graph.personFirstNames[friend].equals( operation.firstName() ) )
+                    {
+                        List<List<Object>> companies = (graph.personCompanyIds[friend] < 0)
+                                                       ? Collections.<List<Object>>emptyList()
+                                                       : Collections.singletonList( Arrays.<Object>asList(
+                                                               InMemorySnbGraph.companyName(
+                                                                       graph.personCompanyIds[friend] ),
+                                                               graph.personWorkFroms[friend],
+                                                               InMemorySnbGraph.cityName(
+                                                                       graph.personCityIds[friend] ) ) );
+                        results.add( new LdbcQuery1Result(
+                                graph.personIds[friend],
+                                graph.personLastNames[friend],
+                                neighbourhood.distanceAt( position ),
+                                graph.personBirthdays[friend],
+                                graph.personCreationDates[friend],
+                                graph.personGenders[friend],
+                                graph.personBrowsers[friend],
+                                graph.personLocationIps[friend],
+                                Collections.<String>emptyList(),
+                                Collections.<String>emptyList(),
+                                InMemorySnbGraph.cityName( graph.personCityIds[friend] ),
+                                Collections.<List<Object>>emptyList(),
+                                companies ) );
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery1Result::distanceFromPerson )
+                            .thenComparing( LdbcQuery1Result::friendLastName )
+                            .thenComparingLong( LdbcQuery1Result::friendId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery2Handler implements OperationHandler<LdbcQuery2,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery2 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            long maxDate = operation.maxDateAsMilli();
+            List<LdbcQuery2Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                for ( int i = 0; i < graph.knows.size( person ); i++ )
+                {
+                    int friend = graph.knows.target( person, i );
+                    for ( int j = 0; j < graph.personMessages.size( friend ); j++ )
+                    {
+                        int message = graph.personMessages.target( friend, j );
+                        if ( graph.messageCreationDates[message] <= maxDate )
+                        {
+                            results.add( new LdbcQuery2Result(
+                                    graph.personIds[friend],
+                                    graph.personFirstNames[friend],
+                                    graph.personLastNames[friend],
+                                    graph.messageIds[message],
+                                    graph.messageContents[message],
+                                    graph.messageCreationDates[message] ) );
+                        }
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingLong( LdbcQuery2Result::postOrCommentCreationDate ).reversed()
+                            .thenComparingLong( LdbcQuery2Result::postOrCommentId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    /**
+     * Countries are not modelled, x and y counts are the numbers of posts and comments created in the period
+     */
+    public static class LdbcQuery3Handler implements OperationHandler<LdbcQuery3,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery3 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            long startDate = operation.startDateAsMilli();
+            long endDate = startDate + InMemorySnbGraph.daysAsMilli( operation.durationDays() );
+            List<LdbcQuery3Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, graph.resolvePerson( operation.personId() ), 2 );
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    long xCount = 0;
+                    long yCount = 0;
+                    for ( int i = 0; i < graph.personMessages.size( friend ); i++ )
+                    {
+                        long creationDate = graph.personMessages.stamp( friend, i );
+                        if ( creationDate >= startDate && creationDate < endDate )
+                        {
+                            if ( graph.isPost( graph.personMessages.target( friend, i ) ) )
+                            {
+                                xCount++;
+                            }
+                            else
+                            {
+                                yCount++;
+                            }
+                        }
+                    }
+                    if ( xCount > 0 && yCount > 0 )
+                    {
+                        results.add( new LdbcQuery3Result(
+                                graph.personIds[friend],
+                                graph.personFirstNames[friend],
+                                graph.personLastNames[friend],
+                                xCount,
+                                yCount,
+                                xCount + yCount ) );
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingLong( LdbcQuery3Result::count ).reversed()
+                            .thenComparingLong( LdbcQuery3Result::personId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery4Handler implements OperationHandler<LdbcQuery4,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery4 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            long startDate = operation.startDateAsMilli();
+            long endDate = startDate + InMemorySnbGraph.daysAsMilli( operation.durationDays() );
+            int[] postCounts = new int[InMemorySnbGraph.TAG_COUNT];
+            boolean[] usedBefore = new boolean[InMemorySnbGraph.TAG_COUNT];
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                for ( int i = 0; i < graph.knows.size( person ); i++ )
+                {
+                    int friend = graph.knows.target( person, i );
+                    for ( int j = 0; j < graph.personMessages.size( friend ); j++ )
+                    {
+                        int message = graph.personMessages.target( friend, j );
+                        long creationDate = graph.messageCreationDates[message];
+                        if ( false == graph.isPost( message ) || creationDate >= endDate )
+                        {
+                            continue;
+                        }
+                        for ( long tag : graph.messageTags[message] )
+                        {
+                            if ( tag < 0 || tag >= InMemorySnbGraph.TAG_COUNT )
+                            {
+                                continue;
+                            }
+                            if ( creationDate < startDate )
+                            {
+                                usedBefore[(int) tag] = true;
+                            }
+                            else
+                            {
+                                postCounts[(int) tag]++;
+                            }
+                        }
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            List<LdbcQuery4Result> results = new ArrayList<>();
+            for ( int tag = 0; tag < postCounts.length; tag++ )
+            {
+                if ( postCounts[tag] > 0 && false == usedBefore[tag] )
+                {
+                    results.add( new LdbcQuery4Result( InMemorySnbGraph.tagName( tag ), postCounts[tag] ) );
+                }
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery4Result::postCount ).reversed()
+                            .thenComparing( LdbcQuery4Result::tagName ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery5Handler implements OperationHandler<LdbcQuery5,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery5 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            long minDate = operation.minDateAsMilli();
+            List<LdbcQuery5Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, graph.resolvePerson( operation.personId() ), 2 );
+                // forum -> position in post counts
+                LongIntHashMap forumPositions = new LongIntHashMap( 64 );
+                List<Integer> forums = new ArrayList<>();
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    for ( int i = 0; i < graph.personForums.size( friend ); i++ )
+                    {
+                        int forum = graph.personForums.target( friend, i );
+                        if ( graph.personForums.stamp( friend, i ) > minDate &&
+                             LongIntHashMap.MISSING == forumPositions.get( forum ) )
+                        {
+                            forumPositions.put( forum, forums.size() );
+                            forums.add( forum );
+                        }
+                    }
+                }
+                int[] postCounts = new int[forums.size()];
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    for ( int i = 0; i < graph.personMessages.size( friend ); i++ )
+                    {
+                        int message = graph.personMessages.target( friend, i );
+                        if ( graph.isPost( message ) )
+                        {
+                            int forumPosition = forumPositions.get( graph.messageForums[message] );
+                            if ( LongIntHashMap.MISSING != forumPosition )
+                            {
+                                postCounts[forumPosition]++;
+                            }
+                        }
+                    }
+                }
+                for ( int i = 0; i < postCounts.length; i++ )
+                {
+                    results.add( new LdbcQuery5Result( graph.forumTitles[forums.get( i )], postCounts[i] ) );
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery5Result::postCount ).reversed()
+                            .thenComparing( LdbcQuery5Result::forumTitle ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery6Handler implements OperationHandler<LdbcQuery6,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery6 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            long tagId = InMemorySnbGraph.tagId( operation.tagName() );
+            int[] postCounts = new int[InMemorySnbGraph.TAG_COUNT];
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, graph.resolvePerson( operation.personId() ), 2 );
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    for ( int i = 0; i < graph.personMessages.size( friend ); i++ )
+                    {
+                        int message = graph.personMessages.target( friend, i );
+                        long[] tags = graph.messageTags[message];
+                        if ( graph.isPost( message ) && contains( tags, tagId ) )
+                        {
+                            for ( long tag : tags )
+                            {
+                                if ( tag != tagId && tag >= 0 && tag < InMemorySnbGraph.TAG_COUNT )
+                                {
+                                    postCounts[(int) tag]++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            List<LdbcQuery6Result> results = new ArrayList<>();
+            for ( int tag = 0; tag < postCounts.length; tag++ )
+            {
+                if ( postCounts[tag] > 0 )
+                {
+                    results.add( new LdbcQuery6Result( InMemorySnbGraph.tagName( tag ), postCounts[tag] ) );
+                }
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery6Result::postCount ).reversed()
+                            .thenComparing( LdbcQuery6Result::tagName ),
+                    operation.limit() ), operation );
+        }
+
+        private static boolean contains( long[] tags, long tagId )
+        {
+            for ( long tag : tags )
+            {
+                if ( tag == tagId )
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static class LdbcQuery7Handler implements OperationHandler<LdbcQuery7,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery7 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcQuery7Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                // liker -> position of their most recent like in results
+                LongIntHashMap likerPositions = new LongIntHashMap( 64 );
+                for ( int i = 0; i < graph.personMessages.size( person ); i++ )
+                {
+                    int message = graph.personMessages.target( person, i );
+                    for ( int j = 0; j < graph.likes.size( message ); j++ )
+                    {
+                        int liker = graph.likes.target( message, j );
+                        long likeDate = graph.likes.stamp( message, j );
+                        int likerPosition = likerPositions.get( liker );
+                        if ( LongIntHashMap.MISSING != likerPosition &&
+                             results.get( likerPosition ).likeCreationDate() >= likeDate )
+                        {
+                            continue;
+                        }
+                        LdbcQuery7Result result = new LdbcQuery7Result(
+                                graph.personIds[liker],
+                                graph.personFirstNames[liker],
+                                graph.personLastNames[liker],
+                                likeDate,
+                                graph.messageIds[message],
+                                graph.messageContents[message],
+                                (int) ((likeDate - graph.messageCreationDates[message]) / 60000),
+                                false == graph.knows.contains( person, liker ) );
+                        if ( LongIntHashMap.MISSING == likerPosition )
+                        {
+                            likerPositions.put( liker, results.size() );
+                            results.add( result );
+                        }
+                        else
+                        {
+                            results.set( likerPosition, result );
+                        }
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingLong( LdbcQuery7Result::likeCreationDate ).reversed()
+                            .thenComparingLong( LdbcQuery7Result::personId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery8Handler implements OperationHandler<LdbcQuery8,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery8 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcQuery8Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                for ( int i = 0; i < graph.personMessages.size( person ); i++ )
+                {
+                    int message = graph.personMessages.target( person, i );
+                    for ( int j = 0; j < graph.replies.size( message ); j++ )
+                    {
+                        int comment = graph.replies.target( message, j );
+                        int author = graph.messageAuthors[comment];
+                        results.add( new LdbcQuery8Result(
+                                graph.personIds[author],
+                                graph.personFirstNames[author],
+                                graph.personLastNames[author],
+                                graph.messageCreationDates[comment],
+                                graph.messageIds[comment],
+                                graph.messageContents[comment] ) );
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingLong( LdbcQuery8Result::commentCreationDate ).reversed()
+                            .thenComparingLong( LdbcQuery8Result::commentId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery9Handler implements OperationHandler<LdbcQuery9,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery9 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            long maxDate = operation.maxDateAsMilli();
+            List<LdbcQuery9Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, graph.resolvePerson( operation.personId() ), 2 );
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    for ( int i = 0; i < graph.personMessages.size( friend ); i++ )
+                    {
+                        int message = graph.personMessages.target( friend, i );
+                        if ( graph.messageCreationDates[message] < maxDate )
+                        {
+                            results.add( new LdbcQuery9Result(
+                                    graph.personIds[friend],
+                                    graph.personFirstNames[friend],
+                                    graph.personLastNames[friend],
+                                    graph.messageIds[message],
+                                    graph.messageContents[message],
+                                    graph.messageCreationDates[message] ) );
+                        }
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingLong( LdbcQuery9Result::commentOrPostCreationDate ).reversed()
+                            .thenComparingLong( LdbcQuery9Result::commentOrPostId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery10Handler implements OperationHandler<LdbcQuery10,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery10 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            int month = operation.month();
+            int nextMonth = (month % 12) + 1;
+            int[] dayOfMonth = new int[1];
+            List<LdbcQuery10Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                long[] interests = graph.personInterests[person];
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, person, 2 );
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    if ( 2 != neighbourhood.distanceAt( position ) )
+                    {
+                        continue;
+                    }
+                    int friend = neighbourhood.person( position );
+                    int birthdayMonth = birthdayMonth( graph.personBirthdays[friend], dayOfMonth );
+                    if ( false == ((birthdayMonth == month && dayOfMonth[0] >= 21) ||
+                                   (birthdayMonth == nextMonth && dayOfMonth[0] < 22)) )
+                    {
+                        continue;
+                    }
+                    int commonInterestScore = 0;
+                    for ( int i = 0; i < graph.personMessages.size( friend ); i++ )
+                    {
+                        int message = graph.personMessages.target( friend, i );
+                        if ( graph.isPost( message ) )
+                        {
+                            commonInterestScore += (sharesTag( graph.messageTags[message], interests )) ? 1 : -1;
+                        }
+                    }
+                    results.add( new LdbcQuery10Result(
+                            graph.personIds[friend],
+                            graph.personFirstNames[friend],
+                            graph.personLastNames[friend],
+                            commonInterestScore,
+                            graph.personGenders[friend],
+                            InMemorySnbGraph.cityName( graph.personCityIds[friend] ) ) );
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery10Result::commonInterestScore ).reversed()
+                            .thenComparingLong( LdbcQuery10Result::personId ),
+                    operation.limit() ), operation );
+        }
+
+        private static boolean sharesTag( long[] tags, long[] interests )
+        {
+            for ( long tag : tags )
+            {
+                for ( long interest : interests )
+                {
+                    if ( tag == interest )
+                    {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Countries are not modelled, every person works at (at most) one company
+     */
+    public static class LdbcQuery11Handler implements OperationHandler<LdbcQuery11,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery11 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcQuery11Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                Neighbourhood neighbourhood = Neighbourhood.of( graph, graph.resolvePerson( operation.personId() ), 2 );
+                for ( int position = 1; position < neighbourhood.count(); position++ )
+                {
+                    int friend = neighbourhood.person( position );
+                    if ( graph.personCompanyIds[friend] >= 0 &&
+                         graph.personWorkFroms[friend] < operation.workFromYear() )
+                    {
+                        results.add( new LdbcQuery11Result(
+                                graph.personIds[friend],
+                                graph.personFirstNames[friend],
+                                graph.personLastNames[friend],
+                                InMemorySnbGraph.companyName( graph.personCompanyIds[friend] ),
+                                graph.personWorkFroms[friend] ) );
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery11Result::organizationWorkFromYear )
+                            .thenComparingLong( LdbcQuery11Result::personId )
+                            .thenComparing( Comparator.comparing( LdbcQuery11Result::organizationName ).reversed() ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    /**
+     * Tag classes are not modelled, all direct replies to posts are counted
+     */
+    public static class LdbcQuery12Handler implements OperationHandler<LdbcQuery12,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery12 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcQuery12Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                for ( int i = 0; i < graph.knows.size( person ); i++ )
+                {
+                    int friend = graph.knows.target( person, i );
+                    int replyCount = 0;
+                    TreeSet<String> tagNames = new TreeSet<>();
+                    for ( int j = 0; j < graph.personMessages.size( friend ); j++ )
+                    {
+                        int message = graph.personMessages.target( friend, j );
+                        int replyOf = graph.messageReplyOfs[message];
+                        if ( InMemorySnbGraph.NONE != replyOf && graph.isPost( replyOf ) )
+                        {
+                            replyCount++;
+                            for ( long tag : graph.messageTags[replyOf] )
+                            {
+                                tagNames.add( InMemorySnbGraph.tagName( tag ) );
+                            }
+                        }
+                    }
+                    if ( replyCount > 0 )
+                    {
+                        results.add( new LdbcQuery12Result(
+                                graph.personIds[friend],
+                                graph.personFirstNames[friend],
+                                graph.personLastNames[friend],
+                                new ArrayList<>( tagNames ),
+                                replyCount ) );
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingInt( LdbcQuery12Result::replyCount ).reversed()
+                            .thenComparingLong( LdbcQuery12Result::personId ),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcQuery13Handler implements OperationHandler<LdbcQuery13,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery13 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            int shortestPathLength;
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person2 = graph.resolvePerson( operation.person2Id() );
+                shortestPathLength =
+                        Neighbourhood.of( graph, graph.resolvePerson( operation.person1Id() ), Integer.MAX_VALUE,
+                                person2 ).distance( person2 );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, new LdbcQuery13Result( shortestPathLength ), operation );
+        }
+    }
+
+    /**
+     * Returns one of the shortest paths, weighted as in the specification
+     */
+    public static class LdbcQuery14Handler implements OperationHandler<LdbcQuery14,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcQuery14 operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcQuery14Result> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person2 = graph.resolvePerson( operation.person2Id() );
+                int[] path = Neighbourhood.of( graph, graph.resolvePerson( operation.person1Id() ), Integer.MAX_VALUE,
+                        person2 ).pathTo( person2 );
+                if ( path.length > 0 )
+                {
+                    List<Long> personIdsInPath = new ArrayList<>( path.length );
+                    double pathWeight = 0;
+                    for ( int i = 0; i < path.length; i++ )
+                    {
+                        personIdsInPath.add( graph.personIds[path[i]] );
+                        if ( i > 0 )
+                        {
+                            pathWeight += interactionWeight( graph, path[i - 1], path[i] ) +
+                                          interactionWeight( graph, path[i], path[i - 1] );
+                        }
+                    }
+                    results.add( new LdbcQuery14Result( personIdsInPath, pathWeight ) );
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, results, operation );
+        }
+
+        // 1.0 for every comment of author replying to a post of other, 0.5 for every reply to a comment of other
+        private static double interactionWeight( InMemorySnbGraph graph, int author, int other )
+        {
+            double weight = 0;
+            for ( int i = 0; i < graph.personMessages.size( author ); i++ )
+            {
+                int replyOf = graph.messageReplyOfs[graph.personMessages.target( author, i )];
+                if ( InMemorySnbGraph.NONE != replyOf && graph.messageAuthors[replyOf] == other )
+                {
+                    weight += (graph.isPost( replyOf )) ? 1.0 : 0.5;
+                }
+            }
+            return weight;
+        }
+    }
+
+    /*
+    SHORT READS
+     */
+
+    public static class LdbcShortQuery1PersonProfileHandler
+            implements OperationHandler<LdbcShortQuery1PersonProfile,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery1PersonProfile operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            LdbcShortQuery1PersonProfileResult result;
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                result = new LdbcShortQuery1PersonProfileResult(
+                        graph.personFirstNames[person],
+                        graph.personLastNames[person],
+                        graph.personBirthdays[person],
+                        graph.personLocationIps[person],
+                        graph.personBrowsers[person],
+                        graph.personCityIds[person],
+                        graph.personGenders[person],
+                        graph.personCreationDates[person] );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, result, operation );
+        }
+    }
+
+    public static class LdbcShortQuery2PersonPostsHandler
+            implements OperationHandler<LdbcShortQuery2PersonPosts,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery2PersonPosts operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                for ( int i = 0; i < graph.personMessages.size( person ); i++ )
+                {
+                    int message = graph.personMessages.target( person, i );
+                    int rootPost = graph.messageRootPosts[message];
+                    int rootPostAuthor = graph.messageAuthors[rootPost];
+                    results.add( new LdbcShortQuery2PersonPostsResult(
+                            graph.messageIds[message],
+                            graph.messageContents[message],
+                            graph.messageCreationDates[message],
+                            graph.messageIds[rootPost],
+                            graph.personIds[rootPostAuthor],
+                            graph.personFirstNames[rootPostAuthor],
+                            graph.personLastNames[rootPostAuthor] ) );
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, sortAndLimit( results,
+                    Comparator.comparingLong( LdbcShortQuery2PersonPostsResult::messageCreationDate )
+                            .thenComparingLong( LdbcShortQuery2PersonPostsResult::messageId ).reversed(),
+                    operation.limit() ), operation );
+        }
+    }
+
+    public static class LdbcShortQuery3PersonFriendsHandler
+            implements OperationHandler<LdbcShortQuery3PersonFriends,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery3PersonFriends operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcShortQuery3PersonFriendsResult> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int person = graph.resolvePerson( operation.personId() );
+                for ( int i = 0; i < graph.knows.size( person ); i++ )
+                {
+                    int friend = graph.knows.target( person, i );
+                    results.add( new LdbcShortQuery3PersonFriendsResult(
+                            graph.personIds[friend],
+                            graph.personFirstNames[friend],
+                            graph.personLastNames[friend],
+                            graph.knows.stamp( person, i ) ) );
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            Collections.sort( results,
+                    Comparator.comparingLong( LdbcShortQuery3PersonFriendsResult::friendshipCreationDate ).reversed()
+                            .thenComparingLong( LdbcShortQuery3PersonFriendsResult::personId ) );
+            resultReporter.report( 0, results, operation );
+        }
+    }
+
+    public static class LdbcShortQuery4MessageContentHandler
+            implements OperationHandler<LdbcShortQuery4MessageContent,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery4MessageContent operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            LdbcShortQuery4MessageContentResult result;
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int message = graph.resolveMessage( operation.messageId() );
+                result = new LdbcShortQuery4MessageContentResult(
+                        graph.messageContents[message],
+                        graph.messageCreationDates[message] );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, result, operation );
+        }
+    }
+
+    public static class LdbcShortQuery5MessageCreatorHandler
+            implements OperationHandler<LdbcShortQuery5MessageCreator,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery5MessageCreator operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            LdbcShortQuery5MessageCreatorResult result;
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int author = graph.messageAuthors[graph.resolveMessage( operation.messageId() )];
+                result = new LdbcShortQuery5MessageCreatorResult(
+                        graph.personIds[author],
+                        graph.personFirstNames[author],
+                        graph.personLastNames[author] );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, result, operation );
+        }
+    }
+
+    public static class LdbcShortQuery6MessageForumHandler
+            implements OperationHandler<LdbcShortQuery6MessageForum,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery6MessageForum operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            LdbcShortQuery6MessageForumResult result;
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int forum = graph.messageForums[graph.resolveMessage( operation.messageId() )];
+                int moderator = graph.forumModerators[forum];
+                result = new LdbcShortQuery6MessageForumResult(
+                        graph.forumIds[forum],
+                        graph.forumTitles[forum],
+                        graph.personIds[moderator],
+                        graph.personFirstNames[moderator],
+                        graph.personLastNames[moderator] );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, result, operation );
+        }
+    }
+
+    public static class LdbcShortQuery7MessageRepliesHandler
+            implements OperationHandler<LdbcShortQuery7MessageReplies,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcShortQuery7MessageReplies operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcShortQuery7MessageRepliesResult> results = new ArrayList<>();
+            Lock lock = graph.readLock();
+            lock.lock();
+            try
+            {
+                int message = graph.resolveMessage( operation.messageId() );
+                int author = graph.messageAuthors[message];
+                for ( int i = 0; i < graph.replies.size( message ); i++ )
+                {
+                    int comment = graph.replies.target( message, i );
+                    int replyAuthor = graph.messageAuthors[comment];
+                    results.add( new LdbcShortQuery7MessageRepliesResult(
+                            graph.messageIds[comment],
+                            graph.messageContents[comment],
+                            graph.messageCreationDates[comment],
+                            graph.personIds[replyAuthor],
+                            graph.personFirstNames[replyAuthor],
+                            graph.personLastNames[replyAuthor],
+                            graph.knows.contains( replyAuthor, author ) ) );
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            Collections.sort( results,
+                    Comparator.comparingLong( LdbcShortQuery7MessageRepliesResult::commentCreationDate ).reversed()
+                            .thenComparingLong( LdbcShortQuery7MessageRepliesResult::replyAuthorId ) );
+            resultReporter.report( 0, results, operation );
+        }
+    }
+
+    /*
+    UPDATES
+     */
+
+    public static class LdbcUpdate1AddPersonHandler
+            implements OperationHandler<LdbcUpdate1AddPerson,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate1AddPerson operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            List<LdbcUpdate1AddPerson.Organization> workAt = operation.workAt();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addPerson(
+                        operation.personId(),
+                        operation.personFirstName(),
+                        operation.personLastName(),
+                        operation.gender(),
+                        operation.birthdayAsMilli(),
+                        operation.creationDateAsMilli(),
+                        operation.locationIp(),
+                        operation.browserUsed(),
+                        operation.cityId(),
+                        InMemorySnbGraph.toTagArray( operation.tagIds() ),
+                        (workAt.isEmpty()) ? InMemorySnbGraph.NONE : workAt.get( 0 ).organizationId(),
+                        (workAt.isEmpty()) ? 0 : workAt.get( 0 ).year() );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate2AddPostLikeHandler
+            implements OperationHandler<LdbcUpdate2AddPostLike,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate2AddPostLike operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addLike(
+                        graph.resolvePerson( operation.personId() ),
+                        graph.resolveMessage( operation.postId() ),
+                        operation.creationDateAsMilli() );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate3AddCommentLikeHandler
+            implements OperationHandler<LdbcUpdate3AddCommentLike,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate3AddCommentLike operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addLike(
+                        graph.resolvePerson( operation.personId() ),
+                        graph.resolveMessage( operation.commentId() ),
+                        operation.creationDateAsMilli() );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate4AddForumHandler
+            implements OperationHandler<LdbcUpdate4AddForum,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate4AddForum operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addForum(
+                        operation.forumId(),
+                        operation.forumTitle(),
+                        graph.resolvePerson( operation.moderatorPersonId() ),
+                        operation.creationDateAsMilli() );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate5AddForumMembershipHandler
+            implements OperationHandler<LdbcUpdate5AddForumMembership,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate5AddForumMembership operation,
+                InMemoryDbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addMembership(
+                        graph.resolveForum( operation.forumId() ),
+                        graph.resolvePerson( operation.personId() ),
+                        operation.joinDateAsMilli() );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate6AddPostHandler
+            implements OperationHandler<LdbcUpdate6AddPost,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate6AddPost operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addMessage(
+                        operation.postId(),
+                        operation.creationDateAsMilli(),
+                        (null == operation.content() || operation.content().isEmpty())
+                        ? operation.imageFile()
+                        : operation.content(),
+                        graph.resolvePerson( operation.authorPersonId() ),
+                        graph.resolveForum( operation.forumId() ),
+                        InMemorySnbGraph.NONE,
+                        InMemorySnbGraph.toTagArray( operation.tagIds() ) );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate7AddCommentHandler
+            implements OperationHandler<LdbcUpdate7AddComment,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate7AddComment operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                long replyToId = (-1 == operation.replyToPostId())
+                                 ? operation.replyToCommentId()
+                                 : operation.replyToPostId();
+                graph.addMessage(
+                        operation.commentId(),
+                        operation.creationDateAsMilli(),
+                        operation.content(),
+                        graph.resolvePerson( operation.authorPersonId() ),
+                        InMemorySnbGraph.NONE,
+                        graph.resolveMessage( replyToId ),
+                        InMemorySnbGraph.toTagArray( operation.tagIds() ) );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+
+    public static class LdbcUpdate8AddFriendshipHandler
+            implements OperationHandler<LdbcUpdate8AddFriendship,InMemoryDbConnectionState>
+    {
+        @Override
+        public void executeOperation( LdbcUpdate8AddFriendship operation, InMemoryDbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            InMemorySnbGraph graph = dbConnectionState.graph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            try
+            {
+                graph.addKnows(
+                        graph.resolvePerson( operation.person1Id() ),
+                        graph.resolvePerson( operation.person2Id() ),
+                        operation.creationDateAsMilli() );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            resultReporter.report( 0, LdbcNoResult.INSTANCE, operation );
+        }
+    }
+}
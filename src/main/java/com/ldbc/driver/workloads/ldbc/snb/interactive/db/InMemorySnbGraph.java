@@ -0,0 +1,538 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive.db;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.lang.String.format;
+
+/**
+ * Embedded SNB graph, persons, messages (posts & comments), and forums are stored in primitive columns indexed by
+ * dense int vertex indexes, relationships are stored in AdjacencyLists, and entity ids are mapped to indexes by
+ * LongIntHashMap.
+ * <p>
+ * Any number of readers may access the graph concurrently, while holding readLock(). Writers must hold writeLock().
+ * <p>
+ * Ids that are not in the graph (e.g., those read from substitution parameter files or update streams of a different
+ * dataset) are folded onto entities the graph was generated with, see resolvePerson(), resolveMessage(), and
+ * resolveForum(). That way every operation has realistic cost, and every id the graph returns can be looked up by
+ * subsequent short reads.
+ */
+class InMemorySnbGraph
+{
+    static final int NONE = -1;
+    static final int TAG_COUNT = 100;
+    static final int CITY_COUNT = 50;
+    static final int COMPANY_COUNT = 100;
+
+    // 2010-01-01 to 2013-01-01, same period as LDBC SNB datasets
+    static final long START_DATE_AS_MILLI = 1262304000000L;
+    static final long END_DATE_AS_MILLI = 1356998400000L;
+    // 1980-01-01 to 1990-01-01
+    private static final long MIN_BIRTHDAY_AS_MILLI = 315532800000L;
+    private static final long MAX_BIRTHDAY_AS_MILLI = 631152000000L;
+    // generated ids start high enough to not collide with ids of update streams
+    private static final long GENERATED_ID_OFFSET = 1L << 50;
+
+    private static final String[] FIRST_NAMES =
+            {"Jan", "Chen", "Ali", "Maria", "John", "Anh", "Ivan", "Jun", "Carlos", "Eli", "Hans", "Ana"};
+    private static final String[] LAST_NAMES =
+            {"Smith", "Wang", "Khan", "Garcia", "Nguyen", "Ivanov", "Kim", "Silva", "Meyer", "Rossi", "Sato", "Cohen"};
+    private static final String[] GENDERS = {"male", "female"};
+    private static final String[] BROWSERS = {"Firefox", "Chrome", "Safari", "Internet Explorer", "Opera"};
+    private static final long[] NO_TAGS = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // persons
+    final LongIntHashMap personIndexes;
+    long[] personIds;
+    String[] personFirstNames;
+    String[] personLastNames;
+    String[] personGenders;
+    long[] personBirthdays;
+    long[] personCreationDates;
+    String[] personLocationIps;
+    String[] personBrowsers;
+    long[] personCityIds;
+    long[][] personInterests;
+    long[] personCompanyIds;
+    int[] personWorkFroms;
+    int personCount = 0;
+    // person -> person, stamp is creation date, stored in both directions
+    final AdjacencyLists knows;
+    // person -> message, stamp is creation date
+    final AdjacencyLists personMessages;
+    // person -> forum, stamp is join date
+    final AdjacencyLists personForums;
+
+    // messages
+    final LongIntHashMap messageIndexes;
+    long[] messageIds;
+    long[] messageCreationDates;
+    String[] messageContents;
+    int[] messageAuthors;
+    int[] messageForums;
+    int[] messageReplyOfs;
+    int[] messageRootPosts;
+    long[][] messageTags;
+    int messageCount = 0;
+    // message -> comment, stamp is creation date
+    final AdjacencyLists replies;
+    // message -> person, stamp is like date
+    final AdjacencyLists likes;
+
+    // forums
+    final LongIntHashMap forumIndexes;
+    long[] forumIds;
+    String[] forumTitles;
+    int[] forumModerators;
+    long[] forumCreationDates;
+    int forumCount = 0;
+    // forum -> person, stamp is join date
+    final AdjacencyLists members;
+
+    // entity counts when generation completed, missing ids are folded onto these entities only, see fixFoldTargets()
+    private int foldPersonCount = 0;
+    private int foldMessageCount = 0;
+    private int foldForumCount = 0;
+
+    InMemorySnbGraph( int expectedPersonCount, int expectedMessageCount, int expectedForumCount )
+    {
+        this.personIndexes = new LongIntHashMap( expectedPersonCount );
+        this.personIds = new long[expectedPersonCount];
+        this.personFirstNames = new String[expectedPersonCount];
+        this.personLastNames = new String[expectedPersonCount];
+        this.personGenders = new String[expectedPersonCount];
+        this.personBirthdays = new long[expectedPersonCount];
+        this.personCreationDates = new long[expectedPersonCount];
+        this.personLocationIps = new String[expectedPersonCount];
+        this.personBrowsers = new String[expectedPersonCount];
+        this.personCityIds = new long[expectedPersonCount];
+        this.personInterests = new long[expectedPersonCount][];
+        this.personCompanyIds = new long[expectedPersonCount];
+        this.personWorkFroms = new int[expectedPersonCount];
+        this.knows = new AdjacencyLists( expectedPersonCount );
+        this.personMessages = new AdjacencyLists( expectedPersonCount );
+        this.personForums = new AdjacencyLists( expectedPersonCount );
+
+        this.messageIndexes = new LongIntHashMap( expectedMessageCount );
+        this.messageIds = new long[expectedMessageCount];
+        this.messageCreationDates = new long[expectedMessageCount];
+        this.messageContents = new String[expectedMessageCount];
+        this.messageAuthors = new int[expectedMessageCount];
+        this.messageForums = new int[expectedMessageCount];
+        this.messageReplyOfs = new int[expectedMessageCount];
+        this.messageRootPosts = new int[expectedMessageCount];
+        this.messageTags = new long[expectedMessageCount][];
+        this.replies = new AdjacencyLists( expectedMessageCount );
+        this.likes = new AdjacencyLists( expectedMessageCount );
+
+        this.forumIndexes = new LongIntHashMap( expectedForumCount );
+        this.forumIds = new long[expectedForumCount];
+        this.forumTitles = new String[expectedForumCount];
+        this.forumModerators = new int[expectedForumCount];
+        this.forumCreationDates = new long[expectedForumCount];
+        this.members = new AdjacencyLists( expectedForumCount );
+    }
+
+    Lock readLock()
+    {
+        return lock.readLock();
+    }
+
+    Lock writeLock()
+    {
+        return lock.writeLock();
+    }
+
+    /*
+    LOOKUPS
+     */
+
+    /**
+     * @return index of person with given id, or (when there is no such person) index of a generated person that the
+     * id is folded onto, the same one for the lifetime of the graph
+     */
+    int resolvePerson( long personId )
+    {
+        int index = personIndexes.get( personId );
+        return (LongIntHashMap.MISSING != index) ? index : fold( personId, foldPersonCount );
+    }
+
+    /**
+     * @return index of message with given id, or (when there is no such message) index of a generated message that
+     * the id is folded onto, the same one for the lifetime of the graph
+     */
+    int resolveMessage( long messageId )
+    {
+        int index = messageIndexes.get( messageId );
+        return (LongIntHashMap.MISSING != index) ? index : fold( messageId, foldMessageCount );
+    }
+
+    /**
+     * @return index of forum with given id, or (when there is no such forum) index of a generated forum that the id
+     * is folded onto, the same one for the lifetime of the graph
+     */
+    int resolveForum( long forumId )
+    {
+        int index = forumIndexes.get( forumId );
+        return (LongIntHashMap.MISSING != index) ? index : fold( forumId, foldForumCount );
+    }
+
+    // entities are never removed, so folding onto the first count entities gives the same index after any insert
+    private static int fold( long id, int count )
+    {
+        if ( 0 == count )
+        {
+            throw new IllegalStateException( "Graph was generated empty, can not resolve id " + id );
+        }
+        return (int) Math.floorMod( id, (long) count );
+    }
+
+    /**
+     * Fixes the entities that missing ids are folded onto to those currently in the graph, inserts made afterwards
+     * (e.g., by updates) do not change where an id is folded to
+     */
+    void fixFoldTargets()
+    {
+        foldPersonCount = personCount;
+        foldMessageCount = messageCount;
+        foldForumCount = forumCount;
+    }
+
+    boolean isPost( int message )
+    {
+        return NONE == messageReplyOfs[message];
+    }
+
+    static String tagName( long tagId )
+    {
+        return "Tag" + tagId;
+    }
+
+    /**
+     * @return id of tag with given name, names not created by tagName() are folded onto existing tags
+     */
+    static long tagId( String tagName )
+    {
+        if ( tagName.startsWith( "Tag" ) )
+        {
+            try
+            {
+                long tagId = Long.parseLong( tagName.substring( 3 ) );
+                if ( tagId >= 0 && tagId < TAG_COUNT )
+                {
+                    return tagId;
+                }
+            }
+            catch ( NumberFormatException e )
+            {
+                // not a generated tag name, fold it
+            }
+        }
+        return Math.floorMod( tagName.hashCode(), TAG_COUNT );
+    }
+
+    static String cityName( long cityId )
+    {
+        return "City" + cityId;
+    }
+
+    static String companyName( long companyId )
+    {
+        return "Company" + companyId;
+    }
+
+    /*
+    MUTATIONS
+     */
+
+    /**
+     * Adding an entity whose id already exists leaves the graph unchanged
+     *
+     * @return index of the person
+     */
+    int addPerson( long personId, String firstName, String lastName, String gender, long birthday,
+            long creationDate, String locationIp, String browser, long cityId, long[] interests, long companyId,
+            int workFrom )
+    {
+        int existing = personIndexes.get( personId );
+        if ( LongIntHashMap.MISSING != existing )
+        {
+            return existing;
+        }
+        int person = personCount;
+        if ( person == personIds.length )
+        {
+            int capacity = grownCapacity( person );
+            personIds = Arrays.copyOf( personIds, capacity );
+            personFirstNames = Arrays.copyOf( personFirstNames, capacity );
+            personLastNames = Arrays.copyOf( personLastNames, capacity );
+            personGenders = Arrays.copyOf( personGenders, capacity );
+            personBirthdays = Arrays.copyOf( personBirthdays, capacity );
+            personCreationDates = Arrays.copyOf( personCreationDates, capacity );
+            personLocationIps = Arrays.copyOf( personLocationIps, capacity );
+            personBrowsers = Arrays.copyOf( personBrowsers, capacity );
+            personCityIds = Arrays.copyOf( personCityIds, capacity );
+            personInterests = Arrays.copyOf( personInterests, capacity );
+            personCompanyIds = Arrays.copyOf( personCompanyIds, capacity );
+            personWorkFroms = Arrays.copyOf( personWorkFroms, capacity );
+        }
+        personIds[person] = personId;
+        personFirstNames[person] = firstName;
+        personLastNames[person] = lastName;
+        personGenders[person] = gender;
+        personBirthdays[person] = birthday;
+        personCreationDates[person] = creationDate;
+        personLocationIps[person] = locationIp;
+        personBrowsers[person] = browser;
+        personCityIds[person] = cityId;
+        personInterests[person] = interests;
+        personCompanyIds[person] = companyId;
+        personWorkFroms[person] = workFrom;
+        personIndexes.put( personId, person );
+        personCount++;
+        return person;
+    }
+
+    void addKnows( int person1, int person2, long creationDate )
+    {
+        if ( person1 == person2 || knows.contains( person1, person2 ) )
+        {
+            return;
+        }
+        knows.add( person1, person2, creationDate );
+        knows.add( person2, person1, creationDate );
+    }
+
+    /**
+     * Adding an entity whose id already exists leaves the graph unchanged
+     *
+     * @param replyOf index of message replied to, or NONE if the message is a post
+     * @param forum index of forum containing the post, ignored for comments
+     * @return index of the message
+     */
+    int addMessage( long messageId, long creationDate, String content, int author, int forum, int replyOf,
+            long[] tags )
+    {
+        int existing = messageIndexes.get( messageId );
+        if ( LongIntHashMap.MISSING != existing )
+        {
+            return existing;
+        }
+        int message = messageCount;
+        if ( message == messageIds.length )
+        {
+            int capacity = grownCapacity( message );
+            messageIds = Arrays.copyOf( messageIds, capacity );
+            messageCreationDates = Arrays.copyOf( messageCreationDates, capacity );
+            messageContents = Arrays.copyOf( messageContents, capacity );
+            messageAuthors = Arrays.copyOf( messageAuthors, capacity );
+            messageForums = Arrays.copyOf( messageForums, capacity );
+            messageReplyOfs = Arrays.copyOf( messageReplyOfs, capacity );
+            messageRootPosts = Arrays.copyOf( messageRootPosts, capacity );
+            messageTags = Arrays.copyOf( messageTags, capacity );
+        }
+        messageIds[message] = messageId;
+        messageCreationDates[message] = creationDate;
+        messageContents[message] = content;
+        messageAuthors[message] = author;
+        messageReplyOfs[message] = replyOf;
+        if ( NONE == replyOf )
+        {
+            messageRootPosts[message] = message;
+            messageForums[message] = forum;
+        }
+        else
+        {
+            messageRootPosts[message] = messageRootPosts[replyOf];
+            messageForums[message] = messageForums[replyOf];
+            replies.add( replyOf, message, creationDate );
+        }
+        messageTags[message] = tags;
+        messageIndexes.put( messageId, message );
+        personMessages.add( author, message, creationDate );
+        messageCount++;
+        return message;
+    }
+
+    void addLike( int person, int message, long creationDate )
+    {
+        likes.add( message, person, creationDate );
+    }
+
+    /**
+     * Adding an entity whose id already exists leaves the graph unchanged
+     *
+     * @return index of the forum
+     */
+    int addForum( long forumId, String title, int moderator, long creationDate )
+    {
+        int existing = forumIndexes.get( forumId );
+        if ( LongIntHashMap.MISSING != existing )
+        {
+            return existing;
+        }
+        int forum = forumCount;
+        if ( forum == forumIds.length )
+        {
+            int capacity = grownCapacity( forum );
+            forumIds = Arrays.copyOf( forumIds, capacity );
+            forumTitles = Arrays.copyOf( forumTitles, capacity );
+            forumModerators = Arrays.copyOf( forumModerators, capacity );
+            forumCreationDates = Arrays.copyOf( forumCreationDates, capacity );
+        }
+        forumIds[forum] = forumId;
+        forumTitles[forum] = title;
+        forumModerators[forum] = moderator;
+        forumCreationDates[forum] = creationDate;
+        forumIndexes.put( forumId, forum );
+        forumCount++;
+        return forum;
+    }
+
+    void addMembership( int forum, int person, long joinDate )
+    {
+        members.add( forum, person, joinDate );
+        personForums.add( person, forum, joinDate );
+    }
+
+    private static int grownCapacity( int capacity )
+    {
+        return Math.max( 16, capacity + (capacity >> 1) );
+    }
+
+    static long[] toTagArray( List<Long> tagIds )
+    {
+        if ( tagIds.isEmpty() )
+        {
+            return NO_TAGS;
+        }
+        long[] tags = new long[tagIds.size()];
+        for ( int i = 0; i < tags.length; i++ )
+        {
+            tags[i] = tagIds.get( i );
+        }
+        return tags;
+    }
+
+    /*
+    GENERATION
+     */
+
+    /**
+     * Generates a small social network, deterministically for a given seed: every person moderates one forum (their
+     * wall) and writes posts to it, posts receive comment threads and likes, and persons know a random set of others.
+     * At least one person and one post per person are required, so there is always something to fold ids onto.
+     */
+    static InMemorySnbGraph generate( int personCount, int knowsPerPerson, int postsPerPerson, int commentsPerPost,
+            long seed )
+    {
+        if ( personCount < 1 || knowsPerPerson < 0 || postsPerPerson < 1 || commentsPerPost < 0 )
+        {
+            throw new IllegalArgumentException( format(
+                    "Invalid graph size: persons %s, knows per person %s, posts per person %s, comments per post %s",
+                    personCount, knowsPerPerson, postsPerPerson, commentsPerPost ) );
+        }
+        Random random = new Random( seed );
+        int postCount = personCount * postsPerPerson;
+        InMemorySnbGraph graph =
+                new InMemorySnbGraph( personCount, postCount * (1 + commentsPerPost), personCount );
+        long nextId = GENERATED_ID_OFFSET;
+        for ( int i = 0; i < personCount; i++ )
+        {
+            long[] interests = new long[1 + random.nextInt( 5 )];
+            for ( int j = 0; j < interests.length; j++ )
+            {
+                interests[j] = random.nextInt( TAG_COUNT );
+            }
+            graph.addPerson(
+                    nextId++,
+                    FIRST_NAMES[random.nextInt( FIRST_NAMES.length )],
+                    LAST_NAMES[random.nextInt( LAST_NAMES.length )],
+                    GENDERS[random.nextInt( GENDERS.length )],
+                    randomDate( random, MIN_BIRTHDAY_AS_MILLI, MAX_BIRTHDAY_AS_MILLI ),
+                    randomDate( random, START_DATE_AS_MILLI, END_DATE_AS_MILLI ),
+                    format( "%s.%s.%s.%s", random.nextInt( 256 ), random.nextInt( 256 ), random.nextInt( 256 ),
+                            random.nextInt( 256 ) ),
+                    BROWSERS[random.nextInt( BROWSERS.length )],
+                    random.nextInt( CITY_COUNT ),
+                    interests,
+                    random.nextInt( COMPANY_COUNT ),
+                    2000 + random.nextInt( 13 )
+            );
+        }
+        for ( int person = 0; person < personCount; person++ )
+        {
+            for ( int i = 0; i < knowsPerPerson / 2; i++ )
+            {
+                graph.addKnows( person, random.nextInt( personCount ),
+                        randomDate( random, START_DATE_AS_MILLI, END_DATE_AS_MILLI ) );
+            }
+        }
+        for ( int person = 0; person < personCount; person++ )
+        {
+            long forumCreationDate = graph.personCreationDates[person];
+            int forum = graph.addForum( nextId++, "Wall of " + graph.personFirstNames[person] + " " +
+                                                  graph.personLastNames[person], person, forumCreationDate );
+            graph.addMembership( forum, person, forumCreationDate );
+            for ( int i = 0; i < graph.knows.size( person ); i++ )
+            {
+                graph.addMembership( forum, graph.knows.target( person, i ),
+                        Math.max( forumCreationDate, graph.knows.stamp( person, i ) ) );
+            }
+        }
+        for ( int i = 0; i < postCount; i++ )
+        {
+            int forum = random.nextInt( personCount );
+            int author = graph.forumModerators[forum];
+            long postId = nextId++;
+            long creationDate = randomDate( random, graph.personCreationDates[author], END_DATE_AS_MILLI );
+            long[] tags = {random.nextInt( TAG_COUNT ), random.nextInt( TAG_COUNT )};
+            int post = graph.addMessage( postId, creationDate, "Post " + postId, author, forum, NONE, tags );
+            int replyOf = post;
+            for ( int j = 0; j < commentsPerPost; j++ )
+            {
+                int commenter = randomMember( graph, forum, random );
+                long commentId = nextId++;
+                creationDate = randomDate( random, creationDate, END_DATE_AS_MILLI );
+                replyOf = graph.addMessage( commentId, creationDate, "Comment " + commentId, commenter, forum,
+                        (random.nextBoolean()) ? post : replyOf, NO_TAGS );
+            }
+            for ( int j = 0; j < commentsPerPost; j++ )
+            {
+                graph.addLike( randomMember( graph, forum, random ), post,
+                        randomDate( random, creationDate, END_DATE_AS_MILLI ) );
+            }
+        }
+        graph.fixFoldTargets();
+        return graph;
+    }
+
+    private static int randomMember( InMemorySnbGraph graph, int forum, Random random )
+    {
+        return graph.members.target( forum, random.nextInt( graph.members.size( forum ) ) );
+    }
+
+    private static long randomDate( Random random, long from, long to )
+    {
+        return (to <= from) ? from : from + (long) (random.nextDouble() * (to - from));
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s{persons=%s, messages=%s, forums=%s}", getClass().getSimpleName(), personCount,
+                messageCount, forumCount );
+    }
+
+    static long daysAsMilli( int days )
+    {
+        return TimeUnit.DAYS.toMillis( days );
+    }
+}
@@ -0,0 +1,102 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive.db;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing (linear probing) map from long keys to non-negative int values, with no boxing of either.
+ * Entries can not be removed. Not thread safe.
+ */
+class LongIntHashMap
+{
+    static final int MISSING = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+    private int resizeThreshold;
+
+    LongIntHashMap( int expectedSize )
+    {
+        int capacity = Integer.highestOneBit( Math.max( 4, (int) (expectedSize / LOAD_FACTOR) ) - 1 ) << 1;
+        allocate( capacity );
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return value associated with key, or MISSING if there is none
+     */
+    int get( long key )
+    {
+        int mask = values.length - 1;
+        int slot = slot( key, mask );
+        while ( MISSING != values[slot] )
+        {
+            if ( keys[slot] == key )
+            {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * @param value must not be negative
+     */
+    void put( long key, int value )
+    {
+        int mask = values.length - 1;
+        int slot = slot( key, mask );
+        while ( MISSING != values[slot] )
+        {
+            if ( keys[slot] == key )
+            {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if ( size > resizeThreshold )
+        {
+            rehash();
+        }
+    }
+
+    private void rehash()
+    {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate( oldValues.length << 1 );
+        size = 0;
+        for ( int i = 0; i < oldValues.length; i++ )
+        {
+            if ( MISSING != oldValues[i] )
+            {
+                put( oldKeys[i], oldValues[i] );
+            }
+        }
+    }
+
+    private void allocate( int capacity )
+    {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill( values, MISSING );
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot( long key, int mask )
+    {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive.db;
+
+import java.util.Arrays;
+
+/**
+ * Persons reachable from a start person via knows edges, in breadth first order. The start person is at position 0,
+ * with distance 0. Parents are recorded too, so a shortest path to any person in the neighbourhood can be rebuilt.
+ */
+class Neighbourhood
+{
+    private final LongIntHashMap positions;
+    private int[] persons;
+    private int[] distances;
+    private int[] parentPositions;
+    private int count = 0;
+
+    private Neighbourhood( int expectedSize )
+    {
+        this.positions = new LongIntHashMap( expectedSize );
+        this.persons = new int[expectedSize];
+        this.distances = new int[expectedSize];
+        this.parentPositions = new int[expectedSize];
+    }
+
+    /**
+     * @param maxDistance persons further than this are not visited
+     * @param target traversal stops once this person is visited, InMemorySnbGraph.NONE to visit all
+     */
+    static Neighbourhood of( InMemorySnbGraph graph, int start, int maxDistance, int target )
+    {
+        Neighbourhood neighbourhood = new Neighbourhood( 64 );
+        neighbourhood.visit( start, 0, InMemorySnbGraph.NONE );
+        for ( int position = 0; position < neighbourhood.count && false == neighbourhood.contains( target );
+                position++ )
+        {
+            int person = neighbourhood.persons[position];
+            int distance = neighbourhood.distances[position];
+            if ( distance == maxDistance )
+            {
+                // breadth first, all remaining persons are at least this far away
+                break;
+            }
+            for ( int i = 0; i < graph.knows.size( person ); i++ )
+            {
+                int friend = graph.knows.target( person, i );
+                if ( false == neighbourhood.contains( friend ) )
+                {
+                    neighbourhood.visit( friend, distance + 1, position );
+                }
+            }
+        }
+        return neighbourhood;
+    }
+
+    static Neighbourhood of( InMemorySnbGraph graph, int start, int maxDistance )
+    {
+        return of( graph, start, maxDistance, InMemorySnbGraph.NONE );
+    }
+
+    private void visit( int person, int distance, int parentPosition )
+    {
+        if ( count == persons.length )
+        {
+            int capacity = count << 1;
+            persons = Arrays.copyOf( persons, capacity );
+            distances = Arrays.copyOf( distances, capacity );
+            parentPositions = Arrays.copyOf( parentPositions, capacity );
+        }
+        persons[count] = person;
+        distances[count] = distance;
+        parentPositions[count] = parentPosition;
+        positions.put( person, count );
+        count++;
+    }
+
+    /**
+     * @return number of persons in the neighbourhood, including the start person
+     */
+    int count()
+    {
+        return count;
+    }
+
+    int person( int position )
+    {
+        return persons[position];
+    }
+
+    int distanceAt( int position )
+    {
+        return distances[position];
+    }
+
+    boolean contains( int person )
+    {
+        return LongIntHashMap.MISSING != positions.get( person );
+    }
+
+    /**
+     * @return distance from start person, or -1 if person was not reached
+     */
+    int distance( int person )
+    {
+        int position = positions.get( person );
+        return (LongIntHashMap.MISSING == position) ? -1 : distances[position];
+    }
+
+    /**
+     * @return persons on a shortest path from the start person to the given person (both included), or an empty
+     * array if the person was not reached
+     */
+    int[] pathTo( int person )
+    {
+        int position = positions.get( person );
+        if ( LongIntHashMap.MISSING == position )
+        {
+            return new int[0];
+        }
+        int[] path = new int[distances[position] + 1];
+        for ( int i = path.length - 1; i >= 0; i-- )
+        {
+            path[i] = persons[position];
+            position = parentPositions[position];
+        }
+        return path;
+    }
+}
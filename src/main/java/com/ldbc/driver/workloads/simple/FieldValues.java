@@ -0,0 +1,60 @@
+package com.ldbc.driver.workloads.simple;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Field values of operations that were created from buffers, see GeneratorFactory.sizedUniformByteBuffers(), as the
+ * byte iterators of the original operation API
+ */
+class FieldValues
+{
+    private FieldValues()
+    {
+    }
+
+    /**
+     * @return new iterators, over duplicates of the buffers, on every call
+     */
+    static Map<String,Iterator<Byte>> asByteIterators( Map<String,ByteBuffer> valueBuffers )
+    {
+        Map<String,Iterator<Byte>> values = new HashMap<>();
+        for ( Map.Entry<String,ByteBuffer> valueBuffer : valueBuffers.entrySet() )
+        {
+            values.put( valueBuffer.getKey(), asByteIterator( valueBuffer.getValue() ) );
+        }
+        return values;
+    }
+
+    static Iterator<Byte> asByteIterator( ByteBuffer valueBuffer )
+    {
+        final ByteBuffer bytes = valueBuffer.duplicate();
+        return new Iterator<Byte>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return bytes.hasRemaining();
+            }
+
+            @Override
+            public Byte next()
+            {
+                if ( false == bytes.hasRemaining() )
+                {
+                    throw new NoSuchElementException();
+                }
+                return bytes.get();
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
@@ -4,16 +4,17 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.generator.Generator;
 import com.ldbc.driver.generator.GeneratorException;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.Map;
 
 class InsertOperationGenerator extends Generator<Operation> {
     private final String table;
     private final Iterator<String> keyGenerator;
-    private final Iterator<Map<String, Iterator<Byte>>> valuedFieldsGenerator;
+    private final Iterator<Map<String, ByteBuffer>> valuedFieldsGenerator;
 
     protected InsertOperationGenerator(String table, Iterator<String> keyGenerator,
-                                       Iterator<Map<String, Iterator<Byte>>> valuedFieldsGenerator) {
+                                       Iterator<Map<String, ByteBuffer>> valuedFieldsGenerator) {
         this.table = table;
         this.keyGenerator = keyGenerator;
         this.valuedFieldsGenerator = valuedFieldsGenerator;
@@ -21,6 +22,6 @@ class InsertOperationGenerator extends Generator<Operation> {
 
     @Override
     protected Operation doNext() throws GeneratorException {
-        return new InsertOperation(table, keyGenerator.next(), valuedFieldsGenerator.next());
+        return InsertOperation.fromValueBuffers(table, keyGenerator.next(), valuedFieldsGenerator.next());
     }
 }
@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.simple;
 
 import com.ldbc.driver.Operation;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -14,15 +15,33 @@ public class ReadModifyWriteOperation extends Operation<Object>
     private final String key;
     private final List<String> readFields;
     private final Map<String,Iterator<Byte>> writeValues;
+    private final Map<String,ByteBuffer> writeValueBuffers;
 
     public ReadModifyWriteOperation( String table, String key, List<String> readFields,
             Map<String,Iterator<Byte>> writeValues )
+    {
+        this( table, key, readFields, writeValues, null );
+    }
+
+    private ReadModifyWriteOperation( String table, String key, List<String> readFields,
+            Map<String,Iterator<Byte>> writeValues,
+            Map<String,ByteBuffer> writeValueBuffers )
     {
         super();
         this.table = table;
         this.key = key;
         this.readFields = readFields;
         this.writeValues = writeValues;
+        this.writeValueBuffers = writeValueBuffers;
+    }
+
+    /**
+     * Keeps the values as buffers, values() returns new iterators over them on every call
+     */
+    public static ReadModifyWriteOperation fromValueBuffers( String table, String key, List<String> readFields,
+            Map<String,ByteBuffer> writeValueBuffers )
+    {
+        return new ReadModifyWriteOperation( table, key, readFields, null, writeValueBuffers );
     }
 
     public String table()
@@ -42,7 +61,15 @@ public class ReadModifyWriteOperation extends Operation<Object>
 
     public Map<String,Iterator<Byte>> values()
     {
-        return writeValues;
+        return (null == writeValueBuffers) ? writeValues : FieldValues.asByteIterators( writeValueBuffers );
+    }
+
+    /**
+     * @return values as buffers, null if the operation was created with byte iterators
+     */
+    public Map<String,ByteBuffer> valueBuffers()
+    {
+        return writeValueBuffers;
     }
 
     @Override
@@ -79,7 +106,11 @@ public class ReadModifyWriteOperation extends Operation<Object>
         { return false; }
         if ( readFields != null ? !readFields.equals( that.readFields ) : that.readFields != null )
         { return false; }
-        return !(writeValues != null ? !writeValues.equals( that.writeValues ) : that.writeValues != null);
+        if ( writeValues != null ? !writeValues.equals( that.writeValues ) : that.writeValues != null )
+        { return false; }
+        return !(writeValueBuffers != null
+                 ? !writeValueBuffers.equals( that.writeValueBuffers )
+                 : that.writeValueBuffers != null);
 
     }
 
@@ -90,6 +121,7 @@ public class ReadModifyWriteOperation extends Operation<Object>
         result = 31 * result + (key != null ? key.hashCode() : 0);
         result = 31 * result + (readFields != null ? readFields.hashCode() : 0);
         result = 31 * result + (writeValues != null ? writeValues.hashCode() : 0);
+        result = 31 * result + (writeValueBuffers != null ? writeValueBuffers.hashCode() : 0);
         return result;
     }
 
@@ -101,6 +133,7 @@ public class ReadModifyWriteOperation extends Operation<Object>
                ", key='" + key + '\'' +
                ", readFields=" + readFields +
                ", writeValues=" + writeValues +
+               ", writeValueBuffers=" + writeValueBuffers +
                '}';
     }
 }
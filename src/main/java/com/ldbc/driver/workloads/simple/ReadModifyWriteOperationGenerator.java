@@ -4,6 +4,7 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.generator.Generator;
 import com.ldbc.driver.generator.GeneratorException;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -12,10 +13,10 @@ class ReadModifyWriteOperationGenerator extends Generator<Operation> {
     private final String table;
     private final Iterator<String> keyGenerator;
     private final Iterator<List<String>> fieldsGenerator;
-    private final Iterator<Map<String, Iterator<Byte>>> valuedFieldsGenerator;
+    private final Iterator<Map<String, ByteBuffer>> valuedFieldsGenerator;
 
     protected ReadModifyWriteOperationGenerator(String table, Iterator<String> keyGenerator,
-                                                Iterator<List<String>> fieldsGenerator, Iterator<Map<String, Iterator<Byte>>> valuedFieldsGenerator) {
+                                                Iterator<List<String>> fieldsGenerator, Iterator<Map<String, ByteBuffer>> valuedFieldsGenerator) {
         this.table = table;
         this.keyGenerator = keyGenerator;
         this.fieldsGenerator = fieldsGenerator;
@@ -24,6 +25,7 @@ class ReadModifyWriteOperationGenerator extends Generator<Operation> {
 
     @Override
     protected Operation doNext() throws GeneratorException {
-        return new ReadModifyWriteOperation(table, keyGenerator.next(), fieldsGenerator.next(), valuedFieldsGenerator.next());
+        return ReadModifyWriteOperation.fromValueBuffers(table, keyGenerator.next(), fieldsGenerator.next(),
+                valuedFieldsGenerator.next());
     }
 }
@@ -1,6 +1,7 @@
 package com.ldbc.driver.workloads.simple;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
@@ -12,15 +13,11 @@ import com.ldbc.driver.generator.MinMaxGenerator;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import com.ldbc.driver.util.Tuple3;
-
-
-
-
-
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,6 +29,13 @@ import static java.lang.String.format;
 
 public class SimpleWorkload extends Workload
 {
+    public static final String REQUEST_DISTRIBUTION_ARG = "simple.request_distribution";
+    public static final String REQUEST_DISTRIBUTION_UNIFORM = "uniform";
+    public static final String REQUEST_DISTRIBUTION_ZIPFIAN = "zipfian";
+    public static final String REQUEST_DISTRIBUTION_SCRAMBLED_ZIPFIAN = "scrambled_zipfian";
+    public static final String REQUEST_DISTRIBUTION_HOTSPOT = "hotspot";
+    public static final String REQUEST_DISTRIBUTION_LATEST = "latest";
+
     // NOTE, in a real Workload these would ideally come from configuration and get set in onInit()
     final String TABLE = "usertable";
     final String KEY_NAME_PREFIX = "user";
@@ -50,6 +54,20 @@ public class SimpleWorkload extends Workload
 
     final long INITIAL_INSERT_COUNT = 10;
 
+    final double HOT_SET_FRACTION = 0.2;
+    final double HOT_OPERATION_FRACTION = 0.8;
+
+    // each random aspect of the workload draws from its own stream, split from the run seed, so for example changing
+    // the scan length distribution does not change which keys are requested
+    final long FIELD_VALUES_RANDOM_STREAM = 0;
+    final long REQUEST_KEYS_RANDOM_STREAM = 1;
+    final long READ_FIELDS_RANDOM_STREAM = 2;
+    final long UPDATE_FIELDS_RANDOM_STREAM = 3;
+    final long SCAN_RANDOM_STREAM = 4;
+    final long OPERATION_MIX_RANDOM_STREAM = 5;
+
+    private String requestDistribution = REQUEST_DISTRIBUTION_UNIFORM;
+
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
     {
@@ -63,8 +81,23 @@ public class SimpleWorkload extends Workload
     }
 
     @Override
-    public void onInit( Map<String,String> params )
+    public void onInit( Map<String,String> params ) throws WorkloadException
     {
+        if ( params.containsKey( REQUEST_DISTRIBUTION_ARG ) )
+        {
+            requestDistribution = params.get( REQUEST_DISTRIBUTION_ARG );
+            List<String> requestDistributions = Lists.newArrayList(
+                    REQUEST_DISTRIBUTION_UNIFORM,
+                    REQUEST_DISTRIBUTION_ZIPFIAN,
+                    REQUEST_DISTRIBUTION_SCRAMBLED_ZIPFIAN,
+                    REQUEST_DISTRIBUTION_HOTSPOT,
+                    REQUEST_DISTRIBUTION_LATEST );
+            if ( false == requestDistributions.contains( requestDistribution ) )
+            {
+                throw new WorkloadException( format( "Invalid value for %s: %s, expected one of: %s",
+                        REQUEST_DISTRIBUTION_ARG, requestDistribution, requestDistributions ) );
+            }
+        }
     }
 
     @Override
@@ -83,15 +116,17 @@ public class SimpleWorkload extends Workload
         MinMaxGenerator<Long> insertKeyGenerator = gf.minMaxGenerator( gf.incrementing( 0l, 1l ), 0l, 0l );
 
         // Insert Fields: Names & Values
-        Iterator<Long> fieldValueLengthGenerator = gf.uniform( 1l, 100l );
-        Iterator<Iterator<Byte>> randomFieldValueGenerator = gf.sizedUniformBytesGenerator( fieldValueLengthGenerator );
-        List<Tuple3<Double,String,Iterator<Iterator<Byte>>>> valuedFields = new ArrayList<>();
+        GeneratorFactory fieldValuesGf = gf.split( FIELD_VALUES_RANDOM_STREAM );
+        Iterator<Long> fieldValueLengthGenerator = fieldValuesGf.uniform( 1l, 100l );
+        Iterator<ByteBuffer> randomFieldValueGenerator =
+                fieldValuesGf.sizedUniformByteBuffers( fieldValueLengthGenerator );
+        List<Tuple3<Double,String,Iterator<ByteBuffer>>> valuedFields = new ArrayList<>();
         for ( int i = 0; i < NUMBER_OF_FIELDS_IN_RECORD; i++ )
         {
             valuedFields.add( Tuple.tuple3( 1d, FIELD_NAME_PREFIX + i, randomFieldValueGenerator ) );
         }
-        Iterator<Map<String,Iterator<Byte>>> insertValuedFieldGenerator =
-                gf.weightedDiscreteMap( valuedFields, NUMBER_OF_FIELDS_IN_RECORD );
+        Iterator<Map<String,ByteBuffer>> insertValuedFieldGenerator =
+                fieldValuesGf.weightedDiscreteMap( valuedFields, NUMBER_OF_FIELDS_IN_RECORD );
 
         Iterator<Operation> initialInsertOperationGenerator = gf.limit(
                 new InsertOperationGenerator( TABLE, gf.prefix( insertKeyGenerator, KEY_NAME_PREFIX ),
@@ -122,7 +157,7 @@ public class SimpleWorkload extends Workload
          */
         // Read/Update Keys
         Iterator<String> requestKeyGenerator =
-                gf.prefix( gf.dynamicRangeUniform( insertKeyGenerator ), KEY_NAME_PREFIX );
+                gf.prefix( requestKeys( gf.split( REQUEST_KEYS_RANDOM_STREAM ), insertKeyGenerator ), KEY_NAME_PREFIX );
 
         // Read Fields: Names
         List<Tuple2<Double,String>> fields = new ArrayList<>();
@@ -131,7 +166,8 @@ public class SimpleWorkload extends Workload
             fields.add( Tuple.tuple2( 1d, FIELD_NAME_PREFIX + i ) );
         }
 
-        Iterator<List<String>> readFieldsGenerator = gf.weightedDiscreteList( fields, NUMBER_OF_FIELDS_TO_READ );
+        Iterator<List<String>> readFieldsGenerator =
+                gf.split( READ_FIELDS_RANDOM_STREAM ).weightedDiscreteList( fields, NUMBER_OF_FIELDS_TO_READ );
 
         ReadOperationGenerator readOperationGenerator = new ReadOperationGenerator(
                 TABLE,
@@ -146,9 +182,8 @@ public class SimpleWorkload extends Workload
          * **************************
          */
         // Update Fields: Names & Values
-        Iterator<Map<String,Iterator<Byte>>> updateValuedFieldsGenerator = gf.weightedDiscreteMap(
-                valuedFields,
-                NUMBER_OF_FIELDS_TO_UPDATE );
+        Iterator<Map<String,ByteBuffer>> updateValuedFieldsGenerator =
+                gf.split( UPDATE_FIELDS_RANDOM_STREAM ).weightedDiscreteMap( valuedFields, NUMBER_OF_FIELDS_TO_UPDATE );
 
         UpdateOperationGenerator updateOperationGenerator = new UpdateOperationGenerator(
                 TABLE,
@@ -163,10 +198,11 @@ public class SimpleWorkload extends Workload
          * **************************
          */
         // Scan Fields: Names & Values
-        Iterator<List<String>> scanFieldsGenerator = gf.weightedDiscreteList( fields, NUMBER_OF_FIELDS_TO_READ );
+        GeneratorFactory scanGf = gf.split( SCAN_RANDOM_STREAM );
+        Iterator<List<String>> scanFieldsGenerator = scanGf.weightedDiscreteList( fields, NUMBER_OF_FIELDS_TO_READ );
 
         // Scan Length: Number of Records
-        Iterator<Integer> scanLengthGenerator = gf.uniform( MIN_SCAN_LENGTH, MAX_SCAN_LENGTH );
+        Iterator<Integer> scanLengthGenerator = scanGf.uniform( MIN_SCAN_LENGTH, MAX_SCAN_LENGTH );
 
         ScanOperationGenerator scanOperationGenerator = new ScanOperationGenerator(
                 TABLE,
@@ -200,7 +236,8 @@ public class SimpleWorkload extends Workload
         operations.add( Tuple
                 .tuple2( READ_MODIFY_WRITE_RATIO, (Iterator<Operation>) readModifyWriteOperationGenerator ) );
 
-        Iterator<Operation> transactionalOperationGenerator = gf.weightedDiscreteDereferencing( operations );
+        Iterator<Operation> transactionalOperationGenerator =
+                gf.split( OPERATION_MIX_RANDOM_STREAM ).weightedDiscreteDereferencing( operations );
 
         // iterates initialInsertOperationGenerator before starting with transactionalInsertOperationGenerator
         Iterator<Operation> workloadOperations =
@@ -221,6 +258,23 @@ public class SimpleWorkload extends Workload
         return workloadStreams;
     }
 
+    private Iterator<Long> requestKeys( GeneratorFactory gf, MinMaxGenerator<Long> insertKeyGenerator )
+    {
+        switch ( requestDistribution )
+        {
+        case REQUEST_DISTRIBUTION_ZIPFIAN:
+            return gf.dynamicRangeZipfian( insertKeyGenerator );
+        case REQUEST_DISTRIBUTION_SCRAMBLED_ZIPFIAN:
+            return gf.dynamicRangeScrambledZipfian( insertKeyGenerator );
+        case REQUEST_DISTRIBUTION_HOTSPOT:
+            return gf.dynamicRangeHotspot( insertKeyGenerator, HOT_SET_FRACTION, HOT_OPERATION_FRACTION );
+        case REQUEST_DISTRIBUTION_LATEST:
+            return gf.latest( insertKeyGenerator );
+        default:
+            return gf.dynamicRangeUniform( insertKeyGenerator );
+        }
+    }
+
     @Override
     protected void onClose() throws IOException
     {
@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.simple;
 
 import com.ldbc.driver.Operation;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -11,12 +12,28 @@ public class UpdateOperation extends Operation<Object>
     private final String table;
     private final String key;
     private final Map<String,Iterator<Byte>> values;
+    private final Map<String,ByteBuffer> valueBuffers;
 
     public UpdateOperation( String table, String key, Map<String,Iterator<Byte>> values )
+    {
+        this( table, key, values, null );
+    }
+
+    private UpdateOperation( String table, String key, Map<String,Iterator<Byte>> values,
+            Map<String,ByteBuffer> valueBuffers )
     {
         this.table = table;
         this.key = key;
         this.values = values;
+        this.valueBuffers = valueBuffers;
+    }
+
+    /**
+     * Keeps the values as buffers, fields() returns new iterators over them on every call
+     */
+    public static UpdateOperation fromValueBuffers( String table, String key, Map<String,ByteBuffer> valueBuffers )
+    {
+        return new UpdateOperation( table, key, null, valueBuffers );
     }
 
     public String table()
@@ -31,7 +48,15 @@ public class UpdateOperation extends Operation<Object>
 
     public Map<String,Iterator<Byte>> fields()
     {
-        return values;
+        return (null == valueBuffers) ? values : FieldValues.asByteIterators( valueBuffers );
+    }
+
+    /**
+     * @return values as buffers, null if the operation was created with byte iterators
+     */
+    public Map<String,ByteBuffer> valueBuffers()
+    {
+        return valueBuffers;
     }
 
     @Override
@@ -66,7 +91,9 @@ public class UpdateOperation extends Operation<Object>
         { return false; }
         if ( key != null ? !key.equals( that.key ) : that.key != null )
         { return false; }
-        return !(values != null ? !values.equals( that.values ) : that.values != null);
+        if ( values != null ? !values.equals( that.values ) : that.values != null )
+        { return false; }
+        return !(valueBuffers != null ? !valueBuffers.equals( that.valueBuffers ) : that.valueBuffers != null);
 
     }
 
@@ -76,6 +103,7 @@ public class UpdateOperation extends Operation<Object>
         int result = table != null ? table.hashCode() : 0;
         result = 31 * result + (key != null ? key.hashCode() : 0);
         result = 31 * result + (values != null ? values.hashCode() : 0);
+        result = 31 * result + (valueBuffers != null ? valueBuffers.hashCode() : 0);
         return result;
     }
 
@@ -86,6 +114,7 @@ public class UpdateOperation extends Operation<Object>
                "table='" + table + '\'' +
                ", key='" + key + '\'' +
                ", values=" + values +
+               ", valueBuffers=" + valueBuffers +
                '}';
     }
 }
@@ -26,16 +26,29 @@ public class OperationHandlerRunnableContextFactoryTest
                     new InstantiatingOperationHandlerRunnerFactory();
             OperationHandlerRunnerFactory pooledInstantiatingOperationHandlerRunnerFactory =
                     new PoolingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+            OperationHandlerRunnerFactory threadLocalInstantiatingOperationHandlerRunnerFactory =
+                    new ThreadLocalOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
             long instantiatingDuration =
                     doOperationHandlerTest( count, instantiatingOperationHandlerRunnerFactory, operation );
             long pooledInstantiatingDuration =
                     doOperationHandlerTest( count, pooledInstantiatingOperationHandlerRunnerFactory, operation );
+            long threadLocalInstantiatingDuration =
+                    doOperationHandlerTest( count, threadLocalInstantiatingOperationHandlerRunnerFactory, operation );
             count = count * 4;
-            System.out.println( format( "Count: %s, Instantiating: %s, PooledInstantiating: %s, Speedup: %s", count,
+            System.out.println( format(
+                    "Count: %s, Instantiating: %s, PooledInstantiating: %s, Speedup: %s, " +
+                    "ThreadLocalInstantiating: %s, Speedup: %s",
+                    count,
                     instantiatingDuration, pooledInstantiatingDuration,
-                    instantiatingDuration / (double) pooledInstantiatingDuration ) );
+                    instantiatingDuration / (double) pooledInstantiatingDuration,
+                    threadLocalInstantiatingDuration,
+                    instantiatingDuration / (double) threadLocalInstantiatingDuration ) );
+            System.out.println( format( "Pooled: %s", pooledInstantiatingOperationHandlerRunnerFactory.metrics() ) );
+            System.out.println(
+                    format( "ThreadLocal: %s", threadLocalInstantiatingOperationHandlerRunnerFactory.metrics() ) );
             instantiatingOperationHandlerRunnerFactory.shutdown();
             pooledInstantiatingOperationHandlerRunnerFactory.shutdown();
+            threadLocalInstantiatingOperationHandlerRunnerFactory.shutdown();
         }
     }
 
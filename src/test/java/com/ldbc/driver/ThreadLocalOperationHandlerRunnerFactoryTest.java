@@ -0,0 +1,88 @@
+package com.ldbc.driver;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ThreadLocalOperationHandlerRunnerFactoryTest
+{
+    @Test
+    public void shouldRecycleReleasedContextsOnSameThread() throws OperationException
+    {
+        // Given
+        OperationHandlerRunnerFactory factory =
+                new ThreadLocalOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+
+        // When
+        OperationHandlerRunnableContext first = factory.newOperationHandlerRunner();
+        first.cleanup();
+        OperationHandlerRunnableContext second = factory.newOperationHandlerRunner();
+        OperationHandlerRunnableContext third = factory.newOperationHandlerRunner();
+
+        // Then
+        assertThat( second, sameInstance( first ) );
+        assertThat( third, not( sameInstance( first ) ) );
+        OperationHandlerRunnerPoolMetrics metrics = factory.metrics();
+        assertThat( metrics.claimCount(), is( 3l ) );
+        assertThat( metrics.growthCount(), is( 2l ) );
+        assertThat( metrics.claimWaitCount(), is( 2l ) );
+        factory.shutdown();
+    }
+
+    @Test
+    public void shouldOverflowToSharedStackAndServeOtherThreads() throws OperationException, InterruptedException
+    {
+        // Given
+        final OperationHandlerRunnerFactory factory =
+                new ThreadLocalOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory(), 0 );
+        final OperationHandlerRunnableContext released = factory.newOperationHandlerRunner();
+        released.cleanup();
+        final AtomicReference<OperationHandlerRunnableContext> claimedByOtherThread = new AtomicReference<>();
+
+        // When
+        Thread otherThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    claimedByOtherThread.set( factory.newOperationHandlerRunner() );
+                }
+                catch ( OperationException e )
+                {
+                    // do nothing, assertion below will fail
+                }
+            }
+        };
+        otherThread.start();
+        otherThread.join();
+
+        // Then
+        assertThat( claimedByOtherThread.get(), sameInstance( released ) );
+        OperationHandlerRunnerPoolMetrics metrics = factory.metrics();
+        assertThat( metrics.claimCount(), is( 2l ) );
+        assertThat( metrics.growthCount(), is( 1l ) );
+        factory.shutdown();
+    }
+
+    @Test( expected = OperationException.class )
+    public void shouldNotAllowClaimsAfterShutdown() throws OperationException
+    {
+        // Given
+        OperationHandlerRunnerFactory factory =
+                new ThreadLocalOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        factory.shutdown();
+
+        // When
+        factory.newOperationHandlerRunner();
+
+        // Then
+        // exception thrown
+    }
+}
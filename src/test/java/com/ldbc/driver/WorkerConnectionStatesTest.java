@@ -0,0 +1,256 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class WorkerConnectionStatesTest
+{
+    @Test
+    public void shouldGiveEachThreadItsOwnConnectionStateAndCloseThemAll() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        final PerWorkerDb db = new PerWorkerDb();
+        db.init( new HashMap<String,String>(), loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+
+        // When
+        DbConnectionState firstOnThisThread = connectionStateOf( db );
+        DbConnectionState secondOnThisThread = connectionStateOf( db );
+        final AtomicReference<DbConnectionState> onOtherThread = new AtomicReference<>();
+        Thread otherThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    onOtherThread.set( connectionStateOf( db ) );
+                }
+                catch ( DbException e )
+                {
+                    // do nothing, assertion below will fail
+                }
+            }
+        };
+        otherThread.start();
+        otherThread.join();
+
+        // Then
+        assertThat( secondOnThisThread, sameInstance( firstOnThisThread ) );
+        assertThat( onOtherThread.get(), not( sameInstance( firstOnThisThread ) ) );
+        assertThat( onOtherThread.get(), not( sameInstance( db.sharedConnectionState ) ) );
+        assertThat( db.createdCount.get(), is( 2 ) );
+        assertThat( db.closedCount.get(), is( 0 ) );
+
+        // When
+        db.reInit();
+        DbConnectionState afterReInit = connectionStateOf( db );
+
+        // Then
+        assertThat( db.closedCount.get(), is( 2 ) );
+        assertThat( afterReInit, not( sameInstance( firstOnThisThread ) ) );
+
+        // When
+        db.close();
+
+        // Then
+        assertThat( db.closedCount.get(), is( 3 ) );
+    }
+
+    @Test
+    public void shouldShareConnectionStateWhenDbDoesNotCreateWorkerConnectionStates() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        PerWorkerDb db = new PerWorkerDb();
+        Map<String,String> params = new HashMap<>();
+        params.put( PerWorkerDb.PER_WORKER_ARG, "false" );
+        db.init( params, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+
+        // When
+        DbConnectionState connectionState = connectionStateOf( db );
+        db.close();
+
+        // Then
+        assertThat( connectionState, sameInstance( db.sharedConnectionState ) );
+        assertThat( db.createdCount.get(), is( 0 ) );
+    }
+
+    @Test
+    public void shouldNotMeasureOpeningOfWorkerConnectionStateAsLatency() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        PerWorkerDb db = new PerWorkerDb();
+        Map<String,String> params = new HashMap<>();
+        params.put( PerWorkerDb.OPEN_DURATION_AS_MILLI_ARG, "500" );
+        db.init( params, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Operation operation = new NothingOperation();
+        OperationHandlerRunnableContext operationHandlerRunnableContext =
+                db.getOperationHandlerRunnableContext( operation );
+        operationHandlerRunnableContext.init(
+                timeSource,
+                new Spinner( timeSource, 0, true ),
+                operation,
+                new DummyLocalCompletionTimeWriter(),
+                errorReporter,
+                new DummyCountingMetricsService()
+        );
+
+        // When
+        operationHandlerRunnableContext.run();
+        long runDurationAsNano = operationHandlerRunnableContext.resultReporter().runDurationAsNano();
+        operationHandlerRunnableContext.cleanup();
+        db.close();
+
+        // Then
+        assertThat( db.createdCount.get(), is( 1 ) );
+        assertThat( runDurationAsNano < TimeUnit.MILLISECONDS.toNanos( 500 ), is( true ) );
+    }
+
+    @Test
+    public void shouldGiveSharedConnectionStateWhenAskedTo() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        PerWorkerDb db = new PerWorkerDb();
+        db.init( new HashMap<String,String>(), loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+
+        // When
+        OperationHandlerRunnableContext operationHandlerRunnableContext =
+                db.getOperationHandlerRunnableContext( new NothingOperation() );
+        operationHandlerRunnableContext.useSharedDbConnectionState();
+        DbConnectionState connectionState = operationHandlerRunnableContext.workerDbConnectionState();
+        operationHandlerRunnableContext.cleanup();
+        db.close();
+
+        // Then
+        assertThat( connectionState, sameInstance( db.sharedConnectionState ) );
+        assertThat( db.createdCount.get(), is( 0 ) );
+    }
+
+    @Test
+    public void shouldKeepGivingSharedConnectionStateToCallersOfDbConnectionState() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        PerWorkerDb db = new PerWorkerDb();
+        db.init( new HashMap<String,String>(), loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+
+        // When
+        OperationHandlerRunnableContext operationHandlerRunnableContext =
+                db.getOperationHandlerRunnableContext( new NothingOperation() );
+        DbConnectionState connectionState = operationHandlerRunnableContext.dbConnectionState();
+        operationHandlerRunnableContext.cleanup();
+        db.close();
+
+        // Then
+        assertThat( connectionState, sameInstance( db.sharedConnectionState ) );
+        assertThat( db.createdCount.get(), is( 0 ) );
+    }
+
+    private static DbConnectionState connectionStateOf( Db db ) throws DbException
+    {
+        OperationHandlerRunnableContext operationHandlerRunnableContext =
+                db.getOperationHandlerRunnableContext( new NothingOperation() );
+        DbConnectionState connectionState = operationHandlerRunnableContext.workerDbConnectionState();
+        operationHandlerRunnableContext.cleanup();
+        return connectionState;
+    }
+
+    private static class PerWorkerDb extends Db
+    {
+        private static final String PER_WORKER_ARG = "per_worker";
+        private static final String OPEN_DURATION_AS_MILLI_ARG = "open_duration";
+        private final AtomicInteger createdCount = new AtomicInteger( 0 );
+        private final AtomicInteger closedCount = new AtomicInteger( 0 );
+        private final DbConnectionState sharedConnectionState = new CountingConnectionState( new AtomicInteger() );
+        private boolean perWorker;
+        private long openDurationAsMilli;
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            perWorker = false == "false".equals( properties.get( PER_WORKER_ARG ) );
+            openDurationAsMilli = (properties.containsKey( OPEN_DURATION_AS_MILLI_ARG ))
+                                  ? Long.parseLong( properties.get( OPEN_DURATION_AS_MILLI_ARG ) )
+                                  : 0;
+            registerOperationHandler( NothingOperation.class, NothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return sharedConnectionState;
+        }
+
+        @Override
+        protected DbConnectionState newWorkerConnectionState() throws DbException
+        {
+            if ( false == perWorker )
+            {
+                return null;
+            }
+            createdCount.incrementAndGet();
+            if ( openDurationAsMilli > 0 )
+            {
+                Spinner.powerNap( openDurationAsMilli );
+            }
+            return new CountingConnectionState( closedCount );
+        }
+    }
+
+    private static class CountingConnectionState extends DbConnectionState
+    {
+        private final AtomicInteger closedCount;
+
+        private CountingConnectionState( AtomicInteger closedCount )
+        {
+            this.closedCount = closedCount;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            closedCount.incrementAndGet();
+        }
+    }
+
+    public static class NothingOperationHandler implements OperationHandler<NothingOperation,DbConnectionState>
+    {
+        @Override
+        public void executeOperation( NothingOperation operation, DbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            resultReporter.report( 0, null, operation );
+        }
+    }
+}
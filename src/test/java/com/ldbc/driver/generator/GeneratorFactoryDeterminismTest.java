@@ -90,4 +90,50 @@ public class GeneratorFactoryDeterminismTest {
 
         assertThat(generatorsDiffer, is(true));
     }
+
+    @Test
+    public void splitStreamsShouldOnlyDependOnSeedAndStreamId() {
+        RandomDataGeneratorFactory factoryA = new RandomDataGeneratorFactory(42L);
+        RandomDataGeneratorFactory factoryB = new RandomDataGeneratorFactory(42L);
+        // consuming from a factory must not change its split streams
+        factoryB.newRandom();
+
+        RandomDataGenerator stream1A = factoryA.split(1).newRandom();
+        RandomDataGenerator stream1B = factoryB.split(1).newRandom();
+        RandomDataGenerator stream2A = factoryA.split(2).newRandom();
+
+        boolean streamsDiffer = false;
+        for (int j = 0; j < 100; j++) {
+            long value1A = stream1A.nextLong(0, 1000);
+            assertThat(value1A, is(stream1B.nextLong(0, 1000)));
+            if (value1A != stream2A.nextLong(0, 1000))
+                streamsDiffer = true;
+        }
+        assertThat(streamsDiffer, is(true));
+    }
+
+    @Test
+    public void threadLocalRandomShouldGiveEachThreadTheNextSplitStream() throws InterruptedException {
+        final ThreadLocal<RandomDataGenerator> threadLocalRandomA =
+                new RandomDataGeneratorFactory(42L).newThreadLocalRandom();
+        final ThreadLocal<RandomDataGenerator> threadLocalRandomB =
+                new RandomDataGeneratorFactory(42L).newThreadLocalRandom();
+
+        // first thread to ask is given the first stream, regardless of the thread
+        long firstStreamFirstValue = threadLocalRandomA.get().nextLong(0, Long.MAX_VALUE);
+        final long[] otherThreadValues = new long[2];
+        Thread otherThread = new Thread() {
+            @Override
+            public void run() {
+                otherThreadValues[0] = threadLocalRandomB.get().nextLong(0, Long.MAX_VALUE);
+                otherThreadValues[1] = threadLocalRandomA.get().nextLong(0, Long.MAX_VALUE);
+            }
+        };
+        otherThread.start();
+        otherThread.join();
+
+        assertThat(otherThreadValues[0], is(firstStreamFirstValue));
+        assertThat(otherThreadValues[1] != firstStreamFirstValue, is(true));
+        assertThat(threadLocalRandomB.get().nextLong(0, Long.MAX_VALUE), is(otherThreadValues[1]));
+    }
 }
\ No newline at end of file
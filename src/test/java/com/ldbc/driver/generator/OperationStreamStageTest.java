@@ -0,0 +1,122 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class OperationStreamStageTest
+{
+    @Test
+    public void shouldFilterThenLimitThenOffsetAndCompressInOnePass()
+    {
+        // Given
+        List<Operation> operations = Lists.newArrayList(
+                operation1( 100 ),
+                operation2( 110 ),
+                operation1( 120 ),
+                operation2( 130 ),
+                operation1( 140 ),
+                operation1( 160 )
+        );
+
+        // When
+        OperationStreamStage stage = OperationStreamStage.of( operations.iterator() )
+                .includeOnlyTypes( Sets.newHashSet( TimedNamedOperation1.TYPE ) )
+                .limit( 3 );
+        long firstScheduledStartTimeAsMilli = stage.firstScheduledStartTimeAsMilli();
+        stage.timeOffsetAndCompress( 1000, 0.5 );
+
+        // Then
+        assertThat( firstScheduledStartTimeAsMilli, equalTo( 100l ) );
+        assertThat( scheduledStartTimes( stage ), equalTo( (List<Long>) Lists.newArrayList( 1000l, 1010l, 1020l ) ) );
+    }
+
+    @Test
+    public void shouldOffsetAndCompressLikeGeneratorFactory()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+
+        // When
+        List<Long> offsetOnly = scheduledStartTimes(
+                gf.timeOffset( Lists.newArrayList( operation1( 10 ), operation1( 13 ), operation1( 20 ) ).iterator(),
+                        5 ) );
+        List<Long> offsetAndCompressed = scheduledStartTimes(
+                gf.timeOffsetAndCompress(
+                        Lists.newArrayList( operation1( 10 ), operation1( 13 ), operation1( 20 ) ).iterator(),
+                        100,
+                        2.0 ) );
+
+        // Then
+        assertThat( offsetOnly, equalTo( (List<Long>) Lists.newArrayList( 5l, 8l, 15l ) ) );
+        assertThat( offsetAndCompressed, equalTo( (List<Long>) Lists.newArrayList( 100l, 106l, 120l ) ) );
+    }
+
+    @Test
+    public void shouldConfigureExistingStageInPlaceUntilTimeMapped()
+    {
+        // Given
+        Iterator<Operation> operations = Lists.<Operation>newArrayList( operation1( 1 ), operation1( 2 ) ).iterator();
+        OperationStreamStage stage = OperationStreamStage.of( operations );
+
+        // When
+        OperationStreamStage limited = OperationStreamStage.of( stage ).limit( 1 );
+        limited.timeOffsetAndCompress( 0, null );
+        OperationStreamStage timeMappedAgain = OperationStreamStage.of( limited );
+
+        // Then
+        assertThat( limited, sameInstance( stage ) );
+        assertThat( timeMappedAgain, not( sameInstance( stage ) ) );
+        assertThat( stage.next().scheduledStartTimeAsMilli(), equalTo( 0l ) );
+        assertThat( stage.hasNext(), is( false ) );
+    }
+
+    @Test
+    public void shouldReportEmptyStreams()
+    {
+        // Given
+        List<Operation> operations = Lists.<Operation>newArrayList( operation2( 1 ), operation2( 2 ) );
+
+        // When
+        OperationStreamStage stage = OperationStreamStage.of( operations.iterator() )
+                .includeOnlyTypes( Sets.newHashSet( TimedNamedOperation1.TYPE ) );
+
+        // Then
+        assertThat( stage.hasNext(), is( false ) );
+        assertThat( stage.firstScheduledStartTimeAsMilli(), equalTo( -1l ) );
+        assertThat( OperationStreamStage.of( operations.iterator() ).limit( 0 ).hasNext(), is( false ) );
+    }
+
+    private static Operation operation1( long scheduledStartTimeAsMilli )
+    {
+        return new TimedNamedOperation1( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, 0, "1" );
+    }
+
+    private static Operation operation2( long scheduledStartTimeAsMilli )
+    {
+        return new TimedNamedOperation2( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, 0, "2" );
+    }
+
+    private static List<Long> scheduledStartTimes( Iterator<Operation> operations )
+    {
+        List<Long> scheduledStartTimes = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            scheduledStartTimes.add( operations.next().scheduledStartTimeAsMilli() );
+        }
+        return scheduledStartTimes;
+    }
+}
@@ -0,0 +1,150 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.charseeker.CharSeekerParams;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.Query1EventStreamReader;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ParameterStoreTest
+{
+    private static final CharSeekerParams CHAR_SEEKER_PARAMS = new CharSeekerParams( 1024, '|', ';', ',' );
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @After
+    public void clearCache()
+    {
+        ParameterStore.clearCache();
+    }
+
+    @Test
+    public void shouldReturnRowsAsAdded()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add( new Object[]{1L, "a", new Date( 10 ), 1, Lists.newArrayList( "x", "y" )} );
+        rows.add( new Object[]{2L, "b", new Date( 20 ), 2, Lists.newArrayList( "z" )} );
+        rows.add( new Object[]{3L, "a", new Date( 30 ), 3, Lists.newArrayList()} );
+
+        // When
+        ParameterStore parameterStore = ParameterStore.fromRows( rows.iterator() );
+
+        // Then
+        assertThat( parameterStore.rowCount(), equalTo( 3 ) );
+        assertThat( parameterStore.columnCount(), equalTo( 5 ) );
+        for ( int row = 0; row < rows.size(); row++ )
+        {
+            assertThat( parameterStore.row( row ), equalTo( rows.get( row ) ) );
+        }
+        // dates are mutable, every row is given its own instance
+        Date date = (Date) parameterStore.row( 0 )[2];
+        date.setTime( 0 );
+        assertThat( parameterStore.row( 0 )[2], equalTo( (Object) new Date( 10 ) ) );
+    }
+
+    @Test
+    public void shouldFallBackToObjectsWhenColumnTypeChanges()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add( new Object[]{1L, "a"} );
+        rows.add( new Object[]{"two", 2} );
+        rows.add( new Object[]{3L, "c"} );
+
+        // When
+        ParameterStore parameterStore = ParameterStore.fromRows( rows.iterator() );
+
+        // Then
+        assertThat( parameterStore.row( 0 ), equalTo( new Object[]{1L, "a"} ) );
+        assertThat( parameterStore.row( 1 ), equalTo( new Object[]{"two", 2} ) );
+        assertThat( parameterStore.row( 2 ), equalTo( new Object[]{3L, "c"} ) );
+    }
+
+    @Test
+    public void shouldCycleThroughRowsForever()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        for ( long i = 0; i < 100; i++ )
+        {
+            rows.add( new Object[]{i} );
+        }
+        ParameterStore parameterStore = ParameterStore.fromRows( rows.iterator() );
+
+        // When
+        Iterator<Object[]> cycle = parameterStore.cycle();
+
+        // Then
+        for ( int i = 0; i < 250; i++ )
+        {
+            assertThat( cycle.hasNext(), is( true ) );
+            assertThat( cycle.next()[0], equalTo( (Object) (long) (i % 100) ) );
+        }
+        assertThat( ParameterStore.fromRows( new ArrayList<Object[]>().iterator() ).cycle().hasNext(), is( false ) );
+    }
+
+    @Test
+    public void shouldReadParametersFileOnceAndShareStore() throws IOException, WorkloadException
+    {
+        // Given
+        File parametersFile = temporaryFolder.newFile();
+        writeTo( parametersFile, "Person|Name\n1|Alice\n2|Bob\n3|Alice\n" );
+
+        // When
+        ParameterStore first = ParameterStore.cachedFrom(
+                parametersFile, new Query1EventStreamReader.Query1Decoder(), 2, CHAR_SEEKER_PARAMS );
+        ParameterStore second = ParameterStore.cachedFrom(
+                parametersFile, new Query1EventStreamReader.Query1Decoder(), 2, CHAR_SEEKER_PARAMS );
+
+        // Then
+        assertThat( second, sameInstance( first ) );
+        assertThat( first.rowCount(), equalTo( 3 ) );
+        assertThat( first.row( 0 ), equalTo( new Object[]{1L, "Alice"} ) );
+        assertThat( first.row( 1 ), equalTo( new Object[]{2L, "Bob"} ) );
+        assertThat( first.row( 2 ), equalTo( new Object[]{3L, "Alice"} ) );
+
+        // When
+        writeTo( parametersFile, "Person|Name\n4|Carol\n" );
+        parametersFile.setLastModified( parametersFile.lastModified() + 1000 );
+        ParameterStore changed = ParameterStore.cachedFrom(
+                parametersFile, new Query1EventStreamReader.Query1Decoder(), 2, CHAR_SEEKER_PARAMS );
+
+        // Then
+        assertThat( changed, not( sameInstance( first ) ) );
+        assertThat( changed.rowCount(), equalTo( 1 ) );
+        assertThat( changed.row( 0 ), equalTo( new Object[]{4L, "Carol"} ) );
+        // store of the earlier version of the file was replaced, rather than kept alongside
+        assertThat( ParameterStore.cacheSize(), equalTo( 1 ) );
+        assertThat( ParameterStore.cachedFrom(
+                parametersFile, new Query1EventStreamReader.Query1Decoder(), 2, CHAR_SEEKER_PARAMS ),
+                sameInstance( changed ) );
+    }
+
+    private static void writeTo( File file, String content ) throws IOException
+    {
+        try ( FileOutputStream outputStream = new FileOutputStream( file ) )
+        {
+            outputStream.write( content.getBytes( StandardCharsets.UTF_8 ) );
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ldbc.driver.generator;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.Assert.assertThat;
+
+public class SizedUniformByteBufferGeneratorTest
+{
+    @Test
+    public void shouldGenerateBuffersOfRequestedLengthsThatAreNotOverwritten()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<Long> lengths = gf.uniform( 1l, 100_000l );
+        List<Long> requestedLengths = new ArrayList<>();
+        List<ByteBuffer> buffers = new ArrayList<>();
+        List<ByteBuffer> copies = new ArrayList<>();
+
+        // When
+        Iterator<ByteBuffer> generator = gf.sizedUniformByteBuffers( gf.limit( lengths, 1000 ) );
+        while ( generator.hasNext() )
+        {
+            ByteBuffer buffer = generator.next();
+            buffers.add( buffer );
+            ByteBuffer copy = ByteBuffer.allocate( buffer.remaining() );
+            copy.put( buffer.duplicate() ).flip();
+            copies.add( copy );
+            requestedLengths.add( (long) buffer.remaining() );
+        }
+
+        // Then
+        assertThat( buffers.size(), equalTo( 1000 ) );
+        for ( int i = 0; i < buffers.size(); i++ )
+        {
+            assertThat( buffers.get( i ).isReadOnly(), is( true ) );
+            assertThat( buffers.get( i ), equalTo( copies.get( i ) ) );
+        }
+        assertThat( buffers.get( 0 ), not( equalTo( buffers.get( 1 ) ) ) );
+    }
+
+    @Test
+    public void shouldGenerateUniformBytes()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<ByteBuffer> generator = gf.sizedUniformByteBuffers( gf.constant( 1000 ) );
+        long[] counts = new long[256];
+        int sampleSize = 1000;
+
+        // When
+        for ( int i = 0; i < sampleSize; i++ )
+        {
+            ByteBuffer buffer = generator.next();
+            for ( int j = buffer.position(); j < buffer.limit(); j++ )
+            {
+                counts[buffer.get( j ) & 0xff]++;
+            }
+        }
+
+        // Then
+        double expectedCount = sampleSize * 1000 / 256d;
+        for ( long count : counts )
+        {
+            assertThat( (double) count, closeTo( expectedCount, expectedCount * 0.05 ) );
+        }
+    }
+}
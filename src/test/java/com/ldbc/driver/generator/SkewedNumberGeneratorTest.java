@@ -0,0 +1,131 @@
+package com.ldbc.driver.generator;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+public class SkewedNumberGeneratorTest
+{
+    private static final int SAMPLE_SIZE = 1_000_000;
+
+    @Test
+    public void zipfianShouldFavourLowerBoundWithExpectedProbability()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        long lowerBound = 10;
+        long upperBound = 109;
+        Iterator<Long> zipfian = gf.zipfian( lowerBound, upperBound );
+
+        // When
+        long[] counts = counts( zipfian, lowerBound, upperBound );
+
+        // Then
+        double zetan = 0;
+        for ( int i = 1; i <= 100; i++ )
+        {
+            zetan += 1 / Math.pow( i, ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT );
+        }
+        assertThat( counts[0] / (double) SAMPLE_SIZE, closeTo( 1 / zetan, 0.01 ) );
+        assertThat( counts[1] / (double) SAMPLE_SIZE,
+                closeTo( 1 / (Math.pow( 2, ZipfianNumberGenerator.DEFAULT_ZIPFIAN_CONSTANT ) * zetan ), 0.01 ) );
+        assertThat( counts[0], greaterThan( counts[10] ) );
+        assertThat( counts[10], greaterThan( counts[99] ) );
+    }
+
+    @Test
+    public void zipfianShouldStayInRangeWhenRangeGrows()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        MinMaxGenerator<Long> keys = gf.minMaxGenerator( gf.incrementing( 0l, 1l ), 0l, 0l );
+        Iterator<Long> zipfian = gf.dynamicRangeZipfian( keys );
+        Iterator<Long> latest = gf.latest( keys );
+
+        // When/Then
+        for ( int i = 0; i < 10_000; i++ )
+        {
+            long maxKey = keys.next();
+            long zipfianKey = zipfian.next();
+            long latestKey = latest.next();
+            assertThat( zipfianKey >= 0 && zipfianKey <= maxKey, is( true ) );
+            assertThat( latestKey >= 0 && latestKey <= maxKey, is( true ) );
+        }
+    }
+
+    @Test
+    public void latestShouldFavourUpperBound()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        MinMaxGenerator<Long> keys = gf.minMaxGenerator( gf.incrementing( 0l, 1l ), 0l, 0l );
+        gf.consume( keys, 100 );
+        Iterator<Long> latest = gf.latest( keys );
+        int maxKey = keys.getMax().intValue();
+
+        // When
+        long[] counts = counts( latest, 0, maxKey );
+
+        // Then
+        assertThat( counts[maxKey], greaterThan( counts[maxKey - 10] ) );
+        assertThat( counts[maxKey - 10], greaterThan( counts[0] ) );
+    }
+
+    @Test
+    public void scrambledZipfianShouldBeSkewedButNotTowardsLowerBound()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<Long> scrambledZipfian = gf.scrambledZipfian( 0, 999 );
+
+        // When
+        long[] counts = counts( scrambledZipfian, 0, 999 );
+
+        // Then
+        int mostPopular = 0;
+        long leastPopularCount = Long.MAX_VALUE;
+        for ( int i = 0; i < counts.length; i++ )
+        {
+            mostPopular = (counts[i] > counts[mostPopular]) ? i : mostPopular;
+            leastPopularCount = Math.min( leastPopularCount, counts[i] );
+        }
+        assertThat( mostPopular, greaterThan( 0 ) );
+        assertThat( counts[mostPopular], greaterThan( 10 * (leastPopularCount + 1) ) );
+    }
+
+    @Test
+    public void hotspotShouldDrawHotOperationFractionFromHotSet()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<Long> hotspot = gf.hotspot( 0, 999, 0.2, 0.8 );
+
+        // When
+        long[] counts = counts( hotspot, 0, 999 );
+
+        // Then
+        long hotCount = 0;
+        for ( int i = 0; i < 200; i++ )
+        {
+            hotCount += counts[i];
+        }
+        assertThat( hotCount / (double) SAMPLE_SIZE, closeTo( 0.8, 0.01 ) );
+    }
+
+    private long[] counts( Iterator<Long> generator, long lowerBound, long upperBound )
+    {
+        long[] counts = new long[(int) (upperBound - lowerBound + 1)];
+        for ( int i = 0; i < SAMPLE_SIZE; i++ )
+        {
+            long next = generator.next();
+            assertThat( next >= lowerBound && next <= upperBound, is( true ) );
+            counts[(int) (next - lowerBound)]++;
+        }
+        return counts;
+    }
+}
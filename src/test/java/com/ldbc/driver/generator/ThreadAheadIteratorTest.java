@@ -0,0 +1,154 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ThreadAheadIteratorTest
+{
+    @Test
+    public void shouldReturnAllElementsInOrder()
+    {
+        // Given
+        List<Integer> elements = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ )
+        {
+            elements.add( i );
+        }
+
+        // When
+        List<Integer> threadAheadElements;
+        try ( ThreadAheadIterator<Integer> iterator = new ThreadAheadIterator<>( elements.iterator(), 7, 2 ) )
+        {
+            threadAheadElements = Lists.newArrayList( iterator );
+        }
+
+        // Then
+        assertThat( threadAheadElements, equalTo( elements ) );
+    }
+
+    @Test
+    public void shouldBeEmptyWhenWrappedIteratorIsEmpty()
+    {
+        // Given
+        List<Integer> elements = new ArrayList<>();
+
+        // When
+        ThreadAheadIterator<Integer> iterator = new ThreadAheadIterator<>( elements.iterator() );
+
+        // Then
+        assertThat( iterator.hasNext(), is( false ) );
+        assertThat( iterator.hasNext(), is( false ) );
+        iterator.close();
+    }
+
+    @Test
+    public void shouldRethrowErrorOfWrappedIteratorAfterPrecedingElements()
+    {
+        // Given
+        Iterator<Integer> failingIterator = new Iterator<Integer>()
+        {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return true;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if ( next == 3 )
+                {
+                    throw new IllegalStateException( "broken" );
+                }
+                return next++;
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // When
+        List<Integer> elementsBeforeError = new ArrayList<>();
+        try ( ThreadAheadIterator<Integer> iterator = new ThreadAheadIterator<>( failingIterator, 1, 1 ) )
+        {
+            while ( iterator.hasNext() )
+            {
+                elementsBeforeError.add( iterator.next() );
+            }
+            fail( "Error of wrapped iterator should have been rethrown" );
+        }
+        catch ( GeneratorException e )
+        {
+            // Then
+            assertThat( e.getCause() instanceof IllegalStateException, is( true ) );
+        }
+        assertThat( elementsBeforeError, equalTo( (List<Integer>) Lists.newArrayList( 0, 1, 2 ) ) );
+    }
+
+    @Test
+    public void shouldNotUseWrappedIteratorOnceClosed() throws InterruptedException
+    {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean( false );
+        final AtomicBoolean usedAfterClose = new AtomicBoolean( false );
+        Iterator<Integer> endlessIterator = new Iterator<Integer>()
+        {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                usedAfterClose.compareAndSet( false, closed.get() );
+                return true;
+            }
+
+            @Override
+            public Integer next()
+            {
+                // slow source, the reader thread is usually inside next() when the iterator is closed
+                try
+                {
+                    Thread.sleep( 20 );
+                }
+                catch ( InterruptedException e )
+                {
+                    throw new IllegalStateException( e );
+                }
+                usedAfterClose.compareAndSet( false, closed.get() );
+                return next++;
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ThreadAheadIterator<Integer> iterator = new ThreadAheadIterator<>( endlessIterator, 1, 16 );
+        assertThat( iterator.next(), equalTo( 0 ) );
+
+        // When
+        iterator.close();
+        closed.set( true );
+
+        // Then
+        Thread.sleep( 200 );
+        assertThat( usedAfterClose.get(), is( false ) );
+        assertThat( iterator.hasNext(), is( false ) );
+    }
+}
@@ -0,0 +1,75 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class OperationTimeoutsTest
+{
+    @Test
+    public void shouldNotWatchOperationTypesWithoutTimeout()
+    {
+        // Given
+        Map<Integer,Long> timeoutsAsMilli = new HashMap<>();
+        timeoutsAsMilli.put( 1, 0l );
+        timeoutsAsMilli.put( 2, 0l );
+
+        // When
+        OperationTimeouts operationTimeouts = OperationTimeouts.fromTimeoutsAsMilli( timeoutsAsMilli );
+
+        // Then
+        assertThat( operationTimeouts, sameInstance( OperationTimeouts.NONE ) );
+        ResultReporter.SimpleResultReporter resultReporter =
+                new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        assertThat( operationTimeouts.watch( 1, resultReporter ), nullValue() );
+        assertThat( operationTimeouts.watch( 5, resultReporter ), nullValue() );
+        assertThat( operationTimeouts.unwatch( null ), is( false ) );
+    }
+
+    @Test
+    public void shouldCancelOnlyOperationsThatExceedTheirTimeout()
+    {
+        // Given
+        Map<Integer,Long> timeoutsAsMilli = new HashMap<>();
+        timeoutsAsMilli.put( 1, 50l );
+        timeoutsAsMilli.put( 2, 60000l );
+        timeoutsAsMilli.put( 3, 0l );
+        OperationTimeouts operationTimeouts = OperationTimeouts.fromTimeoutsAsMilli( timeoutsAsMilli );
+        assertThat( operationTimeouts.timeoutAsMilli( 1 ), equalTo( 50l ) );
+        assertThat( operationTimeouts.timeoutAsMilli( 3 ), equalTo( 0l ) );
+        ResultReporter.SimpleResultReporter slowResultReporter =
+                new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        ResultReporter.SimpleResultReporter fastResultReporter =
+                new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+
+        try
+        {
+            // When
+            Future<?> slowWatch = operationTimeouts.watch( 1, slowResultReporter );
+            Future<?> fastWatch = operationTimeouts.watch( 2, fastResultReporter );
+            while ( false == slowResultReporter.isCancelled() )
+            {
+                Spinner.powerNap( 10 );
+            }
+
+            // Then
+            assertThat( operationTimeouts.unwatch( slowWatch ), is( true ) );
+            assertThat( operationTimeouts.unwatch( fastWatch ), is( false ) );
+            assertThat( fastResultReporter.isCancelled(), is( false ) );
+        }
+        finally
+        {
+            operationTimeouts.shutdown();
+        }
+    }
+}
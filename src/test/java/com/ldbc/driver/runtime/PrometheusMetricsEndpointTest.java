@@ -0,0 +1,107 @@
+package com.ldbc.driver.runtime;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Test;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PrometheusMetricsEndpointTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void shouldServeMetricsOnLocalhost() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = ThreadedQueuedMetricsService.newInstanceUsingBlockingBoundedQueue(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                null,
+                operationTypeToClassMapping,
+                new Log4jLoggingServiceFactory( false )
+        );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        long nowAsMilli = timeSource.nowAsMilli();
+        metricsServiceWriter.submitOperationResult(
+                LdbcQuery1.TYPE, nowAsMilli, nowAsMilli, TimeUnit.MILLISECONDS.toNanos( 2 ), 0 );
+        metricsServiceWriter.submitOperationResult(
+                LdbcQuery1.TYPE, nowAsMilli, nowAsMilli, TimeUnit.MILLISECONDS.toNanos( 4 ), 0 );
+        metricsServiceWriter.submitOperationResult(
+                LdbcQuery2.TYPE, nowAsMilli, nowAsMilli, TimeUnit.MILLISECONDS.toNanos( 8 ), 0 );
+        final long globalCompletionTimeAsMilli = nowAsMilli - 1000;
+        GlobalCompletionTimeReader globalCompletionTimeReader = new GlobalCompletionTimeReader()
+        {
+            @Override
+            public long globalCompletionTimeAsMilli()
+            {
+                return globalCompletionTimeAsMilli;
+            }
+        };
+        PrometheusMetricsEndpoint endpoint = new PrometheusMetricsEndpoint(
+                PrometheusMetricsEndpoint.DEFAULT_BIND_ADDRESS,
+                0,
+                metricsService,
+                globalCompletionTimeReader,
+                null,
+                null,
+                timeSource
+        );
+
+        // When
+        endpoint.start();
+        assertThat( endpoint.bindAddress().isLoopbackAddress(), is( true ) );
+        String body;
+        HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://127.0.0.1:" + endpoint.port() + PrometheusMetricsEndpoint.METRICS_PATH ).openConnection();
+        try
+        {
+            assertThat( connection.getResponseCode(), equalTo( 200 ) );
+            assertThat( connection.getContentType(), equalTo( PrometheusMetricsEndpoint.CONTENT_TYPE ) );
+            body = new String( ByteStreams.toByteArray( connection.getInputStream() ), Charsets.UTF_8 );
+        }
+        finally
+        {
+            connection.disconnect();
+            endpoint.shutdown();
+            metricsService.shutdown();
+        }
+
+        // Then
+        assertThat( body, containsString( "ldbc_driver_operations_total 3\n" ) );
+        assertThat( body, containsString(
+                "ldbc_driver_operation_type_operations_total{operation=\"LdbcQuery1\"} 2\n" ) );
+        assertThat( body, containsString(
+                "ldbc_driver_operation_type_operations_total{operation=\"LdbcQuery2\"} 1\n" ) );
+        assertThat( body, containsString(
+                "ldbc_driver_operation_type_runtime_seconds{operation=\"LdbcQuery2\",quantile=\"0.99\"} " +
+                "0.008000000\n" ) );
+        assertThat( body, containsString( "ldbc_driver_gct_milliseconds " + globalCompletionTimeAsMilli + "\n" ) );
+        assertThat( body, containsString( "# TYPE ldbc_driver_gct_lag_seconds gauge\n" ) );
+        assertThat( body, containsString( "# TYPE jvm_gc_collection_seconds_total counter\n" ) );
+    }
+}
@@ -0,0 +1,111 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GlobalCompletionTimeWaitersTest
+{
+    @Test
+    public void shouldReturnImmediatelyWhenGctHasAlreadyReachedTime() throws InterruptedException
+    {
+        // Given
+        AtomicLong gct = new AtomicLong( 10 );
+        GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters( gct );
+
+        // When
+        boolean reached = waiters.await( 10, 0 );
+
+        // Then
+        assertThat( reached, is( true ) );
+        assertThat( waiters.waiterCount(), is( 0 ) );
+    }
+
+    @Test
+    public void shouldTimeOutAndDeregisterWhenGctDoesNotAdvance() throws InterruptedException
+    {
+        // Given
+        AtomicLong gct = new AtomicLong( 5 );
+        GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters( gct );
+
+        // When
+        boolean reached = waiters.await( 10, 20 );
+
+        // Then
+        assertThat( reached, is( false ) );
+        assertThat( waiters.waiterCount(), is( 0 ) );
+    }
+
+    @Test
+    public void shouldReleaseOnlyWaitersWhoseTimeHasBeenReached() throws InterruptedException
+    {
+        // Given
+        AtomicLong gct = new AtomicLong( 0 );
+        GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters( gct );
+        WaitingThread waitingFor5 = new WaitingThread( waiters, 5 );
+        WaitingThread waitingFor7 = new WaitingThread( waiters, 7 );
+        WaitingThread waitingFor20 = new WaitingThread( waiters, 20 );
+        waitingFor5.start();
+        waitingFor7.start();
+        waitingFor20.start();
+        while ( waiters.waiterCount() < 3 )
+        {
+            Thread.sleep( 1 );
+        }
+
+        // When
+        gct.set( 7 );
+        waiters.advanced();
+
+        // Then
+        assertThat( waitingFor5.finished.await( 10, TimeUnit.SECONDS ), is( true ) );
+        assertThat( waitingFor7.finished.await( 10, TimeUnit.SECONDS ), is( true ) );
+        assertThat( waitingFor5.reached.get(), is( true ) );
+        assertThat( waitingFor7.reached.get(), is( true ) );
+        assertThat( waitingFor20.finished.await( 50, TimeUnit.MILLISECONDS ), is( false ) );
+        assertThat( waiters.waiterCount(), is( 1 ) );
+
+        // When
+        gct.set( 20 );
+        waiters.advanced();
+
+        // Then
+        assertThat( waitingFor20.finished.await( 10, TimeUnit.SECONDS ), is( true ) );
+        assertThat( waitingFor20.reached.get(), is( true ) );
+        assertThat( waiters.waiterCount(), is( 0 ) );
+    }
+
+    private static class WaitingThread extends Thread
+    {
+        private final GlobalCompletionTimeWaiters waiters;
+        private final long timeAsMilli;
+        private final CountDownLatch finished = new CountDownLatch( 1 );
+        private final AtomicBoolean reached = new AtomicBoolean( false );
+
+        private WaitingThread( GlobalCompletionTimeWaiters waiters, long timeAsMilli )
+        {
+            this.waiters = waiters;
+            this.timeAsMilli = timeAsMilli;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                reached.set( waiters.await( timeAsMilli, TimeUnit.MINUTES.toMillis( 1 ) ) );
+            }
+            catch ( InterruptedException e )
+            {
+                // do nothing, assertions will fail
+            }
+            finished.countDown();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncOperationExecutorTest
+{
+    @Test
+    public void shouldKeepOperationsInFlightWithoutBlockingUpToLimit() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new ManuallyCompletingAsyncDb();
+        Map<String,String> params = new HashMap<>();
+        params.put( Db.ASYNC_IN_FLIGHT_LIMIT_ARG, "2" );
+        db.init( params, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+
+        final OperationExecutor executor = new AsyncOperationExecutor(
+                db.asyncInFlightLimit(),
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        // When
+        executor.execute( nothingOperation( timeSource ) );
+        executor.execute( nothingOperation( timeSource ) );
+
+        // Then
+        assertThat( db.asyncInFlightLimit(), is( 2 ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+        assertThat( metricsService.count(), is( 0l ) );
+
+        // When
+        final CountDownLatch thirdExecuted = new CountDownLatch( 1 );
+        final Operation thirdOperation = nothingOperation( timeSource );
+        Thread executingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    executor.execute( thirdOperation );
+                    thirdExecuted.countDown();
+                }
+                catch ( OperationExecutorException e )
+                {
+                    // do nothing, assertion below will fail
+                }
+            }
+        };
+        executingThread.start();
+
+        // Then
+        assertThat( thirdExecuted.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+        ManuallyCompletingAsyncDb.PENDING.take().complete( null );
+        assertThat( thirdExecuted.await( 10, TimeUnit.SECONDS ), is( true ) );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+
+        ManuallyCompletingAsyncDb.PENDING.take().complete( null );
+        ManuallyCompletingAsyncDb.PENDING.take().complete( null );
+        assertThat( executor.awaitAllOperationHandlersCompleted( 10000 ), is( true ) );
+        assertThat( metricsService.count(), is( 3l ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private static Operation nothingOperation( TimeSource timeSource )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() );
+        operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    public static class ManuallyCompletingAsyncDb extends Db
+    {
+        private static final BlockingQueue<CompletableFuture<Void>> PENDING = new LinkedBlockingQueue<>();
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            PENDING.clear();
+            registerOperationHandler( NothingOperation.class, AsyncNothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return null;
+        }
+    }
+
+    public static class AsyncNothingOperationHandler implements AsyncOperationHandler<NothingOperation,DbConnectionState>
+    {
+        @Override
+        public CompletableFuture<Void> executeOperationAsync( NothingOperation operation,
+                DbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            resultReporter.report( 0, new DummyResult(), operation );
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            ManuallyCompletingAsyncDb.PENDING.add( pending );
+            return pending;
+        }
+    }
+}
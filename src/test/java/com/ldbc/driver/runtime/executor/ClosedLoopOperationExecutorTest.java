@@ -0,0 +1,178 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ClosedLoopOperationExecutorTest
+{
+    @Test
+    public void shouldIssueOperationsImmediatelyWhileVirtualUsersAreIdleAndBlockOtherwise() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, true );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new ManuallyCompletingDb();
+        db.init( new HashMap<String,String>(), loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+
+        final OperationExecutor executor = new ClosedLoopOperationExecutor(
+                2,
+                0,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        // When
+        // scheduled far in the future, closed loop does not wait for scheduled start times
+        executor.execute( nothingOperation( timeSource.nowAsMilli() + TimeUnit.HOURS.toMillis( 1 ) ) );
+        executor.execute( nothingOperation( timeSource.nowAsMilli() + TimeUnit.HOURS.toMillis( 1 ) ) );
+
+        // Then
+        CountDownLatch firstRelease = ManuallyCompletingDb.PENDING.poll( 10, TimeUnit.SECONDS );
+        CountDownLatch secondRelease = ManuallyCompletingDb.PENDING.poll( 10, TimeUnit.SECONDS );
+        assertThat( null != firstRelease && null != secondRelease, is( true ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+        assertThat( metricsService.count(), is( 0l ) );
+
+        // When
+        final CountDownLatch thirdExecuted = new CountDownLatch( 1 );
+        final Operation thirdOperation = nothingOperation( timeSource.nowAsMilli() );
+        Thread executingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    executor.execute( thirdOperation );
+                    thirdExecuted.countDown();
+                }
+                catch ( OperationExecutorException e )
+                {
+                    // do nothing, assertion below will fail
+                }
+            }
+        };
+        executingThread.start();
+
+        // Then
+        assertThat( thirdExecuted.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+        firstRelease.countDown();
+        assertThat( thirdExecuted.await( 10, TimeUnit.SECONDS ), is( true ) );
+        CountDownLatch thirdRelease = ManuallyCompletingDb.PENDING.poll( 10, TimeUnit.SECONDS );
+        assertThat( null != thirdRelease, is( true ) );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+
+        secondRelease.countDown();
+        thirdRelease.countDown();
+        assertThat( executor.awaitAllOperationHandlersCompleted( 10000 ), is( true ) );
+        assertThat( metricsService.count(), is( 3l ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private static Operation nothingOperation( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    public static class ManuallyCompletingDb extends Db
+    {
+        private static final BlockingQueue<CountDownLatch> PENDING = new LinkedBlockingQueue<>();
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            PENDING.clear();
+            registerOperationHandler( NothingOperation.class, BlockingNothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return null;
+        }
+    }
+
+    public static class BlockingNothingOperationHandler implements OperationHandler<NothingOperation,DbConnectionState>
+    {
+        @Override
+        public void executeOperation( NothingOperation operation, DbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            CountDownLatch release = new CountDownLatch( 1 );
+            ManuallyCompletingDb.PENDING.add( release );
+            try
+            {
+                release.await();
+            }
+            catch ( InterruptedException e )
+            {
+                throw new DbException( "Interrupted while waiting to be released", e );
+            }
+            resultReporter.report( 0, new DummyResult(), operation );
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.ldbc.driver.runtime.executor;
 
+import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.OperationTimeouts;
 import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
@@ -17,11 +20,15 @@ import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.DummyDb;
 import com.ldbc.driver.workloads.dummy.DummyWorkload;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -164,6 +171,193 @@ public class ThreadPoolOperationExecutorTest
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
 
+    @Test
+    public void executorShouldInterleaveDispatchedChildOperationsWithOtherOperations() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        CountingDownChildOperationGenerator childOperationGenerator = new CountingDownChildOperationGenerator( 5, 50 );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        // one thread, so without dispatching the whole chain of the first operation would run before the second
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        boolean dispatchChildOperations = true;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                dispatchChildOperations
+        );
+
+        Operation operation1 = new NothingOperation();
+        operation1.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() + 100l );
+        operation1.setTimeStamp( 1 );
+        operation1.setDependencyTimeStamp( 0l );
+
+        Operation operation2 = new NothingOperation();
+        operation2.setScheduledStartTimeAsMilli( operation1.scheduledStartTimeAsMilli() + 75l );
+        operation2.setTimeStamp( 2 );
+        operation2.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( operation1 );
+        executor.execute( operation2 );
+        assertThat( executor.awaitAllOperationHandlersCompleted( 10000 ), is( true ) );
+
+        // Then
+        // every chain has 5 children, generated with its own state
+        assertThat( metricsService.count(), is( 12l ) );
+        List<Long> completed = childOperationGenerator.completedTimeStamps();
+        assertThat( completed.size(), is( 12 ) );
+        for ( long timeStamp : new long[]{1, 101, 102, 103, 104, 105, 2, 201, 202, 203, 204, 205} )
+        {
+            assertThat( completed.toString(), completed.contains( timeStamp ), is( true ) );
+        }
+        assertThat( completed.toString(), completed.indexOf( 2l ) < completed.indexOf( 105l ), is( true ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private static class CountingDownChildOperationGenerator implements ChildOperationGenerator
+    {
+        private final int chainLength;
+        private final long interleaveAsMilli;
+        private final List<Long> completedTimeStamps = Collections.synchronizedList( new ArrayList<Long>() );
+
+        private CountingDownChildOperationGenerator( int chainLength, long interleaveAsMilli )
+        {
+            this.chainLength = chainLength;
+            this.interleaveAsMilli = interleaveAsMilli;
+        }
+
+        @Override
+        public double initialState()
+        {
+            return chainLength;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+        {
+            completedTimeStamps.add( operation.timeStamp() );
+            if ( state <= 0 )
+            {
+                return null;
+            }
+            long chainId = (operation.timeStamp() < 100) ? operation.timeStamp() : operation.timeStamp() / 100;
+            Operation childOperation = new NothingOperation();
+            childOperation.setScheduledStartTimeAsMilli( actualStartTimeAsMilli + interleaveAsMilli );
+            childOperation.setTimeStamp( chainId * 100 + chainLength - (long) state + 1 );
+            childOperation.setDependencyTimeStamp( 0l );
+            return childOperation;
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState - 1;
+        }
+
+        private List<Long> completedTimeStamps()
+        {
+            return completedTimeStamps;
+        }
+    }
+
+    @Test
+    public void executorShouldShutdownWithinWaitWhenDispatchingChildOperations() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        CountingDownChildOperationGenerator childOperationGenerator = new CountingDownChildOperationGenerator( 1, 0 );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        DummyDb db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        // operations named "blocked" never complete on their own
+        db.setNameAllowedValue( "blocked", false );
+
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        boolean dispatchChildOperations = true;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                dispatchChildOperations
+        );
+
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        executor.execute( new TimedNamedOperation1( startTimeAsMilli, startTimeAsMilli, 0l, "blocked" ) );
+
+        // When
+        long shutdownStartAsMilli = timeSource.nowAsMilli();
+        executor.shutdown( 500l );
+        long shutdownDurationAsMilli = timeSource.nowAsMilli() - shutdownStartAsMilli;
+        db.setNameAllowedValue( "blocked", true );
+
+        // Then
+        // waiting for handlers and for thread pool termination share the wait, rather than each taking all of it
+        assertThat( Long.toString( shutdownDurationAsMilli ), shutdownDurationAsMilli < 900, is( true ) );
+    }
+
     @Test
     public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
     {
@@ -240,4 +434,75 @@ public class ThreadPoolOperationExecutorTest
         assertThat( exceptionThrown, is( true ) );
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
+
+    @Test
+    public void executorShouldCancelOperationsThatExceedTheirTimeout() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        DummyDb db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        // operations named "blocked" never complete on their own
+        db.setNameAllowedValue( "blocked", false );
+        Map<Integer,Long> timeoutsAsMilli = new HashMap<>();
+        timeoutsAsMilli.put( TimedNamedOperation1.TYPE, 100l );
+        OperationTimeouts operationTimeouts = OperationTimeouts.fromTimeoutsAsMilli( timeoutsAsMilli );
+
+        int threadCount = 2;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                false,
+                operationTimeouts
+        );
+
+        long startTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        executor.execute( new TimedNamedOperation1( startTimeAsMilli, startTimeAsMilli, 0l, "blocked" ) );
+        executor.execute( new TimedNamedOperation1( startTimeAsMilli, startTimeAsMilli, 0l, "allowed" ) );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( 2l ) );
+        assertThat( metricsService.timedOutCount(), is( 1l ) );
+        executor.shutdown( 1000l );
+        operationTimeouts.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
 }
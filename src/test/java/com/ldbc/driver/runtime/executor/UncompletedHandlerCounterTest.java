@@ -0,0 +1,84 @@
+package com.ldbc.driver.runtime.executor;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class UncompletedHandlerCounterTest
+{
+    @Test
+    public void shouldReturnImmediatelyWhenNoHandlersAreUncompleted() throws InterruptedException
+    {
+        // Given
+        UncompletedHandlerCounter counter = new UncompletedHandlerCounter();
+
+        // When
+        boolean drained = counter.awaitZero( 0 );
+
+        // Then
+        assertThat( drained, is( true ) );
+        assertThat( counter.get(), is( 0l ) );
+    }
+
+    @Test
+    public void shouldTimeOutWhenHandlersRemainUncompleted() throws InterruptedException
+    {
+        // Given
+        UncompletedHandlerCounter counter = new UncompletedHandlerCounter();
+        counter.increment();
+        counter.increment();
+        counter.decrement();
+
+        // When
+        boolean drained = counter.awaitZero( 10 );
+
+        // Then
+        assertThat( drained, is( false ) );
+        assertThat( counter.get(), is( 1l ) );
+    }
+
+    @Test
+    public void shouldWakeWaitingThreadAsSoonAsLastHandlerCompletes() throws InterruptedException
+    {
+        // Given
+        final UncompletedHandlerCounter counter = new UncompletedHandlerCounter();
+        final CountDownLatch waiterStarted = new CountDownLatch( 1 );
+        final CountDownLatch waiterFinished = new CountDownLatch( 1 );
+        final AtomicBoolean drained = new AtomicBoolean( false );
+        counter.increment();
+        counter.increment();
+        Thread waiter = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                waiterStarted.countDown();
+                try
+                {
+                    drained.set( counter.awaitZero( TimeUnit.MINUTES.toMillis( 1 ) ) );
+                }
+                catch ( InterruptedException e )
+                {
+                    // do nothing
+                }
+                waiterFinished.countDown();
+            }
+        };
+
+        // When
+        waiter.start();
+        waiterStarted.await();
+        counter.decrement();
+
+        // Then
+        assertThat( waiterFinished.await( 50, TimeUnit.MILLISECONDS ), is( false ) );
+        counter.decrement();
+        assertThat( waiterFinished.await( 10, TimeUnit.SECONDS ), is( true ) );
+        assertThat( drained.get(), is( true ) );
+    }
+}
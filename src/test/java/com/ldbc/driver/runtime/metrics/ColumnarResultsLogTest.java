@@ -0,0 +1,187 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.client.ResultsLogTool;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.validation.ResultsLogValidationSummary;
+import com.ldbc.driver.validation.ResultsLogValidator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ColumnarResultsLogTest
+{
+    private static final String[] OPERATION_NAMES = new String[]{null, "Read", "Write", null, "Scan"};
+    private static final int[] OPERATION_TYPES = new int[]{1, 2, 4};
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadBackExactlyWhatWasWrittenAcrossBlocks() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        int count = 1000;
+        long[][] results = newResults( count );
+        try ( ColumnarResultsLogWriter writer = new ColumnarResultsLogWriter( resultsLog, OPERATION_NAMES, 64 ) )
+        {
+            write( writer, results );
+        }
+
+        // When
+        ResultsLogBlock block = new ResultsLogBlock( 8 );
+        int index = 0;
+        int blocks = 0;
+        try ( ResultsLogReader reader = ResultsLogReaders.open( resultsLog ) )
+        {
+            assertThat( reader instanceof ColumnarResultsLogReader, is( true ) );
+            assertThat( reader.operationName( 4 ), equalTo( "Scan" ) );
+            while ( reader.readBlock( block ) )
+            {
+                blocks++;
+                for ( int i = 0; i < block.size(); i++ )
+                {
+                    // Then
+                    assertThat( (long) block.operationType( i ), equalTo( results[index][0] ) );
+                    assertThat( block.scheduledStartTimeAsMilli( i ), equalTo( results[index][1] ) );
+                    assertThat( block.actualStartTimeAsMilli( i ), equalTo( results[index][2] ) );
+                    assertThat( block.runDurationAsNano( i ), equalTo( results[index][3] ) );
+                    assertThat( (long) block.resultCode( i ), equalTo( results[index][4] ) );
+                    index++;
+                }
+            }
+        }
+        assertThat( index, equalTo( count ) );
+        assertThat( blocks, equalTo( 16 ) );
+        assertThat( ResultsLogReaders.count( resultsLog ), equalTo( (long) count ) );
+    }
+
+    @Test
+    public void shouldReadUpToLastCompleteBlockWhenEndMarkerIsMissing() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        try ( ColumnarResultsLogWriter writer = new ColumnarResultsLogWriter( resultsLog, OPERATION_NAMES, 10 ) )
+        {
+            write( writer, newResults( 25 ) );
+        }
+
+        // When
+        try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "rw" ) )
+        {
+            // remove end marker
+            file.setLength( file.length() - 4 );
+        }
+
+        // Then
+        assertThat( ResultsLogReaders.count( resultsLog ), equalTo( 25L ) );
+    }
+
+    @Test
+    public void shouldReadUpToLastCompleteBlockWhenLogEndsInsideBlock() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        try ( ColumnarResultsLogWriter writer = new ColumnarResultsLogWriter( resultsLog, OPERATION_NAMES, 10 ) )
+        {
+            write( writer, newResults( 25 ) );
+        }
+
+        // When
+        try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "rw" ) )
+        {
+            // remove end marker and the last bytes of the body of the last block, which holds 5 records
+            file.setLength( file.length() - 4 - 3 );
+        }
+
+        // Then
+        assertThat( ResultsLogReaders.count( resultsLog ), equalTo( 20L ) );
+    }
+
+    @Test
+    public void shouldValidateAndExportColumnarLogsAsCsvLogs() throws Exception
+    {
+        // Given
+        File columnarResultsLog = temporaryFolder.newFile();
+        File csvResultsLog = temporaryFolder.newFile();
+        long[][] results = newResults( 500 );
+        try ( ColumnarResultsLogWriter writer = new ColumnarResultsLogWriter( columnarResultsLog, OPERATION_NAMES ) )
+        {
+            write( writer, results );
+        }
+        SimpleCsvFileWriter csvFileWriter =
+                new SimpleCsvFileWriter( csvResultsLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        CsvResultsLogWriter.writeHeader( csvFileWriter, TimeUnit.MICROSECONDS );
+        try ( CsvResultsLogWriter writer =
+                      new CsvResultsLogWriter( csvFileWriter, OPERATION_NAMES, TimeUnit.MICROSECONDS ) )
+        {
+            write( writer, results );
+        }
+
+        // When
+        ResultsLogValidator validator = new ResultsLogValidator();
+        ResultsLogValidationSummary columnarSummary = validator.compute( columnarResultsLog, 5 );
+        ResultsLogValidationSummary csvSummary = validator.compute( csvResultsLog, 5 );
+        File exportedResultsLog = temporaryFolder.newFile();
+        long exportedCount = ResultsLogTool.export( columnarResultsLog, exportedResultsLog );
+        String columnarResultsLogSummary = ResultsLogTool.summarise( columnarResultsLog );
+
+        // Then
+        assertThat( columnarSummary.toJson(), equalTo( csvSummary.toJson() ) );
+        assertThat( exportedCount, equalTo( 500L ) );
+        assertThat( columnarResultsLogSummary.contains( "Operations: 500\n" ), is( true ) );
+        ResultsLogBlock block = new ResultsLogBlock();
+        try ( ResultsLogReader reader = ResultsLogReaders.open( exportedResultsLog ) )
+        {
+            assertThat( reader instanceof CsvResultsLogReader, is( true ) );
+            assertThat( reader.readBlock( block ), is( true ) );
+            assertThat( block.size(), equalTo( 500 ) );
+            for ( int i = 0; i < block.size(); i++ )
+            {
+                assertThat( reader.operationName( block.operationType( i ) ),
+                        equalTo( OPERATION_NAMES[(int) results[i][0]] ) );
+                assertThat( block.scheduledStartTimeAsMilli( i ), equalTo( results[i][1] ) );
+                assertThat( block.actualStartTimeAsMilli( i ), equalTo( results[i][2] ) );
+                assertThat( block.runDurationAsNano( i ), equalTo( results[i][3] ) );
+            }
+            assertThat( reader.readBlock( block ), is( false ) );
+        }
+    }
+
+    private static long[][] newResults( int count )
+    {
+        Random random = new Random( 42 );
+        long[][] results = new long[count][];
+        long scheduledStartTimeAsMilli = 1_400_000_000_000L;
+        for ( int i = 0; i < count; i++ )
+        {
+            // scheduled start times are not monotonic, results arrive in completion order
+            scheduledStartTimeAsMilli += random.nextInt( 20 ) - 5;
+            results[i] = new long[]{
+                    OPERATION_TYPES[random.nextInt( OPERATION_TYPES.length )],
+                    scheduledStartTimeAsMilli,
+                    scheduledStartTimeAsMilli + random.nextInt( 10 ),
+                    TimeUnit.MICROSECONDS.toNanos( random.nextInt( 1_000_000 ) ),
+                    random.nextInt( 3 )
+            };
+        }
+        return results;
+    }
+
+    private static void write( ResultsLogWriter writer, long[][] results ) throws Exception
+    {
+        for ( long[] result : results )
+        {
+            writer.write( (int) result[0], result[1], result[2], result[3], (int) result[4] );
+        }
+    }
+}
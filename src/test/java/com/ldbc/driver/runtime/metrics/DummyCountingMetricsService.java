@@ -1,5 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.ResultReporter;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -7,6 +9,7 @@ import java.util.concurrent.TimeUnit;
 public class DummyCountingMetricsService implements MetricsService, MetricsService.MetricsServiceWriter
 {
     private long count = 0;
+    private long timedOutCount = 0;
     private final Map<String, OperationMetricsSnapshot> metrics;
 
     public DummyCountingMetricsService() {
@@ -21,12 +24,19 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
                                       long runDurationAsNano,
                                       int resultCode) throws MetricsCollectionException {
         count++;
+        if (ResultReporter.TIMED_OUT_RESULT_CODE == resultCode) {
+            timedOutCount++;
+        }
     }
 
     public long count() {
         return count;
     }
 
+    public long timedOutCount() {
+        return timedOutCount;
+    }
+
     @Override
     public WorkloadStatusSnapshot status() throws MetricsCollectionException {
         return new WorkloadStatusSnapshot(-1, count, -1, 0);
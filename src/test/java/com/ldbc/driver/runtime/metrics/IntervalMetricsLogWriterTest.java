@@ -0,0 +1,186 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.HdrHistogram.Histogram;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class IntervalMetricsLogWriterTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void shouldDrainRecordingsOfAllThreadsIntoIntervalHistograms() throws Exception
+    {
+        // Given
+        final IntervalMetricsRecorder recorder = newRecorder();
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < 4; i++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for ( int j = 0; j < 1000; j++ )
+                    {
+                        recorder.record( LdbcQuery1.TYPE, 0, 10, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+                    }
+                    recorder.record( LdbcQuery2.TYPE, 0, 20, TimeUnit.MILLISECONDS.toNanos( 2 ) );
+                }
+            } );
+        }
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        // When
+        Histogram[] runtimeHistograms = recorder.newRuntimeHistograms();
+        Histogram scheduleLagHistogram = recorder.newScheduleLagHistogram();
+        recorder.drainInto( runtimeHistograms, scheduleLagHistogram );
+
+        // Then
+        assertThat( runtimeHistograms[LdbcQuery1.TYPE].getTotalCount(), equalTo( 4000l ) );
+        assertThat( runtimeHistograms[LdbcQuery2.TYPE].getTotalCount(), equalTo( 4l ) );
+        assertThat( scheduleLagHistogram.getTotalCount(), equalTo( 4004l ) );
+        assertThat( scheduleLagHistogram.getMaxValue(), equalTo( 20l ) );
+
+        // When
+        recorder.drainInto( runtimeHistograms, scheduleLagHistogram );
+
+        // Then
+        assertThat( runtimeHistograms[LdbcQuery1.TYPE].getTotalCount(), equalTo( 4000l ) );
+        assertThat( scheduleLagHistogram.getTotalCount(), equalTo( 4004l ) );
+    }
+
+    @Test
+    public void shouldWriteReadableHistogramLogsAndIntervalsFile() throws Exception
+    {
+        // Given
+        IntervalMetricsRecorder recorder = newRecorder();
+        File directory = temporaryFolder.newFolder();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final long globalCompletionTimeAsMilli = timeSource.nowAsMilli() - 100;
+        GlobalCompletionTimeReader globalCompletionTimeReader = new GlobalCompletionTimeReader()
+        {
+            @Override
+            public long globalCompletionTimeAsMilli()
+            {
+                return globalCompletionTimeAsMilli;
+            }
+        };
+        IntervalMetricsLogWriter writer = new IntervalMetricsLogWriter(
+                recorder,
+                directory,
+                50,
+                timeSource,
+                globalCompletionTimeReader,
+                errorReporter
+        );
+
+        // When
+        writer.start();
+        for ( int i = 0; i < 10; i++ )
+        {
+            recorder.record( LdbcQuery1.TYPE, 0, 5, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+            Thread.sleep( 20 );
+        }
+        // leave at least one interval without operations
+        Thread.sleep( 150 );
+        recorder.record( LdbcQuery2.TYPE, 0, 5, TimeUnit.MILLISECONDS.toNanos( 3 ) );
+        writer.shutdown();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( totalCountIn( new File( directory, "LdbcQuery1.hlog" ) ), equalTo( 10l ) );
+        assertThat( totalCountIn( new File( directory, "LdbcQuery2.hlog" ) ), equalTo( 1l ) );
+
+        long operationCount = 0;
+        int rows = 0;
+        int emptyRows = 0;
+        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
+                new File( directory, IntervalMetricsLogWriter.INTERVALS_FILENAME ),
+                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            String[] header = reader.next();
+            assertThat( header.length, equalTo( 8 ) );
+            while ( reader.hasNext() )
+            {
+                String[] row = reader.next();
+                operationCount += Long.parseLong( row[2] );
+                assertThat( Long.parseLong( row[4] ) >= 100, is( true ) );
+                if ( 0 == Long.parseLong( row[2] ) )
+                {
+                    assertThat( row[5], equalTo( "-1" ) );
+                    assertThat( row[6], equalTo( "-1" ) );
+                    assertThat( row[7], equalTo( "-1" ) );
+                    emptyRows++;
+                }
+                rows++;
+            }
+        }
+        assertThat( operationCount, equalTo( 11l ) );
+        assertThat( rows > 1, is( true ) );
+        assertThat( emptyRows > 0, is( true ) );
+    }
+
+    private IntervalMetricsRecorder newRecorder() throws MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return new IntervalMetricsRecorder( operationTypeToClassMapping, TimeUnit.MINUTES.toNanos( 90 ) );
+    }
+
+    // HistogramLogReader of the HdrHistogram version in use decodes with javax.xml.bind, which is not in the JDK
+    private long totalCountIn( File histogramLog ) throws Exception
+    {
+        List<String> lines = Files.readAllLines( histogramLog.toPath(), StandardCharsets.US_ASCII );
+        assertThat( lines.get( 1 ), equalTo( "#[Histogram log format version 1.01]" ) );
+        long totalCount = 0;
+        for ( String line : lines )
+        {
+            if ( line.startsWith( "#" ) || line.startsWith( "\"StartTimestamp\"" ) )
+            {
+                continue;
+            }
+            String[] columns = line.split( "," );
+            assertThat( columns.length, equalTo( 4 ) );
+            Histogram intervalHistogram = Histogram.decodeFromCompressedByteBuffer(
+                    ByteBuffer.wrap( Base64.getDecoder().decode( columns[3] ) ), 0 );
+            totalCount += intervalHistogram.getTotalCount();
+        }
+        return totalCount;
+    }
+}
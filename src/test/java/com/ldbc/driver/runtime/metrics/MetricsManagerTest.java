@@ -1,6 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingServiceFactory;
@@ -51,4 +52,49 @@ public class MetricsManagerTest
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldCountTimedOutOperationsSeparately() throws WorkloadException, MetricsCollectionException
+    {
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+
+        Operation operation1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        Operation operation2 = DummyLdbcSnbInteractiveOperationInstances.read2();
+
+        metricsManager.measure( 2, TimeUnit.MILLISECONDS.toNanos( 1 ), operation1.type(), 0 );
+        metricsManager.measure( 3, TimeUnit.MILLISECONDS.toNanos( 100 ), operation1.type(),
+                ResultReporter.TIMED_OUT_RESULT_CODE );
+        metricsManager.measure( 4, TimeUnit.MILLISECONDS.toNanos( 100 ), operation2.type(),
+                ResultReporter.TIMED_OUT_RESULT_CODE );
+
+        WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
+        assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 104l ) );
+        assertThat( snapshot.totalOperationCount(), equalTo( 1l ) );
+        OperationMetricsSnapshot operation1Metrics = metricsFor( snapshot, operation1 );
+        assertThat( operation1Metrics.count(), equalTo( 1l ) );
+        assertThat( operation1Metrics.timedOutCount(), equalTo( 1l ) );
+        assertThat( operation1Metrics.runTimeMetric().max(), equalTo( 1l ) );
+        // operation types with only timed out operations are still reported
+        OperationMetricsSnapshot operation2Metrics = metricsFor( snapshot, operation2 );
+        assertThat( operation2Metrics.count(), equalTo( 0l ) );
+        assertThat( operation2Metrics.timedOutCount(), equalTo( 1l ) );
+    }
+
+    private static OperationMetricsSnapshot metricsFor( WorkloadResultsSnapshot snapshot, Operation operation )
+    {
+        for ( OperationMetricsSnapshot operationMetrics : snapshot.allMetrics() )
+        {
+            if ( operationMetrics.name().equals( operation.getClass().getSimpleName() ) )
+            {
+                return operationMetrics;
+            }
+        }
+        throw new AssertionError( "No metrics for " + operation.getClass().getSimpleName() );
+    }
 }
@@ -0,0 +1,104 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.Assert.assertThat;
+
+public class StageTracerTest
+{
+    @Test
+    public void shouldAggregateDurationsRecordedByAllThreadsPerStage() throws InterruptedException
+    {
+        // Given
+        final StageTracer stageTracer = new StageTracer();
+        int threadCount = 4;
+        final int recordingsPerThread = 1000;
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for ( int j = 1; j <= recordingsPerThread; j++ )
+                    {
+                        stageTracer.record( StageTracer.Stage.POOL_CLAIM, 100 );
+                        stageTracer.record( StageTracer.Stage.HANDLER_EXECUTION, j * 1000 );
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        List<ContinuousMetricSnapshot> snapshots = stageTracer.drainSnapshot();
+
+        // Then
+        assertThat( snapshots.size(), equalTo( 2 ) );
+        ContinuousMetricSnapshot poolClaim = snapshots.get( 0 );
+        assertThat( poolClaim.name(), equalTo( StageTracer.Stage.POOL_CLAIM.name() ) );
+        assertThat( poolClaim.unit(), equalTo( TimeUnit.NANOSECONDS ) );
+        assertThat( poolClaim.count(), equalTo( (long) threadCount * recordingsPerThread ) );
+        assertThat( poolClaim.percentile99(), equalTo( 100l ) );
+        ContinuousMetricSnapshot handlerExecution = snapshots.get( 1 );
+        assertThat( handlerExecution.name(), equalTo( StageTracer.Stage.HANDLER_EXECUTION.name() ) );
+        assertThat( handlerExecution.count(), equalTo( (long) threadCount * recordingsPerThread ) );
+        assertThat( (double) handlerExecution.percentile50(), closeTo( 500_000d, 5_000d ) );
+        assertThat( (double) handlerExecution.max(), closeTo( 1_000_000d, 10_000d ) );
+    }
+
+    @Test
+    public void shouldBeEmptyAfterDraining()
+    {
+        // Given
+        StageTracer stageTracer = new StageTracer();
+        stageTracer.record( StageTracer.Stage.SPINNER_WAIT, 10 );
+        stageTracer.record( StageTracer.Stage.SPINNER_WAIT, TimeUnit.DAYS.toNanos( 1 ) );
+
+        // When
+        List<ContinuousMetricSnapshot> first = stageTracer.drainSnapshot();
+        List<ContinuousMetricSnapshot> second = stageTracer.drainSnapshot();
+
+        // Then
+        assertThat( first.size(), equalTo( 1 ) );
+        assertThat( first.get( 0 ).count(), equalTo( 2l ) );
+        assertThat( second.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldReportStageMetricsInResultsJsonOnlyWhenPresent() throws IOException
+    {
+        // Given
+        StageTracer stageTracer = new StageTracer();
+        stageTracer.record( StageTracer.Stage.QUEUE_HANDOFF, 1000 );
+        WorkloadResultsSnapshot results = new WorkloadResultsSnapshot(
+                new HashMap<String,OperationMetricsSnapshot>(), 0, 1000, 0, TimeUnit.MILLISECONDS );
+
+        // When
+        WorkloadResultsSnapshot tracedResults = results.withStageMetrics( stageTracer.drainSnapshot() );
+
+        // Then
+        assertThat( results.toJson().contains( "stage_metrics" ), is( false ) );
+        assertThat( WorkloadResultsSnapshot.fromJson( results.toJson() ).stageMetrics(), nullValue() );
+        assertThat( tracedResults.toJson().contains( "stage_metrics" ), is( true ) );
+        assertThat( WorkloadResultsSnapshot.fromJson( tracedResults.toJson() ), equalTo( tracedResults ) );
+    }
+}
@@ -8,6 +8,7 @@ import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
 import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.util.Function0;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcNoResult;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
@@ -73,6 +74,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -163,6 +165,81 @@ public class ValidationParamsToCsvRowsToValidationParamsTest
                 equalTo( validationParamsAfterSerializingAndMarshallingAndSerializingAndMarshalling ) );
     }
 
+    @Test
+    public void validationParametersShouldBeUnchangedAfterBinaryWritingAndReading() throws IOException
+    {
+        // Given
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        List<ValidationParam> validationParamsBeforeWriting = buildParams( null );
+        File binaryFile = temporaryFolder.newFile();
+
+        // When
+        try ( ValidationParamsBinaryWriter writer =
+                      new ValidationParamsBinaryWriter( binaryFile, workload.operationCodecs(), true ) )
+        {
+            for ( ValidationParam validationParam : validationParamsBeforeWriting )
+            {
+                writer.write( validationParam );
+            }
+        }
+        List<ValidationParam> validationParamsAfterReading;
+        try ( ValidationParamsBinaryReader reader =
+                      new ValidationParamsBinaryReader( binaryFile, workload.operationCodecs() ) )
+        {
+            validationParamsAfterReading = Lists.newArrayList( reader );
+        }
+
+        // Then
+        assertThat( ValidationParamsBinaryReader.isBinary( binaryFile ), equalTo( true ) );
+        assertThat( ValidationParamsBinaryReader.count( binaryFile ), equalTo( validationParamsBeforeWriting.size() ) );
+        assertThat( validationParamsAfterReading, equalTo( validationParamsBeforeWriting ) );
+    }
+
+    @Test
+    public void expectedResultShouldOnlyBeDecodedOnceWhenFirstRequested()
+    {
+        // Given
+        final AtomicInteger decodeCount = new AtomicInteger( 0 );
+        final LdbcQuery13Result expectedResult = DummyLdbcSnbInteractiveOperationResultInstances.read13Result();
+        ValidationParam validationParam = ValidationParam.createLazy(
+                DummyLdbcSnbInteractiveOperationInstances.read13(),
+                new Function0<Object>()
+                {
+                    @Override
+                    public Object apply()
+                    {
+                        decodeCount.incrementAndGet();
+                        return expectedResult;
+                    }
+                }
+        );
+
+        // When
+        int decodeCountBeforeRequest = decodeCount.get();
+        Object firstResult = validationParam.operationResult();
+        Object secondResult = validationParam.operationResult();
+
+        // Then
+        assertThat( decodeCountBeforeRequest, equalTo( 0 ) );
+        assertThat( decodeCount.get(), equalTo( 1 ) );
+        assertThat( firstResult, equalTo( (Object) expectedResult ) );
+        assertThat( secondResult, equalTo( (Object) expectedResult ) );
+    }
+
+    @Test
+    public void csvFileShouldNotBeDetectedAsBinary() throws IOException
+    {
+        // Given
+        File csvFile = temporaryFolder.newFile();
+        SimpleCsvFileWriter simpleCsvFileWriter =
+                new SimpleCsvFileWriter( csvFile, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        simpleCsvFileWriter.writeRow( "a", "b" );
+        simpleCsvFileWriter.close();
+
+        // When/Then
+        assertThat( ValidationParamsBinaryReader.isBinary( csvFile ), equalTo( false ) );
+    }
+
     List<ValidationParam> buildParams( Workload.DbValidationParametersFilter dbValidationParametersFilter )
     {
         LdbcQuery1 read1 = DummyLdbcSnbInteractiveOperationInstances.read1();
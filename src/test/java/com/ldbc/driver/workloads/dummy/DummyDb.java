@@ -107,7 +107,11 @@ public class DummyDb extends Db
         {
             while ( false == connectionState.isAllowed( operation.name() ) )
             {
-                // wait to be a allowed to execute
+                // wait to be a allowed to execute, unless timed out
+                if ( resultReporter.isCancelled() )
+                {
+                    return;
+                }
             }
             resultReporter.report( 0, new DummyResult(), operation );
         }
@@ -4,12 +4,17 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterStore;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import org.hamcrest.CoreMatchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.text.ParseException;
 import java.util.List;
 
@@ -19,6 +24,9 @@ import static org.junit.Assert.assertTrue;
 
 public class BiReadEventStreamReadersTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     static final GeneratorFactory GENERATOR_FACTORY = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
 
     @Test
@@ -961,4 +969,38 @@ public class BiReadEventStreamReadersTest
 
         assertTrue( reader.hasNext() );
     }
+
+    @Test
+    public void shouldParseQuery1EventsFromCachedParametersFile() throws IOException, WorkloadException
+    {
+        // Given
+        File parametersFile = temporaryFolder.newFile();
+        Files.write( parametersFile.toPath(),
+                BiReadEventStreamReadersTestData.QUERY_1_CSV_ROWS().getBytes( Charsets.UTF_8 ) );
+        Query1EventStreamReader reader = BaseEventStreamReader.cachedFrom(
+                parametersFile,
+                LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
+                GENERATOR_FACTORY,
+                Query1EventStreamReader::new
+        );
+
+        // When
+
+        // Then
+        LdbcSnbBiQuery1PostingSummary operation;
+
+        operation = (LdbcSnbBiQuery1PostingSummary) reader.next();
+        assertThat( operation.date(), is( 1441351591755l ) );
+
+        operation = (LdbcSnbBiQuery1PostingSummary) reader.next();
+        assertThat( operation.date(), is( 1441351591756l ) );
+
+        // loops back around to first
+
+        operation = (LdbcSnbBiQuery1PostingSummary) reader.next();
+        assertThat( operation.date(), is( 1441351591755l ) );
+
+        reader.close();
+        ParameterStore.clearCache();
+    }
 }
@@ -4,9 +4,13 @@ import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
@@ -24,11 +28,18 @@ import com.ldbc.driver.workloads.ldbc.snb.bi.db.DummyLdbcSnbBiOperationResultSet
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -652,4 +663,139 @@ public class BiWorkloadTest extends WorkloadTest
                     equalTo( "240" ) );
         }
     }
+
+    @Test
+    public void shouldExecuteEachEnabledQueryOnceInQueryOrderInPowerRunMode() throws Exception
+    {
+        // Given
+        Workload workload = workloadWithArg( LdbcSnbBiWorkloadConfiguration.RUN_MODE, "power" );
+
+        // When
+        WorkloadStreams workloadStreams =
+                workload.streams( new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), true );
+
+        // Then
+        assertThat( workloadStreams.blockingStreamDefinitions().size(), equalTo( 1 ) );
+        assertThat( workloadStreams.asynchronousStream().nonDependencyOperations().hasNext(), is( false ) );
+        List<Integer> queryOrder = operationTypes(
+                workloadStreams.blockingStreamDefinitions().get( 0 ).nonDependencyOperations() );
+        assertThat( queryOrder, equalTo( queryTypesInQueryOrder() ) );
+        workload.close();
+    }
+
+    @Test
+    public void shouldGiveEachThroughputStreamItsOwnPermutationOfEnabledQueries() throws Exception
+    {
+        // Given
+        Workload workload1 = workloadWithArg( LdbcSnbBiWorkloadConfiguration.RUN_MODE, "throughput" );
+        Workload workload2 = workloadWithArg( LdbcSnbBiWorkloadConfiguration.RUN_MODE, "throughput" );
+
+        // When
+        WorkloadStreams workloadStreams1 =
+                workload1.streams( new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), true );
+        WorkloadStreams workloadStreams2 =
+                workload2.streams( new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), true );
+
+        // Then
+        int streamCount = LdbcSnbBiWorkloadConfiguration.DEFAULT_THROUGHPUT_STREAMS;
+        assertThat( workloadStreams1.blockingStreamDefinitions().size(), equalTo( streamCount ) );
+        Set<List<Integer>> queryOrders = new HashSet<>();
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            List<Integer> queryOrder = operationTypes(
+                    workloadStreams1.blockingStreamDefinitions().get( stream ).nonDependencyOperations() );
+            List<Integer> sameSeedQueryOrder = operationTypes(
+                    workloadStreams2.blockingStreamDefinitions().get( stream ).nonDependencyOperations() );
+            assertThat( queryOrder, equalTo( sameSeedQueryOrder ) );
+            List<Integer> sortedQueryOrder = new ArrayList<>( queryOrder );
+            Collections.sort( sortedQueryOrder );
+            assertThat( sortedQueryOrder, equalTo( queryTypesInQueryOrder() ) );
+            queryOrders.add( queryOrder );
+        }
+        assertThat( queryOrders.size(), equalTo( streamCount ) );
+        workload1.close();
+        workload2.close();
+    }
+
+    @Test( expected = WorkloadException.class )
+    public void shouldFailToInitializeWithUnknownRunMode() throws Exception
+    {
+        workloadWithArg( LdbcSnbBiWorkloadConfiguration.RUN_MODE, "marathon" );
+    }
+
+    @Test
+    public void shouldSummarizeQueryRunTimesWithGeometricMean() throws Exception
+    {
+        // Given
+        WorkloadResultsSnapshot workloadResults = WorkloadResultsSnapshot.fromJson(
+                "{\"all_metrics\":[" +
+                operationMetricsJson( LdbcSnbBiQuery1PostingSummary.class.getSimpleName(), 2 ) + "," +
+                operationMetricsJson( LdbcSnbBiQuery2TopTags.class.getSimpleName(), 8 ) + "]," +
+                "\"unit\":\"MILLISECONDS\",\"start_time\":0,\"latest_finish_time\":1800000," +
+                "\"total_duration\":1800000,\"total_count\":4,\"throughput\":0.0}"
+        );
+
+        // When
+        Map<String,Object> summary = LdbcSnbBiResultsSummary.summarize(
+                LdbcSnbBiWorkloadConfiguration.RunMode.POWER, 1, workloadResults );
+
+        // Then
+        assertThat( summary.get( LdbcSnbBiResultsSummary.RUN_MODE ), equalTo( (Object) "POWER" ) );
+        Map<String,Double> queryMeanRunTimes =
+                (Map<String,Double>) summary.get( LdbcSnbBiResultsSummary.QUERY_MEAN_RUN_TIMES );
+        assertThat( queryMeanRunTimes.get( LdbcSnbBiQuery1PostingSummary.class.getSimpleName() ), equalTo( 2.0 ) );
+        assertThat( queryMeanRunTimes.get( LdbcSnbBiQuery2TopTags.class.getSimpleName() ), equalTo( 8.0 ) );
+        assertThat( (Double) summary.get( LdbcSnbBiResultsSummary.GEOMETRIC_MEAN_RUN_TIME ), closeTo( 4.0, 0.0001 ) );
+        assertThat( (Double) summary.get( LdbcSnbBiResultsSummary.QUERIES_PER_HOUR ), closeTo( 8.0, 0.0001 ) );
+
+        // When
+        String json = workloadResults.withWorkloadSummary( summary ).toJson();
+
+        // Then
+        assertThat( WorkloadResultsSnapshot.fromJson( json ).workloadSummary().get( LdbcSnbBiResultsSummary.RUN_MODE ),
+                equalTo( (Object) "POWER" ) );
+    }
+
+    private Workload workloadWithArg( String key, String value ) throws Exception
+    {
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbBiDb.class.getName(),
+                LdbcSnbBiWorkload.class.getName(),
+                1
+        ).applyArgs(
+                LdbcSnbBiWorkloadConfiguration.defaultConfigSF1()
+        ).applyArg(
+                LdbcSnbBiWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/bi/" ).getAbsolutePath()
+        ).applyArg( key, value );
+        Workload workload = new ClassNameWorkloadFactory( configuration.workloadClassName() ).createWorkload();
+        workload.init( configuration );
+        return workload;
+    }
+
+    private static List<Integer> operationTypes( Iterator<Operation> operations )
+    {
+        List<Integer> operationTypes = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            operationTypes.add( operations.next().type() );
+        }
+        return operationTypes;
+    }
+
+    private static List<Integer> queryTypesInQueryOrder()
+    {
+        List<Integer> queryTypes = new ArrayList<>( LdbcSnbBiWorkloadConfiguration.operationTypeToClassMapping()
+                .keySet() );
+        Collections.sort( queryTypes );
+        return queryTypes;
+    }
+
+    private static String operationMetricsJson( String name, long meanRunTimeAsMilli )
+    {
+        return "{\"name\":\"" + name + "\",\"unit\":\"MILLISECONDS\",\"count\":2,\"run_time\":{" +
+               "\"name\":\"Runtime\",\"unit\":\"MILLISECONDS\",\"count\":2,\"mean\":" + meanRunTimeAsMilli + "," +
+               "\"min\":1,\"max\":1,\"50th_percentile\":1,\"90th_percentile\":1,\"95th_percentile\":1," +
+               "\"99th_percentile\":1}}";
+    }
 }
@@ -6,8 +6,11 @@ import org.junit.Test;
 import java.util.Date;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class InteractiveOperationEqualityTest
@@ -749,4 +752,45 @@ public class InteractiveOperationEqualityTest
         assertThat(ldbcUpdate1a, not(equalTo(ldbcUpdate3a)));
         assertThat(ldbcUpdate2a, not(equalTo(ldbcUpdate3a)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void dateAndMilliConstructorsShouldCreateEqualOperations() {
+        // Given
+        long creationDateAsMilli = 1234567890123l;
+        Date creationDate = new Date(creationDateAsMilli);
+
+        // When
+        LdbcUpdate2AddPostLike fromMilli = new LdbcUpdate2AddPostLike(1, 2, creationDateAsMilli);
+        LdbcUpdate2AddPostLike fromDate = new LdbcUpdate2AddPostLike(1, 2, creationDate);
+        LdbcQuery4 queryFromMilli = new LdbcQuery4(1, creationDateAsMilli, 3, 4);
+        LdbcQuery4 queryFromDate = new LdbcQuery4(1, creationDate, 3, 4);
+
+        // Then
+        assertThat(fromMilli, equalTo(fromDate));
+        assertThat(fromMilli.hashCode(), equalTo(fromDate.hashCode()));
+        assertThat(fromMilli.creationDateAsMilli(), equalTo(creationDateAsMilli));
+        assertThat(fromMilli.creationDate(), equalTo(creationDate));
+        assertThat(fromMilli.creationDate(), sameInstance(fromMilli.creationDate()));
+        assertThat(fromMilli.toString(), equalTo(fromDate.toString()));
+        assertThat(queryFromMilli, equalTo(queryFromDate));
+        assertThat(queryFromMilli.startDate(), equalTo(creationDate));
+    }
+
+    @Test
+    public void dateConstructorsShouldAcceptNullDates() {
+        // When
+        LdbcUpdate2AddPostLike nullDate1 = new LdbcUpdate2AddPostLike(1, 2, (Date) null);
+        LdbcUpdate2AddPostLike nullDate2 = new LdbcUpdate2AddPostLike(1, 2, (Date) null);
+        LdbcUpdate2AddPostLike withDate = new LdbcUpdate2AddPostLike(1, 2, new Date(0));
+        LdbcQuery2 query = new LdbcQuery2(1, (Date) null, 3);
+
+        // Then
+        assertThat(nullDate1.creationDate(), nullValue());
+        assertThat(nullDate1.creationDateAsMilli(), equalTo(LdbcDates.NULL_DATE_AS_MILLI));
+        assertThat(nullDate1, equalTo(nullDate2));
+        assertThat(nullDate1.hashCode(), equalTo(nullDate2.hashCode()));
+        assertThat(nullDate1, not(equalTo(withDate)));
+        assertThat(query.maxDate(), nullValue());
+        assertThat(query.toString(), containsString("maxDate=null"));
+    }
+}
@@ -2,12 +2,16 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
 import org.junit.Test;
 
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class InteractiveOperationResultEqualityTest
@@ -436,4 +440,20 @@ public class InteractiveOperationResultEqualityTest
         assertThat(result2a, not(equalTo(result4a)));
         assertThat(result3a, not(equalTo(result4a)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void ldbcQuery14ResultsWithoutPathShouldNotBeEqual() throws WorkloadException {
+        LdbcQuery14Result resultWithoutPath1 = new LdbcQuery14Result(null, 1d);
+        LdbcQuery14Result resultWithoutPath2 = new LdbcQuery14Result(null, 1d);
+        LdbcQuery14Result resultWithPath = new LdbcQuery14Result(Lists.newArrayList(1l, 2l), 1d);
+        Workload workload = new LdbcSnbInteractiveWorkload();
+
+        assertThat(resultWithoutPath1.personsIdsInPath(), is(nullValue()));
+        assertThat(workload.resultsEqual(new LdbcQuery14(1, 2),
+                Lists.newArrayList(resultWithoutPath1),
+                Lists.newArrayList(resultWithoutPath2)), is(false));
+        assertThat(workload.resultsEqual(new LdbcQuery14(1, 2),
+                Lists.newArrayList(resultWithPath),
+                Lists.newArrayList(resultWithoutPath1)), is(false));
+    }
+}
@@ -4,8 +4,11 @@ import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
@@ -20,10 +23,18 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractive
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationResultSets;
 import org.junit.Test;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -853,4 +864,172 @@ public class InteractiveWorkloadTest extends WorkloadTest
         // either interleaves or frequencies need to be provided
         assertTrue( exceptionThrown );
     }
+
+    @Test
+    public void shouldAssignUpdateFilesToLanesBalancedBySize() throws Exception
+    {
+        // Given
+        File updatesDirectory = TestUtils.getResource( "/snb/interactive/" );
+        List<File> forumUpdateFiles =
+                LdbcSnbInteractiveWorkloadConfiguration.forumUpdateFilesInDirectory( updatesDirectory );
+
+        // When
+        List<List<File>> lanes = LdbcSnbInteractiveWorkloadConfiguration.updateStreamLanes( forumUpdateFiles, 2 );
+        List<List<File>> defaultLanes =
+                LdbcSnbInteractiveWorkloadConfiguration.updateStreamLanes( forumUpdateFiles, 0 );
+
+        // Then
+        assertThat( defaultLanes.size(), equalTo( forumUpdateFiles.size() ) );
+        assertThat( lanes.size(), equalTo( 2 ) );
+        Set<File> assignedFiles = new HashSet<>();
+        long[] laneSizes = new long[lanes.size()];
+        long largestFileSize = 0;
+        for ( int lane = 0; lane < lanes.size(); lane++ )
+        {
+            for ( File file : lanes.get( lane ) )
+            {
+                assertTrue( assignedFiles.add( file ) );
+                laneSizes[lane] += file.length();
+                largestFileSize = Math.max( largestFileSize, file.length() );
+            }
+        }
+        assertThat( assignedFiles, equalTo( (Set<File>) new HashSet<>( forumUpdateFiles ) ) );
+        assertTrue( Math.abs( laneSizes[0] - laneSizes[1] ) <= largestFileSize );
+    }
+
+    @Test
+    public void shouldMergeUpdateStreamsIntoLanesWithoutReorderingOrDroppingEvents() throws Exception
+    {
+        // Given
+        Workload defaultWorkload = workloadWithUpdateStreamLanes( 0 );
+        Workload lanesWorkload = workloadWithUpdateStreamLanes( 2 );
+
+        // When
+        WorkloadStreams defaultStreams =
+                defaultWorkload.streams( new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), true );
+        WorkloadStreams lanesStreams =
+                lanesWorkload.streams( new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), true );
+
+        // Then
+        // 6 person and 6 forum update files
+        assertThat( defaultStreams.blockingStreamDefinitions().size(), equalTo( 12 ) );
+        // 2 person and 2 forum lanes
+        assertThat( lanesStreams.blockingStreamDefinitions().size(), equalTo( 4 ) );
+        Map<String,List<Operation>> defaultOperationsByEntity = updateOperationsByEntity( defaultStreams );
+        Map<String,List<Operation>> lanesOperationsByEntity = updateOperationsByEntity( lanesStreams );
+        assertTrue( defaultOperationsByEntity.size() > 0 );
+        assertThat( lanesOperationsByEntity.keySet(), equalTo( defaultOperationsByEntity.keySet() ) );
+        for ( String entity : defaultOperationsByEntity.keySet() )
+        {
+            assertThat(
+                    format( "Update events of %s", entity ),
+                    lanesOperationsByEntity.get( entity ),
+                    equalTo( defaultOperationsByEntity.get( entity ) )
+            );
+        }
+        defaultWorkload.close();
+        lanesWorkload.close();
+    }
+
+    private Workload workloadWithUpdateStreamLanes( int updateStreamLanes ) throws Exception
+    {
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration
+                .fromDefaults(
+                        LdbcSnbInteractiveWorkloadConfiguration.class.getName(),
+                        LdbcSnbInteractiveWorkload.class.getName(),
+                        1
+                ).applyArgs( LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+                ).applyArg( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, "1.0"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.UPDATE_INTERLEAVE,
+                        "10"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_LANES,
+                        Integer.toString( updateStreamLanes )
+                );
+        Workload workload = new ClassNameWorkloadFactory( configuration.workloadClassName() ).createWorkload();
+        workload.init( configuration );
+        return workload;
+    }
+
+    /**
+     * Update events of every stream, grouped by the person or forum they belong to. Events of one entity may come
+     * from several update files, they are ordered by time stamp, stable sort, i.e., events of one file keep their
+     * stream order. Also asserts that every stream is ordered by time stamp
+     */
+    private static Map<String,List<Operation>> updateOperationsByEntity( WorkloadStreams workloadStreams )
+    {
+        Map<String,List<Operation>> operationsByEntity = new HashMap<>();
+        for ( WorkloadStreams.WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
+        {
+            addOrderedOperationsByEntity( blockingStream.dependencyOperations(), operationsByEntity );
+            addOrderedOperationsByEntity( blockingStream.nonDependencyOperations(), operationsByEntity );
+        }
+        for ( List<Operation> entityOperations : operationsByEntity.values() )
+        {
+            Collections.sort( entityOperations, new Comparator<Operation>()
+            {
+                @Override
+                public int compare( Operation operation1, Operation operation2 )
+                {
+                    return Long.compare( operation1.timeStamp(), operation2.timeStamp() );
+                }
+            } );
+        }
+        return operationsByEntity;
+    }
+
+    private static void addOrderedOperationsByEntity( Iterator<Operation> operations,
+            Map<String,List<Operation>> operationsByEntity )
+    {
+        long previousTimeStamp = Long.MIN_VALUE;
+        while ( operations.hasNext() )
+        {
+            Operation operation = operations.next();
+            assertTrue( operation.timeStamp() >= previousTimeStamp );
+            previousTimeStamp = operation.timeStamp();
+            String entity = updateEntity( operation );
+            List<Operation> entityOperations = operationsByEntity.get( entity );
+            if ( null == entityOperations )
+            {
+                entityOperations = new ArrayList<>();
+                operationsByEntity.put( entity, entityOperations );
+            }
+            entityOperations.add( operation );
+        }
+    }
+
+    /**
+     * The forum an update event belongs to, or its person if it belongs to no forum
+     */
+    private static String updateEntity( Operation operation )
+    {
+        switch ( operation.type() )
+        {
+        case LdbcUpdate1AddPerson.TYPE:
+            return "person " + ((LdbcUpdate1AddPerson) operation).personId();
+        case LdbcUpdate2AddPostLike.TYPE:
+            return "person " + ((LdbcUpdate2AddPostLike) operation).personId();
+        case LdbcUpdate3AddCommentLike.TYPE:
+            return "person " + ((LdbcUpdate3AddCommentLike) operation).personId();
+        case LdbcUpdate4AddForum.TYPE:
+            return "forum " + ((LdbcUpdate4AddForum) operation).forumId();
+        case LdbcUpdate5AddForumMembership.TYPE:
+            return "forum " + ((LdbcUpdate5AddForumMembership) operation).forumId();
+        case LdbcUpdate6AddPost.TYPE:
+            return "forum " + ((LdbcUpdate6AddPost) operation).forumId();
+        case LdbcUpdate7AddComment.TYPE:
+            return "person " + ((LdbcUpdate7AddComment) operation).authorPersonId();
+        case LdbcUpdate8AddFriendship.TYPE:
+            return "person " + ((LdbcUpdate8AddFriendship) operation).person1Id();
+        default:
+            throw new IllegalStateException( "Unexpected update operation: " + operation );
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StripedLongRingBufferTest
+{
+    @Test
+    public void shouldReturnOldestIdsFirstAndEvictWhenFull()
+    {
+        // Given
+        StripedLongRingBuffer buffer = new StripedLongRingBuffer( 4, 1 );
+
+        // When
+        for ( long id = 1; id <= 6; id++ )
+        {
+            buffer.add( id );
+        }
+
+        // Then
+        assertThat( buffer.size(), equalTo( 4 ) );
+        assertThat( buffer.poll(), equalTo( 3L ) );
+        assertThat( buffer.poll(), equalTo( 4L ) );
+        assertThat( buffer.poll(), equalTo( 5L ) );
+        assertThat( buffer.poll(), equalTo( 6L ) );
+        assertThat( buffer.poll(), equalTo( LdbcSnbShortReadGenerator.IdBuffer.NO_ID ) );
+        assertThat( buffer.size(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldRoundStripesAndCapacityUpToPowersOfTwo()
+    {
+        // Given
+        StripedLongRingBuffer buffer = new StripedLongRingBuffer( 10, 3 );
+
+        // When
+        for ( long id = 0; id < 100; id++ )
+        {
+            buffer.add( id );
+        }
+
+        // Then
+        // 4 stripes of capacity 4, all ids were added to the stripe of this thread
+        assertThat( buffer.stripeCount(), equalTo( 4 ) );
+        assertThat( buffer.size(), equalTo( 4 ) );
+    }
+
+    @Test
+    public void shouldStealIdsAddedByOtherThreads() throws InterruptedException
+    {
+        // Given
+        final int threadCount = 8;
+        final int idsPerThread = 100;
+        final StripedLongRingBuffer buffer = new StripedLongRingBuffer( threadCount * idsPerThread, threadCount );
+        final CountDownLatch added = new CountDownLatch( threadCount );
+
+        // When
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            final long firstId = t * idsPerThread;
+            new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for ( long id = firstId; id < firstId + idsPerThread; id++ )
+                    {
+                        buffer.add( id );
+                    }
+                    added.countDown();
+                }
+            }.start();
+        }
+        added.await();
+
+        // Then
+        // threads may share stripes, so evictions are possible, but every id polled was added and is polled once
+        Set<Long> polled = new HashSet<>();
+        long id;
+        while ( LdbcSnbShortReadGenerator.IdBuffer.NO_ID != (id = buffer.poll()) )
+        {
+            assertThat( id >= 0 && id < threadCount * idsPerThread, is( true ) );
+            assertThat( polled.add( id ), is( true ) );
+        }
+        assertThat( polled.isEmpty(), is( false ) );
+        assertThat( buffer.size(), equalTo( 0 ) );
+    }
+}
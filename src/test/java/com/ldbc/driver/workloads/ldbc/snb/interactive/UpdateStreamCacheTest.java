@@ -0,0 +1,113 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class UpdateStreamCacheTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReplayCachedOperationsAcrossWindowsLikeParsedOnes() throws IOException
+    {
+        // Given
+        File updateFile = updateFile( InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES );
+        // small windows, so records cross window boundaries
+        UpdateStreamCache cache = new UpdateStreamCache( temporaryFolder.newFolder(),
+                LdbcSnbInteractiveOperationCodecs.CODECS, 300 );
+        List<Operation> parsedOperations = parse( InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES );
+
+        // When
+        boolean cachedBeforeWrite = cache.isCached( updateFile );
+        cache.write( updateFile, parsedOperations.iterator() );
+        List<Operation> cachedOperations;
+        try ( UpdateStreamCache.CachedUpdateStream cachedUpdateStream = cache.read( updateFile ) )
+        {
+            cachedOperations = Lists.<Operation>newArrayList( cachedUpdateStream );
+        }
+
+        // Then
+        assertThat( cachedBeforeWrite, is( false ) );
+        assertThat( cache.isCached( updateFile ), is( true ) );
+        assertThat( cachedOperations, equalTo( parsedOperations ) );
+        for ( int i = 0; i < parsedOperations.size(); i++ )
+        {
+            Operation parsedOperation = parsedOperations.get( i );
+            Operation cachedOperation = cachedOperations.get( i );
+            assertThat( cachedOperation.scheduledStartTimeAsMilli(),
+                    equalTo( parsedOperation.scheduledStartTimeAsMilli() ) );
+            assertThat( cachedOperation.timeStamp(), equalTo( parsedOperation.timeStamp() ) );
+            assertThat( cachedOperation.dependencyTimeStamp(), equalTo( parsedOperation.dependencyTimeStamp() ) );
+        }
+    }
+
+    @Test
+    public void shouldInvalidateCacheWhenUpdateFileChanges() throws IOException
+    {
+        // Given
+        File updateFile = updateFile( InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES );
+        UpdateStreamCache cache = new UpdateStreamCache( temporaryFolder.newFolder() );
+        cache.write( updateFile,
+                parse( InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES ).iterator() );
+
+        // When
+        boolean cachedBeforeChange = cache.isCached( updateFile );
+        assertThat( updateFile.setLastModified( updateFile.lastModified() + 10000 ), is( true ) );
+        boolean cachedAfterTouch = cache.isCached( updateFile );
+        cache.write( updateFile,
+                parse( InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES ).iterator() );
+        boolean cachedAfterRewrite = cache.isCached( updateFile );
+        Files.write( updateFile.toPath(), "\n".getBytes( StandardCharsets.UTF_8 ),
+                StandardOpenOption.APPEND );
+        boolean cachedAfterAppend = cache.isCached( updateFile );
+
+        // Then
+        assertThat( cachedBeforeChange, is( true ) );
+        assertThat( cachedAfterTouch, is( false ) );
+        assertThat( cachedAfterRewrite, is( true ) );
+        assertThat( cachedAfterAppend, is( false ) );
+    }
+
+    private File updateFile( String rows ) throws IOException
+    {
+        File updateFile = temporaryFolder.newFile();
+        Files.write( updateFile.toPath(), rows.getBytes( StandardCharsets.UTF_8 ) );
+        return updateFile;
+    }
+
+    private static List<Operation> parse( String rows ) throws IOException
+    {
+        CharSeeker charSeeker = new BufferedCharSeeker( Readables.wrap( new StringReader( rows ) ) );
+        Iterator<Operation> operations =
+                WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+        List<Operation> parsedOperations = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            parsedOperations.add( operations.next() );
+        }
+        charSeeker.close();
+        return parsedOperations;
+    }
+}
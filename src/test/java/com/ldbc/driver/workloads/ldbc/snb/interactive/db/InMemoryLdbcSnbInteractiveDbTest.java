@@ -0,0 +1,222 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive.db;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcNoResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery13;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery13Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery9;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery9Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery1PersonProfile;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery1PersonProfileResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery3PersonFriends;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery3PersonFriendsResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery5MessageCreator;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery5MessageCreatorResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery7MessageReplies;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery7MessageRepliesResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate1AddPerson;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate6AddPost;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate7AddComment;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate8AddFriendship;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class InMemoryLdbcSnbInteractiveDbTest
+{
+    private final InMemoryLdbcSnbInteractiveDb.InMemoryDbConnectionState connectionState =
+            new InMemoryLdbcSnbInteractiveDb.InMemoryDbConnectionState(
+                    InMemorySnbGraph.generate( 100, 10, 5, 3, 42 ) );
+
+    @Test
+    public void shouldGenerateSameGraphForSameSeed()
+    {
+        // Given
+        InMemorySnbGraph graph1 = InMemorySnbGraph.generate( 50, 10, 5, 3, 7 );
+        InMemorySnbGraph graph2 = InMemorySnbGraph.generate( 50, 10, 5, 3, 7 );
+
+        // Then
+        assertThat( graph1.personCount, equalTo( 50 ) );
+        assertThat( graph1.forumCount, equalTo( 50 ) );
+        assertThat( graph1.messageCount, equalTo( 50 * 5 * (1 + 3) ) );
+        assertThat( graph2.toString(), equalTo( graph1.toString() ) );
+        for ( int person = 0; person < graph1.personCount; person++ )
+        {
+            assertThat( graph2.personIds[person], equalTo( graph1.personIds[person] ) );
+            assertThat( graph2.knows.size( person ), equalTo( graph1.knows.size( person ) ) );
+        }
+        for ( int message = 0; message < graph1.messageCount; message++ )
+        {
+            assertThat( graph2.messageCreationDates[message], equalTo( graph1.messageCreationDates[message] ) );
+            assertThat( graph2.messageReplyOfs[message], equalTo( graph1.messageReplyOfs[message] ) );
+        }
+    }
+
+    @Test
+    public void shouldFoldMissingIdsOntoSameEntitiesAfterInserts()
+    {
+        // Given
+        InMemorySnbGraph graph = InMemorySnbGraph.generate( 50, 10, 5, 3, 7 );
+        long missingId = 12345;
+        int personBefore = graph.resolvePerson( missingId );
+        int messageBefore = graph.resolveMessage( missingId );
+        int forumBefore = graph.resolveForum( missingId );
+
+        // When
+        int person = graph.addPerson( 1, "First", "Last", "female", 0, 0, "1.1.1.1", "Firefox", 1, new long[]{1}, 1,
+                2000 );
+        int forum = graph.addForum( 2, "Forum", person, 0 );
+        graph.addMessage( 3, 0, "Post", person, forum, InMemorySnbGraph.NONE, new long[0] );
+
+        // Then
+        assertThat( graph.resolvePerson( missingId ), equalTo( personBefore ) );
+        assertThat( graph.resolveMessage( missingId ), equalTo( messageBefore ) );
+        assertThat( graph.resolveForum( missingId ), equalTo( forumBefore ) );
+        assertThat( graph.resolvePerson( 1 ), equalTo( person ) );
+    }
+
+    @Test
+    public void shouldExecuteEveryOperationTypeWhenIdsAreNotInGraph() throws Exception
+    {
+        // ids of dummy operation instances are not in the graph, they are folded onto it
+        for ( Method method : DummyLdbcSnbInteractiveOperationInstances.class.getMethods() )
+        {
+            if ( 0 != method.getParameterTypes().length || false == Operation.class.isAssignableFrom(
+                    method.getReturnType() ) )
+            {
+                continue;
+            }
+            Operation operation = (Operation) method.invoke( null );
+            Object result = execute( operation );
+            assertThat( operation.toString(), null == result, is( false ) );
+        }
+    }
+
+    @Test
+    public void shouldMakeUpdatesVisibleToShortReads() throws Exception
+    {
+        // Given
+        long existingPersonId = connectionState.graph().personIds[0];
+        long newPersonId = 1;
+        execute( new LdbcUpdate1AddPerson( newPersonId, "First", "Last", "female", new Date( 1 ), new Date( 2 ),
+                "1.2.3.4", "Firefox", 3, Lists.<String>newArrayList(), Lists.<String>newArrayList(),
+                Lists.newArrayList( 4L ), Lists.<LdbcUpdate1AddPerson.Organization>newArrayList(),
+                Lists.<LdbcUpdate1AddPerson.Organization>newArrayList() ) );
+        execute( new LdbcUpdate8AddFriendship( newPersonId, existingPersonId, new Date( 5 ) ) );
+        long forumId = connectionState.graph().forumIds[0];
+        execute( new LdbcUpdate6AddPost( 10, "", new Date( 6 ), "1.2.3.4", "Firefox", "en", "post content", 12,
+                newPersonId, forumId, 1, Lists.newArrayList( 1L ) ) );
+        execute( new LdbcUpdate7AddComment( 11, new Date( 7 ), "1.2.3.4", "Firefox", "comment content", 15,
+                existingPersonId, 1, 10, -1, Lists.<Long>newArrayList() ) );
+
+        // When
+        LdbcShortQuery1PersonProfileResult profile =
+                (LdbcShortQuery1PersonProfileResult) execute( new LdbcShortQuery1PersonProfile( newPersonId ) );
+        List<LdbcShortQuery3PersonFriendsResult> friends =
+                (List<LdbcShortQuery3PersonFriendsResult>) execute( new LdbcShortQuery3PersonFriends( newPersonId ) );
+        LdbcShortQuery5MessageCreatorResult creator =
+                (LdbcShortQuery5MessageCreatorResult) execute( new LdbcShortQuery5MessageCreator( 10 ) );
+        List<LdbcShortQuery7MessageRepliesResult> replies =
+                (List<LdbcShortQuery7MessageRepliesResult>) execute( new LdbcShortQuery7MessageReplies( 10 ) );
+        LdbcQuery13Result pathLength = (LdbcQuery13Result) execute( new LdbcQuery13( newPersonId, existingPersonId ) );
+
+        // Then
+        assertThat( profile.firstName(), equalTo( "First" ) );
+        assertThat( profile.cityId(), equalTo( 3L ) );
+        assertThat( friends.size(), equalTo( 1 ) );
+        assertThat( friends.get( 0 ).personId(), equalTo( existingPersonId ) );
+        assertThat( creator.personId(), equalTo( newPersonId ) );
+        assertThat( replies.size(), equalTo( 1 ) );
+        assertThat( replies.get( 0 ).commentId(), equalTo( 11L ) );
+        assertThat( replies.get( 0 ).replyAuthorId(), equalTo( existingPersonId ) );
+        assertThat( replies.get( 0 ).isReplyAuthorKnowsOriginalMessageAuthor(), is( true ) );
+        assertThat( pathLength.shortestPathLength(), equalTo( 1 ) );
+    }
+
+    @Test
+    public void shouldOnlyReturnIdsThatAreInGraph() throws Exception
+    {
+        // Given
+        InMemorySnbGraph graph = connectionState.graph();
+
+        // When
+        List<LdbcQuery9Result> results = (List<LdbcQuery9Result>) execute(
+                new LdbcQuery9( graph.personIds[0], new Date( InMemorySnbGraph.END_DATE_AS_MILLI ), 20 ) );
+
+        // Then
+        assertThat( results.isEmpty(), is( false ) );
+        assertThat( results.size() <= 20, is( true ) );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery9Result result = results.get( i );
+            assertThat( graph.personIndexes.get( result.personId() ), not( equalTo( LongIntHashMap.MISSING ) ) );
+            assertThat( graph.messageIndexes.get( result.commentOrPostId() ),
+                    not( equalTo( LongIntHashMap.MISSING ) ) );
+            if ( i > 0 )
+            {
+                assertThat( results.get( i - 1 ).commentOrPostCreationDate() >= result.commentOrPostCreationDate(),
+                        is( true ) );
+            }
+        }
+    }
+
+    @Test
+    public void longIntHashMapShouldGrowAndKeepAllEntries()
+    {
+        // Given
+        LongIntHashMap map = new LongIntHashMap( 4 );
+
+        // When
+        for ( int i = 0; i < 10_000; i++ )
+        {
+            map.put( i * 31L - 5000, i );
+        }
+
+        // Then
+        assertThat( map.size(), equalTo( 10_000 ) );
+        for ( int i = 0; i < 10_000; i++ )
+        {
+            assertThat( map.get( i * 31L - 5000 ), equalTo( i ) );
+        }
+        assertThat( map.get( 1 ), equalTo( LongIntHashMap.MISSING ) );
+    }
+
+    private Object execute( Operation operation ) throws Exception
+    {
+        OperationHandler handler = handlerFor( operation );
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        handler.executeOperation( operation, connectionState, resultReporter );
+        assertThat( resultReporter.resultCode(), equalTo( 0 ) );
+        if ( operation.getClass().getSimpleName().startsWith( "LdbcUpdate" ) )
+        {
+            assertThat( resultReporter.result(), equalTo( (Object) LdbcNoResult.INSTANCE ) );
+        }
+        return resultReporter.result();
+    }
+
+    private static OperationHandler handlerFor( Operation operation ) throws Exception
+    {
+        String handlerClassName = InMemoryLdbcSnbInteractiveDb.class.getName() + "$" +
+                                  operation.getClass().getSimpleName() + "Handler";
+        try
+        {
+            return (OperationHandler) Class.forName( handlerClassName ).newInstance();
+        }
+        catch ( ClassNotFoundException e )
+        {
+            throw new DbException( "No handler for " + operation.getClass().getSimpleName(), e );
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ldbc.driver.workloads.simple;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ValueBuffersOperationTest
+{
+    @Test
+    public void shouldOfferValueBuffersAsByteIterators()
+    {
+        // Given
+        Map<String,ByteBuffer> valueBuffers = new HashMap<>();
+        valueBuffers.put( "field0", ByteBuffer.wrap( new byte[]{1, 2, 3} ).asReadOnlyBuffer() );
+
+        // When
+        InsertOperation insert = InsertOperation.fromValueBuffers( "table", "key", valueBuffers );
+        UpdateOperation update = UpdateOperation.fromValueBuffers( "table", "key", valueBuffers );
+        ReadModifyWriteOperation readModifyWrite =
+                ReadModifyWriteOperation.fromValueBuffers( "table", "key", new ArrayList<String>(), valueBuffers );
+
+        // Then
+        assertThat( insert.valueBuffers(), sameInstance( valueBuffers ) );
+        assertThat( bytes( insert.fields().get( "field0" ) ), equalTo( bytes( 1, 2, 3 ) ) );
+        // every call returns new iterators
+        assertThat( bytes( insert.fields().get( "field0" ) ), equalTo( bytes( 1, 2, 3 ) ) );
+        assertThat( bytes( update.fields().get( "field0" ) ), equalTo( bytes( 1, 2, 3 ) ) );
+        assertThat( bytes( readModifyWrite.values().get( "field0" ) ), equalTo( bytes( 1, 2, 3 ) ) );
+        assertThat( valueBuffers.get( "field0" ).remaining(), is( 3 ) );
+    }
+
+    @Test
+    public void shouldKeepByteIteratorsOfOperationsCreatedWithThem()
+    {
+        // Given
+        Map<String,Iterator<Byte>> values = new HashMap<>();
+        values.put( "field0", bytes( 1, 2, 3 ).iterator() );
+
+        // When
+        InsertOperation insert = new InsertOperation( "table", "key", values );
+
+        // Then
+        assertThat( insert.fields(), sameInstance( values ) );
+        assertThat( insert.valueBuffers(), nullValue() );
+    }
+
+    @Test
+    public void shouldCompareValueBuffersByContent()
+    {
+        // Given
+        Map<String,ByteBuffer> valueBuffers1 = new HashMap<>();
+        valueBuffers1.put( "field0", ByteBuffer.wrap( new byte[]{1, 2, 3} ) );
+        Map<String,ByteBuffer> valueBuffers2 = new HashMap<>();
+        valueBuffers2.put( "field0", ByteBuffer.wrap( new byte[]{1, 2, 3} ) );
+        Map<String,ByteBuffer> valueBuffers3 = new HashMap<>();
+        valueBuffers3.put( "field0", ByteBuffer.wrap( new byte[]{1, 2, 4} ) );
+
+        // When
+        UpdateOperation update1 = UpdateOperation.fromValueBuffers( "table", "key", valueBuffers1 );
+        UpdateOperation update2 = UpdateOperation.fromValueBuffers( "table", "key", valueBuffers2 );
+        UpdateOperation update3 = UpdateOperation.fromValueBuffers( "table", "key", valueBuffers3 );
+
+        // Then
+        assertThat( update1, equalTo( update2 ) );
+        assertThat( update1.hashCode(), equalTo( update2.hashCode() ) );
+        assertThat( update1, not( equalTo( update3 ) ) );
+    }
+
+    private static List<Byte> bytes( Iterator<Byte> values )
+    {
+        List<Byte> bytes = new ArrayList<>();
+        while ( values.hasNext() )
+        {
+            bytes.add( values.next() );
+        }
+        return bytes;
+    }
+
+    private static List<Byte> bytes( int... values )
+    {
+        List<Byte> bytes = new ArrayList<>();
+        for ( int value : values )
+        {
+            bytes.add( (byte) value );
+        }
+        return bytes;
+    }
+}